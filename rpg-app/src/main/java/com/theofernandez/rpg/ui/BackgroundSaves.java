@@ -0,0 +1,171 @@
+package com.theofernandez.rpg.ui;
+
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.save.GameState;
+import com.theofernandez.rpg.save.SaveFormat;
+import com.theofernandez.rpg.save.SaveJournal;
+import com.theofernandez.rpg.save.SaveService;
+import com.theofernandez.rpg.session.GameSession;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The desktop game's background save writer, shared by named saves and autosaves, and started on first use.
+ * {@link Game#stop()} closes it, so saves requested just before the window closed still reach the disk.
+ *
+ * Also holds the autosave journal ({@link SaveJournal}, {@code saves/autosave.journal}): every action appends the
+ * player's changes to it, a few dozen bytes, so the game can always be resumed from its last action. Starting a
+ * journal writes a full snapshot, so that runs on the save writer; actions recorded meanwhile are queued and
+ * appended once it is ready.
+ */
+final class BackgroundSaves {
+
+    static final Path AUTOSAVE_FILE = Path.of("saves", "autosave.sav");
+    static final Path JOURNAL_DIRECTORY = Path.of("saves", "autosave.journal");
+    static final String JOURNAL_LABEL = "Autosave Journal";
+
+    private static SaveService service;
+    private static SaveJournal journal; // Null while none is open or one is still being started
+    private static Player journalPlayer; // The player the journal follows; another one starts a new journal
+    private static List<GameState> pendingAppends; // Actions recorded while the journal is being started, else null
+
+    private BackgroundSaves() {
+    }
+
+    static synchronized SaveService get() {
+        if (service == null) {
+            service = new SaveService("save-writer");
+        }
+        return service;
+    }
+
+    /**
+     * Appends the session's changes to the autosave journal. A player other than the one the journal follows (a new
+     * or loaded game) replaces the journal with one starting from it, created on the save writer. Like autosaves,
+     * dead players are not recorded. Call on the thread acting on the player.
+     *
+     * @return The bytes appended (0 while the journal is being started).
+     */
+    static synchronized int journal(GameSession session) throws IOException {
+        Player player = session.getPlayer();
+        if (player == null || !player.isAlive()) return 0;
+        if (journalPlayer != player) {
+            startJournal(session, player);
+            return 0;
+        }
+        if (pendingAppends != null) {
+            pendingAppends.add(detachedState(session)); // Appended by the writer once the journal exists
+            return 0;
+        }
+        return journal != null ? journal.append(GameState.capture(session)) : 0; // Null: starting it failed
+    }
+
+    // Caller holds the class lock. The writer closes the previous journal and starts the new one, then appends the
+    // actions queued meanwhile, unless a newer journal or a deletion was requested in between.
+    private static void startJournal(GameSession session, Player player) {
+        SaveJournal previous = journal;
+        List<GameState> queued = new ArrayList<>();
+        GameState initial = detachedState(session);
+        journal = null;
+        journalPlayer = player;
+        pendingAppends = queued;
+        get().submit(() -> {
+            synchronized (BackgroundSaves.class) {
+                close(previous);
+                if (pendingAppends != queued) return null; // Superseded before it started
+            }
+            SaveJournal started = null;
+            try {
+                started = SaveJournal.create(JOURNAL_DIRECTORY, initial, SaveJournal.DEFAULT_SNAPSHOT_EVERY);
+                synchronized (BackgroundSaves.class) {
+                    if (pendingAppends != queued) { // Superseded while starting
+                        close(started);
+                        return null;
+                    }
+                    for (GameState state : queued) {
+                        started.append(state);
+                    }
+                    journal = started;
+                    pendingAppends = null;
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("[BackgroundSaves] Could not start the autosave journal: " + e.getMessage());
+                synchronized (BackgroundSaves.class) {
+                    if (started != null && journal != started) close(started);
+                    if (pendingAppends == queued) pendingAppends = null; // Not journaled until the next game
+                }
+            }
+            return null;
+        });
+    }
+
+    // A copy of the session's state that the writer can read while the game goes on
+    private static GameState detachedState(GameSession session) {
+        try {
+            return SaveFormat.decode(SaveFormat.encode(GameState.capture(session)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Game state could not be copied: " + e.getMessage(), e); // Encoded just above
+        }
+    }
+
+    /**
+     * Closes the autosave journal, if open, and deletes it. Waits for the save writer, which may be starting it.
+     */
+    static void deleteJournal() throws IOException {
+        synchronized (BackgroundSaves.class) {
+            journalPlayer = null; // The next action starts a new journal
+            pendingAppends = null; // A journal still being started is discarded
+        }
+        try {
+            get().submit(() -> {
+                synchronized (BackgroundSaves.class) {
+                    SaveJournal open = journal;
+                    journal = null;
+                    close(open);
+                }
+                SaveJournal.delete(JOURNAL_DIRECTORY);
+                return null;
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            throw e;
+        }
+    }
+
+    private static void close(SaveJournal closing) {
+        if (closing == null) return;
+        try {
+            closing.close();
+            System.out.println("[BackgroundSaves] Autosave journal closed after " + closing.getAppendedRecords() + " records ("
+                    + closing.getAppendedBytes() + " bytes, " + closing.getSnapshotCount() + " snapshots).");
+        } catch (IOException e) {
+            System.err.println("[BackgroundSaves] Error closing the autosave journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for queued saves and journal work to finish, then stops the writer and closes the autosave journal.
+     */
+    static void close() {
+        SaveService closing;
+        synchronized (BackgroundSaves.class) {
+            closing = service;
+            service = null;
+        }
+        if (closing != null) {
+            closing.close(); // Not under the lock: queued journal work takes it
+            System.out.println("[BackgroundSaves] Save writer stopped after " + closing.getWrittenCount() + " saves ("
+                    + closing.getCoalescedCount() + " coalesced, " + closing.getFailedCount() + " failed).");
+        }
+        synchronized (BackgroundSaves.class) {
+            close(journal);
+            journal = null;
+            journalPlayer = null;
+            pendingAppends = null;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.theofernandez.rpg.ui;
+
+import com.theofernandez.rpg.game.GameContext;
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerSnapshot;
+import com.theofernandez.rpg.game.PlayerStat;
+import com.theofernandez.rpg.ui.PlayerViewModel.EffectiveStat;
+import com.theofernandez.rpg.ui.navigation.NavigableController;
+import com.theofernandez.rpg.ui.navigation.NavigationService;
+import com.theofernandez.rpg.ui.navigation.View;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.collections.ObservableList;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
+
+import java.util.Objects;
+
+public class CharacterPageViewController implements NavigableController {
+    private static final String NO_PLAYER_MESSAGE = "No player data available.";
+
+    private NavigationService navigationService;
+    private Player currentPlayer;
+
+    @FXML private ScrollPane scrollPane;
+    @FXML private VBox statsContainer;
+
+    // Basic Info
+    @FXML private Label nameLabel;
+    @FXML private Label ageLabel;
+    @FXML private Label sexLabel;
+    @FXML private Label ethnicityLabel;
+    @FXML private Label heightLabel;
+    @FXML private Label weightLabel;
+    @FXML private Label bloodTypeLabel;
+    @FXML private Label bodyTypeLabel;
+
+    // Core Attributes
+    @FXML private Label luckLabel;
+    @FXML private Label beautyLabel;
+    @FXML private Label intelligenceLabel; // Base
+    @FXML private Label effectiveIntelligenceLabel; // Effective
+
+    // Physical Capabilities
+    @FXML private Label upperBodyStrengthLabel; // Base
+    @FXML private Label effectiveUpperBodyStrengthLabel; // Effective
+    @FXML private Label lowerBodyStrengthLabel; // Base
+    @FXML private Label effectiveLowerBodyStrengthLabel; // Effective
+    @FXML private Label enduranceLabel; // Base (Player.java has no getEffectiveEndurance())
+    @FXML private Label agilityLabel; // Base
+    @FXML private Label effectiveAgilityLabel; // Effective
+    @FXML private Label speedLabel; // Base
+    @FXML private Label effectiveSpeedLabel; // Effective
+    @FXML private Label dexterityLabel; // Base
+    @FXML private Label effectiveDexterityLabel; // Effective
+
+    // Health & Needs
+    @FXML private Label healthLabel;
+    @FXML private Label fatigueLabel;
+    @FXML private Label hungerLabel;
+    @FXML private Label thirstLabel;
+    @FXML private Label sleepLabel;       // For Restedness
+    @FXML private Label hygieneLabel;
+    @FXML private Label comfortLabel;
+    @FXML private Label stressLabel;
+
+    // Status
+    @FXML private Label isAliveLabel;
+    @FXML private Label isConsciousLabel;
+    @FXML private Label isAwakeLabel;
+    @FXML private Label moodLabel;
+
+    // Inventory
+    @FXML private TextFlow inventoryTextFlow;
+
+    // Ensure all other FXML @FXML injections for labels you might add (e.g., focus, memory) are declared here.
+
+    @Override
+    public void setNavigationService(NavigationService navigationService) {
+        this.navigationService = Objects.requireNonNull(navigationService, "NavigationService cannot be null in CharacterPageViewController.");
+    }
+
+    @FXML
+    public void initialize() {
+        System.out.println("[CharacterPageVC] Initialized.");
+        this.currentPlayer = GameContext.getCurrentPlayer();
+        bindAllStats();
+        Platform.runLater(this::refreshViewModel);
+    }
+
+    // Binds every label to the shared view model once; it updates them whenever a shown value changes
+    private void bindAllStats() {
+        PlayerViewModel model = PlayerViewModel.shared();
+
+        // Basic Info
+        nameLabel.textProperty().bind(Bindings.when(model.hasPlayerProperty())
+                .then(model.valueText(model.nameProperty())).otherwise(NO_PLAYER_MESSAGE));
+        ageLabel.textProperty().bind(model.text(PlayerStat.AGE));
+        sexLabel.textProperty().bind(model.valueText(model.sexProperty()));
+        ethnicityLabel.textProperty().bind(model.valueText(model.ethnicityProperty()));
+        heightLabel.textProperty().bind(formatted(model.heightProperty(), "%.2f m"));
+        weightLabel.textProperty().bind(formatted(model.weightProperty(), "%.1f kg"));
+        bloodTypeLabel.textProperty().bind(model.valueText(model.bloodTypeProperty()));
+        bodyTypeLabel.textProperty().bind(model.valueText(model.bodyTypeProperty()));
+
+        // Core Attributes
+        luckLabel.textProperty().bind(model.text(PlayerStat.LUCK));
+        beautyLabel.textProperty().bind(model.text(PlayerStat.BEAUTY));
+        intelligenceLabel.textProperty().bind(model.text(PlayerStat.INTELLIGENCE));
+        bindIfPresent(effectiveIntelligenceLabel, model.effectiveText(EffectiveStat.INTELLIGENCE));
+
+        // Physical Capabilities
+        upperBodyStrengthLabel.textProperty().bind(model.text(PlayerStat.UPPER_BODY_STRENGTH));
+        bindIfPresent(effectiveUpperBodyStrengthLabel, model.effectiveText(EffectiveStat.UPPER_BODY_STRENGTH));
+        lowerBodyStrengthLabel.textProperty().bind(model.text(PlayerStat.LOWER_BODY_STRENGTH));
+        bindIfPresent(effectiveLowerBodyStrengthLabel, model.effectiveText(EffectiveStat.LOWER_BODY_STRENGTH));
+        enduranceLabel.textProperty().bind(model.text(PlayerStat.ENDURANCE)); // Player.java has no getEffectiveEndurance
+        agilityLabel.textProperty().bind(model.text(PlayerStat.AGILITY));
+        bindIfPresent(effectiveAgilityLabel, model.effectiveText(EffectiveStat.AGILITY));
+        speedLabel.textProperty().bind(model.text(PlayerStat.SPEED));
+        bindIfPresent(effectiveSpeedLabel, model.effectiveText(EffectiveStat.SPEED));
+        dexterityLabel.textProperty().bind(model.text(PlayerStat.DEXTERITY));
+        bindIfPresent(effectiveDexterityLabel, model.effectiveText(EffectiveStat.DEXTERITY));
+
+        // Health & Needs (Displaying as 0-100% for clarity)
+        healthLabel.textProperty().bind(model.healthText());
+        fatigueLabel.textProperty().bind(model.percentText(PlayerStat.FATIGUE_PERCENT));
+        hungerLabel.textProperty().bind(model.percentText(PlayerStat.HUNGER)); // Satiation
+        thirstLabel.textProperty().bind(model.percentText(PlayerStat.THIRST)); // Hydration
+        bindIfPresent(sleepLabel, model.percentText(PlayerStat.SLEEP));
+        bindIfPresent(hygieneLabel, model.percentText(PlayerStat.HYGIENE));
+        bindIfPresent(comfortLabel, model.percentText(PlayerStat.COMFORT));
+        bindIfPresent(stressLabel, model.percentText(PlayerStat.STRESS));
+
+        // Status
+        isAliveLabel.textProperty().bind(model.valueText(model.aliveProperty()));
+        isConsciousLabel.textProperty().bind(model.valueText(model.consciousProperty()));
+        isAwakeLabel.textProperty().bind(model.valueText(model.awakeProperty()));
+        moodLabel.textProperty().bind(model.valueText(model.moodProperty()));
+
+        // Inventory
+        // Style can be set here or rely on CSS (.character-page-inventory-text-flow .text)
+        Text inventoryText = new Text();
+        ObservableList<String> inventory = model.getInventory();
+        inventoryText.textProperty().bind(Bindings.createStringBinding(() -> {
+            if (!model.hasPlayerProperty().get()) return NO_PLAYER_MESSAGE;
+            return inventory.isEmpty() ? "Empty" : String.join(", ", inventory);
+        }, model.hasPlayerProperty(), inventory));
+        inventoryTextFlow.getChildren().setAll(inventoryText);
+    }
+
+    // Brings the view model up to date with the state the engine last published
+    private void refreshViewModel() {
+        PlayerSnapshot snapshot = null;
+        if (currentPlayer == null) {
+            System.err.println("[CharacterPageVC] currentPlayer is null. Cannot display stats.");
+        } else {
+            snapshot = currentPlayer.getSnapshot();
+            if (snapshot == null) {
+                snapshot = currentPlayer.publishSnapshot();
+            }
+        }
+        PlayerViewModel.shared().update(snapshot, GameContext.getElapsedMinutes());
+        System.out.println("[CharacterPageVC] Player stats displayed.");
+    }
+
+    private static StringBinding formatted(ReadOnlyDoubleProperty value, String format) {
+        PlayerViewModel model = PlayerViewModel.shared();
+        return Bindings.createStringBinding(() -> model.hasPlayerProperty().get() ? String.format(format, value.get()) : "N/A",
+                model.hasPlayerProperty(), value);
+    }
+
+    private static void bindIfPresent(Label label, StringBinding text) {
+        if (label != null) label.textProperty().bind(text);
+    }
+
+    @FXML
+    private void handleBackButtonAction(ActionEvent event) {
+        if (navigationService != null) {
+            navigationService.navigateTo(View.GAME_WORLD);
+        } else {
+            String errorMessage = "NavigationService is not available in CharacterPageViewController.";
+            System.err.println("[CharacterPageVC] " + errorMessage);
+            showAlert(Alert.AlertType.ERROR, "Navigation Error", errorMessage);
+        }
+    }
+
+    private void showAlert(Alert.AlertType alertType, String title, String message) {
+        Platform.runLater(() -> {
+            Alert alert = new Alert(alertType);
+            alert.setTitle(title);
+            alert.setHeaderText(null);
+            alert.setContentText(message);
+            alert.showAndWait();
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+package com.theofernandez.rpg.ui;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The game world's event log: the most recent {@link #getCapacity()} entries, held in a fixed ring buffer that a
+ * (virtualized) ListView renders directly, so the view's cost stays the same however long the game runs.
+ *
+ * Entries may be appended from any thread. They are queued and added to the list in one batch per FX pulse
+ * (at most one pending {@link Platform#runLater}), so a burst of messages causes a single list change and layout.
+ * Entries pushed out of the buffer are appended to a spill file on a background thread, if one is configured.
+ */
+final class EventLog {
+
+    static final int DEFAULT_CAPACITY = 500;
+
+    private final Entries entries;
+    private final ConcurrentLinkedQueue<String> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Path spillFile; // Null: evicted entries are dropped
+    private final ExecutorService spillWriter;
+    private Runnable onFlush; // FX thread only
+    private BufferedWriter spillOut; // Spill thread only
+
+    /**
+     * @param capacity Entries kept in memory and shown.
+     * @param spillFile File evicted entries are appended to, or null to drop them.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    EventLog(int capacity, Path spillFile) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Event log capacity must be positive: " + capacity);
+        }
+        this.entries = new Entries(capacity);
+        this.spillFile = spillFile;
+        this.spillWriter = spillFile == null ? null : Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-log-spill");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return The entries currently kept, oldest first. Changes only on the FX thread.
+     */
+    ObservableList<String> getEntries() { return entries; }
+
+    int getCapacity() { return entries.capacity(); }
+
+    /**
+     * Sets what runs on the FX thread after each batch was added (e.g., scrolling to the newest entry).
+     */
+    void setOnFlush(Runnable onFlush) { this.onFlush = onFlush; }
+
+    /**
+     * Queues an entry. Safe to call from any thread; it shows up with the next pulse.
+     */
+    void append(String message) {
+        pending.add(message);
+        if (flushScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::flush);
+        }
+    }
+
+    /**
+     * Stops spilling once everything already evicted has been written. Call when the view is discarded.
+     */
+    void close() {
+        if (spillWriter == null) return;
+        spillWriter.execute(() -> {
+            try {
+                if (spillOut != null) spillOut.close();
+            } catch (IOException e) {
+                System.err.println("[EventLog] Error closing spill file " + spillFile + ": " + e.getMessage());
+            }
+            spillOut = null;
+        });
+        spillWriter.shutdown();
+    }
+
+    // FX thread: moves everything queued so far into the ring buffer as a single change
+    private void flush() {
+        flushScheduled.set(false); // Entries queued from here on schedule the next flush
+        List<String> batch = new ArrayList<>();
+        String message;
+        while ((message = pending.poll()) != null) {
+            batch.add(message);
+        }
+        if (batch.isEmpty()) return;
+
+        List<String> evicted = entries.push(batch);
+        if (!evicted.isEmpty() && spillWriter != null && !spillWriter.isShutdown()) {
+            spillWriter.execute(() -> spill(evicted));
+        }
+        if (onFlush != null) onFlush.run();
+    }
+
+    // Spill thread
+    private void spill(List<String> evicted) {
+        try {
+            if (spillOut == null) {
+                Path parent = spillFile.getParent();
+                if (parent != null) Files.createDirectories(parent);
+                spillOut = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            for (String entry : evicted) {
+                spillOut.write(entry);
+                spillOut.newLine();
+            }
+            spillOut.flush();
+        } catch (IOException e) {
+            System.err.println("[EventLog] Could not spill " + evicted.size() + " entries to " + spillFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fixed-capacity ring buffer exposed as an observable list. Adding past capacity overwrites the oldest
+     * entries in place and reports them as removed from the front, so no element is ever shifted.
+     */
+    private static final class Entries extends ObservableListBase<String> {
+        private final String[] ring;
+        private int head; // Index of the oldest entry
+        private int size;
+
+        Entries(int capacity) {
+            this.ring = new String[capacity];
+        }
+
+        int capacity() { return ring.length; }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+            }
+            return ring[(head + index) % ring.length];
+        }
+
+        @Override
+        public int size() { return size; }
+
+        // Appends the batch (only its newest entries if it alone exceeds capacity); returns the entries evicted
+        List<String> push(List<String> batch) {
+            int capacity = ring.length;
+            List<String> evicted = new ArrayList<>();
+            int skipped = Math.max(0, batch.size() - capacity);
+            evicted.addAll(batch.subList(0, skipped)); // Never shown, but still spilled in order
+            List<String> added = batch.subList(skipped, batch.size());
+
+            int removedCount = Math.max(0, size + added.size() - capacity);
+            List<String> removed = new ArrayList<>(removedCount);
+            for (int i = 0; i < removedCount; i++) {
+                removed.add(get(i));
+            }
+            evicted.addAll(0, removed); // Older than anything in the batch
+
+            beginChange();
+            try {
+                if (removedCount > 0) {
+                    head = (head + removedCount) % capacity;
+                    size -= removedCount;
+                    nextRemove(0, removed);
+                }
+                int from = size;
+                for (String entry : added) {
+                    ring[(head + size) % capacity] = entry;
+                    size++;
+                }
+                nextAdd(from, size);
+            } finally {
+                endChange();
+            }
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            if (size == 0) return;
+            List<String> removed = new ArrayList<>(this);
+            Arrays.fill(ring, null);
+            head = 0;
+            size = 0;
+            beginChange();
+            nextRemove(0, removed);
+            endChange();
+        }
+    }
+}
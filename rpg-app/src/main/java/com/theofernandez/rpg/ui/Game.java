@@ -69,6 +69,15 @@ public class Game extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        // Saves still queued or in flight must reach the disk before the JVM exits
+        BackgroundSaves.close();
+        QuickSaves.close();
+        SaveFiles.close();
+        System.out.println("[Game] Application stopped.");
+    }
+
     public static void main(String[] args) {
         System.out.println("[Game] Launching JavaFX application via Game.main()...");
         launch(args); // Calls the start() method
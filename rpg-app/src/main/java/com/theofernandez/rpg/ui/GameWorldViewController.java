@@ -0,0 +1,541 @@
+package com.theofernandez.rpg.ui;
+
+import com.theofernandez.rpg.engine.EffectJournal;
+import com.theofernandez.rpg.engine.PlayerStatEngine;
+import com.theofernandez.rpg.game.GameContext;
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerSnapshot;
+import com.theofernandez.rpg.game.PlayerStat;
+import com.theofernandez.rpg.save.Autosaver;
+import com.theofernandez.rpg.save.GameState;
+import com.theofernandez.rpg.save.RewindBuffer;
+import com.theofernandez.rpg.session.ActionOutcome;
+import com.theofernandez.rpg.session.GameActions;
+import com.theofernandez.rpg.session.GameLoop;
+import com.theofernandez.rpg.session.GameSession;
+import com.theofernandez.rpg.ui.navigation.NavigableController;
+import com.theofernandez.rpg.ui.navigation.NavigationService;
+import com.theofernandez.rpg.ui.navigation.View;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextInputDialog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.regex.Pattern; // For save name sanitization
+
+public class GameWorldViewController implements NavigableController {
+
+    // FXML Fields - ensure these match your FXML
+    @FXML private Label welcomeLabel;
+    @FXML private Label timeLabel;
+    @FXML private Label playerNameLabel;
+    @FXML private Label playerAgeLabel;
+    @FXML private Label playerSexLabel;
+    @FXML private Label playerHealthLabel;
+    @FXML private Label playerMoodLabel; // Added in a previous review pass
+    // Consider adding labels for key "effective" stats if important for quick view
+    // @FXML private Label effectiveStrengthLabel;
+    // @FXML private Label effectiveFocusLabel;
+    @FXML private Label hungerLabel;    // Will show satiation %
+    @FXML private Label thirstLabel;    // Will show hydration %
+    @FXML private Label fatigueLabel;   // Will show fatigue %
+    @FXML private ListView<String> inventoryListView;
+    @FXML private ListView<String> eventLogList;
+    @FXML private CheckBox realTimeCheckBox;
+
+    private NavigationService navigationService;
+    private Player currentPlayer;
+    private PlayerStatEngine statEngine;
+    private Autosaver autosaver; // Used by whichever thread acts on the player: this one, or the loop's
+    private GameActions actions; // Action logic shared with the game server (see GameActions)
+    private long effectJournalCursor = 0; // Next journal sequence not yet printed
+    private GameLoop gameLoop; // Non-null while real-time mode is on; then the only thread acting on the player
+    private final AtomicBoolean refreshPending = new AtomicBoolean(); // A loop refresh is queued on the FX thread
+    private PlayerSnapshot lastShownSnapshot; // What the labels show, to spot deaths the loop causes
+    private EventLog eventLog; // Recent events shown; older ones are spilled to EVENT_LOG_SPILL_FILE
+
+    private static final String SAVE_GAME_EXTENSION = ".sav";
+    private static final String SAVES_DIRECTORY_NAME = "saves";
+    // Outlive the view, so a visit to the character page keeps the history. Checkpoints are taken on whichever
+    // thread acts on the player; rewinding happens on the FX thread with the loop stopped.
+    private static final RewindBuffer REWIND_BUFFER = new RewindBuffer();
+    private static Player rewindPlayer; // The player the history follows
+
+    private static final Pattern SAVE_NAME_SANITIZER_PATTERN = Pattern.compile("[^a-zA-Z0-9_.-]");
+    private static final Path EVENT_LOG_SPILL_FILE = Path.of(System.getProperty("user.home"), ".NullscapeRPG", "event-log.txt");
+
+
+    @Override
+    public void setNavigationService(NavigationService navigationService) {
+        this.navigationService = Objects.requireNonNull(navigationService, "NavigationService cannot be null in GameWorldViewController.");
+    }
+
+    @FXML
+    public void initialize() {
+        System.out.println("[GameWorldVC] Initialized.");
+        setUpEventLog();
+        bindHud();
+        GameSession session = GameContext.getDefaultSession();
+        this.currentPlayer = session.getPlayer();
+        this.statEngine = session.getEngine(); // The session's stat processing engine
+        this.actions = new GameActions(session);
+        this.autosaver = new Autosaver(session, BackgroundSaves.get(), BackgroundSaves.AUTOSAVE_FILE);
+        EffectJournal journal = statEngine.getEffectJournal();
+        this.effectJournalCursor = journal != null ? journal.getWriteSequence() : 0; // Skip effects of earlier visits
+        try {
+            statEngine.getMetrics().registerMBean("game"); // Replaces any earlier registration
+        } catch (IllegalStateException e) {
+            System.err.println("[GameWorldVC] Could not publish engine metrics: " + e.getMessage());
+        }
+
+        if (this.currentPlayer != null) {
+            welcomeLabel.setText("Welcome back, " + currentPlayer.getName() + "!"); // Or "Welcome," for new game
+            logEventToUI("You are in " + actions.describeLocation() + ".");
+            // Initial state processing for the player (e.g., after loading a game or starting new)
+            statEngine.processPlayerStateChanges(currentPlayer);
+            currentPlayer.publishSnapshot();
+            printNewEngineEffects();
+            recordInJournal(session); // Starts the autosave journal of a new or loaded game
+            startRewindHistory(session);
+        } else {
+            // This state should ideally be prevented by proper game flow (e.g., must new/load game first)
+            welcomeLabel.setText("Error: No Player Loaded!");
+            logEventToUI("CRITICAL ERROR: No player data found. Please start a new game or load a valid save file.");
+            // Consider disabling action buttons if currentPlayer is null
+        }
+        // Ensure UI updates are on the FX application thread.
+        Platform.runLater(this::updateAllUIDisplays);
+    }
+
+    // Binds the HUD to the shared view model once; from then on a label only changes when its value does
+    private void bindHud() {
+        PlayerViewModel model = PlayerViewModel.shared();
+        playerNameLabel.textProperty().bind(Bindings.concat("Name: ", model.valueText(model.nameProperty())));
+        playerAgeLabel.textProperty().bind(Bindings.concat("Age: ", model.text(PlayerStat.AGE)));
+        playerSexLabel.textProperty().bind(Bindings.concat("Sex: ", model.valueText(model.sexProperty())));
+        playerHealthLabel.textProperty().bind(Bindings.concat("Health: ", model.healthText()));
+        if (playerMoodLabel != null) {
+            playerMoodLabel.textProperty().bind(Bindings.concat("Mood: ", model.valueText(model.moodProperty())));
+        }
+        // Needs as user-friendly percentages (0-100%)
+        hungerLabel.textProperty().bind(Bindings.concat("Satiation: ", model.percentText(PlayerStat.HUNGER)));
+        thirstLabel.textProperty().bind(Bindings.concat("Hydration: ", model.percentText(PlayerStat.THIRST)));
+        fatigueLabel.textProperty().bind(Bindings.concat("Fatigue: ", model.percentText(PlayerStat.FATIGUE_PERCENT)));
+        if (timeLabel != null) {
+            timeLabel.textProperty().bind(Bindings.concat("Time: ", model.timeText()));
+        }
+        if (inventoryListView != null) {
+            inventoryListView.setItems(model.getInventory()); // Receives item deltas, keeps its cells
+            Label placeholder = new Label();
+            placeholder.textProperty().bind(Bindings.when(model.hasPlayerProperty())
+                    .then("Inventory is Empty").otherwise("Inventory Unavailable"));
+            inventoryListView.setPlaceholder(placeholder);
+        }
+    }
+
+    // Feeds the view model the state last published, never the live player the engine may be updating
+    private void updateAllUIDisplays() {
+        PlayerSnapshot snapshot = null;
+        if (currentPlayer != null) {
+            snapshot = currentPlayer.getSnapshot();
+            if (snapshot == null) {
+                snapshot = currentPlayer.publishSnapshot(); // Not processed yet (e.g., just loaded)
+            }
+        }
+        PlayerViewModel.shared().update(snapshot, GameContext.getElapsedMinutes());
+        lastShownSnapshot = snapshot;
+    }
+
+    /**
+     * Prints stat engine effects recorded since the last call to the console.
+     * The engine only records effect codes; the text is built here, off the simulation path.
+     */
+    private void printNewEngineEffects() {
+        EffectJournal journal = statEngine.getEffectJournal();
+        if (journal == null) return;
+        int playerId = currentPlayer.getEntityId();
+        String playerName = currentPlayer.getName();
+        effectJournalCursor = journal.renderSince(effectJournalCursor,
+                entityId -> entityId == playerId ? playerName : null,
+                System.out::println);
+    }
+
+    private void setUpEventLog() {
+        if (eventLogList == null) return;
+        eventLog = new EventLog(EventLog.DEFAULT_CAPACITY, EVENT_LOG_SPILL_FILE);
+        eventLogList.setItems(eventLog.getEntries());
+        eventLogList.setCellFactory(list -> new ListCell<>() {
+            {
+                setWrapText(true);
+                prefWidthProperty().bind(list.widthProperty().subtract(20)); // Wrap inside the list, clear of the scroll bar
+            }
+
+            @Override
+            protected void updateItem(String item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty ? null : item);
+            }
+        });
+        eventLog.setOnFlush(() -> eventLogList.scrollTo(eventLog.getEntries().size() - 1)); // Auto-scroll to the newest
+    }
+
+    private void logEventToUI(String message) {
+        if (eventLog != null) {
+            eventLog.append(message); // Any thread; batched onto the FX thread once per pulse
+        } else {
+            System.out.println("[GameWorld Event] " + message); // Fallback to console if the log list is not available
+        }
+    }
+
+    // This view is being replaced: nothing may keep running on its behalf
+    private void closeEventLog() {
+        if (eventLog != null) eventLog.close();
+    }
+
+    @FXML
+    private void handleExploreAction(ActionEvent event) {
+        if (gameLoop != null) {
+            gameLoop.submit(() -> checkpointed(actions::explore)).thenAccept(outcome -> Platform.runLater(() -> showOutcome(outcome)));
+        } else {
+            showOutcome(checkpointed(actions::explore));
+            autosaveIfDue();
+        }
+    }
+
+    @FXML
+    private void handleRestAction(ActionEvent event) {
+        if (gameLoop != null) {
+            gameLoop.submit(() -> checkpointed(actions::rest)).thenAccept(outcome -> Platform.runLater(() -> showOutcome(outcome)));
+        } else {
+            showOutcome(checkpointed(actions::rest));
+            autosaveIfDue();
+        }
+    }
+
+    // On the thread acting on the player: performs an action and checkpoints the state it left, for rewinding
+    private static ActionOutcome checkpointed(Supplier<ActionOutcome> action) {
+        ActionOutcome outcome = action.get();
+        if (outcome.isPerformed()) {
+            REWIND_BUFFER.checkpoint(GameState.capture(GameContext.getDefaultSession()));
+        }
+        return outcome;
+    }
+
+    // A new or loaded game starts a new rewind history; coming back from another view keeps it
+    private static void startRewindHistory(GameSession session) {
+        if (rewindPlayer == session.getPlayer()) return;
+        REWIND_BUFFER.clear();
+        REWIND_BUFFER.checkpoint(GameState.capture(session));
+        rewindPlayer = session.getPlayer();
+    }
+
+    // Steps back a number of turns, e.g. to undo a fatal action while testing balance
+    @FXML
+    private void handleRewindAction(ActionEvent event) {
+        if (currentPlayer == null) return;
+        int available = REWIND_BUFFER.size() - 1;
+        if (available <= 0) {
+            showAlert(Alert.AlertType.INFORMATION, "Rewind", "There are no earlier turns to rewind to yet.");
+            return;
+        }
+        stopRealTime(); // The player must hold still while it is replaced
+
+        TextInputDialog dialog = new TextInputDialog("1");
+        dialog.setTitle("Rewind");
+        dialog.setHeaderText("Rewind how many turns? (1 to " + available + ")");
+        dialog.setContentText("Turns:");
+        Optional<String> result = dialog.showAndWait();
+        if (result.isPresent()) {
+            try {
+                int turns = Integer.parseInt(result.get().trim());
+                if (turns < 1 || turns > available) {
+                    throw new IllegalArgumentException("Out of range: " + turns);
+                }
+                rewind(turns);
+            } catch (IllegalArgumentException e) { // Includes NumberFormatException
+                showAlert(Alert.AlertType.WARNING, "Rewind", "Enter a number of turns from 1 to " + available + ".");
+            }
+        }
+        resumeRealTime();
+    }
+
+    private void rewind(int turns) {
+        GameSession session = GameContext.getDefaultSession();
+        long start = System.nanoTime();
+        REWIND_BUFFER.rewind(turns).restoreInto(session);
+        System.out.printf("[GameWorldVC] Rewound %d turn(s) in %.3f ms (%d checkpoints kept, %d bytes each on average).%n",
+                turns, (System.nanoTime() - start) / 1e6, REWIND_BUFFER.size(), REWIND_BUFFER.getAverageCheckpointBytes());
+        currentPlayer = session.getPlayer();
+        rewindPlayer = currentPlayer;
+        recordInJournal(session); // The autosave journal continues from the rewound state
+        updateAllUIDisplays();
+        logEventToUI("You rewind " + turns + (turns == 1 ? " turn" : " turns") + ", back to " + GameContext.getFormattedTime() + ".");
+    }
+
+    // On the thread acting on the player, after game time moved. Records the action in the autosave journal; a full
+    // autosave only takes its snapshot here.
+    private void autosaveIfDue() {
+        recordInJournal(GameContext.getDefaultSession());
+        CompletableFuture<Path> save = autosaver.onTimeAdvanced();
+        if (save == null) return;
+        String time = GameContext.getFormattedTime();
+        save.whenComplete((file, error) -> logEventToUI(error == null
+                ? "Autosaved (" + time + ")."
+                : "Autosave failed: " + error.getMessage()));
+    }
+
+    private static void recordInJournal(GameSession session) {
+        try {
+            BackgroundSaves.journal(session);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[GameWorldVC] Could not append to the autosave journal: " + e.getMessage());
+        }
+    }
+
+    // Quick saves go into a slot of the memory-mapped store: no dialog, no new file, the game keeps running
+    @FXML
+    private void handleQuickSaveAction(ActionEvent event) {
+        if (currentPlayer == null) {
+            showAlert(Alert.AlertType.WARNING, "Save Error", "No active game to save.");
+            return;
+        }
+        GameSession session = GameContext.getDefaultSession();
+        if (gameLoop != null) {
+            // Captured between frames, so the player holds still while it is encoded
+            gameLoop.submit(() -> quickSave(session)).thenAccept(this::logEventToUI);
+        } else {
+            logEventToUI(quickSave(session));
+        }
+    }
+
+    // Returns the message for the event log
+    private static String quickSave(GameSession session) {
+        long start = System.nanoTime();
+        try {
+            QuickSaves.get().save(QuickSaves.QUICK_SAVE_SLOT, QuickSaves.QUICK_SAVE_LABEL, GameState.capture(session));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[GameWorldVC] Quick save failed: " + e.getMessage());
+            return "Quick save failed: " + e.getMessage();
+        }
+        System.out.printf("[GameWorldVC] Quick saved in %.2f ms.%n", (System.nanoTime() - start) / 1e6);
+        return "Game quick saved (" + session.getClock().getFormattedTime() + ").";
+    }
+
+    @FXML
+    private void handleRealTimeToggle(ActionEvent event) {
+        if (realTimeCheckBox.isSelected()) {
+            startRealTime();
+        } else {
+            stopRealTime();
+        }
+    }
+
+    // Time passes on its own: a loop thread simulates the session, the FX thread only redraws
+    private void startRealTime() {
+        if (gameLoop != null || currentPlayer == null) return;
+        gameLoop = new GameLoop(GameContext.getDefaultSession(), this::onLoopFrame);
+        gameLoop.start();
+        logEventToUI("Time starts to flow on its own.");
+    }
+
+    // Restarts real-time mode after a pause, if the player still has it switched on
+    private void resumeRealTime() {
+        if (realTimeCheckBox != null && realTimeCheckBox.isSelected()) startRealTime();
+    }
+
+    private void stopRealTime() {
+        if (gameLoop == null) return;
+        gameLoop.stop(); // Returns once the loop thread has let go of the player
+        gameLoop = null;
+        updateAllUIDisplays();
+    }
+
+    // Loop thread. Frames finish far more often than the FX thread needs to hear about them: queue one refresh at a time.
+    private void onLoopFrame(int steps, PlayerSnapshot snapshot) {
+        autosaveIfDue(); // Actions submitted to the loop ran on this thread too; their time is caught here
+        if (refreshPending.compareAndSet(false, true)) {
+            Platform.runLater(this::refreshFromLoop);
+        }
+    }
+
+    private void refreshFromLoop() {
+        refreshPending.set(false);
+        if (gameLoop == null) return; // Stopped while this refresh was queued
+        PlayerSnapshot before = lastShownSnapshot;
+        printNewEngineEffects();
+        updateAllUIDisplays();
+
+        PlayerSnapshot after = lastShownSnapshot;
+        if (before == null || after == null) return;
+        if (before.isAlive() && !after.isAlive()) {
+            logEventToUI("Time has run out for you. Your journey ends here.");
+            showAlert(Alert.AlertType.WARNING, "You Have Perished", "Your character has died.");
+        } else if (before.isConscious() && !after.isConscious() && after.isAlive()) {
+            logEventToUI("The world fades away. You have lost consciousness.");
+            showAlert(Alert.AlertType.WARNING, "Unconscious", "Your character has lost consciousness.");
+        }
+    }
+
+    // Logs an action's narrative, refreshes the UI and raises an alert for game over states or critical conditions
+    private void showOutcome(ActionOutcome outcome) {
+        outcome.getMessages().forEach(this::logEventToUI);
+        if (!outcome.isPerformed()) return;
+
+        printNewEngineEffects();
+        updateAllUIDisplays(); // Refresh UI to show all changes (health, needs, mood, inventory, time)
+
+        if (outcome.isDied()) {
+            showAlert(Alert.AlertType.WARNING, "You Have Perished", "Your character has died.");
+            // Consider disabling action buttons or navigating to a game over screen/main menu
+            // For now, player can technically click buttons but actions are blocked if !isAlive.
+        } else if (outcome.isKnockedOut()) {
+            showAlert(Alert.AlertType.WARNING, "Unconscious", "Your character has lost consciousness.");
+        }
+    }
+
+    @FXML
+    private void handleCharacterPageAction(ActionEvent event) {
+        System.out.println("[GameWorldVC] Character Page button clicked.");
+        if (navigationService != null) {
+            stopRealTime(); // This view is replaced; its loop must not outlive it
+            closeEventLog();
+            navigationService.navigateTo(View.CHARACTER_PAGE);
+        } else {
+            handleNavigationError("handleCharacterPageAction", "Cannot open character page.");
+        }
+    }
+
+    @FXML
+    private void handleSocialsAction(ActionEvent event) {
+        System.out.println("[GameWorldVC] Socials button clicked.");
+        // if(navigationService != null) navigationService.navigateTo(View.SOCIALS_PAGE);
+        showAlert(Alert.AlertType.INFORMATION, "Feature Not Available", "Social interaction features are planned for a future update.");
+    }
+
+    @FXML
+    private void handleSaveAndExitAction(ActionEvent event) {
+        System.out.println("[GameWorldVC] Save & Exit button clicked.");
+        if (currentPlayer == null) {
+            showAlert(Alert.AlertType.WARNING, "Save Error", "No active game to save. Returning to Main Menu.");
+            navigateToMainMenu(true); // Force exit to menu
+            return;
+        }
+        stopRealTime(); // The player must hold still while it is written out
+
+        String defaultSaveName = SAVE_NAME_SANITIZER_PATTERN.matcher(currentPlayer.getName()).replaceAll("_") + "_save";
+        TextInputDialog dialog = new TextInputDialog(defaultSaveName);
+        dialog.setTitle("Save Game");
+        dialog.setHeaderText("Enter a name for your save file.\n(Using an existing name will offer to overwrite it).");
+        dialog.setContentText("Save Name:");
+
+        Optional<String> result = dialog.showAndWait();
+        if (result.isPresent() && !result.get().trim().isEmpty()) {
+            String saveNameInput = result.get().trim();
+            String sanitizedSaveName = SAVE_NAME_SANITIZER_PATTERN.matcher(saveNameInput).replaceAll("_");
+
+            if (sanitizedSaveName.isEmpty() || sanitizedSaveName.equals("_")) { // Ensure name isn't just underscores
+                showAlert(Alert.AlertType.ERROR, "Invalid Save Name", "Save name cannot be empty or invalid characters only. Please try again.");
+                resumeRealTime();
+                return; // Stay on GameWorldView, do not exit
+            }
+
+            File saveFile = new File(SAVES_DIRECTORY_NAME + File.separator + sanitizedSaveName + SAVE_GAME_EXTENSION);
+            boolean proceedWithSave = true;
+
+            if (saveFile.exists()) {
+                Alert confirmOverwrite = new Alert(Alert.AlertType.CONFIRMATION);
+                confirmOverwrite.setTitle("Confirm Overwrite");
+                confirmOverwrite.setHeaderText("Save file '" + sanitizedSaveName + SAVE_GAME_EXTENSION + "' already exists.");
+                confirmOverwrite.setContentText("Do you want to overwrite it?");
+                confirmOverwrite.getButtonTypes().setAll(ButtonType.YES, ButtonType.NO);
+                Optional<ButtonType> confirmResult = confirmOverwrite.showAndWait();
+                if (confirmResult.isEmpty() || confirmResult.get() != ButtonType.YES) {
+                    proceedWithSave = false;
+                    logEventToUI("Save overwritten cancelled for '" + sanitizedSaveName + "'.");
+                }
+            }
+
+            if (proceedWithSave) {
+                saveGameData(sanitizedSaveName); // This method shows its own success/failure alert
+            }
+            // Regardless of save success/failure (if attempted), proceed to exit if user confirmed a name.
+            navigateToMainMenu(true);
+
+        } else {
+            logEventToUI("Save dialog cancelled or empty name provided. Game not saved. Continuing current session.");
+            resumeRealTime();
+            // User cancelled the save dialog, so they likely want to continue playing. Do NOT exit.
+        }
+    }
+
+    private void saveGameData(String fileName) {
+        if (currentPlayer == null || fileName == null || fileName.trim().isEmpty()) {
+            showAlert(Alert.AlertType.ERROR, "Save Error", "Critical data missing. Cannot save game.");
+            return;
+        }
+
+        File savesDir = new File(SAVES_DIRECTORY_NAME);
+        if (!savesDir.exists() && !savesDir.mkdirs()) {
+            showAlert(Alert.AlertType.ERROR, "Save Error", "Could not create saves directory: " + savesDir.getAbsolutePath());
+            return;
+        }
+
+        File saveFile = new File(savesDir, fileName + SAVE_GAME_EXTENSION);
+        // Player, game time and world seed are snapshotted here (the loop is stopped while saving); the file is
+        // written in the background and atomically replaced, so a slow disk never freezes the UI.
+        BackgroundSaves.get().save(saveFile.toPath(), GameState.capture(GameContext.getDefaultSession()))
+                .whenComplete((file, error) -> {
+                    if (error == null) {
+                        System.out.println("[GameWorldVC] Game saved successfully to: " + file + " (" + saveFile.length() + " bytes)");
+                        showAlert(Alert.AlertType.INFORMATION, "Game Saved", "Game saved as: " + fileName + SAVE_GAME_EXTENSION);
+                    } else {
+                        System.err.println("[GameWorldVC] Error saving game to " + saveFile.getAbsolutePath() + ": " + error.getMessage());
+                        showAlert(Alert.AlertType.ERROR, "Save Error", "Could not save the game data.\n" + error.getMessage());
+                    }
+                });
+    }
+
+    private void navigateToMainMenu(boolean clearPlayer) {
+        if (navigationService != null) {
+            stopRealTime();
+            closeEventLog();
+            if (clearPlayer) {
+                GameContext.clearCurrentPlayer(); // Clear current player context
+            }
+            navigationService.navigateTo(View.MAIN_MENU);
+        } else {
+            handleNavigationError("navigateToMainMenu", "Cannot return to Main Menu.");
+        }
+    }
+
+    private void handleNavigationError(String methodName, String specificMessage) {
+        String errorMessage = "NavigationService is not available in " + methodName + ". " + specificMessage;
+        System.err.println("[GameWorldVC] " + errorMessage);
+        showAlert(Alert.AlertType.ERROR, "Critical Navigation Error", errorMessage + "\nPlease restart the application if issues persist.");
+    }
+
+    private void showAlert(Alert.AlertType alertType, String title, String message) {
+        Platform.runLater(() -> {
+            Alert alert = new Alert(alertType);
+            alert.setTitle(title);
+            alert.setHeaderText(null);
+            alert.setContentText(message);
+            alert.showAndWait();
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,363 @@
+package com.theofernandez.rpg.ui;
+
+import com.theofernandez.rpg.game.GameContext;
+import com.theofernandez.rpg.save.GameState;
+import com.theofernandez.rpg.save.SaveCatalog;
+import com.theofernandez.rpg.save.SaveFormat;
+import com.theofernandez.rpg.save.SaveJournal;
+import com.theofernandez.rpg.save.SaveSlotStore;
+import com.theofernandez.rpg.save.SaveSummary;
+import com.theofernandez.rpg.ui.navigation.NavigableController;
+import com.theofernandez.rpg.ui.navigation.NavigationService;
+import com.theofernandez.rpg.ui.navigation.View;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SelectionMode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+public class LoadGameViewController implements NavigableController {
+
+    @FXML private ListView<SaveEntry> saveGamesListView;
+    @FXML private Button loadSelectedButton;
+    @FXML private Button deleteSelectedButton;
+
+    private NavigationService navigationService;
+    private SaveCatalog.Listener catalogListener; // Registered while the list shows the catalog's saves
+
+    private static final String SAVE_GAME_EXTENSION = ".sav";
+    private static final String SAVES_DIRECTORY_NAME = "saves"; // Renamed for clarity
+
+    // One row of the list: a save file in saves/, an occupied slot of the quick save store, or the autosave journal
+    private record SaveEntry(Source source, String name, int slot, String description) {
+        enum Source { FILE, SLOT, JOURNAL }
+
+        static final int NO_SLOT = -1;
+
+        static SaveEntry file(SaveSummary summary) {
+            String fileName = summary.getFileName();
+            String name = fileName.substring(0, fileName.length() - SAVE_GAME_EXTENSION.length());
+            String description = name + " - " + summary.getPlayerName() + ", "
+                    + GameContext.formatElapsedMinutes(summary.getElapsedMinutes())
+                    + (summary.isAlive() ? ", Health " + summary.getHealth() + (summary.getMood() != null ? ", " + summary.getMood() : "") : ", dead");
+            return new SaveEntry(Source.FILE, name, NO_SLOT, description);
+        }
+
+        static SaveEntry slot(SaveSlotStore.SlotInfo info) {
+            String description = "[" + info.getLabel() + "] " + info.getPlayerName() + " - "
+                    + GameContext.formatElapsedMinutes(info.getElapsedMinutes());
+            return new SaveEntry(Source.SLOT, info.getLabel(), info.getSlot(), description);
+        }
+
+        static SaveEntry journal(GameState state) {
+            String description = "[" + BackgroundSaves.JOURNAL_LABEL + "] " + state.getPlayer().getName() + " - "
+                    + GameContext.formatElapsedMinutes(state.getElapsedMinutes());
+            return new SaveEntry(Source.JOURNAL, BackgroundSaves.JOURNAL_LABEL, NO_SLOT, description);
+        }
+
+        @Override
+        public String toString() { return description; } // What the ListView shows
+    }
+
+    @Override
+    public void setNavigationService(NavigationService navigationService) {
+        this.navigationService = Objects.requireNonNull(navigationService, "NavigationService cannot be null in LoadGameViewController.");
+    }
+
+    @FXML
+    public void initialize() {
+        System.out.println("[LoadGameVC] Initialized.");
+        saveGamesListView.getSelectionModel().setSelectionMode(SelectionMode.SINGLE);
+        saveGamesListView.setPlaceholder(new Label("Scanning for save files...")); // Initial placeholder
+
+        // Disable buttons until a save is selected
+        loadSelectedButton.setDisable(true);
+        deleteSelectedButton.setDisable(true);
+
+        // Populate the list of save games. Run on FX thread if any complex UI updates are done inside.
+        Platform.runLater(this::populateSaveGamesList);
+
+        // Listener to enable/disable buttons based on selection
+        saveGamesListView.getSelectionModel().selectedItemProperty().addListener((obs, oldSelection, newSelection) -> {
+            boolean itemSelected = newSelection != null;
+            loadSelectedButton.setDisable(!itemSelected);
+            deleteSelectedButton.setDisable(!itemSelected);
+        });
+    }
+
+    private void populateSaveGamesList() {
+        File savesDir = new File(SAVES_DIRECTORY_NAME);
+
+        if (!savesDir.exists()) {
+            System.out.println("[LoadGameVC] Saves directory does not exist: " + savesDir.getAbsolutePath());
+            if (!savesDir.mkdirs()) {
+                System.err.println("[LoadGameVC] Error: Could not create saves directory at: " + savesDir.getAbsolutePath());
+                saveGamesListView.setPlaceholder(new Label("Error: Cannot access or create saves folder."));
+                saveGamesListView.setItems(FXCollections.emptyObservableList()); // Ensure list is empty
+                return;
+            }
+            System.out.println("[LoadGameVC] Saves directory created: " + savesDir.getAbsolutePath());
+        } else if (!savesDir.isDirectory()) {
+            System.err.println("[LoadGameVC] Error: Expected a directory for saves, but found a file: " + savesDir.getAbsolutePath());
+            saveGamesListView.setPlaceholder(new Label("Error: Invalid saves folder configuration."));
+            saveGamesListView.setItems(FXCollections.emptyObservableList());
+            return;
+        }
+
+        // The autosave journal and quick save slots first, newest first, then the save files
+        ObservableList<SaveEntry> saveFileNames = FXCollections.observableArrayList();
+        if (QuickSaves.exists()) {
+            try {
+                saveFileNames.addAll(QuickSaves.get().list().stream()
+                        .sorted(Comparator.comparingLong(SaveSlotStore.SlotInfo::getSavedAtMillis).reversed())
+                        .map(SaveEntry::slot)
+                        .collect(Collectors.toList()));
+            } catch (IOException e) {
+                System.err.println("[LoadGameVC] Error reading the quick save slots: " + e.getMessage());
+            }
+        }
+
+        saveGamesListView.setItems(saveFileNames);
+
+        // Showing the journal means replaying it (its last snapshot plus every record since), so that is done off the
+        // FX thread too
+        if (SaveJournal.exists(BackgroundSaves.JOURNAL_DIRECTORY)) {
+            CompletableFuture.supplyAsync(LoadGameViewController::loadJournal)
+                    .whenComplete((state, error) -> Platform.runLater(() -> showJournal(saveFileNames, state, error)));
+        }
+
+        // Save files come from the catalog: its index (the first time, the save headers) is read off the FX thread
+        saveGamesListView.setPlaceholder(new Label("Scanning for save files..."));
+        CompletableFuture.supplyAsync(LoadGameViewController::openCatalog)
+                .whenComplete((catalog, error) -> Platform.runLater(() -> showSaveFiles(saveFileNames, catalog, error)));
+    }
+
+    private static GameState loadJournal() {
+        try {
+            return SaveJournal.load(BackgroundSaves.JOURNAL_DIRECTORY);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // FX thread. The journal is the most recent save, so it goes first.
+    private void showJournal(ObservableList<SaveEntry> entries, GameState state, Throwable error) {
+        if (saveGamesListView.getItems() != entries) return; // The list was rebuilt meanwhile
+        if (error != null) {
+            System.err.println("[LoadGameVC] Error reading the autosave journal: " + error.getMessage());
+            return;
+        }
+        entries.add(0, SaveEntry.journal(state));
+    }
+
+    private static SaveCatalog openCatalog() {
+        try {
+            return SaveFiles.get();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // FX thread. Lists the catalog's saves after the journal and slots, then follows the catalog's changes.
+    private void showSaveFiles(ObservableList<SaveEntry> entries, SaveCatalog catalog, Throwable error) {
+        if (saveGamesListView.getItems() != entries) return; // The list was rebuilt meanwhile
+        if (error != null) {
+            System.err.println("[LoadGameVC] Error reading the save catalog: " + error.getMessage());
+            saveGamesListView.setPlaceholder(new Label("Error: Cannot read the saves folder."));
+            return;
+        }
+        entries.removeIf(entry -> entry.source() == SaveEntry.Source.FILE); // Changes that arrived first are in the list too
+        entries.addAll(catalog.list().stream().map(SaveEntry::file).collect(Collectors.toList()));
+        if (catalogListener == null) {
+            catalogListener = (fileName, summary) -> Platform.runLater(() -> applySaveChange(fileName, summary));
+            catalog.addListener(catalogListener);
+        }
+
+        if (entries.isEmpty()) {
+            saveGamesListView.setPlaceholder(new Label("No save files found. Start a new game!"));
+        }
+        System.out.println("[LoadGameVC] Found " + entries.size() + " saves.");
+    }
+
+    // FX thread. A save file was written or deleted while the list is shown: replace just its row. A written save is
+    // the newest, so it goes first among the files.
+    private void applySaveChange(String fileName, SaveSummary summary) {
+        if (catalogListener == null) return; // Left the screen while this was queued
+        String name = fileName.substring(0, fileName.length() - SAVE_GAME_EXTENSION.length());
+        ObservableList<SaveEntry> entries = saveGamesListView.getItems();
+        SaveEntry selected = saveGamesListView.getSelectionModel().getSelectedItem();
+        entries.removeIf(entry -> entry.source() == SaveEntry.Source.FILE && entry.name().equals(name));
+        if (summary != null) {
+            SaveEntry changed = SaveEntry.file(summary);
+            int firstFile = 0;
+            while (firstFile < entries.size() && entries.get(firstFile).source() != SaveEntry.Source.FILE) firstFile++;
+            entries.add(firstFile, changed);
+            if (selected != null && selected.source() == SaveEntry.Source.FILE && selected.name().equals(name)) {
+                saveGamesListView.getSelectionModel().select(changed); // Keep the selection on the rewritten save
+            }
+        }
+        if (entries.isEmpty()) {
+            saveGamesListView.setPlaceholder(new Label("No save files found. Start a new game!"));
+        }
+    }
+
+    // Before leaving the screen: the catalog outlives it
+    private void detachCatalog() {
+        if (catalogListener == null) return;
+        try {
+            SaveFiles.get().removeListener(catalogListener);
+        } catch (IOException e) {
+            System.err.println("[LoadGameVC] Error reading the save catalog: " + e.getMessage());
+        }
+        catalogListener = null;
+    }
+
+    @FXML
+    private void handleLoadSelectedAction(ActionEvent event) {
+        SaveEntry selected = saveGamesListView.getSelectionModel().getSelectedItem();
+        if (selected == null) {
+            showAlert(Alert.AlertType.WARNING, "Action Required", "Please select a game to load.");
+            return;
+        }
+        String selectedSaveName = selected.name();
+
+        try {
+            GameState state;
+            if (selected.source() == SaveEntry.Source.JOURNAL) {
+                state = SaveJournal.load(BackgroundSaves.JOURNAL_DIRECTORY); // Last snapshot plus the records after it
+            } else if (selected.source() == SaveEntry.Source.SLOT) {
+                state = QuickSaves.get().load(selected.slot()); // Decoded straight from the mapped store
+                if (state == null) {
+                    showAlert(Alert.AlertType.ERROR, "Load Error", "The slot '" + selectedSaveName + "' is empty. Please refresh the list.");
+                    populateSaveGamesList();
+                    return;
+                }
+            } else {
+                File saveFile = new File(SAVES_DIRECTORY_NAME + File.separator + selectedSaveName + SAVE_GAME_EXTENSION);
+                if (!saveFile.exists() || !saveFile.isFile()) {
+                    showAlert(Alert.AlertType.ERROR, "Load Error", "Save file '" + selectedSaveName + "' not found or is invalid.\nIt may have been moved or deleted. Please refresh the list.");
+                    populateSaveGamesList(); // Refresh list as the file might be gone
+                    return;
+                }
+                // Binary saves carry the game time and world seed; legacy saves (a serialized Player) start at the default time
+                state = SaveFormat.read(saveFile.toPath());
+            }
+            state.restoreInto(GameContext.getDefaultSession());
+
+            System.out.println("[LoadGameVC] Game loaded successfully: " + selectedSaveName + " (format v" + state.getFormatVersion()
+                    + ", " + GameContext.getFormattedTime() + ")");
+            showAlert(Alert.AlertType.INFORMATION, "Game Loaded", "Successfully loaded game: " + selectedSaveName);
+
+            if (navigationService != null) {
+                detachCatalog();
+                navigationService.navigateTo(View.GAME_WORLD);
+            } else {
+                handleNavigationError("handleLoadSelectedAction", "Cannot proceed to game world.");
+            }
+
+        } catch (IOException ioe) {
+            System.err.println("[LoadGameVC] Error loading game '" + selectedSaveName + "': " + ioe.getMessage());
+            ioe.printStackTrace();
+            showAlert(Alert.AlertType.ERROR, "Load Error", "Could not read the save file. It might be corrupted, locked, or from a newer version of the game.\nDetails: " + ioe.getMessage());
+        }
+    }
+
+    @FXML
+    private void handleDeleteSelectedAction(ActionEvent event) {
+        SaveEntry selected = saveGamesListView.getSelectionModel().getSelectedItem();
+        if (selected == null) {
+            showAlert(Alert.AlertType.WARNING, "Action Required", "Please select a save file to delete.");
+            return;
+        }
+        String selectedSaveName = selected.name();
+
+        Alert confirmDelete = new Alert(Alert.AlertType.CONFIRMATION);
+        confirmDelete.setTitle("Confirm Delete");
+        confirmDelete.setHeaderText("Delete Save File: '" + selectedSaveName + "'?");
+        confirmDelete.setContentText("Are you sure you want to permanently delete this save file?\nThis action cannot be undone.");
+        confirmDelete.getButtonTypes().setAll(ButtonType.YES, ButtonType.NO); // Explicit buttons
+
+        Optional<ButtonType> result = confirmDelete.showAndWait();
+        if (result.isPresent() && result.get() == ButtonType.YES && selected.source() == SaveEntry.Source.JOURNAL) {
+            try {
+                BackgroundSaves.deleteJournal();
+                System.out.println("[LoadGameVC] Deleted the autosave journal.");
+                showAlert(Alert.AlertType.INFORMATION, "Delete Successful", "Save '" + selectedSaveName + "' has been deleted.");
+            } catch (IOException e) {
+                System.err.println("[LoadGameVC] Failed to delete the autosave journal: " + e.getMessage());
+                showAlert(Alert.AlertType.ERROR, "Delete Failed", "Could not delete '" + selectedSaveName + "'.\n" + e.getMessage());
+            }
+            populateSaveGamesList();
+        } else if (result.isPresent() && result.get() == ButtonType.YES && selected.source() == SaveEntry.Source.SLOT) {
+            try {
+                QuickSaves.get().clear(selected.slot());
+                System.out.println("[LoadGameVC] Cleared save slot " + selected.slot() + " (" + selectedSaveName + ").");
+                showAlert(Alert.AlertType.INFORMATION, "Delete Successful", "Save '" + selectedSaveName + "' has been deleted.");
+            } catch (IOException e) {
+                System.err.println("[LoadGameVC] Failed to clear save slot " + selected.slot() + ": " + e.getMessage());
+                showAlert(Alert.AlertType.ERROR, "Delete Failed", "Could not delete '" + selectedSaveName + "'.\n" + e.getMessage());
+            }
+            populateSaveGamesList();
+        } else if (result.isPresent() && result.get() == ButtonType.YES) {
+            File saveFileToDelete = new File(SAVES_DIRECTORY_NAME + File.separator + selectedSaveName + SAVE_GAME_EXTENSION);
+            if (saveFileToDelete.exists() && saveFileToDelete.isFile()) {
+                if (saveFileToDelete.delete()) {
+                    System.out.println("[LoadGameVC] Deleted save file: " + saveFileToDelete.getName());
+                    showAlert(Alert.AlertType.INFORMATION, "Delete Successful", "Save file '" + selectedSaveName + "' has been deleted.");
+                } else {
+                    System.err.println("[LoadGameVC] Failed to delete save file: " + saveFileToDelete.getAbsolutePath());
+                    showAlert(Alert.AlertType.ERROR, "Delete Failed", "Could not delete '" + selectedSaveName + "'.\nThe file might be locked or protected.");
+                }
+            } else {
+                System.out.println("[LoadGameVC] Save file to delete not found (already deleted?): " + saveFileToDelete.getAbsolutePath());
+                showAlert(Alert.AlertType.WARNING, "Delete Error", "Save file '" + selectedSaveName + "' not found.\nIt may have already been deleted.");
+            }
+            populateSaveGamesList(); // Refresh the list after deletion attempt
+        } else {
+            System.out.println("[LoadGameVC] Delete operation cancelled by user for: " + selectedSaveName);
+        }
+    }
+
+    @FXML
+    private void handleBackButtonAction(ActionEvent event) {
+        System.out.println("[LoadGameVC] Back button clicked. Navigating to Main Menu.");
+        if (navigationService != null) {
+            GameContext.clearCurrentPlayer(); // Clear player when going back to menu
+            detachCatalog();
+            navigationService.navigateTo(View.MAIN_MENU);
+        } else {
+            handleNavigationError("handleBackButtonAction", "Cannot return to main menu.");
+        }
+    }
+
+    private void handleNavigationError(String methodName, String specificMessage) {
+        String errorMessage = "NavigationService is not available in " + methodName + ". " + specificMessage;
+        System.err.println("[LoadGameVC] " + errorMessage);
+        showAlert(Alert.AlertType.ERROR, "Navigation Error", errorMessage);
+    }
+
+    private void showAlert(Alert.AlertType alertType, String title, String message) {
+        Platform.runLater(() -> {
+            Alert alert = new Alert(alertType);
+            alert.setTitle(title);
+            alert.setHeaderText(null);
+            alert.setContentText(message);
+            alert.showAndWait();
+        });
+    }
+}
\ No newline at end of file
@@ -90,11 +90,12 @@ public class NewGameViewController implements NavigableController {
 
         GameContext.setCurrentPlayer(newPlayer); // Set the newly created player as current
         GameContext.resetGameTimeToDefault();    // Reset game time for a new session
+        GameContext.newWorldSeed();              // New world, new rolls
 
         System.out.println("[NewGameVC] New player created: " + newPlayer.getName() +
                 ", Sex: " + newPlayer.getSex() +
                 ", Body Type: " + newPlayer.getBodyType());
-        System.out.println("[NewGameVC] Game context reset. Day: " + GameContext.currentDay + " Time: " + GameContext.currentHour + ":" + GameContext.currentMinute);
+        System.out.println("[NewGameVC] Game context reset. " + GameContext.getFormattedTime());
 
 
         // --- Navigation ---
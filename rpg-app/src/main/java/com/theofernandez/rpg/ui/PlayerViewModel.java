@@ -0,0 +1,244 @@
+package com.theofernandez.rpg.ui;
+
+import com.theofernandez.rpg.game.GameClock;
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerSnapshot;
+import com.theofernandez.rpg.game.PlayerStat;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * The displayed state of the current player as JavaFX properties, shared by every view. Controllers bind their labels
+ * once in {@code initialize}; the model is fed engine output ({@link PlayerSnapshot}s) and sets each property, and a
+ * property only notifies when its value actually changed. A tick that moves one need re-renders one label.
+ *
+ * Text bindings (see {@link #text(PlayerStat)}) are lazy: a value is formatted when it changed and is displayed,
+ * not on every update. The inventory is an observable list that receives the difference between two snapshots.
+ *
+ * Properties are set on the FX thread only. Callers on other threads (e.g., the game loop) hand the snapshot over
+ * with {@code Platform.runLater} and coalesce their own refreshes.
+ *
+ * The model outlives the views bound to it. JavaFX bindings observe their dependencies through weak listeners, so a
+ * view that is navigated away from is collected along with its bindings.
+ */
+public final class PlayerViewModel {
+
+    private static final String NOT_AVAILABLE = "N/A";
+    private static final PlayerViewModel SHARED = new PlayerViewModel();
+
+    /**
+     * Effective stats (base plus temporary modifiers) shown in the UI.
+     */
+    public enum EffectiveStat {
+        UPPER_BODY_STRENGTH(PlayerSnapshot::getEffectiveUpperBodyStrength),
+        LOWER_BODY_STRENGTH(PlayerSnapshot::getEffectiveLowerBodyStrength),
+        AGILITY(PlayerSnapshot::getEffectiveAgility),
+        SPEED(PlayerSnapshot::getEffectiveSpeed),
+        DEXTERITY(PlayerSnapshot::getEffectiveDexterity),
+        INTELLIGENCE(PlayerSnapshot::getEffectiveIntelligence),
+        FOCUS(PlayerSnapshot::getEffectiveFocus),
+        SIGHT(PlayerSnapshot::getEffectiveSight),
+        HEARING(PlayerSnapshot::getEffectiveHearing),
+        MEMORY(PlayerSnapshot::getEffectiveMemory);
+
+        private final ToIntFunction<PlayerSnapshot> getter;
+
+        EffectiveStat(ToIntFunction<PlayerSnapshot> getter) {
+            this.getter = getter;
+        }
+    }
+
+    private static final EffectiveStat[] EFFECTIVE_STATS = EffectiveStat.values();
+
+    private final ReadOnlyBooleanWrapper hasPlayer = new ReadOnlyBooleanWrapper(this, "hasPlayer");
+    private final ReadOnlyLongWrapper elapsedMinutes = new ReadOnlyLongWrapper(this, "elapsedMinutes");
+
+    private final ReadOnlyStringWrapper name = new ReadOnlyStringWrapper(this, "name");
+    private final ReadOnlyObjectWrapper<Player.Sex> sex = new ReadOnlyObjectWrapper<>(this, "sex");
+    private final ReadOnlyStringWrapper ethnicity = new ReadOnlyStringWrapper(this, "ethnicity");
+    private final ReadOnlyDoubleWrapper height = new ReadOnlyDoubleWrapper(this, "height");
+    private final ReadOnlyDoubleWrapper weight = new ReadOnlyDoubleWrapper(this, "weight");
+    private final ReadOnlyObjectWrapper<Player.BloodType> bloodType = new ReadOnlyObjectWrapper<>(this, "bloodType");
+    private final ReadOnlyObjectWrapper<Player.BodyType> bodyType = new ReadOnlyObjectWrapper<>(this, "bodyType");
+
+    private final ReadOnlyIntegerWrapper[] stats = new ReadOnlyIntegerWrapper[PlayerStat.COUNT]; // By PlayerStat ordinal
+    private final ReadOnlyIntegerWrapper[] effectiveStats = new ReadOnlyIntegerWrapper[EFFECTIVE_STATS.length];
+
+    private final ReadOnlyBooleanWrapper alive = new ReadOnlyBooleanWrapper(this, "alive");
+    private final ReadOnlyBooleanWrapper conscious = new ReadOnlyBooleanWrapper(this, "conscious");
+    private final ReadOnlyBooleanWrapper awake = new ReadOnlyBooleanWrapper(this, "awake");
+    private final ReadOnlyObjectWrapper<Player.Mood> mood = new ReadOnlyObjectWrapper<>(this, "mood");
+
+    private final ObservableList<String> inventory = FXCollections.observableArrayList();
+    private final ObservableList<String> inventoryView = FXCollections.unmodifiableObservableList(inventory);
+    private List<String> shownInventory = List.of(); // Snapshots share the list while the inventory is unchanged
+
+    PlayerViewModel() {
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new ReadOnlyIntegerWrapper(this, PlayerStat.byId(i).name());
+        }
+        for (EffectiveStat stat : EFFECTIVE_STATS) {
+            effectiveStats[stat.ordinal()] = new ReadOnlyIntegerWrapper(this, "effective" + stat.name());
+        }
+    }
+
+    /**
+     * @return The view model of the desktop game's current player.
+     */
+    public static PlayerViewModel shared() { return SHARED; }
+
+    /**
+     * Applies a snapshot right away. FX thread only.
+     *
+     * @param snapshot The player's latest state, or null if there is no player.
+     * @param minutes The game time to show.
+     */
+    public void update(PlayerSnapshot snapshot, long minutes) {
+        elapsedMinutes.set(minutes);
+        if (snapshot == null) {
+            hasPlayer.set(false);
+            setInventory(List.of());
+            return;
+        }
+
+        name.set(snapshot.getName());
+        sex.set(snapshot.getSex());
+        ethnicity.set(snapshot.getEthnicity());
+        height.set(snapshot.getHeight());
+        weight.set(snapshot.getWeight());
+        bloodType.set(snapshot.getBloodType());
+        bodyType.set(snapshot.getBodyType());
+
+        for (int i = 0; i < stats.length; i++) {
+            stats[i].set(snapshot.get(PlayerStat.byId(i)));
+        }
+        for (EffectiveStat stat : EFFECTIVE_STATS) {
+            effectiveStats[stat.ordinal()].set(stat.getter.applyAsInt(snapshot));
+        }
+
+        alive.set(snapshot.isAlive());
+        conscious.set(snapshot.isConscious());
+        awake.set(snapshot.isAwake());
+        mood.set(snapshot.getMood());
+        setInventory(snapshot.getInventory());
+        hasPlayer.set(true); // Last: listeners of hasPlayer see every other value already in place
+    }
+
+    // Turns the shown inventory into the new one with one removal and one insertion at most (items are
+    // usually appended or removed one at a time), so list views keep their cells and selection.
+    private void setInventory(List<String> items) {
+        if (items == shownInventory) return;
+        int oldSize = inventory.size();
+        int newSize = items.size();
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize && inventory.get(prefix).equals(items.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix && suffix < newSize - prefix
+                && inventory.get(oldSize - 1 - suffix).equals(items.get(newSize - 1 - suffix))) {
+            suffix++;
+        }
+        if (oldSize - suffix > prefix) {
+            inventory.remove(prefix, oldSize - suffix);
+        }
+        if (newSize - suffix > prefix) {
+            inventory.addAll(prefix, items.subList(prefix, newSize - suffix));
+        }
+        shownInventory = items;
+    }
+
+    // --- Properties ---
+    public ReadOnlyBooleanProperty hasPlayerProperty() { return hasPlayer.getReadOnlyProperty(); }
+    public ReadOnlyLongProperty elapsedMinutesProperty() { return elapsedMinutes.getReadOnlyProperty(); }
+    public ReadOnlyStringProperty nameProperty() { return name.getReadOnlyProperty(); }
+    public ReadOnlyObjectProperty<Player.Sex> sexProperty() { return sex.getReadOnlyProperty(); }
+    public ReadOnlyStringProperty ethnicityProperty() { return ethnicity.getReadOnlyProperty(); }
+    public ReadOnlyDoubleProperty heightProperty() { return height.getReadOnlyProperty(); }
+    public ReadOnlyDoubleProperty weightProperty() { return weight.getReadOnlyProperty(); }
+    public ReadOnlyObjectProperty<Player.BloodType> bloodTypeProperty() { return bloodType.getReadOnlyProperty(); }
+    public ReadOnlyObjectProperty<Player.BodyType> bodyTypeProperty() { return bodyType.getReadOnlyProperty(); }
+    public ReadOnlyIntegerProperty statProperty(PlayerStat stat) { return stats[stat.ordinal()].getReadOnlyProperty(); }
+    public ReadOnlyIntegerProperty effectiveStatProperty(EffectiveStat stat) { return effectiveStats[stat.ordinal()].getReadOnlyProperty(); }
+    public ReadOnlyBooleanProperty aliveProperty() { return alive.getReadOnlyProperty(); }
+    public ReadOnlyBooleanProperty consciousProperty() { return conscious.getReadOnlyProperty(); }
+    public ReadOnlyBooleanProperty awakeProperty() { return awake.getReadOnlyProperty(); }
+    public ReadOnlyObjectProperty<Player.Mood> moodProperty() { return mood.getReadOnlyProperty(); }
+
+    /**
+     * @return The inventory, oldest item first (read-only). Changes arrive as list changes, not as a new list.
+     */
+    public ObservableList<String> getInventory() { return inventoryView; }
+
+    // --- Text bindings for labels ("N/A" while there is no player) ---
+
+    /**
+     * @return The stat's value as text, e.g. "42".
+     */
+    public StringBinding text(PlayerStat stat) {
+        ReadOnlyIntegerProperty value = statProperty(stat);
+        return playerText(() -> String.valueOf(value.get()), value);
+    }
+
+    /**
+     * @return A 0-{@value Player#MAX_STAT_VALUE_PERCENTAGE} stat as a percentage, e.g. "75%".
+     */
+    public StringBinding percentText(PlayerStat stat) {
+        ReadOnlyIntegerProperty value = statProperty(stat);
+        return playerText(() -> value.get() * 100 / Player.MAX_STAT_VALUE_PERCENTAGE + "%", value);
+    }
+
+    public StringBinding effectiveText(EffectiveStat stat) {
+        ReadOnlyIntegerProperty value = effectiveStatProperty(stat);
+        return playerText(() -> String.valueOf(value.get()), value);
+    }
+
+    /**
+     * @return Health out of the maximum, e.g. "80 / 100".
+     */
+    public StringBinding healthText() {
+        ReadOnlyIntegerProperty value = statProperty(PlayerStat.HEALTH);
+        return playerText(() -> value.get() + " / " + Player.DEFAULT_PLAYER_HEALTH, value);
+    }
+
+    /**
+     * @return Any property's value as text; null or blank values show as "N/A".
+     */
+    public StringBinding valueText(ObservableValue<?> property) {
+        return playerText(() -> {
+            Object value = property.getValue();
+            String text = value != null ? value.toString() : null;
+            return text == null || text.isBlank() ? NOT_AVAILABLE : text;
+        }, property);
+    }
+
+    /**
+     * @return The game time, e.g. "Day 1 - 08:00". Shown even without a player.
+     */
+    public StringBinding timeText() {
+        return Bindings.createStringBinding(() -> GameClock.format(elapsedMinutes.get()), elapsedMinutes);
+    }
+
+    private StringBinding playerText(Supplier<String> format, ObservableValue<?> value) {
+        return Bindings.createStringBinding(() -> hasPlayer.get() ? format.get() : NOT_AVAILABLE, hasPlayer, value);
+    }
+}
@@ -0,0 +1,50 @@
+package com.theofernandez.rpg.ui;
+
+import com.theofernandez.rpg.save.SaveSlotStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The desktop game's slot store, {@code saves/quicksave.slots}, opened on first use and kept mapped for the rest
+ * of the run. Slot {@value #QUICK_SAVE_SLOT} is the quick save; the others are free for autosaves.
+ */
+final class QuickSaves {
+
+    static final int QUICK_SAVE_SLOT = 0;
+    static final String QUICK_SAVE_LABEL = "Quick Save";
+
+    private static final Path STORE_FILE = Path.of("saves", "quicksave.slots");
+    private static SaveSlotStore store;
+
+    private QuickSaves() {
+    }
+
+    /**
+     * @return The store, opening (or creating) it on the first call.
+     */
+    static synchronized SaveSlotStore get() throws IOException {
+        if (store == null) {
+            Files.createDirectories(STORE_FILE.getParent());
+            store = SaveSlotStore.open(STORE_FILE);
+        }
+        return store;
+    }
+
+    /**
+     * Flushes the store to disk, if it was opened.
+     */
+    static synchronized void close() {
+        if (store == null) return;
+        store.close();
+        store = null;
+    }
+
+    /**
+     * @return True if the store file exists, so listing it will not create it.
+     */
+    static boolean exists() {
+        return Files.isRegularFile(STORE_FILE);
+    }
+}
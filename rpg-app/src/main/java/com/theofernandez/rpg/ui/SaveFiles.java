@@ -0,0 +1,50 @@
+package com.theofernandez.rpg.ui;
+
+import com.theofernandez.rpg.save.SaveCatalog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The desktop game's catalog of the save files in {@code saves/}, opened on first use and kept current by its
+ * watcher for the rest of the run, so the load screen lists saves without scanning the directory again.
+ */
+final class SaveFiles {
+
+    static final Path SAVES_DIRECTORY = Path.of("saves");
+
+    private static SaveCatalog catalog;
+
+    private SaveFiles() {
+    }
+
+    /**
+     * @return The catalog, opening it and starting its watcher on the first call.
+     */
+    static synchronized SaveCatalog get() throws IOException {
+        if (catalog == null) {
+            Files.createDirectories(SAVES_DIRECTORY);
+            long start = System.nanoTime();
+            SaveCatalog opened = SaveCatalog.open(SAVES_DIRECTORY);
+            opened.startWatching();
+            System.out.printf("[SaveFiles] Catalog of %d saves opened in %.1f ms (%d headers read).%n",
+                    opened.size(), (System.nanoTime() - start) / 1e6, opened.getHeaderReadCount());
+            catalog = opened;
+        }
+        return catalog;
+    }
+
+    /**
+     * Stops the watcher and writes the catalog's index, if it was opened.
+     */
+    static synchronized void close() {
+        if (catalog == null) return;
+        try {
+            catalog.close();
+        } catch (IOException e) {
+            System.err.println("[SaveFiles] Error writing the save catalog index: " + e.getMessage());
+        }
+        catalog = null;
+    }
+}
@@ -1,5 +1,7 @@
 module com.theofernandez.rpg { // Or 'module Game' - ensure consistency with your actual module name if different
 
+    requires com.theofernandez.rpg.core; // Game model and stat engines (exports game, engine)
+
     requires javafx.controls;
     requires javafx.graphics;
     requires javafx.fxml;
@@ -12,7 +14,5 @@ module com.theofernandez.rpg { // Or 'module Game' - ensure consistency with you
     // Export packages that form the public API of this module or are needed by JavaFX launch.
     exports com.theofernandez.rpg;      // For Main class if launched externally
     exports com.theofernandez.rpg.ui;   // For Game class (extends Application)
-    exports com.theofernandez.rpg.game; // For Player, GameContext classes if they were to be used by other modules (though likely internal here)
     exports com.theofernandez.rpg.ui.navigation; // For View, NavigableController, NavigationService if used across modules (internal here)
-    // exports com.theofernandez.rpg.engine; // Only if PlayerStatEngine needs to be accessed externally
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.theofernandez.rpg.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the usual JMH command line (benchmark regex, -f, -wi, -rf json, ...)
+ * and always adds the GC profiler, so every result carries its allocation rate ({@code gc.alloc.rate.norm}
+ * is bytes allocated per operation).
+ *
+ * Usage: {@code java -jar rpg-bench/target/benchmarks.jar [StatEngine] [-rf json -rff baseline.json]}
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,52 @@
+package com.theofernandez.rpg.bench;
+
+import com.theofernandez.rpg.game.GameClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link GameClock#advanceTime(int)} from a single minute up to a full game year per call.
+ * Each benchmark thread advances its own session clock.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ClockBenchmark {
+
+    // Rewind well before the derived day number (an int) could overflow on the largest step
+    private static final int MAX_DAY = 1_000_000;
+
+    @Param({"1", "480", "43200", "525600"})
+    public int minutes;
+
+    private final GameClock clock = new GameClock();
+
+    @Setup(Level.Iteration)
+    public void rewindClock() {
+        clock.resetToDefault();
+    }
+
+    @Benchmark
+    public long advanceTime() {
+        if (clock.getDay() > MAX_DAY) {
+            clock.resetToDefault();
+        }
+        clock.advanceTime(minutes);
+        return clock.getElapsedMinutes();
+    }
+}
@@ -0,0 +1,70 @@
+package com.theofernandez.rpg.bench;
+
+import com.theofernandez.rpg.game.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link Player#updateNeeds(int, long)} for short and long steps, awake and asleep.
+ *
+ * Repeated decay would pin every need at its limit after a few calls, so each operation first refills the
+ * needs to their defaults; {@link #refillOnly()} measures the refill on its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class NeedsBenchmark {
+
+    private static final long SEED = 0x5EED_BE7CL;
+
+    @Param({"1", "30", "480"})
+    public int minutes;
+
+    @Param({"true", "false"})
+    public boolean awake;
+
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        player = new Player();
+        player.setAwake(awake);
+    }
+
+    @Benchmark
+    public Player refillOnly() {
+        refill(player);
+        return player;
+    }
+
+    @Benchmark
+    public Player updateNeeds() {
+        refill(player);
+        player.updateNeeds(minutes, SEED);
+        return player;
+    }
+
+    private static void refill(Player player) {
+        player.setHunger(Player.DEFAULT_PLAYER_HUNGER);
+        player.setThirst(Player.DEFAULT_PLAYER_THIRST);
+        player.setFatiguePercent(Player.DEFAULT_PLAYER_FATIGUE_PERCENT);
+        player.setSleep(Player.DEFAULT_PLAYER_SLEEP);
+        player.setHygiene(Player.DEFAULT_PLAYER_HYGIENE);
+        player.setBladder(Player.DEFAULT_PLAYER_BLADDER);
+    }
+}
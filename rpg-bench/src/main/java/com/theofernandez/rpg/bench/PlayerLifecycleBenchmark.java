@@ -0,0 +1,47 @@
+package com.theofernandez.rpg.bench;
+
+import com.theofernandez.rpg.game.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating a {@link Player} and of resetting an existing one with {@link Player#resetToDefaults()},
+ * the two ways a new game gets its player.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PlayerLifecycleBenchmark {
+
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        player = new Player();
+    }
+
+    @Benchmark
+    public Player newPlayer() {
+        return new Player();
+    }
+
+    @Benchmark
+    public Player resetToDefaults() {
+        player.resetToDefaults();
+        return player;
+    }
+}
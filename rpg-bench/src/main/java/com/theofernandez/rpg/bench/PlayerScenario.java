@@ -0,0 +1,68 @@
+package com.theofernandez.rpg.bench;
+
+import com.theofernandez.rpg.game.Player;
+
+/**
+ * Representative player states for the engine benchmarks. Each one lands the player in a different set of
+ * engine branches, so a regression in one band or phase shows up in its own row of the results.
+ */
+public enum PlayerScenario {
+
+    /** Fresh defaults: every band is quiet, so this measures the engine's fixed cost per cycle. */
+    HEALTHY {
+        @Override
+        void apply(Player player) {
+        }
+    },
+
+    /** Starvation and critical dehydration bands, with health loss and the dehydration knockout roll. */
+    STARVING {
+        @Override
+        void apply(Player player) {
+            player.setHunger(10);
+            player.setThirst(10);
+        }
+    },
+
+    /** Critically low neural health, and the cycle's seizure roll succeeds: unconscious, maximum temporary penalties. */
+    SEIZURE {
+        @Override
+        void apply(Player player) {
+            player.setNeural(50);
+        }
+
+        @Override
+        boolean isReachedBy(Player processed) {
+            return processed.isExperiencingSeizure();
+        }
+    },
+
+    /** Fear-driven adrenaline rush in progress: adrenaline decay, its temporary modifiers and the stress rules. */
+    ADRENALINE {
+        @Override
+        void apply(Player player) {
+            player.setConfidence(20);
+            player.setAdrenalineRushTurns(2);
+        }
+    };
+
+    abstract void apply(Player player);
+
+    /**
+     * @return Whether a cycle that produced this player went down the branches the scenario is meant to measure.
+     * Only scenarios that depend on a random roll need to override this.
+     */
+    boolean isReachedBy(Player processed) {
+        return true;
+    }
+
+    /**
+     * @return A new player with default stats, put into this scenario's state.
+     */
+    public Player create() {
+        Player player = new Player();
+        player.setName("Bench-" + name());
+        apply(player);
+        return player;
+    }
+}
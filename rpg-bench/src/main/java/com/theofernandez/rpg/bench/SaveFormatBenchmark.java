@@ -0,0 +1,87 @@
+package com.theofernandez.rpg.bench;
+
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.save.GameState;
+import com.theofernandez.rpg.save.SaveFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding a save in the binary {@link SaveFormat} against the Java serialization of {@link Player}
+ * that saves used before. In memory, so the numbers are the formats' own cost, not the disk's. The encoded size
+ * of both formats is printed once per fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SaveFormatBenchmark {
+
+    private GameState state;
+    private ByteBuffer binary;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // A player some way into a game: stats off their defaults, a few items
+        Player player = PlayerScenario.ADRENALINE.create();
+        player.setHunger(312);
+        player.setStress(140);
+        player.replaceInventory(List.of("Rusty Knife", "Bread", "Water Bottle", "Old Map"));
+        state = new GameState(player, 3 * 24 * 60 + 485, 0x5EEDL, System.currentTimeMillis());
+        binary = SaveFormat.encode(state);
+        serialized = serialize(player);
+        System.out.printf("[SaveFormatBenchmark] Encoded save: binary %d bytes, serialization %d bytes%n",
+                binary.remaining(), serialized.length);
+    }
+
+    @Benchmark
+    public ByteBuffer binaryEncode() {
+        return SaveFormat.encode(state);
+    }
+
+    @Benchmark
+    public GameState binaryDecode() throws IOException {
+        return SaveFormat.decode(binary.duplicate());
+    }
+
+    @Benchmark
+    public byte[] serializationEncode() throws IOException {
+        return serialize(state.getPlayer());
+    }
+
+    @Benchmark
+    public Player serializationDecode() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return (Player) in.readObject();
+        }
+    }
+
+    private static byte[] serialize(Player player) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(player);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,94 @@
+package com.theofernandez.rpg.bench;
+
+import com.theofernandez.rpg.engine.EffectJournal;
+import com.theofernandez.rpg.engine.PlayerStatEngine;
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerPopulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link PlayerStatEngine#processPlayerStateChanges(Player)} cycle per {@link PlayerScenario}, with
+ * and without an effect journal attached, and with and without a snapshot published per cycle.
+ *
+ * The engine mutates the player (a starving player dies after a few dozen cycles), so every operation first
+ * restores the scenario's starting state from a one-slot {@link PlayerPopulation}. That state includes the
+ * simulation tick, so every operation also rolls the same values. {@link #restoreOnly()} measures the restore
+ * on its own; subtract it from {@link #processPlayerStateChanges()} for the engine's share.
+ *
+ * Allocation check: with {@code publishing=false} (the engine's default), {@code gc.alloc.rate.norm} of
+ * {@link #processPlayerStateChanges()} must equal that of {@link #restoreOnly()} (the restore copies the inventory),
+ * journal or not: the cycle itself allocates nothing. With {@code publishing=true}, the difference is the snapshot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class StatEngineBenchmark {
+
+    private static final long SEED = 0x5EED_BE7CL;
+    private static final int MAX_SEARCH_TICKS = 1000;
+
+    @Param({"HEALTHY", "STARVING", "SEIZURE", "ADRENALINE"})
+    public PlayerScenario scenario;
+
+    @Param({"false", "true"})
+    public boolean journal;
+
+    @Param({"false", "true"})
+    public boolean publishing;
+
+    private PlayerStatEngine engine;
+    private PlayerPopulation snapshot;
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new PlayerStatEngine(() -> 0L, () -> SEED);
+        engine.setEffectJournal(journal ? new EffectJournal(EffectJournal.DEFAULT_CAPACITY) : null);
+        engine.setSnapshotPublishing(publishing);
+        player = scenario.create();
+        snapshot = new PlayerPopulation(1);
+        snapshot.add(player);
+
+        // Rolls are keyed by the simulation tick, so start from a tick where the scenario's roll goes its way
+        for (long tick = 0; tick < MAX_SEARCH_TICKS; tick++) {
+            player.setSimulationTick(tick);
+            snapshot.writeFrom(0, player);
+            engine.processPlayerStateChanges(player);
+            boolean reached = scenario.isReachedBy(player);
+            snapshot.readInto(0, player);
+            if (reached) {
+                return;
+            }
+        }
+        throw new IllegalStateException("No tick within " + MAX_SEARCH_TICKS + " reaches scenario " + scenario + ".");
+    }
+
+    @Benchmark
+    public Player restoreOnly() {
+        snapshot.readInto(0, player);
+        return player;
+    }
+
+    @Benchmark
+    public Player processPlayerStateChanges() {
+        snapshot.readInto(0, player);
+        engine.processPlayerStateChanges(player);
+        return player;
+    }
+}
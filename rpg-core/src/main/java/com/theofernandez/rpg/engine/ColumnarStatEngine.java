@@ -0,0 +1,318 @@
+package com.theofernandez.rpg.engine;
+
+import com.theofernandez.rpg.game.DeterministicRandom;
+import com.theofernandez.rpg.game.GameContext;
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerPopulation;
+import com.theofernandez.rpg.game.PlayerStat;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Columnar counterpart of the tick-start reset, needs, health and mood phases of {@link PlayerStatEngine},
+ * operating on a whole {@link PlayerPopulation} at once.
+ *
+ * Each phase is a sequence of passes over primitive columns: first the band of a stat is looked up
+ * for every entity in the shared {@link StatRuleTable}, then the band's effects are applied column by column. The arithmetic (truncation,
+ * clamping, willpower resistance) matches the object engine exactly, so a population processed here ends
+ * up in the same state as the equivalent players processed one by one. Random rolls use the same
+ * {@link DeterministicRandom} keys and draw indices as the object engine, so they match too.
+ * Effects are not logged; the environmental, organ and emotional phases remain object-based.
+ */
+public class ColumnarStatEngine {
+
+    private static final int MAX_PCT = Player.MAX_STAT_VALUE_PERCENTAGE;
+    private static final int MIN_PCT = Player.MIN_STAT_VALUE_PERCENTAGE;
+
+    private static final byte NO_BAND = -1;
+    private static final byte NO_MOOD = MoodTable.NO_MOOD;
+
+    private StatRuleTable rules;
+    private final LongSupplier worldSeed;
+    private long tickSeed; // World seed read once at the start of each tick
+
+    // Scratch columns, grown on demand. An engine instance must not be shared across threads.
+    private byte[] band = new byte[0];
+    private int[] baseWillpower = new int[0];
+    private boolean[] active = new boolean[0];
+
+    public ColumnarStatEngine() {
+        this(StatRuleTable.defaultRules());
+    }
+
+    /**
+     * @param rules The band rules for the needs and health phases (shared with {@link PlayerStatEngine}).
+     */
+    public ColumnarStatEngine(StatRuleTable rules) {
+        this(rules, GameContext::getWorldSeed);
+    }
+
+    /**
+     * @param worldSeed Supplies the seed all random rolls are derived from (see {@link DeterministicRandom}).
+     */
+    public ColumnarStatEngine(StatRuleTable rules, LongSupplier worldSeed) {
+        this.rules = Objects.requireNonNull(rules, "Stat rules cannot be null.");
+        this.worldSeed = Objects.requireNonNull(worldSeed, "World seed cannot be null.");
+    }
+
+    public StatRuleTable getRules() { return rules; }
+    public void setRules(StatRuleTable rules) { this.rules = Objects.requireNonNull(rules, "Stat rules cannot be null."); }
+
+    /**
+     * Runs the columnar tick: tick-start reset, needs, health, then mood.
+     */
+    public void processNeedsHealthAndMood(PlayerPopulation population) {
+        ensureScratchCapacity(population.size());
+        tickSeed = worldSeed.getAsLong();
+        beginTick(population);
+        applyNeedsEffects(population);
+        applyHealthEffects(population);
+        updateMoods(population);
+        endTick(population);
+    }
+
+    // Tick-start step: adrenaline decay and reset of temporary modifiers, as in step 1 of
+    // PlayerStatEngine.processPlayerStateChanges. Also records which entities were alive at the
+    // start of the tick; later phases only touch those.
+    private void beginTick(PlayerPopulation population) {
+        int n = population.size();
+        boolean[] alive = population.getAliveColumn();
+        int[] adrenaline = population.column(PlayerStat.ADRENALINE_RUSH_TURNS);
+        int[] fatigue = population.column(PlayerStat.FATIGUE_PERCENT);
+
+        for (int i = 0; i < n; i++) {
+            active[i] = alive[i];
+            if (!alive[i]) {
+                resetTemporaryModifiers(population, i);
+                continue;
+            }
+            if (adrenaline[i] > 0) {
+                adrenaline[i]--;
+                if (adrenaline[i] == 0) {
+                    resetTemporaryModifiers(population, i);
+                    fatigue[i] = clampPct(fatigue[i] + 50); // Adrenaline crash
+                }
+            } else {
+                resetTemporaryModifiers(population, i);
+            }
+        }
+    }
+
+    // Tick-end step: entities processed this tick move on to their next tick (and fresh random rolls).
+    private void endTick(PlayerPopulation population) {
+        int n = population.size();
+        long[] tick = population.getSimulationTickColumn();
+        for (int i = 0; i < n; i++) {
+            if (active[i]) tick[i]++;
+        }
+    }
+
+    private void applyNeedsEffects(PlayerPopulation population) {
+        System.arraycopy(population.column(PlayerStat.WILLPOWER), 0, baseWillpower, 0, population.size());
+        // Rules run in the same order as the object engine; each sees the columns left by the previous one.
+        applyBand(population, rules.hunger(), false);
+        applyBand(population, rules.thirst(), false);
+        applyBand(population, rules.fatigue(), false);
+        applyBand(population, rules.sleep(), false);
+    }
+
+    private void applyHealthEffects(PlayerPopulation population) {
+        int n = population.size();
+        int[] health = population.column(PlayerStat.HEALTH);
+        System.arraycopy(population.column(PlayerStat.WILLPOWER), 0, baseWillpower, 0, n);
+
+        // Entities at zero health die here and get no health band, as in the object engine.
+        for (int i = 0; i < n; i++) {
+            if (active[i] && health[i] <= 0) {
+                killEntity(population, i);
+            }
+        }
+        applyBand(population, rules.health(), true);
+    }
+
+    // Resolves the mood of every entity from the same precomputed table as PlayerStatEngine.updatePlayerMood.
+    private void updateMoods(PlayerPopulation population) {
+        int n = population.size();
+        boolean[] alive = population.getAliveColumn();
+        boolean[] conscious = population.getConsciousColumn();
+        boolean[] seizure = population.getExperiencingSeizureColumn();
+        byte[] mood = population.getMoodColumn();
+        int[] health = population.column(PlayerStat.HEALTH);
+        int[] adrenaline = population.column(PlayerStat.ADRENALINE_RUSH_TURNS);
+        int[] temperature = population.column(PlayerStat.BODY_TEMPERATURE);
+        int[] hunger = population.column(PlayerStat.HUNGER);
+        int[] thirst = population.column(PlayerStat.THIRST);
+        int[] sleep = population.column(PlayerStat.SLEEP);
+        int[] fatigue = population.column(PlayerStat.FATIGUE_PERCENT);
+        int[] confidence = population.column(PlayerStat.CONFIDENCE);
+        int[] stress = population.column(PlayerStat.STRESS);
+        int[] happiness = population.column(PlayerStat.HAPPINESS);
+        int[] boredom = population.column(PlayerStat.BOREDOM);
+        int[] focus = population.column(PlayerStat.FOCUS);
+        int[] tempFocus = population.getTempFocusModifierColumn();
+
+        for (int i = 0; i < n; i++) {
+            if (!active[i]) continue; // Dead before this tick: left untouched, like the object engine
+            if (!alive[i]) {
+                mood[i] = NO_MOOD; // Died during this tick
+                continue;
+            }
+            int effectiveFocus = Math.max(MIN_PCT, Math.min(focus[i] + tempFocus[i], MAX_PCT));
+            mood[i] = (byte) MoodTable.resolve(seizure[i], conscious[i], health[i], adrenaline[i], temperature[i],
+                    hunger[i], thirst[i], sleep[i], fatigue[i], confidence[i], stress[i], happiness[i], boredom[i],
+                    effectiveFocus, mood[i]);
+        }
+    }
+
+    // --- Band application ---
+
+    /**
+     * Columnar version of PlayerStatEngine.applyBand: one pass computes every entity's band from the
+     * precompiled lookup, a second pass applies the band effect rows column by column.
+     * @param skipDead Skip entities that died earlier in this tick (the health phase stops for them).
+     */
+    private void applyBand(PlayerPopulation population, StatRuleTable.BandRule rule, boolean skipDead) {
+        int n = population.size();
+        int[] values = population.column(rule.stat());
+        for (int i = 0; i < n; i++) {
+            band[i] = active[i] ? (byte) rule.bandOf(values[i]) : NO_BAND;
+        }
+
+        boolean[] alive = population.getAliveColumn();
+        boolean[] conscious = population.getConsciousColumn();
+        boolean[] awake = population.getAwakeColumn();
+        int[] health = population.column(PlayerStat.HEALTH);
+        int[] focus = population.column(PlayerStat.FOCUS);
+        int[] intelligence = population.column(PlayerStat.INTELLIGENCE);
+        int[] memory = population.column(PlayerStat.MEMORY);
+        int[] willpower = population.column(PlayerStat.WILLPOWER);
+        int[] happiness = population.column(PlayerStat.HAPPINESS);
+        int[] sleep = population.column(PlayerStat.SLEEP);
+        int[] comfort = population.column(PlayerStat.COMFORT);
+        int[] stress = population.column(PlayerStat.STRESS);
+        int[] fatigue = population.column(PlayerStat.FATIGUE_PERCENT);
+        int[] tempDexterity = population.getTempDexterityModifierColumn();
+        int[] tempAgility = population.getTempAgilityModifierColumn();
+        int[] tempSpeed = population.getTempSpeedModifierColumn();
+        int[] tempIntelligence = population.getTempIntelligenceModifierColumn();
+        int[] tempFocus = population.getTempFocusModifierColumn();
+        int[] tempMemory = population.getTempMemoryModifierColumn();
+        int[] entityId = population.getEntityIdColumn();
+        long[] tick = population.getSimulationTickColumn();
+        int knockoutDraw = PlayerStatEngine.DRAW_KNOCKOUT + rule.stat().ordinal();
+
+        for (int i = 0; i < n; i++) {
+            int b = band[i];
+            if (b == NO_BAND || (skipDead && !alive[i])) continue;
+            StatRuleTable.BandEffect effect = rule.effect(b);
+
+            if (effect.healthDelta != 0) setHealth(population, i, health[i] + effect.healthDelta);
+            if (effect.severity > 0) applyPenaltiesForSevereNeed(population, i, effect.severity, effect.allPhysical);
+
+            tempDexterity[i] += effect.tempDexterity;
+            tempAgility[i] += effect.tempAgility;
+            tempSpeed[i] += effect.tempSpeed;
+            tempIntelligence[i] += effect.tempIntelligence;
+            tempFocus[i] += effect.tempFocus;
+
+            if (effect.mentalPenalty > 0) {
+                double willpowerFactor = (double) baseWillpower[i] / MAX_PCT;
+                double penaltyMultiplier = effect.mentalPenalty * (1.0 - (willpowerFactor * effect.willpowerResistance));
+                tempFocus[i] -= (int) (focus[i] * penaltyMultiplier * effect.focusWeight);
+                tempIntelligence[i] -= (int) (intelligence[i] * penaltyMultiplier * effect.intelligenceWeight);
+                tempMemory[i] -= (int) (memory[i] * penaltyMultiplier * effect.memoryWeight);
+            }
+
+            if (effect.willpowerPct != 0) willpower[i] = modifyByPercentage(willpower[i], effect.willpowerPct);
+            if (effect.happinessPct != 0) happiness[i] = modifyByPercentage(happiness[i], effect.happinessPct);
+            if (effect.sleepPct != 0) sleep[i] = modifyByPercentage(sleep[i], effect.sleepPct);
+            if (effect.comfortPct != 0) comfort[i] = modifyByPercentage(comfort[i], effect.comfortPct);
+            stress[i] = clampPct(stress[i] + effect.stressDelta);
+            fatigue[i] = clampPct(fatigue[i] + effect.fatigueDelta);
+
+            if (!conscious[i] && effect.unconsciousCode != null) continue; // Already out; nothing to roll
+            if (effect.knockoutChance > 0
+                    && health[i] <= Player.DEFAULT_PLAYER_HEALTH * effect.knockoutAtHealth
+                    && (effect.knockoutChance >= 1.0
+                        || DeterministicRandom.nextDouble(DeterministicRandom.key(tickSeed, entityId[i], tick[i]), knockoutDraw) < effect.knockoutChance)) {
+                conscious[i] = false;
+                awake[i] = false;
+            }
+        }
+    }
+
+    /**
+     * Columnar version of PlayerStatEngine.applyPenaltiesForSevereNeed. Uses the willpower captured at the
+     * start of the current phase for resistance, as the object engine does.
+     */
+    private void applyPenaltiesForSevereNeed(PlayerPopulation population, int i, double severityFactor, boolean affectAllPhysical) {
+        double willpowerRatio = (double) baseWillpower[i] / MAX_PCT;
+        double resistanceFromWillpower = willpowerRatio * 0.35;
+        double effectiveSeverityFactor = severityFactor * (1.0 - resistanceFromWillpower);
+        effectiveSeverityFactor = Math.max(severityFactor * 0.50, effectiveSeverityFactor);
+
+        if (affectAllPhysical) {
+            population.getTempStrengthModifierColumn()[i] -= (int) (Player.MAX_STAT_VALUE * effectiveSeverityFactor * 0.5);
+            population.getTempAgilityModifierColumn()[i] -= (int) (Player.MAX_STAT_VALUE * effectiveSeverityFactor);
+            population.getTempSpeedModifierColumn()[i] -= (int) (Player.MAX_STAT_VALUE * effectiveSeverityFactor);
+            population.getTempDexterityModifierColumn()[i] -= (int) (Player.MAX_STAT_VALUE * effectiveSeverityFactor);
+        }
+        int[] endurance = population.column(PlayerStat.ENDURANCE);
+        endurance[i] = clampBase(endurance[i] - (int) (Player.MAX_STAT_VALUE * severityFactor * 0.1));
+        population.getTempFocusModifierColumn()[i] -= (int) (population.column(PlayerStat.FOCUS)[i] * effectiveSeverityFactor);
+        int[] willpower = population.column(PlayerStat.WILLPOWER);
+        willpower[i] = modifyByPercentage(willpower[i], -severityFactor * 0.5);
+    }
+
+    // Mirrors Player.setHealth: clamps to [0, DEFAULT_PLAYER_HEALTH] and kills the entity at 0.
+    private void setHealth(PlayerPopulation population, int i, int value) {
+        int[] health = population.column(PlayerStat.HEALTH);
+        health[i] = Math.max(Player.MIN_STAT_VALUE, Math.min(value, Player.DEFAULT_PLAYER_HEALTH));
+        if (health[i] <= 0) {
+            killEntity(population, i);
+        }
+    }
+
+    // Mirrors Player.setAlive(false).
+    private void killEntity(PlayerPopulation population, int i) {
+        population.getAliveColumn()[i] = false;
+        population.getConsciousColumn()[i] = false;
+        population.getAwakeColumn()[i] = false;
+        population.column(PlayerStat.HEALTH)[i] = 0;
+    }
+
+    private static void resetTemporaryModifiers(PlayerPopulation population, int i) {
+        population.getTempStrengthModifierColumn()[i] = 0;
+        population.getTempAgilityModifierColumn()[i] = 0;
+        population.getTempSpeedModifierColumn()[i] = 0;
+        population.getTempDexterityModifierColumn()[i] = 0;
+        population.getTempIntelligenceModifierColumn()[i] = 0;
+        population.getTempFocusModifierColumn()[i] = 0;
+        population.getTempPerceptionModifierColumn()[i] = 0;
+        population.getTempMemoryModifierColumn()[i] = 0;
+        population.getExperiencingSeizureColumn()[i] = false;
+    }
+
+    // Same arithmetic as PlayerStatEngine.modifyPlayerAttributeByPercentage on the 0-500 scale.
+    private static int modifyByPercentage(int current, double percentageModifier) {
+        int change = (int) (current * percentageModifier);
+        return clampPct(current + change);
+    }
+
+    private static int clampPct(int value) {
+        return Math.max(MIN_PCT, Math.min(value, MAX_PCT));
+    }
+
+    private static int clampBase(int value) {
+        return Math.max(Player.MIN_STAT_VALUE, Math.min(value, Player.MAX_STAT_VALUE));
+    }
+
+    private void ensureScratchCapacity(int n) {
+        if (band.length < n) {
+            band = new byte[n];
+            baseWillpower = new int[n];
+            active = new boolean[n];
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.theofernandez.rpg.engine;
+
+/**
+ * Every effect the stat engine can report. Entries in the {@link EffectJournal} store only the
+ * ordinal of one of these; the description text is attached when an entry is rendered.
+ */
+public enum EffectCode {
+    ADRENALINE_CRASH("adrenaline rush wears off, feeling an intense crash!"),
+    SUCCUMBED("has succumbed due to status deterioration during this cycle."),
+
+    // Environmental & physical
+    EXTREME_TEMPERATURE("suffers from extreme body temperature, losing consciousness!"),
+    TEMPERATURE_STRUGGLE("is struggling with body temperature."),
+    TEMPERATURE_DISCOMFORT("feels uncomfortable due to temperature."),
+
+    // Organ integrity
+    SEVERE_NEUROLOGICAL_DISTRESS("suffers severe neurological distress!"),
+    SEIZURE("is experiencing a seizure!"),
+    CONCUSSION_DAMAGE("Past concussions and low neural health cause lasting damage."),
+    NEURAL_FOG("feels a bit disoriented and mentally foggy."),
+    CARDIO_RESPIRATORY_STRAIN("heart is racing and breathing is difficult."),
+    CARDIO_RESPIRATORY_FAILURE("is critically struggling to breathe/circulate blood!"),
+    DIGESTIVE_COMPROMISED("digestive system is compromised, feeling hungrier."),
+    IMMUNE_WEAKNESS("Feels unwell due to poor hygiene and weak immunity."),
+
+    // Needs
+    STARVATION("is suffering from starvation."),
+    EXTREME_HUNGER("is suffering from extreme hunger."),
+    HUNGER("is suffering from hunger."),
+    CRITICAL_DEHYDRATION("is suffering from critical dehydration."),
+    DEHYDRATION_BLACKOUT("loses consciousness from dehydration!"),
+    DEHYDRATION("is suffering from dehydration."),
+    MILD_THIRST("is suffering from mild thirst."),
+    UTTER_EXHAUSTION("is suffering from utter exhaustion."),
+    EXHAUSTION_COLLAPSE("collapses from exhaustion!"),
+    SEVERE_FATIGUE("is suffering from severe fatigue."),
+    CRITICAL_SLEEP_DEPRIVATION("is critically sleep deprived."),
+    SLEEP_DEPRIVATION_BLACKOUT("passes out from sleep deprivation!"),
+    SEVERE_SLEEP_DEPRIVATION("is very sleep deprived."),
+    SLEEP_DEPRIVATION("is sleep deprived."),
+
+    // Health
+    NO_HEALTH("has no health remaining."),
+    CRITICAL_INJURIES("is suffering from critical injuries."),
+    CRITICALLY_INJURED_UNCONSCIOUS("is critically injured and unconscious."),
+    INJURY_BLACKOUT("loses consciousness due to critical injuries."),
+    SIGNIFICANT_INJURIES("is suffering from significant injuries."),
+    INJURIES("is suffering from injuries."),
+
+    // Emotional & mental
+    ADRENALINE_RUSH("is overcome by intense fear, triggering an adrenaline rush!"),
+    EXTREME_STRESS("is under extreme stress."),
+    SIGNIFICANT_STRESS("is feeling significantly stressed."),
+    BOREDOM("is very bored, finding it hard to concentrate.");
+
+    private static final EffectCode[] ALL = values();
+
+    private final String description;
+
+    EffectCode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() { return description; }
+
+    static EffectCode byOrdinal(int ordinal) { return ALL[ordinal]; }
+}
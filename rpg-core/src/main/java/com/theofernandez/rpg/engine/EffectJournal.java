@@ -0,0 +1,153 @@
+package com.theofernandez.rpg.engine;
+
+import com.theofernandez.rpg.game.GameContext;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Preallocated ring buffer of stat engine effects. Each entry is three primitives
+ * (effect code, entity ID, game time in elapsed minutes), so recording never allocates and never
+ * touches console I/O. Text is only produced when a reader renders entries.
+ *
+ * Any number of threads may record concurrently (e.g., during a population tick). When writers lap
+ * a slow reader, the oldest entries are overwritten and simply skipped by that reader. When writers
+ * lap each other (more concurrent writers than slots), a slot is only ever written by one of them at
+ * a time: an entry whose slot was already claimed for a newer sequence is dropped, and a newer entry
+ * waits for an older one still being written there.
+ */
+public class EffectJournal {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final long WRITING = 1L;
+    private static final long EMPTY = -1L << 1; // Published for sequence -1, older than any entry
+
+    /**
+     * Receives journal entries as primitives, without any per-entry allocation.
+     */
+    @FunctionalInterface
+    public interface EntryVisitor {
+        void visit(long sequence, EffectCode code, int entityId, long gameMinutes);
+    }
+
+    private final int mask;
+    private final byte[] codes;
+    private final int[] entityIds;
+    private final long[] gameMinutes;
+    // State of each slot: the sequence it was claimed for, shifted left, with the low bit set while its fields are
+    // being written. A reader only trusts the fields if the state is the published one for the sequence it expects.
+    private final AtomicLongArray published;
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    public EffectJournal() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity Number of entries retained. Rounded up to the next power of two.
+     */
+    public EffectJournal(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Journal capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        if (size <= 0) size = 1;
+        this.mask = size - 1;
+        this.codes = new byte[size];
+        this.entityIds = new int[size];
+        this.gameMinutes = new long[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, EMPTY);
+        }
+    }
+
+    public int capacity() { return mask + 1; }
+
+    /**
+     * @return The sequence number the next recorded entry will receive (i.e., total entries ever recorded).
+     */
+    public long getWriteSequence() { return writeSequence.get(); }
+
+    public void record(EffectCode code, int entityId, long minutes) {
+        long sequence = writeSequence.getAndIncrement();
+        int slot = (int) (sequence & mask);
+        if (!claim(slot, sequence)) {
+            return; // A writer a full lap ahead already took the slot, so this entry would be overwritten anyway
+        }
+        VarHandle.releaseFence(); // Readers must see the writing state before any of the new field values
+        codes[slot] = (byte) code.ordinal();
+        entityIds[slot] = entityId;
+        gameMinutes[slot] = minutes;
+        published.setRelease(slot, sequence << 1);
+    }
+
+    // Marks the slot as being written for this sequence, so no other writer touches its fields until it is published.
+    // Returns false if the slot already belongs to a newer sequence.
+    private boolean claim(int slot, long sequence) {
+        long writing = sequence << 1 | WRITING;
+        while (true) {
+            long state = published.get(slot);
+            if (state >> 1 >= sequence) return false;
+            if ((state & WRITING) != 0) {
+                Thread.onSpinWait(); // An older writer is storing its fields; it never waits, so this is brief
+            } else if (published.compareAndSet(slot, state, writing)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Visits every retained entry from {@code fromSequence} up to the most recent one, oldest first.
+     *
+     * @param fromSequence The first sequence the caller has not seen yet (0 to start from the oldest retained entry).
+     * @param visitor Receives each entry.
+     * @return The sequence to pass on the next call to continue where this one stopped.
+     */
+    public long forEachSince(long fromSequence, EntryVisitor visitor) {
+        long end = writeSequence.get();
+        long start = Math.max(fromSequence, end - capacity());
+        for (long sequence = start; sequence < end; sequence++) {
+            int slot = (int) (sequence & mask);
+            long expected = sequence << 1;
+            if (published.getAcquire(slot) != expected) {
+                continue; // Overwritten by a newer entry, or still being written
+            }
+            int code = codes[slot];
+            int entityId = entityIds[slot];
+            long minutes = gameMinutes[slot];
+            VarHandle.acquireFence();
+            if (published.get(slot) != expected) {
+                continue; // Overwritten while we were reading it
+            }
+            visitor.visit(sequence, EffectCode.byOrdinal(code), entityId, minutes);
+        }
+        return end;
+    }
+
+    /**
+     * Renders a journal entry in the stat engine's log format, e.g.
+     * {@code [STAT ENGINE] Day 2 - 14:30 Alex: is suffering from hunger.}
+     *
+     * @param entityName The entity's display name, or null to show its ID instead.
+     */
+    public static String render(EffectCode code, int entityId, long gameMinutes, String entityName) {
+        String who = entityName != null ? entityName : "Entity #" + entityId;
+        return "[STAT ENGINE] " + GameContext.formatElapsedMinutes(gameMinutes) + " " + who + ": " + code.getDescription();
+    }
+
+    /**
+     * Renders every entry from {@code fromSequence} onwards and hands each line to the sink.
+     *
+     * @param nameLookup Resolves entity IDs to display names; may return null.
+     * @return The sequence to pass on the next call.
+     */
+    public long renderSince(long fromSequence, IntFunction<String> nameLookup, Consumer<String> sink) {
+        return forEachSince(fromSequence, (sequence, code, entityId, minutes) ->
+                sink.accept(render(code, entityId, minutes, nameLookup.apply(entityId))));
+    }
+}
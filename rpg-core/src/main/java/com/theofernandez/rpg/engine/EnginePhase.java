@@ -0,0 +1,32 @@
+package com.theofernandez.rpg.engine;
+
+/**
+ * The evaluation phases of one {@link PlayerStatEngine} cycle, in the order they run.
+ * Used to label per-phase metrics ({@link StatEngineMetrics}).
+ */
+public enum EnginePhase {
+    ENVIRONMENT("applyEnvironmentalAndPhysicalEffects"),
+    ORGANS("applyOrganIntegrityEffects"),
+    NEEDS("applyNeedsEffects"),
+    HEALTH("applyHealthEffects"),
+    EMOTIONAL("applyEmotionalAndMentalEffects"),
+    MOOD("updatePlayerMood");
+
+    private static final EnginePhase[] ALL = values();
+
+    private final String methodName;
+
+    EnginePhase(String methodName) {
+        this.methodName = methodName;
+    }
+
+    /**
+     * @return The engine method implementing this phase, so metrics can be matched to a profiler's output.
+     */
+    public String getMethodName() { return methodName; }
+
+    /**
+     * @return All phases, shared. Do not modify.
+     */
+    static EnginePhase[] all() { return ALL; }
+}
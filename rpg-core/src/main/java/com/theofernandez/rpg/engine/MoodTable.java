@@ -0,0 +1,308 @@
+package com.theofernandez.rpg.engine;
+
+import com.theofernandez.rpg.game.Player;
+
+/**
+ * Precomputed mood resolution shared by {@link PlayerStatEngine} and {@link ColumnarStatEngine}.
+ *
+ * Every input of the mood rules is quantized into the bands its thresholds cut it into (stress: below 20%,
+ * 20-40%, 40-45%, 45-80%, above 80%, ...). Each band of each input maps to a precomputed offset, and the offsets
+ * add up to one index into a table holding the resolved mood for that combination. Resolving a mood is then a
+ * handful of reads from small offset arrays plus a single load from the table, with no rule evaluation.
+ *
+ * {@link #resolveByRules} is the source of truth: the table is built from it when the class loads. With assertions
+ * enabled, the table is then checked against it at both edges of every band, so a threshold edited in the rules but
+ * not in the bands below fails fast instead of silently resolving a different mood.
+ */
+final class MoodTable {
+
+    /** Passed and returned as the current mood's ordinal when a player has no mood yet. */
+    static final int NO_MOOD = -1;
+
+    private static final int MAX_PCT = Player.MAX_STAT_VALUE_PERCENTAGE;
+    private static final int MAX_HEALTH = Player.DEFAULT_PLAYER_HEALTH;
+    private static final int MIN_TEMPERATURE = 20; // Player.setBodyTemperature clamps to 20-45
+    private static final int MAX_TEMPERATURE = 45;
+
+    private static final Player.Mood[] MOODS = Player.Mood.values();
+
+    // Table entry meaning "no rule applies and the current mood persists"
+    private static final byte KEEP = -1;
+
+    // How the fallback rule treats the current mood
+    private static final int CURRENT_PERSISTS = 0;    // NEUTRAL or a positive/functional mood
+    private static final int CURRENT_RECOVERABLE = 1; // Negative, tired or critical: may recover to NEUTRAL
+    private static final int CURRENT_NONE = 2;        // No mood yet
+    private static final int CURRENT_CLASSES = 3;
+
+    // --- Band start values, read off the thresholds in resolveByRules ---
+    private static final int[] HEALTH_BANDS = { 0, 1, 6, 51 };             // > 0 && <= 5%: critical; > 50%: may recover
+    private static final int[] TEMPERATURE_BANDS = { 20, 27, 45 };         // Deviation < -10 or > 7: critical
+    private static final int[] NEED_BANDS = { 0, 25 };                     // Hunger or thirst < 5%
+    private static final int[] SLEEP_BANDS = { 0, 50 };                    // < 10%
+    private static final int[] CONFIDENCE_BANDS = { 0, 75 };               // < 15%
+    private static final int[] STRESS_BANDS = { 0, 100, 200, 225, 401 };   // < 20%, < 40%, < 45%, > 80%
+    private static final int[] HAPPINESS_BANDS = { 0, 100, 226, 351, 401 }; // < 20%, > 45%, > 70%, > 80%
+    private static final int[] BOREDOM_BANDS = { 0, 401 };                 // > 80%
+    private static final int[] FATIGUE_BANDS = { 0, 150, 225, 326, 451 };  // < 30%, < 45%, > 65%, > 90%
+    private static final int[] FOCUS_BANDS = { 0, 351 };                   // Effective focus > 70%
+    private static final int[] FLAG_BANDS = { 0, 1 };                      // Seizure or unconscious; adrenaline active
+
+    // Input order of the table index, least significant first
+    private static final int CURRENT = 0, FOCUS = 1, FATIGUE = 2, BOREDOM = 3, HAPPINESS = 4, STRESS = 5,
+            CONFIDENCE = 6, SLEEP = 7, NEED = 8, TEMPERATURE = 9, ADRENALINE = 10, HEALTH = 11, INCAPACITATED = 12;
+    private static final int[][] BANDS = {
+            null, FOCUS_BANDS, FATIGUE_BANDS, BOREDOM_BANDS, HAPPINESS_BANDS, STRESS_BANDS,
+            CONFIDENCE_BANDS, SLEEP_BANDS, NEED_BANDS, TEMPERATURE_BANDS, FLAG_BANDS, HEALTH_BANDS, FLAG_BANDS
+    };
+    private static final int[] MAX_VALUES = {
+            0, MAX_PCT, MAX_PCT, MAX_PCT, MAX_PCT, MAX_PCT,
+            MAX_PCT, MAX_PCT, MAX_PCT, MAX_TEMPERATURE, 1, MAX_HEALTH, 1
+    };
+    private static final int INPUTS = BANDS.length;
+
+    private static final int[] STRIDES = new int[INPUTS];
+    private static final int TABLE_SIZE;
+    static {
+        int stride = 1;
+        for (int input = 0; input < INPUTS; input++) {
+            STRIDES[input] = stride;
+            stride *= bandCount(input);
+        }
+        TABLE_SIZE = stride;
+    }
+
+    // Offset of every possible input value (minus the input's minimum) into the table
+    private static final int[] CURRENT_OFFSETS = currentOffsets();
+    private static final int[] FOCUS_OFFSETS = offsets(FOCUS);
+    private static final int[] FATIGUE_OFFSETS = offsets(FATIGUE);
+    private static final int[] BOREDOM_OFFSETS = offsets(BOREDOM);
+    private static final int[] HAPPINESS_OFFSETS = offsets(HAPPINESS);
+    private static final int[] STRESS_OFFSETS = offsets(STRESS);
+    private static final int[] CONFIDENCE_OFFSETS = offsets(CONFIDENCE);
+    private static final int[] SLEEP_OFFSETS = offsets(SLEEP);
+    private static final int[] NEED_OFFSETS = offsets(NEED);
+    private static final int[] TEMPERATURE_OFFSETS = offsets(TEMPERATURE);
+    private static final int[] HEALTH_OFFSETS = offsets(HEALTH);
+    private static final int ADRENALINE_OFFSET = STRIDES[ADRENALINE];
+    private static final int INCAPACITATED_OFFSET = STRIDES[INCAPACITATED];
+
+    private static final byte[] TABLE = build();
+
+    static {
+        // A full check takes longer than building the table, so it runs where assertions are on (development runs)
+        if (MoodTable.class.desiredAssertionStatus()) {
+            verify();
+        }
+    }
+
+    private MoodTable() {
+    }
+
+    /**
+     * Resolves the mood of a living player. Percentage inputs must be within 0-500, health within 0-100 and
+     * body temperature within 20-45, as the Player setters guarantee.
+     *
+     * @param currentMood Ordinal of the current mood, or {@link #NO_MOOD}.
+     * @return Ordinal of the resolved mood (the current one if no rule changes it).
+     */
+    static int resolve(boolean seizure, boolean conscious, int health, int adrenalineTurns, int bodyTemperature,
+                       int hunger, int thirst, int sleep, int fatigue, int confidence, int stress, int happiness,
+                       int boredom, int effectiveFocus, int currentMood) {
+        int index = CURRENT_OFFSETS[currentMood + 1]
+                + FOCUS_OFFSETS[effectiveFocus]
+                + FATIGUE_OFFSETS[fatigue]
+                + BOREDOM_OFFSETS[boredom]
+                + HAPPINESS_OFFSETS[happiness]
+                + STRESS_OFFSETS[stress]
+                + CONFIDENCE_OFFSETS[confidence]
+                + SLEEP_OFFSETS[sleep]
+                + NEED_OFFSETS[Math.min(hunger, thirst)]
+                + TEMPERATURE_OFFSETS[bodyTemperature - MIN_TEMPERATURE]
+                + (adrenalineTurns > 0 ? ADRENALINE_OFFSET : 0)
+                + HEALTH_OFFSETS[health]
+                + (seizure || !conscious ? INCAPACITATED_OFFSET : 0);
+        byte resolved = TABLE[index];
+        return resolved == KEEP ? currentMood : resolved;
+    }
+
+    /**
+     * @return The resolved mood of a living player (see {@link #resolve}).
+     */
+    static Player.Mood resolve(Player player) {
+        Player.Mood current = player.getMood();
+        int resolved = resolve(player.isExperiencingSeizure(), player.isConscious(), player.getHealth(),
+                player.getAdrenalineRushTurns(), player.getBodyTemperature(), player.getHunger(), player.getThirst(),
+                player.getSleep(), player.getFatiguePercent(), player.getConfidence(), player.getStress(),
+                player.getHappiness(), player.getBoredom(), player.getEffectiveFocus(),
+                current == null ? NO_MOOD : current.ordinal());
+        return resolved == NO_MOOD ? null : MOODS[resolved];
+    }
+
+    /**
+     * The mood rules, in priority order. Critical states first, then dire needs, then emotional levels
+     * (negative before positive), then functional states; if none applies, a negative, tired or critical
+     * mood recovers to NEUTRAL once the player is stable again, and any other mood persists.
+     *
+     * @return Ordinal of the resolved mood (the current one if no rule changes it).
+     */
+    static int resolveByRules(boolean seizure, boolean conscious, int health, int adrenalineTurns, int bodyTemperature,
+                              int hunger, int thirst, int sleep, int fatigue, int confidence, int stress, int happiness,
+                              int boredom, int effectiveFocus, int currentMood) {
+        // Highest priority moods based on critical states
+        if (seizure || !conscious) return Player.Mood.CRITICAL.ordinal();
+        if (health <= Player.DEFAULT_PLAYER_HEALTH * 0.05 && health > 0) return Player.Mood.CRITICAL.ordinal();
+        if (adrenalineTurns > 0) return Player.Mood.ADRENALIZED.ordinal();
+
+        int tempDeviation = bodyTemperature - Player.DEFAULT_PLAYER_BODY_TEMPERATURE;
+        if (tempDeviation > 7 || tempDeviation < -10) return Player.Mood.CRITICAL.ordinal();
+
+        // Next level of urgency: dire needs
+        if (hunger < MAX_PCT * 0.05 || thirst < MAX_PCT * 0.05) return Player.Mood.STRESSED.ordinal();
+        if (sleep < MAX_PCT * 0.10 && fatigue > MAX_PCT * 0.90) return Player.Mood.TIRED.ordinal();
+
+        // General mood logic based on emotional and stress levels. Negative states before positive ones.
+        if (confidence < MAX_PCT * 0.15) return Player.Mood.FEARFUL.ordinal();
+        if (stress > MAX_PCT * 0.80) return Player.Mood.STRESSED.ordinal();
+        if (happiness < MAX_PCT * 0.20) return Player.Mood.SAD.ordinal();
+        if (boredom > MAX_PCT * 0.80) return Player.Mood.BORED.ordinal();
+        // Positive states
+        if (happiness > MAX_PCT * 0.80 && stress < MAX_PCT * 0.20 && fatigue < MAX_PCT * 0.30) return Player.Mood.ENERGETIC.ordinal();
+        if (happiness > MAX_PCT * 0.70) return Player.Mood.HAPPY.ordinal();
+        // Functional states
+        if (effectiveFocus > MAX_PCT * 0.70 && stress < MAX_PCT * 0.40) return Player.Mood.FOCUSED.ordinal();
+        if (fatigue > MAX_PCT * 0.65) return Player.Mood.TIRED.ordinal();
+
+        // Fallback: recover to NEUTRAL from a negative/tired/critical mood once stable, otherwise keep the current mood
+        if (currentMood == NO_MOOD) return Player.Mood.NEUTRAL.ordinal();
+        if (isRecoverable(MOODS[currentMood])
+                && happiness > MAX_PCT * 0.45 && stress < MAX_PCT * 0.45 && fatigue < MAX_PCT * 0.45
+                && health > Player.DEFAULT_PLAYER_HEALTH * 0.50) {
+            return Player.Mood.NEUTRAL.ordinal();
+        }
+        return currentMood;
+    }
+
+    private static boolean isRecoverable(Player.Mood mood) {
+        return mood == Player.Mood.SAD || mood == Player.Mood.STRESSED || mood == Player.Mood.ANGRY
+                || mood == Player.Mood.FEARFUL || mood == Player.Mood.TIRED || mood == Player.Mood.BORED
+                || mood == Player.Mood.CRITICAL; // Critical counts as a state to recover from
+    }
+
+    // --- Table construction and verification ---
+
+    private static int bandCount(int input) {
+        return input == CURRENT ? CURRENT_CLASSES : BANDS[input].length;
+    }
+
+    private static int[] offsets(int input) {
+        int[] starts = BANDS[input];
+        int min = starts[0];
+        int[] offsets = new int[MAX_VALUES[input] - min + 1];
+        int band = 0;
+        for (int value = min; value <= MAX_VALUES[input]; value++) {
+            if (band + 1 < starts.length && value >= starts[band + 1]) band++;
+            offsets[value - min] = band * STRIDES[input];
+        }
+        return offsets;
+    }
+
+    // Indexed by mood ordinal + 1, so NO_MOOD lands on 0
+    private static int[] currentOffsets() {
+        int[] offsets = new int[MOODS.length + 1];
+        offsets[0] = CURRENT_NONE * STRIDES[CURRENT];
+        for (Player.Mood mood : MOODS) {
+            offsets[mood.ordinal() + 1] = (isRecoverable(mood) ? CURRENT_RECOVERABLE : CURRENT_PERSISTS) * STRIDES[CURRENT];
+        }
+        return offsets;
+    }
+
+    private static byte[] build() {
+        byte[] table = new byte[TABLE_SIZE];
+        int[] values = new int[INPUTS];
+        for (int index = 0; index < TABLE_SIZE; index++) {
+            decode(index, values, false);
+            int resolved = evaluate(values);
+            int currentClass = classOf(values[CURRENT]);
+            if (currentClass == CURRENT_NONE) {
+                table[index] = (byte) resolved;
+                continue;
+            }
+            // Within a class, the outcome is either one fixed mood or "keep the current one". Telling them
+            // apart takes a second mood of the same class: only a kept mood follows it.
+            values[CURRENT] = currentClass == CURRENT_RECOVERABLE ? Player.Mood.TIRED.ordinal() : Player.Mood.HAPPY.ordinal();
+            int resolvedForOther = evaluate(values);
+            table[index] = resolvedForOther == values[CURRENT] && resolved != resolvedForOther ? KEEP : (byte) resolved;
+        }
+        return table;
+    }
+
+    /**
+     * Checks every table entry against {@link #resolveByRules}: with all inputs at the lowest and at the highest
+     * value of their band, with one input at a time moved to the top of its band, and for every other current
+     * mood of the entry's class.
+     *
+     * @throws IllegalStateException If the table disagrees with the rules anywhere.
+     */
+    static void verify() {
+        int[] low = new int[INPUTS];
+        int[] high = new int[INPUTS];
+        int[] probe = new int[INPUTS];
+        for (int index = 0; index < TABLE_SIZE; index++) {
+            decode(index, low, false);
+            decode(index, high, true);
+            check(index, low);
+            check(index, high);
+            for (int input = CURRENT + 1; input < INPUTS; input++) {
+                System.arraycopy(low, 0, probe, 0, INPUTS);
+                probe[input] = high[input];
+                check(index, probe);
+            }
+            int currentClass = classOf(low[CURRENT]);
+            for (int current = 0; current < MOODS.length; current++) {
+                if (classOf(current) != currentClass) continue;
+                low[CURRENT] = current;
+                check(index, low);
+            }
+        }
+    }
+
+    private static void check(int index, int[] values) {
+        int expected = evaluate(values);
+        int current = values[CURRENT];
+        int actual = TABLE[index] == KEEP ? current : TABLE[index];
+        int viaOffsets = resolve(values[INCAPACITATED] == 1, true, values[HEALTH], values[ADRENALINE],
+                values[TEMPERATURE], values[NEED], values[NEED], values[SLEEP], values[FATIGUE], values[CONFIDENCE],
+                values[STRESS], values[HAPPINESS], values[BOREDOM], values[FOCUS], current);
+        if (actual != expected || viaOffsets != expected) {
+            throw new IllegalStateException("[MoodTable] Table disagrees with the mood rules at entry " + index
+                    + ": expected " + expected + ", got " + actual + " (via offsets " + viaOffsets + ").");
+        }
+    }
+
+    // Fills in one representative value per input: the lowest (or highest) value of the entry's band.
+    // The current mood is a representative of its class.
+    private static void decode(int index, int[] values, boolean highest) {
+        for (int input = 0; input < INPUTS; input++) {
+            int band = (index / STRIDES[input]) % bandCount(input);
+            if (input == CURRENT) {
+                values[input] = band == CURRENT_NONE ? NO_MOOD
+                        : band == CURRENT_RECOVERABLE ? Player.Mood.SAD.ordinal() : Player.Mood.NEUTRAL.ordinal();
+                continue;
+            }
+            int[] starts = BANDS[input];
+            values[input] = !highest ? starts[band] : band + 1 < starts.length ? starts[band + 1] - 1 : MAX_VALUES[input];
+        }
+    }
+
+    private static int evaluate(int[] values) {
+        return resolveByRules(values[INCAPACITATED] == 1, true, values[HEALTH], values[ADRENALINE],
+                values[TEMPERATURE], values[NEED], values[NEED], values[SLEEP], values[FATIGUE], values[CONFIDENCE],
+                values[STRESS], values[HAPPINESS], values[BOREDOM], values[FOCUS], values[CURRENT]);
+    }
+
+    private static int classOf(int currentMood) {
+        if (currentMood == NO_MOOD) return CURRENT_NONE;
+        return isRecoverable(MOODS[currentMood]) ? CURRENT_RECOVERABLE : CURRENT_PERSISTS;
+    }
+}
@@ -0,0 +1,47 @@
+package com.theofernandez.rpg.engine;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Latency summary of one {@link EnginePhase}, as published by {@link StatEngineMetricsMXBean}.
+ * Percentiles are bucket upper bounds (see {@link StatEngineMetrics}), so they may overstate by up to about 12%.
+ */
+public final class PhaseLatency {
+
+    private final String phase;
+    private final String method;
+    private final long samples;
+    private final double meanNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    @ConstructorParameters({"phase", "method", "samples", "meanNanos", "p50Nanos", "p90Nanos", "p99Nanos", "maxNanos"})
+    public PhaseLatency(String phase, String method, long samples, double meanNanos,
+                        long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+        this.phase = phase;
+        this.method = method;
+        this.samples = samples;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public String getPhase() { return phase; }
+    public String getMethod() { return method; }
+    public long getSamples() { return samples; }
+    public double getMeanNanos() { return meanNanos; }
+    public long getP50Nanos() { return p50Nanos; }
+    public long getP90Nanos() { return p90Nanos; }
+    public long getP99Nanos() { return p99Nanos; }
+    public long getMaxNanos() { return maxNanos; }
+
+    @Override
+    public String toString() {
+        return String.format("%s{samples=%d, mean=%.0f ns, p50=%d ns, p90=%d ns, p99=%d ns, max=%d ns}",
+                phase, samples, meanNanos, p50Nanos, p90Nanos, p99Nanos, maxNanos);
+    }
+}
@@ -0,0 +1,846 @@
+package com.theofernandez.rpg.engine;
+
+import com.theofernandez.rpg.game.DeterministicRandom;
+import com.theofernandez.rpg.game.GameContext;
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerChange;
+import com.theofernandez.rpg.game.PlayerStat;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public class PlayerStatEngine {
+
+    // Random rolls (seizures, knockouts, adrenaline duration) are drawn from DeterministicRandom, keyed by the
+    // world seed, the player's entity ID and simulation tick. No generator state is shared, so population ticks
+    // give identical results however the players are split across worker threads.
+    private static final int DRAW_SEIZURE = DeterministicRandom.ENGINE_DRAWS;
+    private static final int DRAW_ADRENALINE_DURATION = DeterministicRandom.ENGINE_DRAWS + 1;
+    // Knockout rolls use one draw per measured stat, so several bands can roll in the same cycle
+    static final int DRAW_KNOCKOUT = DeterministicRandom.ENGINE_DRAWS + 0x100;
+
+    // Phase bits for incremental processing (Player.getQuietPhases)
+    private static final int PHASE_ENVIRONMENT = 1;
+    private static final int PHASE_ORGANS = 1 << 1;
+    private static final int PHASE_NEEDS = 1 << 2;
+    private static final int PHASE_HEALTH = 1 << 3;
+    private static final int PHASE_EMOTIONAL = 1 << 4;
+    private static final int ALL_PHASES = PHASE_ENVIRONMENT | PHASE_ORGANS | PHASE_NEEDS | PHASE_HEALTH | PHASE_EMOTIONAL;
+
+    // The state each phase reads to decide whether it has any effect, indexed by phase bit position.
+    // (Stats a phase only reads once it is active, e.g. willpower, do not matter: a quiet phase never reads them.)
+    private static final long[] PHASE_INPUTS = {
+            PlayerChange.of(PlayerStat.BODY_TEMPERATURE),
+            PlayerChange.of(PlayerStat.NEURAL, PlayerStat.CARDIOVASCULAR, PlayerStat.RESPIRATORY,
+                    PlayerStat.DIGESTIVE, PlayerStat.IMMUNE, PlayerStat.HYGIENE),
+            PlayerChange.of(PlayerStat.HUNGER, PlayerStat.THIRST, PlayerStat.FATIGUE_PERCENT, PlayerStat.SLEEP),
+            PlayerChange.of(PlayerStat.HEALTH),
+            PlayerChange.of(PlayerStat.CONFIDENCE, PlayerStat.ADRENALINE_RUSH_TURNS, PlayerStat.STRESS, PlayerStat.BOREDOM)
+    };
+
+    // Everything updatePlayerMood reads
+    private static final long MOOD_INPUTS = PlayerChange.ALIVE | PlayerChange.CONSCIOUS | PlayerChange.SEIZURE
+            | PlayerChange.MOOD | PlayerChange.TEMP_FOCUS
+            | PlayerChange.of(PlayerStat.HEALTH, PlayerStat.ADRENALINE_RUSH_TURNS, PlayerStat.BODY_TEMPERATURE,
+                    PlayerStat.HUNGER, PlayerStat.THIRST, PlayerStat.SLEEP, PlayerStat.FATIGUE_PERCENT,
+                    PlayerStat.CONFIDENCE, PlayerStat.STRESS, PlayerStat.HAPPINESS, PlayerStat.BOREDOM, PlayerStat.FOCUS);
+
+    // Changes a cycle in which every phase is quiet can still make: clearing the previous cycle's
+    // temporary modifiers and re-resolving mood. Neither feeds back into any phase.
+    private static final long SETTLED_CHANGES = PlayerChange.MOOD
+            | PlayerChange.TEMP_STRENGTH | PlayerChange.TEMP_AGILITY | PlayerChange.TEMP_SPEED | PlayerChange.TEMP_DEXTERITY
+            | PlayerChange.TEMP_INTELLIGENCE | PlayerChange.TEMP_FOCUS | PlayerChange.TEMP_PERCEPTION | PlayerChange.TEMP_MEMORY;
+
+    // Need values at which an outcome outside the band rules changes: the mood rules and the organ phase's
+    // hygiene check. Each is the first value on the upper side of the comparison.
+    private static final int[] HUNGER_THRESHOLDS = { belowThreshold(0.05) };
+    private static final int[] THIRST_THRESHOLDS = { belowThreshold(0.05) };
+    private static final int[] FATIGUE_THRESHOLDS = { belowThreshold(0.30), belowThreshold(0.45), aboveThreshold(0.65), aboveThreshold(0.90) };
+    private static final int[] SLEEP_THRESHOLDS = { belowThreshold(0.10) };
+    private static final int[] HYGIENE_THRESHOLDS = { belowThreshold(0.2) };
+
+    public static final int DEFAULT_FAST_FORWARD_STEP_MINUTES = 30;
+
+    private final StatEngineMetrics metrics;
+    private volatile boolean incrementalProcessing = true;
+    private volatile boolean snapshotPublishing = false;
+
+    private volatile EffectJournal effectJournal = new EffectJournal();
+    private volatile StatRuleTable rules = StatRuleTable.defaultRules();
+    private final LongSupplier gameClock;
+    private final LongSupplier worldSeed;
+
+    /**
+     * Creates an engine that timestamps effects with the global game clock and rolls with the
+     * global world seed ({@link GameContext}).
+     */
+    public PlayerStatEngine() {
+        this(GameContext::getElapsedMinutes);
+    }
+
+    /**
+     * @param gameClock Supplies the current game time in elapsed minutes, used to timestamp journal entries.
+     */
+    public PlayerStatEngine(LongSupplier gameClock) {
+        this(gameClock, GameContext::getWorldSeed);
+    }
+
+    /**
+     * @param gameClock Supplies the current game time in elapsed minutes, used to timestamp journal entries.
+     * @param worldSeed Supplies the seed all random rolls are derived from (see {@link DeterministicRandom}).
+     */
+    public PlayerStatEngine(LongSupplier gameClock, LongSupplier worldSeed) {
+        this(gameClock, worldSeed, new StatEngineMetrics());
+    }
+
+    /**
+     * @param gameClock Supplies the current game time in elapsed minutes, used to timestamp journal entries.
+     * @param worldSeed Supplies the seed all random rolls are derived from (see {@link DeterministicRandom}).
+     * @param metrics Where to record phase latencies, effect counts and deaths. May be shared by many engines
+     *                (e.g., one per hosted session), which then report as one.
+     */
+    public PlayerStatEngine(LongSupplier gameClock, LongSupplier worldSeed, StatEngineMetrics metrics) {
+        this.gameClock = Objects.requireNonNull(gameClock, "Game clock cannot be null.");
+        this.worldSeed = Objects.requireNonNull(worldSeed, "World seed cannot be null.");
+        this.metrics = Objects.requireNonNull(metrics, "Engine metrics cannot be null.");
+    }
+
+    /**
+     * @return The journal effects are recorded into, or null if effect logging is disabled.
+     */
+    public EffectJournal getEffectJournal() { return effectJournal; }
+
+    /**
+     * @param effectJournal The journal to record effects into, or null to disable effect logging.
+     */
+    public void setEffectJournal(EffectJournal effectJournal) { this.effectJournal = effectJournal; }
+
+    /**
+     * @return The band rules driving the temperature, needs, health, stress and boredom phases.
+     */
+    public StatRuleTable getRules() { return rules; }
+
+    /**
+     * Swaps the band rules (e.g., for another difficulty level). Takes effect from the next processed player.
+     */
+    public void setRules(StatRuleTable rules) { this.rules = Objects.requireNonNull(rules, "Stat rules cannot be null."); }
+
+    public boolean isIncrementalProcessing() { return incrementalProcessing; }
+
+    /**
+     * @param incrementalProcessing If false, every phase is evaluated on every cycle (e.g., to compare against).
+     */
+    public void setIncrementalProcessing(boolean incrementalProcessing) { this.incrementalProcessing = incrementalProcessing; }
+
+    public boolean isSnapshotPublishing() { return snapshotPublishing; }
+
+    /**
+     * @param snapshotPublishing If true, every cycle ends by publishing the player's state for readers on other
+     *                           threads ({@link Player#publishSnapshot()}). Off by default, so a cycle allocates
+     *                           nothing: callers publish once their cycles are done (after an action, once per
+     *                           real-time frame) rather than once per cycle.
+     */
+    public void setSnapshotPublishing(boolean snapshotPublishing) { this.snapshotPublishing = snapshotPublishing; }
+
+    /**
+     * @return Number of phase evaluations (the five effect phases plus mood) performed since creation or the last reset.
+     */
+    public long getPhasesEvaluated() { return metrics.getPhasesEvaluated(); }
+
+    /**
+     * @return Number of phase evaluations skipped by incremental processing since creation or the last reset.
+     */
+    public long getPhasesSkipped() { return metrics.getPhasesSkipped(); }
+
+    public void resetPhaseCounters() { metrics.resetPhaseCounters(); }
+
+    /**
+     * @return This engine's phase latencies, effect counts and deaths. Publish with {@link StatEngineMetrics#registerMBean(String)}.
+     */
+    public StatEngineMetrics getMetrics() { return metrics; }
+
+    // Minimum number of players a single fork-join leaf processes. Below this, splitting costs more than it saves.
+    private static final int MIN_PLAYERS_PER_TASK = 256;
+    // Aim for several leaves per worker so idle workers can steal from busy ones.
+    private static final int TASKS_PER_WORKER = 8;
+
+    /**
+     * Processes one simulation tick for a whole population of players, splitting the work across
+     * the common fork-join pool. Each player is processed exactly as by {@link #processPlayerStateChanges(Player)}.
+     *
+     * @param players The players to process. Null entries are skipped.
+     * @return Timing information for this tick (entity count, elapsed time, throughput).
+     */
+    public PopulationTickResult processAll(Collection<Player> players) {
+        return processAll(players, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Processes one simulation tick for a whole population of players on the given fork-join pool.
+     *
+     * @param players The players to process. Null entries are skipped.
+     * @param pool The pool to run the tick on (e.g., a dedicated pool sized for the simulation host).
+     * @return Timing information for this tick (entity count, elapsed time, throughput).
+     */
+    public PopulationTickResult processAll(Collection<Player> players, ForkJoinPool pool) {
+        return processAll(players, pool, 0);
+    }
+
+    /**
+     * Advances a whole population by one simulation step on the given fork-join pool: each player's needs are
+     * updated for the time passed ({@link Player#updateNeeds(int, long)}, with this engine's world seed), then
+     * the player is processed as by {@link #processPlayerStateChanges(Player)}. Both happen in the same task,
+     * so each player is touched by one worker only.
+     *
+     * @param players The players to process. Null entries are skipped.
+     * @param pool The pool to run the tick on.
+     * @param minutesPassed Game minutes the step covers. 0 skips the needs update.
+     * @return Timing information for this tick (entity count, elapsed time, throughput).
+     */
+    public PopulationTickResult processAll(Collection<Player> players, ForkJoinPool pool, int minutesPassed) {
+        if (players == null || players.isEmpty()) {
+            metrics.recordTick(0);
+            return new PopulationTickResult(0, 0L, pool.getParallelism(), 0);
+        }
+
+        // Copy into an array once so tasks can split by index without touching the collection concurrently.
+        Player[] population = players.toArray(new Player[0]);
+        int leafSize = Math.max(MIN_PLAYERS_PER_TASK, population.length / (pool.getParallelism() * TASKS_PER_WORKER));
+
+        LongAdder deaths = new LongAdder();
+        long startNanos = System.nanoTime();
+        pool.invoke(new PopulationTask(population, 0, population.length, leafSize, minutesPassed, worldSeed.getAsLong(), deaths));
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        int deathCount = deaths.intValue();
+        metrics.recordTick(deathCount);
+        return new PopulationTickResult(population.length, elapsedNanos, pool.getParallelism(), deathCount);
+    }
+
+    /**
+     * Fork-join task processing a contiguous slice of the population. Slices are split in half until
+     * they are no larger than the leaf size, then processed sequentially on the worker thread.
+     */
+    private final class PopulationTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L; // Never serialized (ForkJoinTask is Serializable)
+
+        private final Player[] population;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final int minutesPassed;
+        private final long seed;
+        private final LongAdder deaths;
+
+        PopulationTask(Player[] population, int from, int to, int leafSize, int minutesPassed, long seed, LongAdder deaths) {
+            this.population = population;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.minutesPassed = minutesPassed;
+            this.seed = seed;
+            this.deaths = deaths;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    Player player = population[i];
+                    if (player != null) {
+                        if (minutesPassed > 0) {
+                            player.updateNeeds(minutesPassed, seed);
+                        }
+                        boolean wasAlive = player.isAlive();
+                        processPlayerStateChanges(player);
+                        if (wasAlive && !player.isAlive()) {
+                            deaths.increment();
+                        }
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PopulationTask(population, from, mid, leafSize, minutesPassed, seed, deaths),
+                    new PopulationTask(population, mid, to, leafSize, minutesPassed, seed, deaths));
+        }
+    }
+
+    /**
+     * Fast-forwards a player through a long stretch of game time (a night's rest, a skipped week) in
+     * {@value #DEFAULT_FAST_FORWARD_STEP_MINUTES}-minute steps. See {@link #fastForward(Player, long, int)}.
+     */
+    public int fastForward(Player player, long minutes) {
+        return fastForward(player, minutes, DEFAULT_FAST_FORWARD_STEP_MINUTES);
+    }
+
+    /**
+     * Fast-forwards a player through a long stretch of game time. The result approximates calling
+     * {@link Player#updateNeeds(int)} with {@code stepMinutes} followed by {@link #processPlayerStateChanges(Player)}
+     * over and over, but the engine only runs where something can happen. Whenever the engine is idle (every phase
+     * quiet) or settled into a fixed point (its last cycle changed nothing, e.g. stress pinned at the maximum), the step
+     * at which the next need crosses a threshold is computed in closed form from the expected need rates, the needs
+     * jump straight there, and the engine runs at that crossing. Otherwise the player is stepped normally.
+     *
+     * Jumps use the expected rates instead of rolling every step, so results stay close to, but not identical with,
+     * stepping through the same time. Effects that would repeat on every skipped cycle are recorded once per jump.
+     * The game clock is not advanced (see {@link GameContext#advanceTime(int)}), so effects recorded along the way
+     * carry the time the fast-forward started at.
+     *
+     * @param minutes Game minutes to fast-forward. A remainder shorter than one step is applied as a final short step.
+     * @param stepMinutes Length of one simulation step (e.g., the duration of a typical action).
+     * @return The number of engine cycles that were run.
+     */
+    public int fastForward(Player player, long minutes, int stepMinutes) {
+        if (player == null) {
+            System.err.println("[STAT ENGINE] Error: Player object is null. Cannot fast-forward.");
+            return 0;
+        }
+        if (stepMinutes <= 0) {
+            throw new IllegalArgumentException("Fast-forward step must be positive: " + stepMinutes);
+        }
+        if (minutes < 0) {
+            System.err.println("[STAT ENGINE] Error: Cannot fast-forward by negative minutes (" + minutes + ").");
+            return 0;
+        }
+
+        int cycles = 0;
+        long remaining = minutes;
+        boolean steady = false; // The last cycle followed a regular step and would repeat identically
+        while (remaining > 0) {
+            if (!player.isAlive()) {
+                // Needs stop changing once dead; a last cycle clears whatever the final cycle left behind
+                processPlayerStateChanges(player);
+                return cycles + 1;
+            }
+            StatRuleTable rules = this.rules;
+            long steps = remaining / stepMinutes;
+            if (steps > 0 && (steady || isIdle(player, rules))) {
+                steps = Math.min(steps, stepsUntilNextCrossing(player, rules, stepMinutes));
+                player.applyExpectedNeeds(stepMinutes, steps);
+                remaining -= steps * stepMinutes;
+                processPlayerStateChanges(player);
+                steady = false; // Confirm with a regular step before jumping past another crossing
+            } else {
+                int stepLength = (int) Math.min(stepMinutes, remaining);
+                int hunger = player.getHunger();
+                int fatigue = player.getFatiguePercent();
+                int sleep = player.getSleep();
+                player.updateNeeds(stepLength, worldSeed.getAsLong());
+                remaining -= stepLength;
+                // A need the engine writes to must have visibly drifted, or "nothing changed" may just mean
+                // this step's roll happened to leave it where the engine puts it back.
+                boolean driftVisible = driftVisible(player, PlayerStat.HUNGER, hunger, stepLength)
+                        && driftVisible(player, PlayerStat.FATIGUE_PERCENT, fatigue, stepLength)
+                        && driftVisible(player, PlayerStat.SLEEP, sleep, stepLength);
+                processPlayerStateChanges(player);
+                steady = driftVisible && isSteady(player, rules);
+            }
+            cycles++;
+        }
+        return cycles;
+    }
+
+    public void processPlayerStateChanges(Player player) {
+        if (player == null) {
+            System.err.println("[STAT ENGINE] Error: Player object is null. Cannot process state changes.");
+            return;
+        }
+
+        if (!player.isAlive()) {
+            player.resetTemporaryModifiers(); // Clear any lingering effects
+            if (snapshotPublishing) player.publishSnapshot();
+            return;
+        }
+
+        // Everything that changed since the previous cycle (including that cycle's own changes)
+        long changed = player.takeChangedMask();
+        long rollKey = DeterministicRandom.key(worldSeed.getAsLong(), player.getEntityId(), player.getSimulationTick());
+        StatEngineMetrics metrics = this.metrics;
+        boolean timed = metrics.isSampled(rollKey);
+        long start = 0L;
+
+        // 1. Handle Adrenaline Decay & Reset General Temporary Modifiers at the start of each cycle
+        if (player.getAdrenalineRushTurns() > 0) {
+            player.setAdrenalineRushTurns(player.getAdrenalineRushTurns() - 1);
+            if (player.getAdrenalineRushTurns() == 0) {
+                player.resetTemporaryModifiers(); // Adrenaline wore off, clear all temp modifiers
+                player.setFatiguePercent(player.getFatiguePercent() + 50); // Adrenaline crash
+                logEffect(player, EffectCode.ADRENALINE_CRASH);
+            }
+            // If adrenaline is still active, its specific modifiers (set in applyEmotionalAndMentalEffects)
+            // will persist or be reapplied. General reset is skipped.
+        } else {
+            // No adrenaline active, so reset all general temporary modifiers for a clean slate this cycle.
+            player.resetTemporaryModifiers();
+        }
+
+        // 2. Apply Effects in a Logical Order
+        // These methods will either set temporary player stat modifiers
+        // or directly adjust the player's base stats via their setters (which handle clamping).
+        // A phase is skipped when its last evaluation had no effect and none of its inputs changed since:
+        // evaluating it again would do nothing either. Changes made by earlier phases of this cycle count.
+        StatRuleTable rules = this.rules; // Read once so a table swap never lands mid-cycle
+        boolean incremental = this.incrementalProcessing;
+        int wasQuiet = incremental ? player.getQuietPhases(rules.id()) : 0;
+        int nowQuiet = 0;
+
+        // On sampled cycles each evaluated phase is timed from the end of the previous one (one clock read per
+        // phase), so its time also includes the few-ns skip checks of any skipped phases in between.
+        if (timed) start = System.nanoTime();
+
+        if (canSkip(player, changed, wasQuiet, PHASE_ENVIRONMENT)) nowQuiet |= PHASE_ENVIRONMENT;
+        else {
+            if (!applyEnvironmentalAndPhysicalEffects(player, rules, rollKey)) nowQuiet |= PHASE_ENVIRONMENT;
+            if (timed) start = metrics.recordPhase(EnginePhase.ENVIRONMENT, start);
+        }
+
+        if (canSkip(player, changed, wasQuiet, PHASE_ORGANS)) nowQuiet |= PHASE_ORGANS;
+        else {
+            if (!applyOrganIntegrityEffects(player, rollKey)) nowQuiet |= PHASE_ORGANS;
+            if (timed) start = metrics.recordPhase(EnginePhase.ORGANS, start);
+        }
+
+        if (canSkip(player, changed, wasQuiet, PHASE_NEEDS)) nowQuiet |= PHASE_NEEDS;
+        else {
+            if (!applyNeedsEffects(player, rules, rollKey)) nowQuiet |= PHASE_NEEDS;
+            if (timed) start = metrics.recordPhase(EnginePhase.NEEDS, start);
+        }
+
+        if (canSkip(player, changed, wasQuiet, PHASE_HEALTH)) nowQuiet |= PHASE_HEALTH;
+        else {
+            if (!applyHealthEffects(player, rules, rollKey)) nowQuiet |= PHASE_HEALTH;
+            if (timed) start = metrics.recordPhase(EnginePhase.HEALTH, start);
+        }
+
+        // This can trigger adrenaline and its specific modifiers
+        if (canSkip(player, changed, wasQuiet, PHASE_EMOTIONAL)) nowQuiet |= PHASE_EMOTIONAL;
+        else {
+            if (!applyEmotionalAndMentalEffects(player, rules, rollKey)) nowQuiet |= PHASE_EMOTIONAL;
+            if (timed) start = metrics.recordPhase(EnginePhase.EMOTIONAL, start);
+        }
+
+        player.setQuietPhases(nowQuiet, rules.id());
+
+        // 3. Update Derived Summary States like Mood
+        // The mood rules are idempotent (re-running them on unchanged inputs keeps the mood they produced),
+        // so mood only needs re-resolving when one of its inputs changed.
+        if (incremental && ((changed | player.getChangedMask()) & MOOD_INPUTS) == 0) {
+            metrics.recordPhaseSkipped();
+        } else {
+            metrics.recordPhaseEvaluated();
+            updatePlayerMood(player);
+            if (timed) metrics.recordPhase(EnginePhase.MOOD, start);
+        }
+
+        // 4. Final sanity check for player status
+        if (player.getHealth() <= 0 && player.isAlive()) {
+            player.setAlive(false); // Ensure isAlive flag is correct if health dropped to 0
+            logEffect(player, EffectCode.SUCCUMBED);
+        }
+        metrics.recordCycle(!player.isAlive());
+        player.advanceSimulationTick();
+        if (snapshotPublishing) player.publishSnapshot(); // Last: readers only ever see whole cycles
+    }
+
+
+    // Each phase returns whether it had any effect. A phase without effect is "quiet" and may be skipped
+    // next cycle if its inputs stay unchanged (see PHASE_INPUTS).
+    private boolean applyEnvironmentalAndPhysicalEffects(Player player, StatRuleTable rules, long rollKey) {
+        // Severe / significant / mild hyper- or hypothermia, by deviation from normal body temperature
+        return applyBand(player, rules.temperature(), player.getWillpower(), rollKey);
+    }
+
+    private boolean applyOrganIntegrityEffects(Player player, long rollKey) {
+        boolean hadEffect = false;
+        double neuralHealthRatio = (double) player.getNeural() / Player.MAX_STAT_VALUE_PERCENTAGE;
+
+        if (neuralHealthRatio < 0.15) { // Critically low neural health
+            hadEffect = true;
+            logEffect(player, EffectCode.SEVERE_NEUROLOGICAL_DISTRESS);
+            if (DeterministicRandom.nextDouble(rollKey, DRAW_SEIZURE) < 0.25) { // 25% chance of seizure
+                player.setExperiencingSeizure(true);
+            }
+
+            if (player.isExperiencingSeizure()) {
+                logEffect(player, EffectCode.SEIZURE);
+                player.setConscious(false);
+                // Max penalties during seizure, directly setting temp modifiers to large negative values
+                player.setTempDexterityModifier(-Player.MAX_STAT_VALUE);
+                player.setTempAgilityModifier(-Player.MAX_STAT_VALUE);
+                player.setTempSpeedModifier(-Player.MAX_STAT_VALUE);
+                player.setTempIntelligenceModifier(-Player.MAX_STAT_VALUE);
+                player.setTempFocusModifier(-Player.MAX_STAT_VALUE_PERCENTAGE);
+                player.setTempMemoryModifier(-Player.MAX_STAT_VALUE_PERCENTAGE);
+
+                player.setNeural(modifyPlayerAttributeByPercentage(player.getNeural(), -0.05, Player.MIN_STAT_VALUE_PERCENTAGE, Player.MAX_STAT_VALUE_PERCENTAGE)); // Further neural damage
+                player.setHealth(player.getHealth() - 5);
+            } else { // Critically low neural health, but no seizure this cycle
+                // Apply significant penalties to temporary modifiers based on current base stats
+                player.setTempDexterityModifier(player.getTempDexterityModifier() + calculateDeltaFromBaseStat(player.getDexterity(), -0.70));
+                player.setTempAgilityModifier(player.getTempAgilityModifier() + calculateDeltaFromBaseStat(player.getAgility(), -0.70));
+                player.setTempIntelligenceModifier(player.getTempIntelligenceModifier() + calculateDeltaFromBaseStat(player.getIntelligence(), -0.50));
+                player.setTempFocusModifier(player.getTempFocusModifier() + calculateDeltaFromBaseStat(player.getFocus(), -0.60));
+                player.setTempMemoryModifier(player.getTempMemoryModifier() + calculateDeltaFromBaseStat(player.getMemory(), -0.60));
+            }
+            player.setStress(player.getStress() + 30);
+            player.setHappiness(modifyPlayerAttributeByPercentage(player.getHappiness(), -0.40, Player.MIN_STAT_VALUE_PERCENTAGE, Player.MAX_STAT_VALUE_PERCENTAGE));
+
+            if (player.getConcussionCount() > 2 && neuralHealthRatio < 0.20) { // Permanent damage from concussions
+                logEffect(player, EffectCode.CONCUSSION_DAMAGE);
+                player.setIntelligence(player.getIntelligence() - (int) (Player.MAX_STAT_VALUE * 0.001)); // Small permanent reduction to base Intelligence
+                player.setMemory(modifyPlayerAttributeByPercentage(player.getMemory(), -0.01, Player.MIN_STAT_VALUE_PERCENTAGE, Player.MAX_STAT_VALUE_PERCENTAGE)); // Small permanent reduction to base Memory
+                player.setConcussionCount(0); // Reset counter after applying permanent damage
+            }
+        } else if (neuralHealthRatio < 0.40) { // Impaired neural health
+            hadEffect = true;
+            logEffect(player, EffectCode.NEURAL_FOG);
+            player.setTempIntelligenceModifier(player.getTempIntelligenceModifier() + calculateDeltaFromBaseStat(player.getIntelligence(), -0.15));
+            player.setTempFocusModifier(player.getTempFocusModifier() + calculateDeltaFromBaseStat(player.getFocus(), -0.25));
+            player.setTempMemoryModifier(player.getTempMemoryModifier() + calculateDeltaFromBaseStat(player.getMemory(), -0.20));
+        }
+
+        // Cardiovascular & Respiratory Effects
+        double cardioHealthRatio = (double) player.getCardiovascular() / Player.MAX_STAT_VALUE_PERCENTAGE;
+        double respHealthRatio = (double) player.getRespiratory() / Player.MAX_STAT_VALUE_PERCENTAGE;
+
+        if (cardioHealthRatio < 0.3 || respHealthRatio < 0.3) {
+            hadEffect = true;
+            logEffect(player, EffectCode.CARDIO_RESPIRATORY_STRAIN);
+            player.setEndurance(player.getEndurance() - (int) (Player.MAX_STAT_VALUE * 0.003)); // Directly impacts base Endurance
+            player.setFatiguePercent(player.getFatiguePercent() + 10);
+            player.setStress(player.getStress() + 10);
+            if (cardioHealthRatio < 0.1 || respHealthRatio < 0.1) { // Critical failure
+                player.setHealth(player.getHealth() - 2);
+                logEffect(player, EffectCode.CARDIO_RESPIRATORY_FAILURE);
+            }
+        }
+
+        // Digestive Effects
+        if (player.getDigestive() < Player.MAX_STAT_VALUE_PERCENTAGE * 0.2) {
+            hadEffect = true;
+            player.setHunger(modifyPlayerAttributeByPercentage(player.getHunger(), -0.15, Player.MIN_STAT_VALUE_PERCENTAGE, Player.MAX_STAT_VALUE_PERCENTAGE)); // Becomes effectively hungrier
+            logEffect(player, EffectCode.DIGESTIVE_COMPROMISED);
+        }
+
+        // Immune System Effects
+        if (player.getImmune() < Player.MAX_STAT_VALUE_PERCENTAGE * 0.2 && player.getHygiene() < Player.MAX_STAT_VALUE_PERCENTAGE * 0.2) {
+            hadEffect = true;
+            player.setHealth(player.getHealth() - 1);
+            logEffect(player, EffectCode.IMMUNE_WEAKNESS);
+        }
+        return hadEffect;
+    }
+
+    private boolean applyNeedsEffects(Player player, StatRuleTable rules, long rollKey) {
+        int baseWillpower = player.getWillpower(); // Use current base willpower (0-500 scale) for resistance calculations
+
+        // Each rule sees the state left by the previous one (e.g., sleep is measured after fatigue has drained it).
+        boolean hadEffect = applyBand(player, rules.hunger(), baseWillpower, rollKey);
+        hadEffect |= applyBand(player, rules.thirst(), baseWillpower, rollKey);
+        hadEffect |= applyBand(player, rules.fatigue(), baseWillpower, rollKey);
+        hadEffect |= applyBand(player, rules.sleep(), baseWillpower, rollKey);
+        return hadEffect;
+    }
+
+    /**
+     * Looks up the player's band for a rule and applies that band's effect row, if any.
+     * @param baseWillpower Willpower captured at the start of the current phase, used for resistance.
+     * @param rollKey This cycle's {@link DeterministicRandom} key, for the knockout roll.
+     * @return True if a band applied.
+     */
+    private boolean applyBand(Player player, StatRuleTable.BandRule rule, int baseWillpower, long rollKey) {
+        StatRuleTable.BandEffect effect = rule.effectFor(rule.stat().get(player));
+        if (effect == null) {
+            return false;
+        }
+        logEffect(player, effect.code);
+
+        if (effect.healthDelta != 0) {
+            player.setHealth(player.getHealth() + effect.healthDelta);
+        }
+        if (effect.severity > 0) {
+            applyPenaltiesForSevereNeed(player, baseWillpower, effect.severity, effect.allPhysical);
+        }
+
+        // Flat temporary modifier changes
+        if (effect.tempDexterity != 0) player.setTempDexterityModifier(player.getTempDexterityModifier() + effect.tempDexterity);
+        if (effect.tempAgility != 0) player.setTempAgilityModifier(player.getTempAgilityModifier() + effect.tempAgility);
+        if (effect.tempSpeed != 0) player.setTempSpeedModifier(player.getTempSpeedModifier() + effect.tempSpeed);
+        if (effect.tempIntelligence != 0) player.setTempIntelligenceModifier(player.getTempIntelligenceModifier() + effect.tempIntelligence);
+        if (effect.tempFocus != 0) player.setTempFocusModifier(player.getTempFocusModifier() + effect.tempFocus);
+
+        // Mental penalties proportional to the base stats, optionally resisted by willpower
+        if (effect.mentalPenalty > 0) {
+            double willpowerFactor = (double) baseWillpower / Player.MAX_STAT_VALUE_PERCENTAGE;
+            double penaltyMultiplier = effect.mentalPenalty * (1.0 - (willpowerFactor * effect.willpowerResistance));
+            if (effect.focusWeight != 0) {
+                player.setTempFocusModifier(player.getTempFocusModifier() - (int) (player.getFocus() * penaltyMultiplier * effect.focusWeight));
+            }
+            if (effect.intelligenceWeight != 0) {
+                player.setTempIntelligenceModifier(player.getTempIntelligenceModifier() - (int) (player.getIntelligence() * penaltyMultiplier * effect.intelligenceWeight));
+            }
+            if (effect.memoryWeight != 0) {
+                player.setTempMemoryModifier(player.getTempMemoryModifier() - (int) (player.getMemory() * penaltyMultiplier * effect.memoryWeight));
+            }
+        }
+
+        // Relative changes to base stats
+        if (effect.willpowerPct != 0) player.setWillpower(modifyPlayerAttributeByPercentage(player.getWillpower(), effect.willpowerPct, Player.MIN_STAT_VALUE_PERCENTAGE, Player.MAX_STAT_VALUE_PERCENTAGE));
+        if (effect.happinessPct != 0) player.setHappiness(modifyPlayerAttributeByPercentage(player.getHappiness(), effect.happinessPct, Player.MIN_STAT_VALUE_PERCENTAGE, Player.MAX_STAT_VALUE_PERCENTAGE));
+        if (effect.sleepPct != 0) player.setSleep(modifyPlayerAttributeByPercentage(player.getSleep(), effect.sleepPct, Player.MIN_STAT_VALUE_PERCENTAGE, Player.MAX_STAT_VALUE_PERCENTAGE));
+        if (effect.comfortPct != 0) player.setComfort(modifyPlayerAttributeByPercentage(player.getComfort(), effect.comfortPct, Player.MIN_STAT_VALUE_PERCENTAGE, Player.MAX_STAT_VALUE_PERCENTAGE));
+
+        // Flat changes (setters clamp)
+        if (effect.stressDelta != 0) player.setStress(player.getStress() + effect.stressDelta);
+        if (effect.fatigueDelta != 0) player.setFatiguePercent(player.getFatiguePercent() + effect.fatigueDelta);
+
+        // Loss of consciousness
+        if (!player.isConscious() && effect.unconsciousCode != null) {
+            if (player.getHealth() > 0) {
+                logEffect(player, effect.unconsciousCode);
+            }
+        } else if (effect.knockoutChance > 0
+                && player.getHealth() <= Player.DEFAULT_PLAYER_HEALTH * effect.knockoutAtHealth
+                && (effect.knockoutChance >= 1.0 || DeterministicRandom.nextDouble(rollKey, DRAW_KNOCKOUT + rule.stat().ordinal()) < effect.knockoutChance)) {
+            player.setConscious(false);
+            if (effect.knockoutCode != null) {
+                logEffect(player, effect.knockoutCode);
+            }
+        }
+        return true;
+    }
+
+    private void applyPenaltiesForSevereNeed(Player player, int baseWillpower, double severityFactor, boolean affectAllPhysical) {
+        double willpowerRatio = (double) baseWillpower / Player.MAX_STAT_VALUE_PERCENTAGE;
+        double resistanceFromWillpower = willpowerRatio * 0.35; // Max 35% reduction in penalty severity from willpower
+        double effectiveSeverityFactor = severityFactor * (1.0 - resistanceFromWillpower);
+        effectiveSeverityFactor = Math.max(severityFactor * 0.50, effectiveSeverityFactor); // Penalty is at least 50% of its original severity
+
+        if (affectAllPhysical) {
+            // Penalties are applied to temporary modifiers. These modifiers accumulate based on effects within one cycle.
+            player.setTempStrengthModifier(player.getTempStrengthModifier() - (int) (Player.MAX_STAT_VALUE * effectiveSeverityFactor * 0.5)); // Assuming MAX_STAT_VALUE for strength scale
+            player.setTempAgilityModifier(player.getTempAgilityModifier() - (int) (Player.MAX_STAT_VALUE * effectiveSeverityFactor));
+            player.setTempSpeedModifier(player.getTempSpeedModifier() - (int) (Player.MAX_STAT_VALUE * effectiveSeverityFactor));
+            player.setTempDexterityModifier(player.getTempDexterityModifier() - (int) (Player.MAX_STAT_VALUE * effectiveSeverityFactor));
+        }
+        // Endurance (base stat, 0-MAX_STAT_VALUE scale) takes a direct hit, less resisted by willpower as it's very physical
+        player.setEndurance(player.getEndurance() - (int) (Player.MAX_STAT_VALUE * severityFactor * 0.1)); // Original severity for direct endurance hit
+
+        // Focus (temporary modifier, based on base Focus 0-MAX_STAT_VALUE_PERCENTAGE scale)
+        player.setTempFocusModifier(player.getTempFocusModifier() - (int) (player.getFocus() * effectiveSeverityFactor));
+
+        // Willpower itself (base stat, 0-MAX_STAT_VALUE_PERCENTAGE scale) erodes due to hardship
+        player.setWillpower(modifyPlayerAttributeByPercentage(player.getWillpower(), -severityFactor * 0.5, Player.MIN_STAT_VALUE_PERCENTAGE, Player.MAX_STAT_VALUE_PERCENTAGE));
+    }
+
+    private boolean applyHealthEffects(Player player, StatRuleTable rules, long rollKey) {
+        double healthRatio = (double) player.getHealth() / Player.DEFAULT_PLAYER_HEALTH; // 0.0 to 1.0
+        int baseWillpower = player.getWillpower();
+
+        if (healthRatio <= 0) {
+            if (player.isAlive()) { // Should have been set by player.setHealth() but good to ensure
+                player.setAlive(false);
+            }
+            logEffect(player, EffectCode.NO_HEALTH);
+            return true; // No further effects if not alive
+        }
+
+        // This specific log might be redundant if player.setConscious(false) is called elsewhere for low health.
+        // if (!player.isConscious() && healthRatio < 0.05 && player.getHealth() > 0) {
+        // logEffect(player, "is barely clinging to life and unconscious.");
+        // }
+
+        return applyBand(player, rules.health(), baseWillpower, rollKey);
+    }
+
+    private boolean applyEmotionalAndMentalEffects(Player player, StatRuleTable rules, long rollKey) {
+        int baseWillpower = player.getWillpower();
+        boolean hadEffect = false;
+
+        // Adrenaline Rush due to low confidence (fear)
+        if (player.getConfidence() < Player.MAX_STAT_VALUE_PERCENTAGE * 0.10 && player.getAdrenalineRushTurns() == 0) {
+            hadEffect = true;
+            logEffect(player, EffectCode.ADRENALINE_RUSH);
+            player.setStress(modifyPlayerAttributeByPercentage(player.getStress(), 0.50, Player.MIN_STAT_VALUE_PERCENTAGE, Player.MAX_STAT_VALUE_PERCENTAGE));
+            player.setAdrenalineRushTurns(3 + DeterministicRandom.nextInt(rollKey, DRAW_ADRENALINE_DURATION, 3)); // Adrenaline lasts a few cycles
+
+            // Adrenaline applies temporary modifiers. These are *additive* to any existing temp modifiers from this cycle.
+            // The base stats are used to calculate the magnitude of the adrenaline bonus/penalty.
+            player.setTempStrengthModifier(player.getTempStrengthModifier() + player.getUpperBodyStrength() / 2); // Bonus from base stat
+            player.setTempAgilityModifier(player.getTempAgilityModifier() + player.getAgility() / 2);
+            player.setTempSpeedModifier(player.getTempSpeedModifier() + player.getSpeed() / 2);
+            player.setTempPerceptionModifier(player.getTempPerceptionModifier() + player.getSight() / 3); // Bonus from base Sight
+
+            player.setTempIntelligenceModifier(player.getTempIntelligenceModifier() - player.getIntelligence() / 2); // Penalty from base stat
+            player.setTempFocusModifier(player.getTempFocusModifier() - player.getFocus() / 2);
+            player.setTempMemoryModifier(player.getTempMemoryModifier() - player.getMemory() / 2);
+
+            player.setHappiness(Player.MIN_STAT_VALUE_PERCENTAGE); // Fear state associated with adrenaline trigger
+        }
+
+        if (player.getAdrenalineRushTurns() > 0) {
+            hadEffect = true;
+            player.setFatiguePercent(player.getFatiguePercent() + 10); // Adrenaline is physically taxing each cycle it's active
+        }
+
+        // General Stress Effects (only if not currently in an adrenaline rush, as adrenaline has its own mental effects)
+        if (player.getAdrenalineRushTurns() == 0) {
+            hadEffect |= applyBand(player, rules.stress(), baseWillpower, rollKey);
+        }
+
+        // Boredom Effects
+        hadEffect |= applyBand(player, rules.boredom(), baseWillpower, rollKey);
+        return hadEffect;
+    }
+
+    // Mood rules, in priority order: critical states, dire needs, negative then positive emotional levels,
+    // functional states, then recovery to NEUTRAL. Resolved from a table precomputed from those rules (see MoodTable).
+    private void updatePlayerMood(Player player) {
+        if (!player.isAlive()) {
+            player.setMood(null); // Or a specific "DECEASED" mood
+            return;
+        }
+        player.setMood(MoodTable.resolve(player));
+    }
+
+    // True if the phase was quiet last cycle and none of its inputs changed since (including earlier in this cycle).
+    // Counts the outcome either way.
+    private boolean canSkip(Player player, long changedBeforeCycle, int wasQuiet, int phase) {
+        long inputs = PHASE_INPUTS[Integer.numberOfTrailingZeros(phase)];
+        if ((wasQuiet & phase) != 0 && ((changedBeforeCycle | player.getChangedMask()) & inputs) == 0) {
+            metrics.recordPhaseSkipped();
+            return true;
+        }
+        metrics.recordPhaseEvaluated();
+        return false;
+    }
+
+    // True if the player's next cycle can do nothing beyond clearing modifiers and re-resolving mood:
+    // every phase was quiet last cycle and nothing else changed since.
+    private boolean isIdle(Player player, StatRuleTable rules) {
+        return player.getQuietPhases(rules.id()) == ALL_PHASES
+                && (player.getChangedMask() & ~SETTLED_CHANGES) == 0;
+    }
+
+    // True if the last cycle changed nothing a repeat would not change again, and the next one rolls no dice
+    // (seizures, knockouts below certainty) that could break the repetition.
+    private boolean isSteady(Player player, StatRuleTable rules) {
+        if ((player.getChangedMask() & ~SETTLED_CHANGES) != 0) {
+            return false;
+        }
+        if ((double) player.getNeural() / Player.MAX_STAT_VALUE_PERCENTAGE < 0.15) {
+            return false;
+        }
+        if (!player.isConscious()) {
+            return true;
+        }
+        return !mayKnockOut(player, rules.temperature()) && !mayKnockOut(player, rules.hunger())
+                && !mayKnockOut(player, rules.thirst()) && !mayKnockOut(player, rules.fatigue())
+                && !mayKnockOut(player, rules.sleep()) && !mayKnockOut(player, rules.health())
+                && !mayKnockOut(player, rules.stress()) && !mayKnockOut(player, rules.boredom());
+    }
+
+    private static boolean mayKnockOut(Player player, StatRuleTable.BandRule rule) {
+        StatRuleTable.BandEffect effect = rule.effectFor(rule.stat().get(player));
+        return effect != null && effect.knockoutChance > 0 && effect.knockoutChance < 1.0;
+    }
+
+    // False if the need is expected to drift but stood still without being pinned at the end it drifts towards.
+    private static boolean driftVisible(Player player, PlayerStat stat, int before, int stepMinutes) {
+        double change = player.getExpectedNeedChange(stat, stepMinutes);
+        int now = stat.get(player);
+        if (change == 0 || now != before) {
+            return true;
+        }
+        return now == (change < 0 ? Player.MIN_STAT_VALUE_PERCENTAGE : Player.MAX_STAT_VALUE_PERCENTAGE);
+    }
+
+    // Steps of stepMinutes until the first need reaches a value where some outcome changes (at least 1).
+    private long stepsUntilNextCrossing(Player player, StatRuleTable rules, int stepMinutes) {
+        long steps = stepsUntilCrossing(player, PlayerStat.HUNGER, rules.hunger(), HUNGER_THRESHOLDS, stepMinutes);
+        steps = Math.min(steps, stepsUntilCrossing(player, PlayerStat.THIRST, rules.thirst(), THIRST_THRESHOLDS, stepMinutes));
+        steps = Math.min(steps, stepsUntilCrossing(player, PlayerStat.FATIGUE_PERCENT, rules.fatigue(), FATIGUE_THRESHOLDS, stepMinutes));
+        steps = Math.min(steps, stepsUntilCrossing(player, PlayerStat.SLEEP, rules.sleep(), SLEEP_THRESHOLDS, stepMinutes));
+        steps = Math.min(steps, stepsUntilCrossing(player, PlayerStat.HYGIENE, null, HYGIENE_THRESHOLDS, stepMinutes));
+        return Math.max(1, steps);
+    }
+
+    private static long stepsUntilCrossing(Player player, PlayerStat stat, StatRuleTable.BandRule rule, int[] thresholds, int stepMinutes) {
+        double changePerStep = player.getExpectedNeedChange(stat, stepMinutes);
+        if (changePerStep == 0) {
+            return Long.MAX_VALUE;
+        }
+        int value = stat.get(player);
+        int direction = changePerStep < 0 ? -1 : 1;
+
+        // Distance to the nearest value, in the direction the need moves, with a different outcome
+        long distance = Long.MAX_VALUE;
+        if (rule != null) {
+            int bandChange = rule.nextBandChange(value, direction);
+            if (bandChange != StatRuleTable.BandRule.NO_CHANGE) {
+                distance = Math.abs(bandChange - value);
+            }
+        }
+        for (int threshold : thresholds) {
+            int target = direction > 0 ? threshold : threshold - 1;
+            if ((long) (target - value) * direction > 0) {
+                distance = Math.min(distance, Math.abs(target - value));
+            }
+        }
+        if (distance == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return (long) Math.ceil(distance / Math.abs(changePerStep));
+    }
+
+    // First value at or above which "value < MAX * fraction" no longer holds
+    private static int belowThreshold(double fraction) {
+        return (int) Math.ceil(Player.MAX_STAT_VALUE_PERCENTAGE * fraction);
+    }
+
+    // First value for which "value > MAX * fraction" holds
+    private static int aboveThreshold(double fraction) {
+        return (int) Math.floor(Player.MAX_STAT_VALUE_PERCENTAGE * fraction) + 1;
+    }
+
+    // Records the effect as primitives; no text is built and nothing is printed here.
+    // Readers render entries from the journal when (and if) they need them.
+    private void logEffect(Player player, EffectCode effect) {
+        metrics.recordEffect(effect);
+        EffectJournal journal = this.effectJournal;
+        if (journal != null) {
+            journal.record(effect, player.getEntityId(), gameClock.getAsLong());
+        }
+    }
+
+    /**
+     * Modifies an attribute's current value by a percentage and returns the new value,
+     * clamped between specified min and max.
+     * @param currentAttributeValue The current value of the attribute.
+     * @param percentageModifier The modifier (e.g., -0.10 for 10% reduction, 0.20 for 20% increase).
+     * @param minValue The minimum allowed value for the attribute.
+     * @param maxValue The maximum allowed value for the attribute.
+     * @return The new attribute value, after modification and clamping.
+     */
+    private int modifyPlayerAttributeByPercentage(int currentAttributeValue, double percentageModifier, int minValue, int maxValue) {
+        int change = (int) (currentAttributeValue * percentageModifier);
+        int newValue = currentAttributeValue + change;
+        return Math.max(minValue, Math.min(newValue, maxValue));
+    }
+
+    /**
+     * Calculates the change (delta) to be applied to a temporary modifier,
+     * based on a percentage of the stat's *base* value.
+     * @param baseStatValue The base value of the stat (e.g., player.getIntelligence(), player.getFocus()).
+     * @param percentage The percentage to calculate the change from (e.g., -0.20 for a -20% effect).
+     * @return The calculated change (can be positive or negative), intended to be added to a temporary modifier.
+     */
+    private int calculateDeltaFromBaseStat(int baseStatValue, double percentage) {
+        return (int) (baseStatValue * percentage);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.theofernandez.rpg.engine;
+
+/**
+ * Timing summary of one population tick run through {@link PlayerStatEngine#processAll}.
+ */
+public class PopulationTickResult {
+
+    private final int entityCount;
+    private final long elapsedNanos;
+    private final int parallelism;
+    private final int deaths;
+
+    public PopulationTickResult(int entityCount, long elapsedNanos, int parallelism, int deaths) {
+        this.entityCount = entityCount;
+        this.elapsedNanos = elapsedNanos;
+        this.parallelism = parallelism;
+        this.deaths = deaths;
+    }
+
+    public int getEntityCount() { return entityCount; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public int getParallelism() { return parallelism; }
+    /** @return Players that died during this tick. */
+    public int getDeaths() { return deaths; }
+
+    /**
+     * @return Entities processed per second during this tick, or 0 if nothing was processed.
+     */
+    public double getEntitiesPerSecond() {
+        if (entityCount == 0 || elapsedNanos <= 0) return 0.0;
+        return entityCount * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PopulationTick{entities=%d, elapsed=%.3f ms, throughput=%.0f entities/s, parallelism=%d, deaths=%d}",
+                entityCount, elapsedNanos / 1_000_000.0, getEntitiesPerSecond(), parallelism, deaths);
+    }
+}
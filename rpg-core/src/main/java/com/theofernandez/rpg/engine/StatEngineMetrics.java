@@ -0,0 +1,169 @@
+package com.theofernandez.rpg.engine;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Always-on metrics of one {@link PlayerStatEngine}: per-phase latency histograms, how often each effect
+ * fires, and deaths per population tick. Published over JMX with {@link #registerMBean(String)}.
+ *
+ * Recording is lock-free (striped adders throughout), so fork-join workers never wait on each other.
+ * Counts are exact. Latencies are sampled: one cycle in {@value #LATENCY_SAMPLE_INTERVAL}, chosen by the
+ * cycle's roll key, has its phases timed. A clock read can cost tens of nanoseconds on virtualized hosts,
+ * about a tenth of a whole cycle, so timing every cycle would be far from free.
+ */
+public class StatEngineMetrics implements StatEngineMetricsMXBean {
+
+    public static final String OBJECT_NAME_PREFIX = "com.theofernandez.rpg:type=StatEngine,name=";
+    public static final int LATENCY_SAMPLE_INTERVAL = 64;
+
+    private static final Pattern MBEAN_NAME_PATTERN = Pattern.compile("[A-Za-z0-9_.-]+");
+
+    private final LatencyHistogram[] phaseLatencies = new LatencyHistogram[EnginePhase.all().length];
+    private final LongAdder[] effectCounts = new LongAdder[EffectCode.values().length];
+    private final LongAdder cycles = new LongAdder();
+    private final LongAdder deaths = new LongAdder();
+    private final LongAdder phasesEvaluated = new LongAdder();
+    private final LongAdder phasesSkipped = new LongAdder();
+    private final LongAdder ticks = new LongAdder();
+    private final LongAccumulator maxDeathsPerTick = new LongAccumulator(Math::max, 0L);
+    private volatile long deathsLastTick;
+
+    public StatEngineMetrics() {
+        for (int i = 0; i < phaseLatencies.length; i++) {
+            phaseLatencies[i] = new LatencyHistogram();
+        }
+        for (int i = 0; i < effectCounts.length; i++) {
+            effectCounts[i] = new LongAdder();
+        }
+    }
+
+    // --- Recording, called by the engine ---
+
+    boolean isSampled(long rollKey) { return (rollKey & (LATENCY_SAMPLE_INTERVAL - 1)) == 0; }
+    // Returns the end time, so the next phase can start timing from it without reading the clock again.
+    long recordPhase(EnginePhase phase, long startNanos) {
+        long endNanos = System.nanoTime();
+        phaseLatencies[phase.ordinal()].record(endNanos - startNanos);
+        return endNanos;
+    }
+    void recordEffect(EffectCode effect) { effectCounts[effect.ordinal()].increment(); }
+    void recordPhaseEvaluated() { phasesEvaluated.increment(); }
+    void recordPhaseSkipped() { phasesSkipped.increment(); }
+
+    void recordCycle(boolean died) {
+        cycles.increment();
+        if (died) deaths.increment();
+    }
+
+    void recordTick(long deathsThisTick) {
+        ticks.increment();
+        deathsLastTick = deathsThisTick;
+        maxDeathsPerTick.accumulate(deathsThisTick);
+    }
+
+    // --- Reading ---
+
+    @Override
+    public List<PhaseLatency> getPhaseLatencies() {
+        List<PhaseLatency> latencies = new ArrayList<>(phaseLatencies.length);
+        for (EnginePhase phase : EnginePhase.all()) {
+            latencies.add(getPhaseLatency(phase));
+        }
+        return latencies;
+    }
+
+    public PhaseLatency getPhaseLatency(EnginePhase phase) {
+        LatencyHistogram histogram = phaseLatencies[phase.ordinal()];
+        long samples = histogram.count();
+        double mean = samples == 0 ? 0.0 : (double) histogram.totalNanos() / samples;
+        return new PhaseLatency(phase.name(), phase.getMethodName(), samples, mean,
+                histogram.valueAt(0.50), histogram.valueAt(0.90), histogram.valueAt(0.99), histogram.maxNanos());
+    }
+
+    @Override
+    public Map<String, Long> getEffectCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (EffectCode effect : EffectCode.values()) {
+            long count = effectCounts[effect.ordinal()].sum();
+            if (count > 0) counts.put(effect.name(), count);
+        }
+        return counts;
+    }
+
+    public long getEffectCount(EffectCode effect) { return effectCounts[effect.ordinal()].sum(); }
+
+    @Override public long getCycles() { return cycles.sum(); }
+    @Override public long getDeaths() { return deaths.sum(); }
+    @Override public long getTicks() { return ticks.sum(); }
+    @Override public long getDeathsLastTick() { return deathsLastTick; }
+    @Override public long getMaxDeathsPerTick() { return maxDeathsPerTick.get(); }
+    @Override public long getPhasesEvaluated() { return phasesEvaluated.sum(); }
+    @Override public long getPhasesSkipped() { return phasesSkipped.sum(); }
+    @Override public int getLatencySampleInterval() { return LATENCY_SAMPLE_INTERVAL; }
+
+    /**
+     * Clears everything. Recordings made while the reset runs may survive it.
+     */
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : phaseLatencies) {
+            histogram.reset();
+        }
+        for (LongAdder count : effectCounts) {
+            count.reset();
+        }
+        cycles.reset();
+        deaths.reset();
+        phasesEvaluated.reset();
+        phasesSkipped.reset();
+        ticks.reset();
+        maxDeathsPerTick.reset();
+        deathsLastTick = 0;
+    }
+
+    /**
+     * Clears only the phase evaluated/skipped counters (see {@link PlayerStatEngine#resetPhaseCounters()}).
+     */
+    void resetPhaseCounters() {
+        phasesEvaluated.reset();
+        phasesSkipped.reset();
+    }
+
+    // --- JMX ---
+
+    /**
+     * Publishes these metrics on the platform MBean server as {@value #OBJECT_NAME_PREFIX}{@code <name>}.
+     * An engine already registered under that name is replaced, so a restarted game keeps the same name.
+     *
+     * @param name Letters, digits, '_', '.' or '-' (e.g., "game", "headless").
+     * @return The name the metrics were registered under.
+     * @throws IllegalArgumentException If the name contains other characters.
+     * @throws IllegalStateException If the MBean server rejects the registration.
+     */
+    public ObjectName registerMBean(String name) {
+        if (name == null || !MBEAN_NAME_PATTERN.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid metrics MBean name: " + name);
+        }
+        try {
+            ObjectName objectName = new ObjectName(OBJECT_NAME_PREFIX + name);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register stat engine metrics as '" + name + "'.", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.theofernandez.rpg.engine;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Management interface of {@link StatEngineMetrics}, readable live from JConsole or any JMX client under
+ * {@code com.theofernandez.rpg:type=StatEngine,name=<name>}.
+ */
+public interface StatEngineMetricsMXBean {
+
+    /**
+     * @return Latency of each evaluated phase, in engine order. Only sampled cycles are timed.
+     */
+    List<PhaseLatency> getPhaseLatencies();
+
+    /**
+     * @return How often each effect was triggered, keyed by {@link EffectCode} name. Effects never seen are omitted.
+     */
+    Map<String, Long> getEffectCounts();
+
+    /**
+     * @return Cycles processed (one player, one step each).
+     */
+    long getCycles();
+
+    /**
+     * @return Players that died during a processed cycle.
+     */
+    long getDeaths();
+
+    /**
+     * @return Population ticks run through {@link PlayerStatEngine#processAll}.
+     */
+    long getTicks();
+
+    /**
+     * @return Deaths during the most recent population tick.
+     */
+    long getDeathsLastTick();
+
+    /**
+     * @return Most deaths seen in a single population tick.
+     */
+    long getMaxDeathsPerTick();
+
+    long getPhasesEvaluated();
+
+    long getPhasesSkipped();
+
+    /**
+     * @return One in this many cycles has its phases timed.
+     */
+    int getLatencySampleInterval();
+
+    /**
+     * Clears all counters and histograms.
+     */
+    void reset();
+}
@@ -0,0 +1,410 @@
+package com.theofernandez.rpg.engine;
+
+import com.theofernandez.rpg.game.PlayerStat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Precompiled band rules for the threshold-driven phases of the stat engines (temperature, needs,
+ * health, stress and boredom). Rules are loaded from a text resource (see {@code stat-rules.txt} for the
+ * format) and compiled into a per-value lookup: mapping a stat value to its band is one array read, and the
+ * band's effect row is then applied as data instead of walking an if/else ladder.
+ *
+ * Tables are immutable once loaded and can be shared by any number of engines and threads.
+ * Difficulty levels are separate tables; an engine switches by swapping its table.
+ */
+public final class StatRuleTable {
+
+    public static final String DEFAULT_RESOURCE = "stat-rules.txt";
+
+    private static final String[] REQUIRED_RULES = {"temperature", "hunger", "thirst", "fatigue", "sleep", "health", "stress", "boredom"};
+    private static final byte NO_BAND = -1;
+
+    // Source of table IDs; lets per-player engine bookkeeping tell which table it was computed with.
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private final int id = NEXT_ID.incrementAndGet();
+    private final String sourceName;
+    private final BandRule temperature;
+    private final BandRule hunger;
+    private final BandRule thirst;
+    private final BandRule fatigue;
+    private final BandRule sleep;
+    private final BandRule health;
+    private final BandRule stress;
+    private final BandRule boredom;
+
+    private StatRuleTable(String sourceName, Map<String, BandRule> rules) {
+        for (String name : REQUIRED_RULES) {
+            if (!rules.containsKey(name)) {
+                throw new IllegalArgumentException("Stat rule table '" + sourceName + "' is missing rule '" + name + "'.");
+            }
+        }
+        this.sourceName = sourceName;
+        this.temperature = rules.get("temperature");
+        this.hunger = rules.get("hunger");
+        this.thirst = rules.get("thirst");
+        this.fatigue = rules.get("fatigue");
+        this.sleep = rules.get("sleep");
+        this.health = rules.get("health");
+        this.stress = rules.get("stress");
+        this.boredom = rules.get("boredom");
+    }
+
+    // Lazily loaded on first use; the holder idiom makes this thread-safe without locking.
+    private static final class DefaultHolder {
+        static final StatRuleTable DEFAULT = fromResource(DEFAULT_RESOURCE);
+    }
+
+    /**
+     * @return The table bundled with the engine ({@value #DEFAULT_RESOURCE}).
+     */
+    public static StatRuleTable defaultRules() {
+        return DefaultHolder.DEFAULT;
+    }
+
+    /**
+     * Loads and compiles a rule table bundled next to this class (e.g., a difficulty variant).
+     * @throws IllegalStateException If the resource is missing, unreadable or malformed.
+     */
+    public static StatRuleTable fromResource(String resourceName) {
+        try (InputStream in = StatRuleTable.class.getResourceAsStream(resourceName)) {
+            if (in == null) {
+                throw new IllegalStateException("Stat rule resource not found: " + resourceName);
+            }
+            return parse(new InputStreamReader(in, StandardCharsets.UTF_8), resourceName);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to load stat rules from " + resourceName + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses and compiles a rule table.
+     * @param sourceName Used in error messages only.
+     * @throws IllegalArgumentException If the table is malformed or incomplete.
+     */
+    public static StatRuleTable parse(Reader reader, String sourceName) throws IOException {
+        Map<String, BandRule.Builder> builders = new HashMap<>();
+        BandRule.Builder current = null;
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+
+            String[] tokens = line.split("\\s+");
+            try {
+                if (tokens[0].equals("rule")) {
+                    current = BandRule.Builder.parse(tokens);
+                    if (builders.putIfAbsent(current.name, current) != null) {
+                        throw new IllegalArgumentException("duplicate rule '" + current.name + "'");
+                    }
+                } else if (tokens[0].equals("band")) {
+                    if (current == null) {
+                        throw new IllegalArgumentException("band declared before any rule");
+                    }
+                    current.addBand(tokens);
+                } else {
+                    throw new IllegalArgumentException("unknown directive '" + tokens[0] + "'");
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(sourceName + " line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        Map<String, BandRule> rules = new HashMap<>();
+        for (BandRule.Builder builder : builders.values()) {
+            rules.put(builder.name, builder.build());
+        }
+        return new StatRuleTable(sourceName, rules);
+    }
+
+    public String getSourceName() { return sourceName; }
+
+    int id() { return id; }
+
+    BandRule temperature() { return temperature; }
+    BandRule hunger() { return hunger; }
+    BandRule thirst() { return thirst; }
+    BandRule fatigue() { return fatigue; }
+    BandRule sleep() { return sleep; }
+    BandRule health() { return health; }
+    BandRule stress() { return stress; }
+    BandRule boredom() { return boredom; }
+
+    @Override
+    public String toString() {
+        return "StatRuleTable[" + sourceName + "]";
+    }
+
+    /**
+     * One compiled rule: the stat it measures, a band index for every value in the stat's range,
+     * and the effect row of each band.
+     */
+    static final class BandRule {
+        static final int NO_CHANGE = Integer.MIN_VALUE;
+
+        private final String name;
+        private final PlayerStat stat;
+        private final int minValue;
+        private final byte[] bandByValue;
+        private final BandEffect[] effects;
+        // Kept for values outside the precompiled range (only reachable if the stat's clamp changes).
+        private final int base;
+        private final double scale;
+        private final Condition[] conditions;
+
+        private BandRule(String name, PlayerStat stat, int base, double scale, int minValue, int maxValue,
+                         Condition[] conditions, BandEffect[] effects) {
+            this.name = name;
+            this.stat = stat;
+            this.base = base;
+            this.scale = scale;
+            this.minValue = minValue;
+            this.conditions = conditions;
+            this.effects = effects;
+            this.bandByValue = new byte[maxValue - minValue + 1];
+            for (int value = minValue; value <= maxValue; value++) {
+                bandByValue[value - minValue] = evaluate(value);
+            }
+        }
+
+        String name() { return name; }
+        PlayerStat stat() { return stat; }
+
+        /**
+         * @return The band index for the given stat value, or -1 if no band applies.
+         */
+        int bandOf(int value) {
+            int index = value - minValue;
+            if (index >= 0 && index < bandByValue.length) {
+                return bandByValue[index];
+            }
+            return evaluate(value);
+        }
+
+        /**
+         * @return The effect row for the given stat value, or null if no band applies.
+         */
+        BandEffect effectFor(int value) {
+            int band = bandOf(value);
+            return band == NO_BAND ? null : effects[band];
+        }
+
+        BandEffect effect(int band) { return effects[band]; }
+
+        /**
+         * Walks the precompiled range from {@code value} in one direction until the band changes.
+         *
+         * @param direction Positive to search upwards, negative to search downwards.
+         * @return The first value past {@code value} that falls in a different band, or {@link #NO_CHANGE}
+         *         if the band does not change before the end of the range (or {@code value} lies outside it).
+         */
+        int nextBandChange(int value, int direction) {
+            int index = value - minValue;
+            if (index < 0 || index >= bandByValue.length) {
+                return NO_CHANGE;
+            }
+            int step = direction < 0 ? -1 : 1;
+            byte band = bandByValue[index];
+            for (int i = index + step; i >= 0 && i < bandByValue.length; i += step) {
+                if (bandByValue[i] != band) {
+                    return i + minValue;
+                }
+            }
+            return NO_CHANGE;
+        }
+
+        private byte evaluate(int value) {
+            double measure = (double) (value - base) / scale;
+            for (int band = 0; band < conditions.length; band++) {
+                if (conditions[band].matches(measure)) {
+                    return (byte) band;
+                }
+            }
+            return NO_BAND;
+        }
+
+        private static final class Builder {
+            private final String name;
+            private PlayerStat stat;
+            private int base = 0;
+            private double scale = 1.0;
+            private int minValue;
+            private int maxValue = -1;
+            private final List<Condition> conditions = new ArrayList<>();
+            private final List<BandEffect> effects = new ArrayList<>();
+
+            private Builder(String name) {
+                this.name = name;
+            }
+
+            static Builder parse(String[] tokens) {
+                if (tokens.length < 2) {
+                    throw new IllegalArgumentException("rule needs a name");
+                }
+                Builder builder = new Builder(tokens[1]);
+                for (int i = 2; i < tokens.length; i++) {
+                    String key = keyOf(tokens[i]);
+                    String value = valueOf(tokens[i]);
+                    switch (key) {
+                        case "stat": builder.stat = PlayerStat.valueOf(value); break;
+                        case "base": builder.base = Integer.parseInt(value); break;
+                        case "scale": builder.scale = Double.parseDouble(value); break;
+                        case "range": {
+                            int dots = value.indexOf("..");
+                            if (dots < 0) throw new IllegalArgumentException("range must be <min>..<max>: " + value);
+                            builder.minValue = Integer.parseInt(value.substring(0, dots));
+                            builder.maxValue = Integer.parseInt(value.substring(dots + 2));
+                            break;
+                        }
+                        default: throw new IllegalArgumentException("unknown rule key '" + key + "'");
+                    }
+                }
+                if (builder.stat == null) throw new IllegalArgumentException("rule '" + builder.name + "' needs stat=");
+                if (builder.maxValue < builder.minValue) throw new IllegalArgumentException("rule '" + builder.name + "' needs a valid range=");
+                if (builder.scale == 0) throw new IllegalArgumentException("rule '" + builder.name + "' has scale 0");
+                return builder;
+            }
+
+            void addBand(String[] tokens) {
+                if (effects.size() == Byte.MAX_VALUE) {
+                    throw new IllegalArgumentException("too many bands in rule '" + name + "'");
+                }
+                int next = 1;
+                Condition condition;
+                if (tokens.length > 3 && tokens[1].equals("outside")) {
+                    condition = Condition.outside(Double.parseDouble(tokens[2]), Double.parseDouble(tokens[3]));
+                    next = 4;
+                } else if (tokens.length > 2) {
+                    condition = Condition.compare(tokens[1], Double.parseDouble(tokens[2]));
+                    next = 3;
+                } else {
+                    throw new IllegalArgumentException("band needs a condition");
+                }
+                conditions.add(condition);
+                effects.add(BandEffect.parse(tokens, next));
+            }
+
+            BandRule build() {
+                return new BandRule(name, stat, base, scale, minValue, maxValue,
+                        conditions.toArray(new Condition[0]), effects.toArray(new BandEffect[0]));
+            }
+        }
+    }
+
+    /**
+     * Effect row of one band. Zero (or null) fields have no effect.
+     */
+    static final class BandEffect {
+        EffectCode code;
+        int healthDelta;
+        double severity;
+        boolean allPhysical;
+        int tempDexterity;
+        int tempAgility;
+        int tempSpeed;
+        int tempIntelligence;
+        int tempFocus;
+        double mentalPenalty;
+        double willpowerResistance;
+        double focusWeight;
+        double intelligenceWeight;
+        double memoryWeight;
+        double willpowerPct;
+        double happinessPct;
+        double sleepPct;
+        double comfortPct;
+        int stressDelta;
+        int fatigueDelta;
+        double knockoutChance;
+        double knockoutAtHealth = Double.POSITIVE_INFINITY;
+        EffectCode knockoutCode;
+        EffectCode unconsciousCode;
+
+        private BandEffect() {}
+
+        static BandEffect parse(String[] tokens, int from) {
+            BandEffect effect = new BandEffect();
+            for (int i = from; i < tokens.length; i++) {
+                String key = keyOf(tokens[i]);
+                String value = valueOf(tokens[i]);
+                switch (key) {
+                    case "effect": effect.code = EffectCode.valueOf(value); break;
+                    case "health": effect.healthDelta = Integer.parseInt(value); break;
+                    case "severity": effect.severity = Double.parseDouble(value); break;
+                    case "allPhysical": effect.allPhysical = Boolean.parseBoolean(value); break;
+                    case "tempDexterity": effect.tempDexterity = Integer.parseInt(value); break;
+                    case "tempAgility": effect.tempAgility = Integer.parseInt(value); break;
+                    case "tempSpeed": effect.tempSpeed = Integer.parseInt(value); break;
+                    case "tempIntelligence": effect.tempIntelligence = Integer.parseInt(value); break;
+                    case "tempFocus": effect.tempFocus = Integer.parseInt(value); break;
+                    case "mentalPenalty": effect.mentalPenalty = Double.parseDouble(value); break;
+                    case "willpowerResistance": effect.willpowerResistance = Double.parseDouble(value); break;
+                    case "focusWeight": effect.focusWeight = Double.parseDouble(value); break;
+                    case "intelligenceWeight": effect.intelligenceWeight = Double.parseDouble(value); break;
+                    case "memoryWeight": effect.memoryWeight = Double.parseDouble(value); break;
+                    case "willpower": effect.willpowerPct = Double.parseDouble(value); break;
+                    case "happiness": effect.happinessPct = Double.parseDouble(value); break;
+                    case "sleep": effect.sleepPct = Double.parseDouble(value); break;
+                    case "comfort": effect.comfortPct = Double.parseDouble(value); break;
+                    case "stress": effect.stressDelta = Integer.parseInt(value); break;
+                    case "fatigue": effect.fatigueDelta = Integer.parseInt(value); break;
+                    case "knockout": effect.knockoutChance = Double.parseDouble(value); break;
+                    case "knockoutAtHealth": effect.knockoutAtHealth = Double.parseDouble(value); break;
+                    case "knockoutEffect": effect.knockoutCode = EffectCode.valueOf(value); break;
+                    case "unconsciousEffect": effect.unconsciousCode = EffectCode.valueOf(value); break;
+                    default: throw new IllegalArgumentException("unknown band key '" + key + "'");
+                }
+            }
+            if (effect.code == null) {
+                throw new IllegalArgumentException("band needs effect=");
+            }
+            return effect;
+        }
+    }
+
+    private interface Condition {
+        boolean matches(double measure);
+
+        static Condition compare(String operator, double threshold) {
+            switch (operator) {
+                case "<": return measure -> measure < threshold;
+                case "<=": return measure -> measure <= threshold;
+                case ">": return measure -> measure > threshold;
+                case ">=": return measure -> measure >= threshold;
+                default: throw new IllegalArgumentException("unknown band operator '" + operator + "'");
+            }
+        }
+
+        static Condition outside(double low, double high) {
+            return measure -> measure < low || measure > high;
+        }
+    }
+
+    private static String keyOf(String token) {
+        int eq = token.indexOf('=');
+        if (eq <= 0) {
+            throw new IllegalArgumentException("expected key=value, got '" + token + "'");
+        }
+        return token.substring(0, eq);
+    }
+
+    private static String valueOf(String token) {
+        return token.substring(token.indexOf('=') + 1);
+    }
+}
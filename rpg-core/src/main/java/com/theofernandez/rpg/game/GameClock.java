@@ -0,0 +1,110 @@
+package com.theofernandez.rpg.game;
+
+/**
+ * The game time of one session, kept as a single count of minutes elapsed since Day 1, 00:00.
+ * Day, hour and minute are derived from it on demand. {@link #getFormattedTime()} reads it once, so it never shows
+ * a half-updated time (unlike separate getDay/getHour calls racing with an advance).
+ *
+ * Safe for concurrent use: reads are lock-free, and writes (advancing, setting, resetting) are atomic with respect
+ * to each other.
+ */
+public final class GameClock {
+
+    public static final int MINUTES_IN_HOUR = 60;
+    public static final int HOURS_IN_DAY = 24;
+    public static final int MINUTES_IN_DAY = MINUTES_IN_HOUR * HOURS_IN_DAY;
+
+    // Default game start time: Day 1, 08:00
+    public static final int DEFAULT_START_DAY = 1;
+    public static final int DEFAULT_START_HOUR = 8;
+    public static final int DEFAULT_START_MINUTE = 0;
+    public static final long DEFAULT_START_MINUTES =
+            ((long) (DEFAULT_START_DAY - 1) * HOURS_IN_DAY + DEFAULT_START_HOUR) * MINUTES_IN_HOUR + DEFAULT_START_MINUTE;
+
+    private volatile long elapsedMinutes;
+
+    /**
+     * Creates a clock at the default start time (Day 1, 08:00).
+     */
+    public GameClock() {
+        this(DEFAULT_START_MINUTES);
+    }
+
+    /**
+     * @param elapsedMinutes Start time in minutes elapsed since Day 1, 00:00. Must be non-negative.
+     */
+    public GameClock(long elapsedMinutes) {
+        setElapsedMinutes(elapsedMinutes);
+    }
+
+    /**
+     * Advances the clock by the specified number of minutes. Long skips (resting, fast-forwarding) cost the
+     * same as short ones.
+     *
+     * @param minutesToAdvance The number of minutes to advance time by. Must be non-negative.
+     */
+    public void advanceTime(int minutesToAdvance) {
+        if (minutesToAdvance < 0) {
+            System.err.println("[GameClock] Error: Cannot advance time by negative minutes (" + minutesToAdvance + ").");
+            return;
+        }
+        if (minutesToAdvance == 0) {
+            return; // No time passed, no change needed.
+        }
+        synchronized (this) {
+            elapsedMinutes += minutesToAdvance;
+        }
+    }
+
+    /**
+     * @return The total number of game minutes elapsed since Day 1, 00:00.
+     */
+    public long getElapsedMinutes() { return elapsedMinutes; }
+
+    /**
+     * Sets the clock to an absolute time, e.g. when restoring a saved game.
+     *
+     * @param elapsedMinutes Minutes elapsed since Day 1, 00:00. Must be non-negative.
+     */
+    public void setElapsedMinutes(long elapsedMinutes) {
+        if (elapsedMinutes < 0) {
+            throw new IllegalArgumentException("Elapsed game minutes cannot be negative: " + elapsedMinutes);
+        }
+        synchronized (this) {
+            this.elapsedMinutes = elapsedMinutes;
+        }
+    }
+
+    /**
+     * Resets the clock to the default starting time (Day 1, 08:00).
+     */
+    public void resetToDefault() {
+        setElapsedMinutes(DEFAULT_START_MINUTES);
+    }
+
+    public int getDay() { return (int) (elapsedMinutes / MINUTES_IN_DAY) + 1; }
+    public int getHour() { return (int) ((elapsedMinutes / MINUTES_IN_HOUR) % HOURS_IN_DAY); }
+    public int getMinute() { return (int) (elapsedMinutes % MINUTES_IN_HOUR); }
+
+    /**
+     * @return A string representation of the current game time, e.g. {@code Day 2 - 14:30}.
+     */
+    public String getFormattedTime() {
+        return format(elapsedMinutes);
+    }
+
+    /**
+     * Formats a point in game time given as minutes elapsed since Day 1, 00:00.
+     */
+    public static String format(long elapsedMinutes) {
+        long day = elapsedMinutes / MINUTES_IN_DAY + 1;
+        long hour = (elapsedMinutes / MINUTES_IN_HOUR) % HOURS_IN_DAY;
+        long minute = elapsedMinutes % MINUTES_IN_HOUR;
+        return String.format("Day %d - %02d:%02d", day, hour, minute);
+    }
+
+    @Override
+    public String toString() {
+        return "GameClock{" + getFormattedTime() + '}';
+    }
+}
@@ -0,0 +1,130 @@
+package com.theofernandez.rpg.game;
+
+import com.theofernandez.rpg.session.GameSession;
+
+/**
+ * Static access to the default game session: the one game of the desktop client. Every method delegates to
+ * {@link #getDefaultSession()}; code hosting several games in one JVM works with {@link GameSession} instances
+ * (see {@link com.theofernandez.rpg.session.SessionRegistry}) instead.
+ */
+public class GameContext {
+
+    private static final GameSession DEFAULT_SESSION = new GameSession("default");
+
+    private GameContext() {
+    }
+
+    /**
+     * @return The session behind this facade.
+     */
+    public static GameSession getDefaultSession() {
+        return DEFAULT_SESSION;
+    }
+
+    // --- Timekeeping ---
+
+    /**
+     * @return The default session's clock.
+     */
+    public static GameClock getClock() {
+        return DEFAULT_SESSION.getClock();
+    }
+
+    /**
+     * Advances the game time by the specified number of minutes.
+     * Handles rollovers for hours and days.
+     *
+     * @param minutesToAdvance The number of minutes to advance time by. Must be non-negative.
+     */
+    public static void advanceTime(int minutesToAdvance) {
+        getClock().advanceTime(minutesToAdvance);
+    }
+
+    public static int getCurrentDay() { return getClock().getDay(); }
+    public static int getCurrentHour() { return getClock().getHour(); }
+    public static int getCurrentMinute() { return getClock().getMinute(); }
+
+    /**
+     * @return A string representation of the current game time.
+     */
+    public static String getFormattedTime() {
+        return getClock().getFormattedTime();
+    }
+
+    /**
+     * @return The total number of game minutes elapsed since Day 1, 00:00.
+     */
+    public static long getElapsedMinutes() {
+        return getClock().getElapsedMinutes();
+    }
+
+    /**
+     * Formats a point in game time given as minutes elapsed since Day 1, 00:00
+     * (see {@link #getElapsedMinutes()}), using the same layout as {@link #getFormattedTime()}.
+     */
+    public static String formatElapsedMinutes(long elapsedMinutes) {
+        return GameClock.format(elapsedMinutes);
+    }
+
+    /**
+     * Resets the game time to the default starting time (Day 1, 08:00 AM).
+     * Typically used when starting a new game.
+     */
+    public static void resetGameTimeToDefault() {
+        getClock().resetToDefault();
+        System.out.println("[GameContext] Game time has been reset to default start: " + getFormattedTime());
+    }
+
+    // --- World Seed ---
+    // Every random roll in the simulation is derived from this seed (see DeterministicRandom).
+
+    public static long getWorldSeed() { return DEFAULT_SESSION.getWorldSeed(); }
+
+    /**
+     * Sets the world seed, e.g. to replay a world or run a reproducible simulation.
+     */
+    public static void setWorldSeed(long seed) { DEFAULT_SESSION.setWorldSeed(seed); }
+
+    /**
+     * Picks a fresh random world seed. Typically used when starting a new game.
+     */
+    public static void newWorldSeed() {
+        DEFAULT_SESSION.newWorldSeed();
+    }
+
+    // --- Autosave ---
+
+    /**
+     * @return Game minutes between autosaves, or 0 if autosaving is off.
+     */
+    public static int getAutosaveIntervalMinutes() { return DEFAULT_SESSION.getAutosaveIntervalMinutes(); }
+
+    /**
+     * Sets how much game time passes between autosaves; 0 turns autosaving off.
+     */
+    public static void setAutosaveIntervalMinutes(int minutes) { DEFAULT_SESSION.setAutosaveIntervalMinutes(minutes); }
+
+    // --- Player ---
+
+    /**
+     * @return The current player, or null if no game is loaded.
+     */
+    public static Player getCurrentPlayer() {
+        return DEFAULT_SESSION.getPlayer();
+    }
+
+    /**
+     * Sets the current player for the game session.
+     * @param player The player to set as current.
+     */
+    public static void setCurrentPlayer(Player player) {
+        DEFAULT_SESSION.setPlayer(player);
+    }
+
+    /**
+     * Clears the current player, typically when returning to the main menu or ending a session.
+     */
+    public static void clearCurrentPlayer() {
+        DEFAULT_SESSION.clearPlayer();
+    }
+}
@@ -0,0 +1,256 @@
+package com.theofernandez.rpg.game;
+
+import java.util.Arrays;
+
+/**
+ * A bag of items as a primitive map from {@link ItemRegistry} ID to count, with constant-time add, remove and
+ * lookup. Each kind of item is one entry however many are held.
+ *
+ * Entries sit in two parallel arrays (ID and count) in the order their kind was first added; an open-addressing
+ * table maps each ID to its entry. When a kind runs out, the last entry moves into its place, so iteration order is
+ * acquisition order only until something is used up. Not thread-safe.
+ */
+public final class ItemCounts {
+
+    private static final int INITIAL_KINDS = 4;
+
+    private int[] ids;
+    private int[] counts;
+    private int kinds;
+    private long total;
+    // Linear-probing table of entry index + 1 (0 = empty); its length is a power of two at least twice kinds.
+    private int[] table;
+
+    public ItemCounts() {
+        this.ids = new int[INITIAL_KINDS];
+        this.counts = new int[INITIAL_KINDS];
+        this.table = new int[INITIAL_KINDS * 2];
+    }
+
+    /**
+     * Creates an independent copy of another bag.
+     */
+    public ItemCounts(ItemCounts other) {
+        this.ids = other.ids.clone();
+        this.counts = other.counts.clone();
+        this.kinds = other.kinds;
+        this.total = other.total;
+        this.table = other.table.clone();
+    }
+
+    /**
+     * @return How many of the item are held, 0 if none.
+     */
+    public int count(int itemId) {
+        int entry = entryOf(itemId);
+        return entry < 0 ? 0 : counts[entry];
+    }
+
+    public boolean contains(int itemId) {
+        return entryOf(itemId) >= 0;
+    }
+
+    /**
+     * @return Number of different items held.
+     */
+    public int kinds() { return kinds; }
+
+    /**
+     * @return Number of items held, counting every one of a stack.
+     */
+    public long total() { return total; }
+
+    public boolean isEmpty() { return kinds == 0; }
+
+    /**
+     * @param index 0 to {@link #kinds()} - 1.
+     * @return The ID of the item kind at that position.
+     */
+    public int idAt(int index) {
+        checkIndex(index);
+        return ids[index];
+    }
+
+    /**
+     * @param index 0 to {@link #kinds()} - 1.
+     * @return How many of the item kind at that position are held (always positive).
+     */
+    public int countAt(int index) {
+        checkIndex(index);
+        return counts[index];
+    }
+
+    /**
+     * @throws IllegalArgumentException If the ID is negative or the amount is not positive.
+     * @throws IllegalStateException If the item's count would overflow an int.
+     */
+    public void add(int itemId, int amount) {
+        if (itemId < 0) {
+            throw new IllegalArgumentException("Invalid item ID: " + itemId);
+        }
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Item amount must be positive: " + amount);
+        }
+        int entry = entryOf(itemId);
+        if (entry >= 0) {
+            if (counts[entry] > Integer.MAX_VALUE - amount) {
+                throw new IllegalStateException("Too many of item " + itemId + ": " + counts[entry] + " + " + amount);
+            }
+            counts[entry] += amount;
+        } else {
+            insert(itemId, amount);
+        }
+        total += amount;
+    }
+
+    /**
+     * Removes up to the given amount of an item; the item's entry goes once its count reaches zero.
+     *
+     * @return How many were actually removed (0 if none were held).
+     * @throws IllegalArgumentException If the amount is not positive.
+     */
+    public int remove(int itemId, int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Item amount must be positive: " + amount);
+        }
+        int entry = entryOf(itemId);
+        if (entry < 0) return 0;
+        int removed = Math.min(amount, counts[entry]);
+        counts[entry] -= removed;
+        total -= removed;
+        if (counts[entry] == 0) {
+            delete(entry);
+        }
+        return removed;
+    }
+
+    public void clear() {
+        kinds = 0;
+        total = 0;
+        Arrays.fill(table, 0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ItemCounts other) || other.kinds != kinds || other.total != total) return false;
+        for (int i = 0; i < kinds; i++) {
+            if (other.count(ids[i]) != counts[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < kinds; i++) {
+            hash += ids[i] * 31 + counts[i]; // Order-independent, like equals
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("{");
+        for (int i = 0; i < kinds; i++) {
+            if (i > 0) text.append(", ");
+            text.append(ItemRegistry.nameOf(ids[i])).append(" x").append(counts[i]);
+        }
+        return text.append('}').toString();
+    }
+
+    // --- Hash table ---
+
+    private static int slotOf(int itemId, int mask) {
+        int hash = itemId * 0x9E3779B9; // Fibonacci hashing spreads consecutive IDs
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    // Entry index of an item, or -1
+    private int entryOf(int itemId) {
+        int mask = table.length - 1;
+        for (int slot = slotOf(itemId, mask); ; slot = (slot + 1) & mask) {
+            int entry = table[slot] - 1;
+            if (entry < 0) return -1;
+            if (ids[entry] == itemId) return entry;
+        }
+    }
+
+    // Table slot holding an entry that is known to exist
+    private int slotOfEntry(int entry) {
+        int mask = table.length - 1;
+        int slot = slotOf(ids[entry], mask);
+        while (table[slot] - 1 != entry) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void insert(int itemId, int amount) {
+        if (kinds == ids.length) {
+            ids = Arrays.copyOf(ids, kinds * 2);
+            counts = Arrays.copyOf(counts, kinds * 2);
+        }
+        ids[kinds] = itemId;
+        counts[kinds] = amount;
+        kinds++;
+        if (kinds * 2 > table.length) {
+            rehash(table.length * 2);
+        } else {
+            place(kinds - 1);
+        }
+    }
+
+    private void place(int entry) {
+        int mask = table.length - 1;
+        int slot = slotOf(ids[entry], mask);
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry + 1;
+    }
+
+    private void rehash(int capacity) {
+        table = new int[capacity];
+        for (int entry = 0; entry < kinds; entry++) {
+            place(entry);
+        }
+    }
+
+    // Drops an entry: empties its table slot, then moves the last entry into its place in the arrays
+    private void delete(int entry) {
+        unlink(slotOfEntry(entry));
+        int last = kinds - 1;
+        if (entry != last) {
+            table[slotOfEntry(last)] = entry + 1;
+            ids[entry] = ids[last];
+            counts[entry] = counts[last];
+        }
+        kinds = last;
+    }
+
+    // Backward-shift deletion: later slots of the same probe run move up, so lookups never need tombstones
+    private void unlink(int hole) {
+        int mask = table.length - 1;
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & mask;
+            int entry = table[slot] - 1;
+            if (entry < 0) break;
+            int home = slotOf(ids[entry], mask);
+            // The entry may fill the hole unless its home lies cyclically in (hole, slot]
+            boolean homeAfterHole = hole <= slot ? hole < home && home <= slot : hole < home || home <= slot;
+            if (!homeAfterHole) {
+                table[hole] = table[slot];
+                hole = slot;
+            }
+        }
+        table[hole] = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= kinds) {
+            throw new IndexOutOfBoundsException("Item index " + index + " out of bounds for " + kinds + " kinds.");
+        }
+    }
+}
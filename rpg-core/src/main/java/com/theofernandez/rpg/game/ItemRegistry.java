@@ -0,0 +1,89 @@
+package com.theofernandez.rpg.game;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global table of item names, each interned to a dense integer ID (0, 1, 2, ...) the first time it is seen.
+ * Inventories hold IDs and counts ({@link ItemCounts}), so a stack of a hundred "Old Rag" is one entry, and adding,
+ * removing or checking for an item is a hash lookup on an int.
+ *
+ * IDs are assigned in first-seen order and are only valid within one run of the game: anything persisted (save
+ * files, serialized players) stores the names. Safe for concurrent use; looking up a known name never locks.
+ */
+public final class ItemRegistry {
+
+    /**
+     * Returned by {@link #find(String)} for a name that was never registered.
+     */
+    public static final int NO_ITEM = -1;
+
+    private static final ConcurrentHashMap<String, Integer> IDS = new ConcurrentHashMap<>();
+    // Name of each ID. Replaced (never shrunk) when full; written before the ID is published in IDS.
+    private static volatile String[] names = new String[64];
+    private static int size; // Guarded by the class lock
+
+    private ItemRegistry() {
+    }
+
+    /**
+     * @param name An item name; leading and trailing whitespace is ignored.
+     * @return The item's ID, registering the name if it is new.
+     * @throws IllegalArgumentException If the name is null or blank.
+     */
+    public static int idOf(String name) {
+        String item = normalize(name);
+        Integer id = IDS.get(item);
+        return id != null ? id : register(item);
+    }
+
+    /**
+     * Looks up a name without registering it, so probing for items nobody owns does not grow the registry.
+     *
+     * @return The item's ID, or {@link #NO_ITEM} if the name is null, blank or was never registered.
+     */
+    public static int find(String name) {
+        if (name == null) return NO_ITEM;
+        Integer id = IDS.get(name.trim());
+        return id != null ? id : NO_ITEM;
+    }
+
+    /**
+     * @throws IllegalArgumentException If no item has this ID.
+     */
+    public static String nameOf(int id) {
+        String[] table = names;
+        String name = id >= 0 && id < table.length ? table[id] : null;
+        if (name == null) {
+            throw new IllegalArgumentException("Unknown item ID: " + id);
+        }
+        return name;
+    }
+
+    /**
+     * @return Number of registered items; IDs run from 0 to this minus one.
+     */
+    public static synchronized int size() { return size; }
+
+    private static synchronized int register(String item) {
+        Integer existing = IDS.get(item); // Another thread may have registered it since the unlocked lookup
+        if (existing != null) return existing;
+        int id = size++;
+        String[] table = names;
+        if (id == table.length) {
+            table = Arrays.copyOf(table, table.length * 2);
+        }
+        table[id] = item;
+        names = table; // Volatile write: the name is visible to any thread that later reads the ID from IDS
+        IDS.put(item, id);
+        return id;
+    }
+
+    private static String normalize(String name) {
+        String item = name != null ? name.trim() : "";
+        if (item.isEmpty()) {
+            throw new IllegalArgumentException("Item name cannot be blank: '" + name + "'");
+        }
+        return item;
+    }
+}
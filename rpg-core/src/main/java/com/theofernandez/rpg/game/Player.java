@@ -0,0 +1,1013 @@
+package com.theofernandez.rpg.game;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class Player implements Serializable {
+
+    private static final long serialVersionUID = 3L; // Incremented due to new fields
+
+    public static final int MAX_STAT_VALUE = 1000000;
+    public static final int MIN_STAT_VALUE = 0;
+    public static final int MAX_STAT_VALUE_PERCENTAGE = 500;
+    public static final int MIN_STAT_VALUE_PERCENTAGE = 0;
+
+    public static enum Sex implements Serializable { MALE, FEMALE }
+    public static enum BodyType implements Serializable { ECTOMORPH, MESOMORPH, ENDOMORPH }
+    public static enum BloodType implements Serializable { O_POSITIVE, O_NEGATIVE, A_POSITIVE, A_NEGATIVE, B_POSITIVE, B_NEGATIVE, AB_POSITIVE, AB_NEGATIVE, UNKNOWN }
+    public static enum Mood implements Serializable { NEUTRAL, HAPPY, SAD, ANGRY, STRESSED, BORED, TIRED, ENERGETIC, FOCUSED, DISTRACTED, FEARFUL, ADRENALIZED, CRITICAL, NUMB }
+
+
+    // --- Default Player Values ---
+    public static final int DEFAULT_PLAYER_AGE = 22;
+    public static final String DEFAULT_PLAYER_NAME = "Player";
+    public static final Sex DEFAULT_PLAYER_SEX = Sex.MALE;
+    public static final String DEFAULT_PLAYER_ETHNICITY = "Caucasian";
+    public static final double DEFAULT_PLAYER_HEIGHT = 1.75;
+    public static final BloodType DEFAULT_PLAYER_BLOOD_TYPE = BloodType.O_POSITIVE;
+    public static final double DEFAULT_PLAYER_WEIGHT = 70.0;
+    public static final BodyType DEFAULT_PLAYER_BODY_TYPE = BodyType.MESOMORPH;
+    public static final int DEFAULT_PLAYER_LUCK = 50;
+    public static final int DEFAULT_PLAYER_BEAUTY = 50;
+    public static final int DEFAULT_PLAYER_INTELLIGENCE = 50;
+    public static final int DEFAULT_PLAYER_UPPER_BODY_STRENGTH = 50;
+    public static final int DEFAULT_PLAYER_LOWER_BODY_STRENGTH = 50;
+    public static final int DEFAULT_PLAYER_ENDURANCE = 50;
+    public static final int DEFAULT_PLAYER_AGILITY = 50;
+    public static final int DEFAULT_PLAYER_SPEED = 50;
+    public static final int DEFAULT_PLAYER_DEXTERITY = 50;
+    public static final int DEFAULT_PLAYER_HEALTH = 100; // Max health
+    public static final int DEFAULT_PLAYER_BODY_TEMPERATURE = 37;
+    public static final int DEFAULT_PLAYER_BLOOD_PRESSURE = 120; // Systolic, for simplicity
+    public static final int DEFAULT_PLAYER_HEART_RATE = 70;
+    public static final int DEFAULT_PLAYER_CARDIOVASCULAR = Player.MAX_STAT_VALUE_PERCENTAGE;
+    public static final int DEFAULT_PLAYER_RESPIRATORY = Player.MAX_STAT_VALUE_PERCENTAGE;
+    public static final int DEFAULT_PLAYER_NEURAL = Player.MAX_STAT_VALUE_PERCENTAGE;
+    public static final int DEFAULT_PLAYER_DIGESTIVE = Player.MAX_STAT_VALUE_PERCENTAGE;
+    public static final int DEFAULT_PLAYER_IMMUNE = Player.MAX_STAT_VALUE_PERCENTAGE;
+    public static final int DEFAULT_PLAYER_SIGHT = Player.MAX_STAT_VALUE_PERCENTAGE;
+    public static final int DEFAULT_PLAYER_HEARING = Player.MAX_STAT_VALUE_PERCENTAGE;
+    public static final int DEFAULT_PLAYER_SMELL_TASTE = Player.MAX_STAT_VALUE_PERCENTAGE;
+    public static final int DEFAULT_PLAYER_HUNGER = (int) (Player.MAX_STAT_VALUE_PERCENTAGE * 0.8);
+    public static final int DEFAULT_PLAYER_THIRST = (int) (Player.MAX_STAT_VALUE_PERCENTAGE * 0.8);
+    public static final int DEFAULT_PLAYER_FATIGUE_PERCENT = Player.MIN_STAT_VALUE_PERCENTAGE;
+    public static final int DEFAULT_PLAYER_SLEEP = Player.MAX_STAT_VALUE_PERCENTAGE; // Restedness
+    public static final int DEFAULT_PLAYER_HYGIENE = Player.MAX_STAT_VALUE_PERCENTAGE;
+    public static final int DEFAULT_PLAYER_BLADDER = Player.MIN_STAT_VALUE_PERCENTAGE; // Fullness
+    public static final int DEFAULT_PLAYER_COMFORT = Player.MAX_STAT_VALUE_PERCENTAGE;
+    public static final int DEFAULT_PLAYER_MEMORY = (int) (Player.MAX_STAT_VALUE_PERCENTAGE * 0.5);
+    public static final int DEFAULT_PLAYER_FOCUS = (int) (Player.MAX_STAT_VALUE_PERCENTAGE * 0.5);
+    public static final int DEFAULT_PLAYER_WILLPOWER = (int) (Player.MAX_STAT_VALUE_PERCENTAGE * 0.5);
+    public static final int DEFAULT_PLAYER_VERBAL = (int) (Player.MAX_STAT_VALUE_PERCENTAGE * 0.5);
+    public static final int DEFAULT_PLAYER_MATHS = (int) (Player.MAX_STAT_VALUE_PERCENTAGE * 0.5);
+    public static final int DEFAULT_PLAYER_KNOWLEDGE = (int) (Player.MAX_STAT_VALUE_PERCENTAGE * 0.2);
+    public static final int DEFAULT_PLAYER_HAPPINESS = (int) (Player.MAX_STAT_VALUE_PERCENTAGE * 0.7);
+    public static final int DEFAULT_PLAYER_SOCIAL = (int) (Player.MAX_STAT_VALUE_PERCENTAGE * 0.5);
+    public static final int DEFAULT_PLAYER_STRESS = Player.MIN_STAT_VALUE_PERCENTAGE;
+    public static final int DEFAULT_PLAYER_BOREDOM = Player.MIN_STAT_VALUE_PERCENTAGE;
+    public static final Mood DEFAULT_PLAYER_MOOD = Mood.NEUTRAL;
+    public static final int DEFAULT_PLAYER_CONFIDENCE = (int) (Player.MAX_STAT_VALUE_PERCENTAGE * 0.5);
+    public static final boolean DEFAULT_PLAYER_IS_ALIVE = true;
+    public static final boolean DEFAULT_PLAYER_IS_CONSCIOUS = true;
+    public static final boolean DEFAULT_PLAYER_IS_AWAKE = true;
+
+
+    // Source of entity IDs for new players in this JVM. IDs only need to be unique among live entities.
+    private static final AtomicInteger NEXT_ENTITY_ID = new AtomicInteger();
+
+    // --- Player Attributes (Fields) ---
+    private int entityId; // Identifies this entity in engine journals and per-entity random streams
+    private String name;
+    private int age;
+    private Sex sex;
+    private String ethnicity;
+    private double height;
+    private BloodType bloodType;
+    private int luck;
+    private int beauty;
+    private int intelligence; // Base Intelligence
+    private double weight;
+    private BodyType bodyType;
+    private int upperBodyStrength; // Base Strength
+    private int lowerBodyStrength; // Base Strength
+    private int endurance; // Base Endurance
+    private int agility; // Base Agility
+    private int speed; // Base Speed
+    private int dexterity; // Base Dexterity
+    private int health;
+    private int bodyTemperature;
+    private int bloodPressure;
+    private int heartRate;
+    private int cardiovascular;
+    private int respiratory;
+    private int neural;
+    private int digestive;
+    private int immune;
+    private int sight; // Base Sight (as percentage)
+    private int hearing; // Base Hearing (as percentage)
+    private int smellTaste; // Base Smell/Taste (as percentage)
+    private int hunger;
+    private int thirst;
+    private int fatiguePercent;
+    private int sleep; // Restedness level
+    private int hygiene;
+    private int bladder; // Fullness level
+    private int comfort;
+    private int memory; // Base Memory (as percentage)
+    private int focus; // Base Focus (as percentage)
+    private int willpower; // Base Willpower (as percentage)
+    private int verbal; // (as percentage)
+    private int maths; // (as percentage)
+    private int knowledge; // (as percentage)
+    private int happiness;
+    private int social;
+    private int stress;
+    private int boredom;
+    private Mood mood;
+    private int confidence;
+    private boolean isAlive;
+    private boolean isConscious;
+    private boolean isAwake;
+    private transient ItemCounts items = new ItemCounts(); // Item ID -> count (see ItemRegistry); serialized as names
+
+    // --- Fields for Temporary Effects & Conditions ---
+    private int tempStrengthModifier = 0;
+    private int tempAgilityModifier = 0;
+    private int tempSpeedModifier = 0;
+    private int tempDexterityModifier = 0;
+    private int tempIntelligenceModifier = 0; // Note: This seems to be modifying the 0-1000000 scale intelligence
+    private int tempFocusModifier = 0; // This modifies the 0-500 scale focus
+    private int tempPerceptionModifier = 0; // General perception (sight/hearing) (modifies 0-500 scale)
+    // Added tempMemoryModifier based on PlayerStatEngine usage
+    private int tempMemoryModifier = 0;
+
+
+    private boolean experiencingSeizure = false;
+    private int concussionCount = 0;
+    private int adrenalineRushTurns = 0;
+
+    private long simulationTick = 0; // Engine cycles processed so far; keys this player's random rolls (see DeterministicRandom)
+
+    // Change tracking for incremental engine processing (see PlayerChange). Not saved: a loaded player is all-new.
+    private transient long changedMask = PlayerChange.ALL;
+    // Engine bookkeeping: phases whose last evaluation had no effect, valid only for the rule set identified by the key.
+    private transient int quietPhases;
+    private transient int quietPhasesKey;
+    // Latest published state for readers on other threads (see PlayerSnapshot), and a counter bumped on every
+    // inventory change so snapshots can share an unchanged inventory list.
+    private transient volatile PlayerSnapshot snapshot;
+    private transient int inventoryVersion;
+    // getInventory()'s list, rebuilt on the first call after an inventory change
+    private transient List<String> inventoryView;
+    private transient int inventoryViewVersion;
+
+
+    // --- Constructors ---
+    public Player() {
+        this.entityId = NEXT_ENTITY_ID.incrementAndGet();
+        this.name = DEFAULT_PLAYER_NAME;
+        this.setAge(DEFAULT_PLAYER_AGE);
+        this.sex = DEFAULT_PLAYER_SEX;
+        this.ethnicity = DEFAULT_PLAYER_ETHNICITY;
+        this.height = DEFAULT_PLAYER_HEIGHT;
+        this.bloodType = DEFAULT_PLAYER_BLOOD_TYPE;
+        this.setLuck(DEFAULT_PLAYER_LUCK);
+        this.setBeauty(DEFAULT_PLAYER_BEAUTY);
+        this.setIntelligence(DEFAULT_PLAYER_INTELLIGENCE);
+        this.weight = DEFAULT_PLAYER_WEIGHT;
+        this.bodyType = DEFAULT_PLAYER_BODY_TYPE;
+        this.setUpperBodyStrength(DEFAULT_PLAYER_UPPER_BODY_STRENGTH);
+        this.setLowerBodyStrength(DEFAULT_PLAYER_LOWER_BODY_STRENGTH);
+        this.setEndurance(DEFAULT_PLAYER_ENDURANCE);
+        this.setAgility(DEFAULT_PLAYER_AGILITY);
+        this.setSpeed(DEFAULT_PLAYER_SPEED);
+        this.setDexterity(DEFAULT_PLAYER_DEXTERITY);
+        this.setHealth(DEFAULT_PLAYER_HEALTH);
+        this.setBodyTemperature(DEFAULT_PLAYER_BODY_TEMPERATURE);
+        this.setBloodPressure(DEFAULT_PLAYER_BLOOD_PRESSURE);
+        this.setHeartRate(DEFAULT_PLAYER_HEART_RATE);
+        this.setCardiovascular(DEFAULT_PLAYER_CARDIOVASCULAR);
+        this.setRespiratory(DEFAULT_PLAYER_RESPIRATORY);
+        this.setNeural(DEFAULT_PLAYER_NEURAL);
+        this.setDigestive(DEFAULT_PLAYER_DIGESTIVE);
+        this.setImmune(DEFAULT_PLAYER_IMMUNE);
+        this.setSight(DEFAULT_PLAYER_SIGHT);
+        this.setHearing(DEFAULT_PLAYER_HEARING);
+        this.setSmellTaste(DEFAULT_PLAYER_SMELL_TASTE);
+        this.setHunger(DEFAULT_PLAYER_HUNGER);
+        this.setThirst(DEFAULT_PLAYER_THIRST);
+        this.setFatiguePercent(DEFAULT_PLAYER_FATIGUE_PERCENT);
+        this.setSleep(DEFAULT_PLAYER_SLEEP);
+        this.setHygiene(DEFAULT_PLAYER_HYGIENE);
+        this.setBladder(DEFAULT_PLAYER_BLADDER);
+        this.setComfort(DEFAULT_PLAYER_COMFORT);
+        this.setMemory(DEFAULT_PLAYER_MEMORY);
+        this.setFocus(DEFAULT_PLAYER_FOCUS);
+        this.setWillpower(DEFAULT_PLAYER_WILLPOWER);
+        this.setVerbal(DEFAULT_PLAYER_VERBAL);
+        this.setMaths(DEFAULT_PLAYER_MATHS);
+        this.setKnowledge(DEFAULT_PLAYER_KNOWLEDGE);
+        this.setHappiness(DEFAULT_PLAYER_HAPPINESS);
+        this.setSocial(DEFAULT_PLAYER_SOCIAL);
+        this.setStress(DEFAULT_PLAYER_STRESS);
+        this.setBoredom(DEFAULT_PLAYER_BOREDOM);
+        this.mood = DEFAULT_PLAYER_MOOD;
+        this.setConfidence(DEFAULT_PLAYER_CONFIDENCE);
+        this.isAlive = DEFAULT_PLAYER_IS_ALIVE;
+        this.isConscious = DEFAULT_PLAYER_IS_CONSCIOUS;
+        this.isAwake = DEFAULT_PLAYER_IS_AWAKE;
+        resetTemporaryModifiers();
+    }
+
+    public Player(String name, Sex sex, BodyType bodyType) {
+        this(); // Calls the default constructor
+        this.setName(name); // Ensure name is not null or empty if required
+        this.setSex(sex);
+        this.setBodyType(bodyType);
+    }
+
+    // --- Getters for Effective Stats (incorporating temporary modifiers) ---
+    public int getEffectiveUpperBodyStrength() { return Math.max(MIN_STAT_VALUE, upperBodyStrength + tempStrengthModifier); }
+    public int getEffectiveLowerBodyStrength() { return Math.max(MIN_STAT_VALUE, lowerBodyStrength + tempStrengthModifier); }
+    public int getEffectiveAgility() { return Math.max(MIN_STAT_VALUE, agility + tempAgilityModifier); }
+    public int getEffectiveSpeed() { return Math.max(MIN_STAT_VALUE, speed + tempSpeedModifier); }
+    public int getEffectiveDexterity() { return Math.max(MIN_STAT_VALUE, dexterity + tempDexterityModifier); }
+    public int getEffectiveIntelligence() { return Math.max(MIN_STAT_VALUE, intelligence + tempIntelligenceModifier); }
+    public int getEffectiveFocus() { return Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(focus + tempFocusModifier, MAX_STAT_VALUE_PERCENTAGE)); }
+    public int getEffectiveSight() { return Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(sight + tempPerceptionModifier, MAX_STAT_VALUE_PERCENTAGE)); }
+    public int getEffectiveHearing() { return Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(hearing + tempPerceptionModifier, MAX_STAT_VALUE_PERCENTAGE)); }
+    public int getEffectiveMemory() { return Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(memory + tempMemoryModifier, MAX_STAT_VALUE_PERCENTAGE)); }
+
+
+    // --- Setters/Getters for Temporary Modifiers & Conditions ---
+    public int getTempStrengthModifier() { return tempStrengthModifier; }
+    public void setTempStrengthModifier(int value) { this.tempStrengthModifier = track(this.tempStrengthModifier, value, PlayerChange.TEMP_STRENGTH); }
+
+    public int getTempAgilityModifier() { return tempAgilityModifier; }
+    public void setTempAgilityModifier(int value) { this.tempAgilityModifier = track(this.tempAgilityModifier, value, PlayerChange.TEMP_AGILITY); }
+
+    public int getTempSpeedModifier() { return tempSpeedModifier; }
+    public void setTempSpeedModifier(int value) { this.tempSpeedModifier = track(this.tempSpeedModifier, value, PlayerChange.TEMP_SPEED); }
+
+    public int getTempDexterityModifier() { return tempDexterityModifier; }
+    public void setTempDexterityModifier(int value) { this.tempDexterityModifier = track(this.tempDexterityModifier, value, PlayerChange.TEMP_DEXTERITY); }
+
+    public int getTempIntelligenceModifier() { return tempIntelligenceModifier; }
+    public void setTempIntelligenceModifier(int value) { this.tempIntelligenceModifier = track(this.tempIntelligenceModifier, value, PlayerChange.TEMP_INTELLIGENCE); }
+
+    public int getTempFocusModifier() { return tempFocusModifier; }
+    public void setTempFocusModifier(int value) { this.tempFocusModifier = track(this.tempFocusModifier, value, PlayerChange.TEMP_FOCUS); }
+
+    public int getTempPerceptionModifier() { return tempPerceptionModifier; }
+    public void setTempPerceptionModifier(int value) { this.tempPerceptionModifier = track(this.tempPerceptionModifier, value, PlayerChange.TEMP_PERCEPTION); }
+
+    public int getTempMemoryModifier() { return tempMemoryModifier; }
+    public void setTempMemoryModifier(int value) { this.tempMemoryModifier = track(this.tempMemoryModifier, value, PlayerChange.TEMP_MEMORY); }
+
+
+    public void resetTemporaryModifiers() {
+        // Through the setters, so only modifiers that were actually non-zero are flagged as changed
+        setTempStrengthModifier(0);
+        setTempAgilityModifier(0);
+        setTempSpeedModifier(0);
+        setTempDexterityModifier(0);
+        setTempIntelligenceModifier(0);
+        setTempFocusModifier(0);
+        setTempPerceptionModifier(0);
+        setTempMemoryModifier(0);
+        // this.adrenalineRushTurns = 0; // Should not be reset here, but when effect wears off or via specific logic
+        setExperiencingSeizure(false); // This is fine to reset if it's a per-cycle check
+    }
+
+    public boolean isExperiencingSeizure() { return experiencingSeizure; }
+    public void setExperiencingSeizure(boolean experiencingSeizure) {
+        if (this.experiencingSeizure != experiencingSeizure) changedMask |= PlayerChange.SEIZURE;
+        this.experiencingSeizure = experiencingSeizure;
+    }
+
+    public int getConcussionCount() { return concussionCount; }
+    public void addConcussion() { setConcussionCount(this.concussionCount + 1); }
+    public void setConcussionCount(int count) { this.concussionCount = track(this.concussionCount, Math.max(0, count), PlayerStat.CONCUSSION_COUNT); }
+
+
+    public long getSimulationTick() { return simulationTick; }
+    public void setSimulationTick(long simulationTick) { this.simulationTick = Math.max(0, simulationTick); }
+    /** Called by the stat engine at the end of each cycle, so the next cycle rolls fresh values. */
+    public void advanceSimulationTick() { this.simulationTick++; }
+
+    public int getAdrenalineRushTurns() { return adrenalineRushTurns; }
+    public void setAdrenalineRushTurns(int turns) { this.adrenalineRushTurns = track(this.adrenalineRushTurns, Math.max(0, turns), PlayerStat.ADRENALINE_RUSH_TURNS); }
+
+
+    // Need rates: each updateNeeds call moves a need by one point per (base + random 0..spread) minutes.
+    private static final int SLEEP_RECOVERY_MINUTES = 5, SLEEP_RECOVERY_SPREAD = 5;       // approx 10-20 per hour
+    private static final int FATIGUE_RECOVERY_MINUTES = 10, FATIGUE_RECOVERY_SPREAD = 10; // approx 5-10 per hour
+    private static final int FATIGUE_GAIN_MINUTES = 45, FATIGUE_GAIN_SPREAD = 30;
+    private static final int HUNGER_DECAY_MINUTES = 20, HUNGER_DECAY_SPREAD = 10;
+    private static final int THIRST_DECAY_MINUTES = 15, THIRST_DECAY_SPREAD = 10;
+    private static final int HYGIENE_DECAY_MINUTES = 120, HYGIENE_DECAY_SPREAD = 60;
+    private static final int BLADDER_FILL_MINUTES = 90, BLADDER_FILL_SPREAD = 60;
+
+    // Draw indices for the rate rolls in updateNeeds
+    private static final int DRAW_SLEEP_RECOVERY = DeterministicRandom.NEEDS_DRAWS;
+    private static final int DRAW_FATIGUE_RECOVERY = DeterministicRandom.NEEDS_DRAWS + 1;
+    private static final int DRAW_FATIGUE_GAIN = DeterministicRandom.NEEDS_DRAWS + 2;
+    private static final int DRAW_HUNGER_DECAY = DeterministicRandom.NEEDS_DRAWS + 3;
+    private static final int DRAW_THIRST_DECAY = DeterministicRandom.NEEDS_DRAWS + 4;
+    private static final int DRAW_HYGIENE_DECAY = DeterministicRandom.NEEDS_DRAWS + 5;
+    private static final int DRAW_BLADDER_FILL = DeterministicRandom.NEEDS_DRAWS + 6;
+
+    /**
+     * Updates needs for time passed in the current game world (see {@link GameContext#getWorldSeed()}).
+     */
+    public void updateNeeds(int minutesPassed) {
+        updateNeeds(minutesPassed, GameContext.getWorldSeed());
+    }
+
+    /**
+     * Updates needs (sleep, fatigue, hunger, thirst, hygiene, bladder) for time passed. The rate jitter is
+     * drawn from {@link DeterministicRandom}, keyed by the world seed, this player's entity ID and simulation tick.
+     */
+    public void updateNeeds(int minutesPassed, long worldSeed) {
+        if (!isAlive) return;
+        if (minutesPassed <= 0) return; // No time passed, no needs change
+        long rollKey = DeterministicRandom.key(worldSeed, entityId, simulationTick);
+
+        // Modify rates if not fully conscious/awake, or based on other conditions
+        int effectiveMinutes = getEffectiveNeedMinutes(minutesPassed);
+
+        // Specific logic for sleep recovery / fatigue change if sleeping
+        if (!isAwake && isConscious) { // Asleep and conscious (normal sleep)
+            setSleep(getSleep() + (minutesPassed / (SLEEP_RECOVERY_MINUTES + DeterministicRandom.nextInt(rollKey, DRAW_SLEEP_RECOVERY, SLEEP_RECOVERY_SPREAD + 1)))); // Recover restedness
+            setFatiguePercent(getFatiguePercent() - (minutesPassed / (FATIGUE_RECOVERY_MINUTES + DeterministicRandom.nextInt(rollKey, DRAW_FATIGUE_RECOVERY, FATIGUE_RECOVERY_SPREAD + 1)))); // Reduce fatigue
+        } else if (isAwake) { // Only increase fatigue if awake
+            // Fatigue increases faster, e.g., 1 point every 45-75 minutes of being awake
+            setFatiguePercent(getFatiguePercent() + (effectiveMinutes / (FATIGUE_GAIN_MINUTES + DeterministicRandom.nextInt(rollKey, DRAW_FATIGUE_GAIN, FATIGUE_GAIN_SPREAD + 1))));
+        }
+
+        // Hunger & Thirst always decay, rate affected by effectiveMinutes
+        // Hunger: 1 point every 20-30 minutes
+        setHunger(getHunger() - (effectiveMinutes / (HUNGER_DECAY_MINUTES + DeterministicRandom.nextInt(rollKey, DRAW_HUNGER_DECAY, HUNGER_DECAY_SPREAD + 1))));
+        // Thirst: 1 point every 15-25 minutes
+        setThirst(getThirst() - (effectiveMinutes / (THIRST_DECAY_MINUTES + DeterministicRandom.nextInt(rollKey, DRAW_THIRST_DECAY, THIRST_DECAY_SPREAD + 1))));
+
+        // Hygiene, Bladder
+        // Hygiene: 1 point every 2-3 hours
+        setHygiene(getHygiene() - (effectiveMinutes / (HYGIENE_DECAY_MINUTES + DeterministicRandom.nextInt(rollKey, DRAW_HYGIENE_DECAY, HYGIENE_DECAY_SPREAD + 1))));
+        // Bladder: 1 point every 1.5-2.5 hours
+        setBladder(getBladder() + (effectiveMinutes / (BLADDER_FILL_MINUTES + DeterministicRandom.nextInt(rollKey, DRAW_BLADDER_FILL, BLADDER_FILL_SPREAD + 1))));
+    }
+
+    /**
+     * Expected change of a need per {@link #updateNeeds(int)} call of {@code stepMinutes}, given the current
+     * alive/awake/conscious state (i.e., the mean over the random rate rolls, before clamping).
+     *
+     * @return The expected change, negative for needs that decay. 0 for stats updateNeeds does not move in this state.
+     */
+    public double getExpectedNeedChange(PlayerStat stat, int stepMinutes) {
+        if (!isAlive || stepMinutes <= 0) return 0;
+        int effectiveMinutes = getEffectiveNeedMinutes(stepMinutes);
+        boolean sleeping = !isAwake && isConscious;
+        switch (stat) {
+            case SLEEP:
+                return sleeping ? expectedPoints(stepMinutes, SLEEP_RECOVERY_MINUTES, SLEEP_RECOVERY_SPREAD) : 0;
+            case FATIGUE_PERCENT:
+                if (sleeping) return -expectedPoints(stepMinutes, FATIGUE_RECOVERY_MINUTES, FATIGUE_RECOVERY_SPREAD);
+                return isAwake ? expectedPoints(effectiveMinutes, FATIGUE_GAIN_MINUTES, FATIGUE_GAIN_SPREAD) : 0;
+            case HUNGER:
+                return -expectedPoints(effectiveMinutes, HUNGER_DECAY_MINUTES, HUNGER_DECAY_SPREAD);
+            case THIRST:
+                return -expectedPoints(effectiveMinutes, THIRST_DECAY_MINUTES, THIRST_DECAY_SPREAD);
+            case HYGIENE:
+                return -expectedPoints(effectiveMinutes, HYGIENE_DECAY_MINUTES, HYGIENE_DECAY_SPREAD);
+            case BLADDER:
+                return expectedPoints(effectiveMinutes, BLADDER_FILL_MINUTES, BLADDER_FILL_SPREAD);
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Applies the expected outcome of {@code steps} consecutive {@link #updateNeeds(int)} calls of
+     * {@code stepMinutes} each in one go, without rolling any rates. Used to fast-forward through
+     * stretches of time in which nothing but the needs themselves changes.
+     */
+    public void applyExpectedNeeds(int stepMinutes, long steps) {
+        if (!isAlive || stepMinutes <= 0 || steps <= 0) return;
+        // Evaluate every rate before applying any change: all of them depend on the same status flags
+        double sleepChange = getExpectedNeedChange(PlayerStat.SLEEP, stepMinutes);
+        double fatigueChange = getExpectedNeedChange(PlayerStat.FATIGUE_PERCENT, stepMinutes);
+        double hungerChange = getExpectedNeedChange(PlayerStat.HUNGER, stepMinutes);
+        double thirstChange = getExpectedNeedChange(PlayerStat.THIRST, stepMinutes);
+        double hygieneChange = getExpectedNeedChange(PlayerStat.HYGIENE, stepMinutes);
+        double bladderChange = getExpectedNeedChange(PlayerStat.BLADDER, stepMinutes);
+        // Each need moves in one direction only, so clamping once at the end matches clamping every step
+        setSleep(addScaled(getSleep(), sleepChange, steps));
+        setFatiguePercent(addScaled(getFatiguePercent(), fatigueChange, steps));
+        setHunger(addScaled(getHunger(), hungerChange, steps));
+        setThirst(addScaled(getThirst(), thirstChange, steps));
+        setHygiene(addScaled(getHygiene(), hygieneChange, steps));
+        setBladder(addScaled(getBladder(), bladderChange, steps));
+    }
+
+    // Slower metabolism if unconscious/asleep (general case), but it never stops entirely
+    private int getEffectiveNeedMinutes(int minutesPassed) {
+        return (!isConscious || !isAwake) ? Math.max(1, minutesPassed / 2) : minutesPassed;
+    }
+
+    // Mean of (minutes / divisor) over the divisors updateNeeds rolls uniformly from base..base+spread
+    private static double expectedPoints(int minutes, int base, int spread) {
+        long total = 0;
+        for (int divisor = base; divisor <= base + spread; divisor++) {
+            total += minutes / divisor;
+        }
+        return (double) total / (spread + 1);
+    }
+
+    private static int addScaled(int value, double changePerStep, long steps) {
+        double result = value + Math.rint(changePerStep * steps);
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, result));
+    }
+
+
+    // --- Standard Getters and Setters (with clamping) ---
+
+    // Basic Information
+    public int getEntityId() { return entityId; }
+    public void setEntityId(int entityId) { this.entityId = entityId; }
+
+    /**
+     * Sets the entity ID of a player loaded from a save, and keeps IDs handed out to new players in this JVM
+     * above it. Saves from before entity IDs existed store ID 0 and get a fresh one.
+     */
+    public void restoreEntityId(int entityId) {
+        if (entityId == 0) {
+            this.entityId = NEXT_ENTITY_ID.incrementAndGet();
+        } else {
+            this.entityId = entityId;
+            NEXT_ENTITY_ID.accumulateAndGet(entityId, Math::max); // Keep IDs handed out later unique
+        }
+    }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = (name != null && !name.trim().isEmpty()) ? name.trim() : DEFAULT_PLAYER_NAME; }
+
+    public int getAge() { return age; }
+    public void setAge(int age) { this.age = track(this.age, Math.max(0, Math.min(age, 200)), PlayerStat.AGE); } // Assuming 0-200 is a reasonable age range
+
+    public Sex getSex() { return sex; }
+    public void setSex(Sex sex) { this.sex = sex; }
+
+    public String getEthnicity() { return ethnicity; }
+    public void setEthnicity(String ethnicity) { this.ethnicity = ethnicity; }
+
+    public double getHeight() { return height; }
+    public void setHeight(double height) { this.height = Math.max(0.5, Math.min(height, 3.0)); } // Meters
+
+    public BloodType getBloodType() { return bloodType; }
+    public void setBloodType(BloodType bloodType) { this.bloodType = bloodType; }
+
+    public double getWeight() { return weight; }
+    public void setWeight(double weight) { this.weight = Math.max(10.0, Math.min(weight, 500.0)); } // Kilograms
+
+    public BodyType getBodyType() { return bodyType; }
+    public void setBodyType(BodyType bodyType) { this.bodyType = bodyType; }
+
+    // Natural Givens (0-100,000 scale)
+    public int getLuck() { return luck; }
+    public void setLuck(int luck) { this.luck = track(this.luck, Math.max(MIN_STAT_VALUE, Math.min(luck, MAX_STAT_VALUE)), PlayerStat.LUCK); }
+
+    public int getBeauty() { return beauty; }
+    public void setBeauty(int beauty) { this.beauty = track(this.beauty, Math.max(MIN_STAT_VALUE, Math.min(beauty, MAX_STAT_VALUE)), PlayerStat.BEAUTY); }
+
+    public int getIntelligence() { return intelligence; } // Base
+    public void setIntelligence(int intelligence) { this.intelligence = track(this.intelligence, Math.max(MIN_STAT_VALUE, Math.min(intelligence, MAX_STAT_VALUE)), PlayerStat.INTELLIGENCE); }
+
+    // Physical Capabilities (0-100,000 scale)
+    public int getUpperBodyStrength() { return upperBodyStrength; } // Base
+    public void setUpperBodyStrength(int upperBodyStrength) { this.upperBodyStrength = track(this.upperBodyStrength, Math.max(MIN_STAT_VALUE, Math.min(upperBodyStrength, MAX_STAT_VALUE)), PlayerStat.UPPER_BODY_STRENGTH); }
+
+    public int getLowerBodyStrength() { return lowerBodyStrength; } // Base
+    public void setLowerBodyStrength(int lowerBodyStrength) { this.lowerBodyStrength = track(this.lowerBodyStrength, Math.max(MIN_STAT_VALUE, Math.min(lowerBodyStrength, MAX_STAT_VALUE)), PlayerStat.LOWER_BODY_STRENGTH); }
+
+    public int getEndurance() { return endurance; } // Base
+    public void setEndurance(int endurance) { this.endurance = track(this.endurance, Math.max(MIN_STAT_VALUE, Math.min(endurance, MAX_STAT_VALUE)), PlayerStat.ENDURANCE); }
+
+    public int getAgility() { return agility; } // Base
+    public void setAgility(int agility) { this.agility = track(this.agility, Math.max(MIN_STAT_VALUE, Math.min(agility, MAX_STAT_VALUE)), PlayerStat.AGILITY); }
+
+    public int getSpeed() { return speed; } // Base
+    public void setSpeed(int speed) { this.speed = track(this.speed, Math.max(MIN_STAT_VALUE, Math.min(speed, MAX_STAT_VALUE)), PlayerStat.SPEED); }
+
+    public int getDexterity() { return dexterity; } // Base
+    public void setDexterity(int dexterity) { this.dexterity = track(this.dexterity, Math.max(MIN_STAT_VALUE, Math.min(dexterity, MAX_STAT_VALUE)), PlayerStat.DEXTERITY); }
+
+    // Health Attributes
+    public int getHealth() { return health; }
+    public void setHealth(int health) {
+        int oldHealth = this.health;
+        boolean wasAlive = isAlive, wasConscious = isConscious, wasAwake = isAwake;
+        this.health = Math.max(MIN_STAT_VALUE, Math.min(health, Player.DEFAULT_PLAYER_HEALTH)); // Max is DEFAULT_PLAYER_HEALTH (e.g., 100)
+        if (this.health <= 0) {
+            this.health = 0; // Ensure it doesn't go below 0
+            this.isAlive = false;
+            this.isConscious = false;
+            this.isAwake = false;
+        }
+        trackStatus(oldHealth, wasAlive, wasConscious, wasAwake);
+    }
+
+    public int getBodyTemperature() { return bodyTemperature; }
+    public void setBodyTemperature(int bodyTemperature) { this.bodyTemperature = track(this.bodyTemperature, Math.max(20, Math.min(bodyTemperature, 45)), PlayerStat.BODY_TEMPERATURE); } // Celsius physiological clamp
+
+    public int getBloodPressure() { return bloodPressure; }
+    public void setBloodPressure(int bloodPressure) { this.bloodPressure = track(this.bloodPressure, Math.max(40, Math.min(bloodPressure, 300)), PlayerStat.BLOOD_PRESSURE); } // Systolic, mmHg
+
+    public int getHeartRate() { return heartRate; }
+    public void setHeartRate(int heartRate) { this.heartRate = track(this.heartRate, Math.max(0, Math.min(heartRate, 300)), PlayerStat.HEART_RATE); } // BPM, 0 if dead
+
+    // Organ Integrity (Percentage 0-500 scale)
+    public int getCardiovascular() { return cardiovascular; }
+    public void setCardiovascular(int cardiovascular) { this.cardiovascular = track(this.cardiovascular, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(cardiovascular, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.CARDIOVASCULAR); }
+
+    public int getRespiratory() { return respiratory; }
+    public void setRespiratory(int respiratory) { this.respiratory = track(this.respiratory, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(respiratory, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.RESPIRATORY); }
+
+    public int getNeural() { return neural; }
+    public void setNeural(int neural) { this.neural = track(this.neural, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(neural, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.NEURAL); }
+
+    public int getDigestive() { return digestive; }
+    public void setDigestive(int digestive) { this.digestive = track(this.digestive, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(digestive, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.DIGESTIVE); }
+
+    public int getImmune() { return immune; }
+    public void setImmune(int immune) { this.immune = track(this.immune, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(immune, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.IMMUNE); }
+
+    // Sensory Attributes (Percentage 0-500 scale)
+    public int getSight() { return sight; } // Base
+    public void setSight(int sight) { this.sight = track(this.sight, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(sight, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.SIGHT); }
+
+    public int getHearing() { return hearing; } // Base
+    public void setHearing(int hearing) { this.hearing = track(this.hearing, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(hearing, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.HEARING); }
+
+    public int getSmellTaste() { return smellTaste; }
+    public void setSmellTaste(int smellTaste) { this.smellTaste = track(this.smellTaste, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(smellTaste, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.SMELL_TASTE); }
+
+    // Basic Needs (Percentage 0-500 scale)
+    public int getHunger() { return hunger; } // Higher value means more satisfied/less hungry
+    public void setHunger(int hunger) { this.hunger = track(this.hunger, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(hunger, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.HUNGER); }
+
+    public int getThirst() { return thirst; } // Higher value means more satisfied/less thirsty
+    public void setThirst(int thirst) { this.thirst = track(this.thirst, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(thirst, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.THIRST); }
+
+    public int getFatiguePercent() { return fatiguePercent; } // Higher value means more fatigued
+    public void setFatiguePercent(int fatiguePercent) { this.fatiguePercent = track(this.fatiguePercent, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(fatiguePercent, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.FATIGUE_PERCENT); }
+
+    public int getSleep() { return sleep; } // Higher value means more rested
+    public void setSleep(int sleep) { this.sleep = track(this.sleep, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(sleep, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.SLEEP); }
+
+    public int getHygiene() { return hygiene; } // Higher value means cleaner
+    public void setHygiene(int hygiene) { this.hygiene = track(this.hygiene, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(hygiene, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.HYGIENE); }
+
+    public int getBladder() { return bladder; } // Higher value means more full/urgent
+    public void setBladder(int bladder) { this.bladder = track(this.bladder, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(bladder, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.BLADDER); }
+
+    public int getComfort() { return comfort; } // Higher value means more comfortable
+    public void setComfort(int comfort) { this.comfort = track(this.comfort, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(comfort, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.COMFORT); }
+
+    // Mental/Cognitive (Percentage 0-500 scale)
+    public int getMemory() { return memory; } // Base
+    public void setMemory(int memory) { this.memory = track(this.memory, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(memory, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.MEMORY); }
+
+    public int getFocus() { return focus; } // Base
+    public void setFocus(int focus) { this.focus = track(this.focus, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(focus, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.FOCUS); }
+
+    public int getWillpower() { return willpower; } // Base
+    public void setWillpower(int willpower) { this.willpower = track(this.willpower, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(willpower, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.WILLPOWER); }
+
+    public int getVerbal() { return verbal; }
+    public void setVerbal(int verbal) { this.verbal = track(this.verbal, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(verbal, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.VERBAL); }
+
+    public int getMaths() { return maths; }
+    public void setMaths(int maths) { this.maths = track(this.maths, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(maths, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.MATHS); }
+
+    public int getKnowledge() { return knowledge; }
+    public void setKnowledge(int knowledge) { this.knowledge = track(this.knowledge, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(knowledge, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.KNOWLEDGE); }
+
+    // Emotional (Percentage 0-500 scale)
+    public int getHappiness() { return happiness; }
+    public void setHappiness(int happiness) { this.happiness = track(this.happiness, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(happiness, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.HAPPINESS); }
+
+    public int getSocial() { return social; }
+    public void setSocial(int social) { this.social = track(this.social, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(social, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.SOCIAL); }
+
+    public int getStress() { return stress; } // Higher value means more stressed
+    public void setStress(int stress) { this.stress = track(this.stress, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(stress, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.STRESS); }
+
+    public int getBoredom() { return boredom; } // Higher value means more bored
+    public void setBoredom(int boredom) { this.boredom = track(this.boredom, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(boredom, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.BOREDOM); }
+
+    public Mood getMood() { return mood; }
+    public void setMood(Mood mood) {
+        if (this.mood != mood) changedMask |= PlayerChange.MOOD;
+        this.mood = mood;
+    }
+
+    public int getConfidence() { return confidence; }
+    public void setConfidence(int confidence) { this.confidence = track(this.confidence, Math.max(MIN_STAT_VALUE_PERCENTAGE, Math.min(confidence, MAX_STAT_VALUE_PERCENTAGE)), PlayerStat.CONFIDENCE); }
+
+    // Status Flags
+    public boolean isAlive() { return isAlive; }
+    public void setAlive(boolean alive) {
+        int oldHealth = health;
+        boolean wasAlive = isAlive, wasConscious = isConscious, wasAwake = isAwake;
+        isAlive = alive;
+        if (!isAlive) {
+            isConscious = false;
+            isAwake = false;
+            // Potentially set health to 0 if not already handled by setHealth
+            if (health > 0) health = 0;
+        }
+        trackStatus(oldHealth, wasAlive, wasConscious, wasAwake);
+    }
+
+    public boolean isConscious() { return isConscious; }
+    public void setConscious(boolean conscious) {
+        boolean wasAlive = isAlive, wasConscious = isConscious, wasAwake = isAwake;
+        isConscious = conscious;
+        if (!isConscious) {
+            isAwake = false; // Cannot be awake if not conscious
+        } else {
+            // If becoming conscious, ensure player is marked as alive
+            // (unless health is 0, which setHealth/setAlive should manage)
+            if (!isAlive && health > 0) { // Check health to avoid reviving a 0 HP player just by setting conscious
+                isAlive = true;
+            }
+        }
+        trackStatus(health, wasAlive, wasConscious, wasAwake);
+    }
+
+    public boolean isAwake() { return isAwake; }
+    public void setAwake(boolean awake) {
+        boolean wasAlive = isAlive, wasConscious = isConscious, wasAwake = isAwake;
+        isAwake = awake;
+        if (isAwake) {
+            if (!isConscious) setConscious(true); // If waking up, must be conscious
+            if (!isAlive && health > 0) isAlive = true; // And alive
+        }
+        trackStatus(health, wasAlive, wasConscious, wasAwake);
+    }
+
+    /**
+     * Restores all status flags exactly as stored (by PlayerPopulation or a save file), bypassing the
+     * cross-flag rules of the public setters, which are meant for gameplay transitions.
+     */
+    public void restoreStatusFlags(boolean alive, boolean conscious, boolean awake) {
+        boolean wasAlive = isAlive, wasConscious = isConscious, wasAwake = isAwake;
+        this.isAlive = alive;
+        this.isConscious = conscious;
+        this.isAwake = awake;
+        trackStatus(health, wasAlive, wasConscious, wasAwake);
+    }
+
+    // Inventory Methods
+    public void addItem(String itemName) {
+        if (itemName != null && !itemName.trim().isEmpty()) {
+            String item = itemName.trim();
+            this.items.add(ItemRegistry.idOf(item), 1);
+            this.inventoryVersion++;
+            System.out.println(this.name + " acquired: " + item);
+        }
+    }
+
+    /**
+     * Adds several of an item at once, without per-item console output (loot stacks, trades).
+     *
+     * @throws IllegalArgumentException If the name is blank or the amount is not positive.
+     */
+    public void addItems(String itemName, int amount) {
+        this.items.add(ItemRegistry.idOf(itemName), amount);
+        this.inventoryVersion++;
+    }
+
+    public boolean removeItem(String itemName) {
+        if (itemName == null) return false;
+        String item = itemName.trim();
+        int id = ItemRegistry.find(item);
+        boolean removed = id != ItemRegistry.NO_ITEM && this.items.remove(id, 1) > 0;
+        if (removed) this.inventoryVersion++;
+        if (removed) System.out.println(item + " removed from " + this.name + "'s inventory.");
+        return removed;
+    }
+
+    public boolean hasItem(String itemName) {
+        int id = ItemRegistry.find(itemName);
+        return id != ItemRegistry.NO_ITEM && this.items.contains(id);
+    }
+
+    /**
+     * @return How many of the item the player holds, 0 if none.
+     */
+    public int getItemCount(String itemName) {
+        int id = ItemRegistry.find(itemName);
+        return id == ItemRegistry.NO_ITEM ? 0 : this.items.count(id);
+    }
+
+    /**
+     * @return A copy of the inventory as item IDs and counts.
+     */
+    public ItemCounts getItemCounts() {
+        return new ItemCounts(this.items);
+    }
+
+    /**
+     * Compatibility view of the inventory: one entry per item held, each kind's stack together, kinds in the order
+     * described in {@link ItemCounts}. Built on the first call after a change and shared until the next one.
+     *
+     * @return The items (unmodifiable).
+     */
+    public List<String> getInventory() {
+        if (this.inventoryView == null || this.inventoryViewVersion != this.inventoryVersion) {
+            String[] view = new String[Math.toIntExact(this.items.total())];
+            int next = 0;
+            for (int i = 0; i < this.items.kinds(); i++) {
+                String item = ItemRegistry.nameOf(this.items.idAt(i));
+                for (int n = this.items.countAt(i); n > 0; n--) {
+                    view[next++] = item;
+                }
+            }
+            this.inventoryView = List.of(view);
+            this.inventoryViewVersion = this.inventoryVersion;
+        }
+        return this.inventoryView;
+    }
+
+    /**
+     * Replaces the inventory contents without per-item console output (bulk restore from a store or save file).
+     */
+    public void replaceInventory(List<String> items) {
+        this.items = countItems(items);
+        this.inventoryVersion++;
+    }
+
+    // Interns a list of item names into a bag, skipping blank names as addItem does
+    private static ItemCounts countItems(List<String> names) {
+        ItemCounts counted = new ItemCounts();
+        for (String item : names) {
+            if (item != null && !item.trim().isEmpty()) counted.add(ItemRegistry.idOf(item), 1);
+        }
+        return counted;
+    }
+
+    /**
+     * Replaces the inventory with a copy of the given items, without console output.
+     */
+    public void replaceInventory(ItemCounts items) {
+        this.items = new ItemCounts(items);
+        this.inventoryVersion++;
+    }
+
+    @Override
+    public String toString() {
+        return "Player{" +
+                "name='" + name + '\'' +
+                ", age=" + age +
+                ", sex=" + sex +
+                ", health=" + health + "/" + DEFAULT_PLAYER_HEALTH +
+                ", isAlive=" + isAlive +
+                ", isConscious=" + isConscious +
+                ", isAwake=" + isAwake +
+                ", mood=" + mood +
+                '}';
+    }
+
+    // --- Serialization ---
+    // The serialized form is every non-transient field plus "inventory", the list of item names that players
+    // stored in a field of that name before inventories were counted. Declaring it keeps the stream layout of
+    // serialVersionUID 3, so saves in either direction stay readable. The fields are copied reflectively because
+    // the inventory entry has no backing field, which rules out defaultWriteObject and defaultReadObject.
+
+    private static final String SERIAL_INVENTORY = "inventory";
+    private static final Field[] SERIAL_STATE = serialState();
+    private static final ObjectStreamField[] serialPersistentFields = serialFields();
+
+    private static Field[] serialState() {
+        List<Field> state = new ArrayList<>();
+        for (Field field : Player.class.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) state.add(field);
+        }
+        return state.toArray(new Field[0]);
+    }
+
+    private static ObjectStreamField[] serialFields() {
+        ObjectStreamField[] fields = new ObjectStreamField[SERIAL_STATE.length + 1];
+        for (int i = 0; i < SERIAL_STATE.length; i++) {
+            fields[i] = new ObjectStreamField(SERIAL_STATE[i].getName(), SERIAL_STATE[i].getType());
+        }
+        fields[SERIAL_STATE.length] = new ObjectStreamField(SERIAL_INVENTORY, List.class);
+        return fields;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        try {
+            for (Field field : SERIAL_STATE) {
+                String name = field.getName();
+                Class<?> type = field.getType();
+                if (type == int.class) fields.put(name, field.getInt(this));
+                else if (type == long.class) fields.put(name, field.getLong(this));
+                else if (type == double.class) fields.put(name, field.getDouble(this));
+                else if (type == boolean.class) fields.put(name, field.getBoolean(this));
+                else if (!type.isPrimitive()) fields.put(name, field.get(this));
+                else throw new IllegalStateException("Unsupported serialized field type: " + field);
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Player field not accessible: " + e.getMessage(), e);
+        }
+        fields.put(SERIAL_INVENTORY, new ArrayList<>(getInventory()));
+        out.writeFields();
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        try {
+            for (Field field : SERIAL_STATE) {
+                String name = field.getName();
+                Class<?> type = field.getType();
+                if (type == int.class) field.setInt(this, fields.get(name, 0));
+                else if (type == long.class) field.setLong(this, fields.get(name, 0L));
+                else if (type == double.class) field.setDouble(this, fields.get(name, 0.0));
+                else if (type == boolean.class) field.setBoolean(this, fields.get(name, false));
+                else field.set(this, type.cast(fields.get(name, null)));
+            }
+        } catch (IllegalAccessException | ClassCastException e) {
+            throw new InvalidObjectException("Player data is incompatible: " + e.getMessage());
+        }
+        restoreEntityId(this.entityId);
+        // Re-initialize transient fields
+        this.changedMask = PlayerChange.ALL; // Nothing is known about a freshly loaded player
+
+        // Ensure temporary modifiers are reset to default values upon loading a save.
+        // These should reflect current state, not saved state.
+        // However, if some temporary effects *should* persist across saves (e.g. a long-term poison),
+        // they would need to be saved and this logic adjusted. For now, assuming they reset.
+        resetTemporaryModifiers(); // This was already here and is good.
+
+        // The stream holds item names (IDs are only valid within one run); intern them into a fresh bag.
+        List<?> inventory = (List<?>) fields.get(SERIAL_INVENTORY, null);
+        List<String> names = new ArrayList<>();
+        if (inventory != null) {
+            for (Object item : inventory) {
+                if (item instanceof String name) names.add(name);
+            }
+        }
+        this.items = countItems(names);
+    }
+
+    // Method to reset the Player instance to default values (for reinitialization in New Game, etc.)
+    public void resetToDefaults() {
+        // Call the default constructor's logic essentially
+        this.name = DEFAULT_PLAYER_NAME;
+        this.setAge(DEFAULT_PLAYER_AGE);
+        this.sex = DEFAULT_PLAYER_SEX;
+        this.ethnicity = DEFAULT_PLAYER_ETHNICITY;
+        this.height = DEFAULT_PLAYER_HEIGHT;
+        this.bloodType = DEFAULT_PLAYER_BLOOD_TYPE;
+        this.setLuck(DEFAULT_PLAYER_LUCK);
+        this.setBeauty(DEFAULT_PLAYER_BEAUTY);
+        this.setIntelligence(DEFAULT_PLAYER_INTELLIGENCE);
+        this.weight = DEFAULT_PLAYER_WEIGHT;
+        this.bodyType = DEFAULT_PLAYER_BODY_TYPE;
+        this.setUpperBodyStrength(DEFAULT_PLAYER_UPPER_BODY_STRENGTH);
+        this.setLowerBodyStrength(DEFAULT_PLAYER_LOWER_BODY_STRENGTH);
+        this.setEndurance(DEFAULT_PLAYER_ENDURANCE);
+        this.setAgility(DEFAULT_PLAYER_AGILITY);
+        this.setSpeed(DEFAULT_PLAYER_SPEED);
+        this.setDexterity(DEFAULT_PLAYER_DEXTERITY);
+        this.setHealth(DEFAULT_PLAYER_HEALTH); // This will also set isAlive = true if health > 0
+        this.setBodyTemperature(DEFAULT_PLAYER_BODY_TEMPERATURE);
+        this.setBloodPressure(DEFAULT_PLAYER_BLOOD_PRESSURE);
+        this.setHeartRate(DEFAULT_PLAYER_HEART_RATE);
+        this.setCardiovascular(DEFAULT_PLAYER_CARDIOVASCULAR);
+        this.setRespiratory(DEFAULT_PLAYER_RESPIRATORY);
+        this.setNeural(DEFAULT_PLAYER_NEURAL);
+        this.setDigestive(DEFAULT_PLAYER_DIGESTIVE);
+        this.setImmune(DEFAULT_PLAYER_IMMUNE);
+        this.setSight(DEFAULT_PLAYER_SIGHT);
+        this.setHearing(DEFAULT_PLAYER_HEARING);
+        this.setSmellTaste(DEFAULT_PLAYER_SMELL_TASTE);
+        this.setHunger(DEFAULT_PLAYER_HUNGER);
+        this.setThirst(DEFAULT_PLAYER_THIRST);
+        this.setFatiguePercent(DEFAULT_PLAYER_FATIGUE_PERCENT);
+        this.setSleep(DEFAULT_PLAYER_SLEEP);
+        this.setHygiene(DEFAULT_PLAYER_HYGIENE);
+        this.setBladder(DEFAULT_PLAYER_BLADDER);
+        this.setComfort(DEFAULT_PLAYER_COMFORT);
+        this.setMemory(DEFAULT_PLAYER_MEMORY);
+        this.setFocus(DEFAULT_PLAYER_FOCUS);
+        this.setWillpower(DEFAULT_PLAYER_WILLPOWER);
+        this.setVerbal(DEFAULT_PLAYER_VERBAL);
+        this.setMaths(DEFAULT_PLAYER_MATHS);
+        this.setKnowledge(DEFAULT_PLAYER_KNOWLEDGE);
+        this.setHappiness(DEFAULT_PLAYER_HAPPINESS);
+        this.setSocial(DEFAULT_PLAYER_SOCIAL);
+        this.setStress(DEFAULT_PLAYER_STRESS);
+        this.setBoredom(DEFAULT_PLAYER_BOREDOM);
+        this.mood = DEFAULT_PLAYER_MOOD;
+        this.setConfidence(DEFAULT_PLAYER_CONFIDENCE);
+        this.isAlive = DEFAULT_PLAYER_IS_ALIVE; // Ensure these are explicitly reset
+        this.isConscious = DEFAULT_PLAYER_IS_CONSCIOUS;
+        this.isAwake = DEFAULT_PLAYER_IS_AWAKE;
+
+        this.items.clear();
+        this.inventoryVersion++;
+
+        this.concussionCount = 0;
+        this.adrenalineRushTurns = 0;
+        this.experiencingSeizure = false;
+        resetTemporaryModifiers();
+
+        this.changedMask = PlayerChange.ALL; // Several fields above were assigned directly
+    }
+
+    // --- Published Snapshots ---
+
+    /**
+     * Captures the player's current state into a new {@link PlayerSnapshot} and makes it the one returned by
+     * {@link #getSnapshot()}. Called on the thread that owns the player once a batch of work on it is done: after an
+     * action, once per real-time frame, or by the stat engine after every cycle if it is set to
+     * ({@code PlayerStatEngine.setSnapshotPublishing}).
+     *
+     * @return The published snapshot.
+     */
+    public PlayerSnapshot publishSnapshot() {
+        PlayerSnapshot published = new PlayerSnapshot(this, snapshot);
+        snapshot = published; // Single volatile write: readers see either the old snapshot or the complete new one
+        return published;
+    }
+
+    /**
+     * Safe to call from any thread, without locking.
+     *
+     * @return The most recently published snapshot, or null if none has been published since creation or loading.
+     */
+    public PlayerSnapshot getSnapshot() { return snapshot; }
+
+    int getInventoryVersion() { return inventoryVersion; }
+
+    // --- Change Tracking ---
+
+    /**
+     * @return The {@link PlayerChange} bits of everything that changed since the mask was last taken.
+     */
+    public long getChangedMask() { return changedMask; }
+
+    /**
+     * Returns the changed-state mask and clears it.
+     */
+    public long takeChangedMask() {
+        long mask = changedMask;
+        changedMask = 0;
+        return mask;
+    }
+
+    public void markChanged(long changeBits) { changedMask |= changeBits; }
+
+    /**
+     * @param key Identifies the rule set the caller evaluates with.
+     * @return The phases recorded as quiet for that key, or 0 if they were recorded under another one.
+     */
+    public int getQuietPhases(int key) { return quietPhasesKey == key ? quietPhases : 0; }
+
+    public void setQuietPhases(int phases, int key) {
+        this.quietPhases = phases;
+        this.quietPhasesKey = key;
+    }
+
+    // Returns the new value, flagging the stat as changed if it differs from the old one.
+    private int track(int oldValue, int newValue, PlayerStat stat) {
+        if (oldValue != newValue) changedMask |= PlayerChange.of(stat);
+        return newValue;
+    }
+
+    private int track(int oldValue, int newValue, long changeBit) {
+        if (oldValue != newValue) changedMask |= changeBit;
+        return newValue;
+    }
+
+    private void trackStatus(int oldHealth, boolean wasAlive, boolean wasConscious, boolean wasAwake) {
+        if (oldHealth != health) changedMask |= PlayerChange.of(PlayerStat.HEALTH);
+        if (wasAlive != isAlive) changedMask |= PlayerChange.ALIVE;
+        if (wasConscious != isConscious) changedMask |= PlayerChange.CONSCIOUS;
+        if (wasAwake != isAwake) changedMask |= PlayerChange.AWAKE;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.theofernandez.rpg.game;
+
+/**
+ * Bits of the changed-state mask maintained by {@link Player}'s setters (see {@link Player#getChangedMask()}).
+ * Each {@link PlayerStat} owns the bit at its ordinal; status flags, mood and temporary modifiers follow.
+ * A bit is only set when a setter actually changes the stored value (after clamping).
+ */
+public final class PlayerChange {
+
+    public static final long ALIVE = 1L << PlayerStat.COUNT;
+    public static final long CONSCIOUS = ALIVE << 1;
+    public static final long AWAKE = ALIVE << 2;
+    public static final long SEIZURE = ALIVE << 3;
+    public static final long MOOD = ALIVE << 4;
+    public static final long TEMP_STRENGTH = ALIVE << 5;
+    public static final long TEMP_AGILITY = ALIVE << 6;
+    public static final long TEMP_SPEED = ALIVE << 7;
+    public static final long TEMP_DEXTERITY = ALIVE << 8;
+    public static final long TEMP_INTELLIGENCE = ALIVE << 9;
+    public static final long TEMP_FOCUS = ALIVE << 10;
+    public static final long TEMP_PERCEPTION = ALIVE << 11;
+    public static final long TEMP_MEMORY = ALIVE << 12;
+
+    /** Every bit set: the state must be treated as entirely new (fresh, loaded or reset players). */
+    public static final long ALL = -1L;
+
+    static {
+        if (PlayerStat.COUNT + 13 > Long.SIZE) {
+            throw new IllegalStateException("Too many player stats for a 64-bit change mask.");
+        }
+    }
+
+    private PlayerChange() {}
+
+    public static long of(PlayerStat stat) {
+        return 1L << stat.ordinal();
+    }
+
+    public static long of(PlayerStat... stats) {
+        long mask = 0;
+        for (PlayerStat stat : stats) {
+            mask |= of(stat);
+        }
+        return mask;
+    }
+}
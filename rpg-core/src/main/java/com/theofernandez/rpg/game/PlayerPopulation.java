@@ -0,0 +1,231 @@
+package com.theofernandez.rpg.game;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Structure-of-arrays store for large crowds of players (e.g., NPC populations).
+ * Every {@link PlayerStat} lives in its own primitive {@code int[]} column indexed by entity slot,
+ * so stat passes over the whole population walk contiguous memory instead of chasing
+ * one heap object per entity. Conversion to and from {@link Player} is provided for the UI and saves.
+ *
+ * Capacity is fixed at construction; columns are never reallocated, so references obtained from
+ * {@link #column(PlayerStat)} stay valid for the lifetime of the population.
+ */
+public class PlayerPopulation {
+
+    private static final byte NO_MOOD = -1;
+    private static final Player.Mood[] MOODS = Player.Mood.values();
+
+    private final int capacity;
+    private int size = 0;
+
+    // --- Identity columns (entity ID and simulation tick key each entity's random rolls) ---
+    private final int[] entityId;
+    private final long[] simulationTick;
+
+    // --- Stat columns, indexed [stat ordinal][entity slot] ---
+    private final int[][] stats;
+
+    // --- Temporary modifier columns ---
+    private final int[] tempStrengthModifier;
+    private final int[] tempAgilityModifier;
+    private final int[] tempSpeedModifier;
+    private final int[] tempDexterityModifier;
+    private final int[] tempIntelligenceModifier;
+    private final int[] tempFocusModifier;
+    private final int[] tempPerceptionModifier;
+    private final int[] tempMemoryModifier;
+
+    // --- Status columns ---
+    private final boolean[] alive;
+    private final boolean[] conscious;
+    private final boolean[] awake;
+    private final boolean[] experiencingSeizure;
+    private final byte[] mood; // Mood ordinal, or NO_MOOD for null
+
+    // --- Descriptive (non-simulated) fields, kept only for round-tripping to Player ---
+    private final String[] name;
+    private final Player.Sex[] sex;
+    private final String[] ethnicity;
+    private final double[] height;
+    private final double[] weight;
+    private final Player.BloodType[] bloodType;
+    private final Player.BodyType[] bodyType;
+    private final List<ItemCounts> inventory;
+
+    public PlayerPopulation(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Population capacity cannot be negative: " + capacity);
+        }
+        this.capacity = capacity;
+        this.entityId = new int[capacity];
+        this.simulationTick = new long[capacity];
+        this.stats = new int[PlayerStat.COUNT][capacity];
+        this.tempStrengthModifier = new int[capacity];
+        this.tempAgilityModifier = new int[capacity];
+        this.tempSpeedModifier = new int[capacity];
+        this.tempDexterityModifier = new int[capacity];
+        this.tempIntelligenceModifier = new int[capacity];
+        this.tempFocusModifier = new int[capacity];
+        this.tempPerceptionModifier = new int[capacity];
+        this.tempMemoryModifier = new int[capacity];
+        this.alive = new boolean[capacity];
+        this.conscious = new boolean[capacity];
+        this.awake = new boolean[capacity];
+        this.experiencingSeizure = new boolean[capacity];
+        this.mood = new byte[capacity];
+        this.name = new String[capacity];
+        this.sex = new Player.Sex[capacity];
+        this.ethnicity = new String[capacity];
+        this.height = new double[capacity];
+        this.weight = new double[capacity];
+        this.bloodType = new Player.BloodType[capacity];
+        this.bodyType = new Player.BodyType[capacity];
+        this.inventory = new ArrayList<>(capacity);
+    }
+
+    /**
+     * Builds a population holding a copy of each given player, in iteration order.
+     */
+    public static PlayerPopulation fromPlayers(Collection<Player> players) {
+        PlayerPopulation population = new PlayerPopulation(players.size());
+        for (Player player : players) {
+            population.add(player);
+        }
+        return population;
+    }
+
+    public int size() { return size; }
+    public int capacity() { return capacity; }
+
+    /**
+     * Copies a player's full state into the next free slot.
+     * @return The slot index assigned to the player.
+     */
+    public int add(Player player) {
+        if (size == capacity) {
+            throw new IllegalStateException("PlayerPopulation is full (capacity " + capacity + ").");
+        }
+        int index = size++;
+        inventory.add(null);
+        writeFrom(index, player);
+        return index;
+    }
+
+    /**
+     * Overwrites the given slot with a player's full state.
+     */
+    public void writeFrom(int index, Player player) {
+        checkIndex(index);
+        entityId[index] = player.getEntityId();
+        simulationTick[index] = player.getSimulationTick();
+        for (PlayerStat stat : PlayerStat.all()) {
+            stats[stat.ordinal()][index] = stat.get(player);
+        }
+        tempStrengthModifier[index] = player.getTempStrengthModifier();
+        tempAgilityModifier[index] = player.getTempAgilityModifier();
+        tempSpeedModifier[index] = player.getTempSpeedModifier();
+        tempDexterityModifier[index] = player.getTempDexterityModifier();
+        tempIntelligenceModifier[index] = player.getTempIntelligenceModifier();
+        tempFocusModifier[index] = player.getTempFocusModifier();
+        tempPerceptionModifier[index] = player.getTempPerceptionModifier();
+        tempMemoryModifier[index] = player.getTempMemoryModifier();
+
+        alive[index] = player.isAlive();
+        conscious[index] = player.isConscious();
+        awake[index] = player.isAwake();
+        experiencingSeizure[index] = player.isExperiencingSeizure();
+        mood[index] = player.getMood() != null ? (byte) player.getMood().ordinal() : NO_MOOD;
+
+        name[index] = player.getName();
+        sex[index] = player.getSex();
+        ethnicity[index] = player.getEthnicity();
+        height[index] = player.getHeight();
+        weight[index] = player.getWeight();
+        bloodType[index] = player.getBloodType();
+        bodyType[index] = player.getBodyType();
+        inventory.set(index, player.getItemCounts());
+    }
+
+    /**
+     * Copies the state stored in a slot back onto an existing player instance.
+     */
+    public void readInto(int index, Player target) {
+        checkIndex(index);
+        target.setEntityId(entityId[index]);
+        target.setSimulationTick(simulationTick[index]);
+        target.setName(name[index]);
+        target.setSex(sex[index]);
+        target.setEthnicity(ethnicity[index]);
+        target.setHeight(height[index]);
+        target.setWeight(weight[index]);
+        target.setBloodType(bloodType[index]);
+        target.setBodyType(bodyType[index]);
+
+        for (PlayerStat stat : PlayerStat.all()) {
+            stat.set(target, stats[stat.ordinal()][index]);
+        }
+        target.setTempStrengthModifier(tempStrengthModifier[index]);
+        target.setTempAgilityModifier(tempAgilityModifier[index]);
+        target.setTempSpeedModifier(tempSpeedModifier[index]);
+        target.setTempDexterityModifier(tempDexterityModifier[index]);
+        target.setTempIntelligenceModifier(tempIntelligenceModifier[index]);
+        target.setTempFocusModifier(tempFocusModifier[index]);
+        target.setTempPerceptionModifier(tempPerceptionModifier[index]);
+        target.setTempMemoryModifier(tempMemoryModifier[index]);
+
+        // Flags last: setHealth(0) above may have flipped them as a side effect.
+        target.restoreStatusFlags(alive[index], conscious[index], awake[index]);
+        target.setExperiencingSeizure(experiencingSeizure[index]);
+        target.setMood(mood[index] == NO_MOOD ? null : MOODS[mood[index]]);
+        target.replaceInventory(inventory.get(index));
+    }
+
+    /**
+     * @return A new Player holding the state stored in the given slot.
+     */
+    public Player toPlayer(int index) {
+        Player player = new Player();
+        readInto(index, player);
+        return player;
+    }
+
+    // --- Column access for columnar processing. Arrays are live; writes go straight into the store. ---
+
+    public int[] column(PlayerStat stat) { return stats[stat.ordinal()]; }
+
+    public int[] getEntityIdColumn() { return entityId; }
+    public long[] getSimulationTickColumn() { return simulationTick; }
+
+    public int[] getTempStrengthModifierColumn() { return tempStrengthModifier; }
+    public int[] getTempAgilityModifierColumn() { return tempAgilityModifier; }
+    public int[] getTempSpeedModifierColumn() { return tempSpeedModifier; }
+    public int[] getTempDexterityModifierColumn() { return tempDexterityModifier; }
+    public int[] getTempIntelligenceModifierColumn() { return tempIntelligenceModifier; }
+    public int[] getTempFocusModifierColumn() { return tempFocusModifier; }
+    public int[] getTempPerceptionModifierColumn() { return tempPerceptionModifier; }
+    public int[] getTempMemoryModifierColumn() { return tempMemoryModifier; }
+
+    public boolean[] getAliveColumn() { return alive; }
+    public boolean[] getConsciousColumn() { return conscious; }
+    public boolean[] getAwakeColumn() { return awake; }
+    public boolean[] getExperiencingSeizureColumn() { return experiencingSeizure; }
+
+    /**
+     * @return The mood column, holding {@link Player.Mood} ordinals, or -1 where the mood is null.
+     */
+    public byte[] getMoodColumn() { return mood; }
+
+    public String getName(int index) {
+        checkIndex(index);
+        return name[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Population slot " + index + " out of range [0, " + size + ").");
+        }
+    }
+}
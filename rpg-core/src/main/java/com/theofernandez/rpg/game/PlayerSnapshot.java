@@ -0,0 +1,171 @@
+package com.theofernandez.rpg.game;
+
+import java.util.List;
+
+/**
+ * Immutable copy of a {@link Player}'s visible state (identity, base and effective stats, status flags, mood and
+ * inventory) as of the end of one engine cycle.
+ *
+ * The thread acting on a player publishes a new snapshot once it is done with it (after an action, once per
+ * real-time frame; see {@link Player#publishSnapshot()}), replacing the previous one with a single volatile write.
+ * Readers on other threads (the UI, telemetry) take the latest one with {@link Player#getSnapshot()} and read it
+ * without locking, never seeing a half-processed cycle. Every value of one snapshot comes from the same cycle.
+ */
+public final class PlayerSnapshot {
+
+    private final int entityId;
+    private final long simulationTick;
+
+    private final String name;
+    private final Player.Sex sex;
+    private final String ethnicity;
+    private final double height;
+    private final double weight;
+    private final Player.BloodType bloodType;
+    private final Player.BodyType bodyType;
+
+    private final int[] stats; // Indexed by PlayerStat ordinal
+
+    private final int effectiveUpperBodyStrength;
+    private final int effectiveLowerBodyStrength;
+    private final int effectiveAgility;
+    private final int effectiveSpeed;
+    private final int effectiveDexterity;
+    private final int effectiveIntelligence;
+    private final int effectiveFocus;
+    private final int effectiveSight;
+    private final int effectiveHearing;
+    private final int effectiveMemory;
+
+    private final boolean alive;
+    private final boolean conscious;
+    private final boolean awake;
+    private final boolean experiencingSeizure;
+    private final Player.Mood mood;
+
+    private final List<String> inventory;
+    private final int inventoryVersion;
+
+    /**
+     * @param previous The player's previous snapshot, or null. Its inventory list is reused if the inventory
+     *                 has not changed since, so most snapshots copy no strings.
+     */
+    PlayerSnapshot(Player player, PlayerSnapshot previous) {
+        this.entityId = player.getEntityId();
+        this.simulationTick = player.getSimulationTick();
+
+        this.name = player.getName();
+        this.sex = player.getSex();
+        this.ethnicity = player.getEthnicity();
+        this.height = player.getHeight();
+        this.weight = player.getWeight();
+        this.bloodType = player.getBloodType();
+        this.bodyType = player.getBodyType();
+
+        this.stats = new int[PlayerStat.COUNT];
+        for (PlayerStat stat : PlayerStat.all()) {
+            stats[stat.ordinal()] = stat.get(player);
+        }
+
+        this.effectiveUpperBodyStrength = player.getEffectiveUpperBodyStrength();
+        this.effectiveLowerBodyStrength = player.getEffectiveLowerBodyStrength();
+        this.effectiveAgility = player.getEffectiveAgility();
+        this.effectiveSpeed = player.getEffectiveSpeed();
+        this.effectiveDexterity = player.getEffectiveDexterity();
+        this.effectiveIntelligence = player.getEffectiveIntelligence();
+        this.effectiveFocus = player.getEffectiveFocus();
+        this.effectiveSight = player.getEffectiveSight();
+        this.effectiveHearing = player.getEffectiveHearing();
+        this.effectiveMemory = player.getEffectiveMemory();
+
+        this.alive = player.isAlive();
+        this.conscious = player.isConscious();
+        this.awake = player.isAwake();
+        this.experiencingSeizure = player.isExperiencingSeizure();
+        this.mood = player.getMood();
+
+        this.inventoryVersion = player.getInventoryVersion();
+        this.inventory = previous != null && previous.entityId == entityId && previous.inventoryVersion == inventoryVersion
+                ? previous.inventory
+                : List.copyOf(player.getInventory());
+    }
+
+    /**
+     * @return The value of a base stat as of this snapshot.
+     */
+    public int get(PlayerStat stat) { return stats[stat.ordinal()]; }
+
+    public int getEntityId() { return entityId; }
+
+    /**
+     * @return The player's simulation tick after the cycle this snapshot was taken at.
+     */
+    public long getSimulationTick() { return simulationTick; }
+
+    // --- Identity ---
+    public String getName() { return name; }
+    public Player.Sex getSex() { return sex; }
+    public String getEthnicity() { return ethnicity; }
+    public double getHeight() { return height; }
+    public double getWeight() { return weight; }
+    public Player.BloodType getBloodType() { return bloodType; }
+    public Player.BodyType getBodyType() { return bodyType; }
+    public int getAge() { return get(PlayerStat.AGE); }
+
+    // --- Base stats most often displayed (everything else via get(PlayerStat)) ---
+    public int getLuck() { return get(PlayerStat.LUCK); }
+    public int getBeauty() { return get(PlayerStat.BEAUTY); }
+    public int getIntelligence() { return get(PlayerStat.INTELLIGENCE); }
+    public int getUpperBodyStrength() { return get(PlayerStat.UPPER_BODY_STRENGTH); }
+    public int getLowerBodyStrength() { return get(PlayerStat.LOWER_BODY_STRENGTH); }
+    public int getEndurance() { return get(PlayerStat.ENDURANCE); }
+    public int getAgility() { return get(PlayerStat.AGILITY); }
+    public int getSpeed() { return get(PlayerStat.SPEED); }
+    public int getDexterity() { return get(PlayerStat.DEXTERITY); }
+    public int getHealth() { return get(PlayerStat.HEALTH); }
+    public int getHunger() { return get(PlayerStat.HUNGER); }
+    public int getThirst() { return get(PlayerStat.THIRST); }
+    public int getFatiguePercent() { return get(PlayerStat.FATIGUE_PERCENT); }
+    public int getSleep() { return get(PlayerStat.SLEEP); }
+    public int getHygiene() { return get(PlayerStat.HYGIENE); }
+    public int getComfort() { return get(PlayerStat.COMFORT); }
+    public int getStress() { return get(PlayerStat.STRESS); }
+
+    // --- Effective stats (base plus temporary modifiers, as computed by Player) ---
+    public int getEffectiveUpperBodyStrength() { return effectiveUpperBodyStrength; }
+    public int getEffectiveLowerBodyStrength() { return effectiveLowerBodyStrength; }
+    public int getEffectiveAgility() { return effectiveAgility; }
+    public int getEffectiveSpeed() { return effectiveSpeed; }
+    public int getEffectiveDexterity() { return effectiveDexterity; }
+    public int getEffectiveIntelligence() { return effectiveIntelligence; }
+    public int getEffectiveFocus() { return effectiveFocus; }
+    public int getEffectiveSight() { return effectiveSight; }
+    public int getEffectiveHearing() { return effectiveHearing; }
+    public int getEffectiveMemory() { return effectiveMemory; }
+
+    // --- Status ---
+    public boolean isAlive() { return alive; }
+    public boolean isConscious() { return conscious; }
+    public boolean isAwake() { return awake; }
+    public boolean isExperiencingSeizure() { return experiencingSeizure; }
+    public Player.Mood getMood() { return mood; }
+
+    /**
+     * @return The inventory as of this snapshot (unmodifiable).
+     */
+    public List<String> getInventory() { return inventory; }
+
+    @Override
+    public String toString() {
+        return "PlayerSnapshot{" +
+                "entityId=" + entityId +
+                ", tick=" + simulationTick +
+                ", name='" + name + '\'' +
+                ", health=" + getHealth() + "/" + Player.DEFAULT_PLAYER_HEALTH +
+                ", isAlive=" + alive +
+                ", isConscious=" + conscious +
+                ", isAwake=" + awake +
+                ", mood=" + mood +
+                '}';
+    }
+}
@@ -0,0 +1,80 @@
+package com.theofernandez.rpg.game;
+
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * The integer-valued, persistent stats of a {@link Player}, in a fixed order.
+ * The ordinal of each constant is its stable stat ID (used as a column index by {@link PlayerPopulation}).
+ * New stats must be appended at the end so existing IDs never shift.
+ */
+public enum PlayerStat {
+    AGE(Player::getAge, Player::setAge),
+    LUCK(Player::getLuck, Player::setLuck),
+    BEAUTY(Player::getBeauty, Player::setBeauty),
+    INTELLIGENCE(Player::getIntelligence, Player::setIntelligence),
+    UPPER_BODY_STRENGTH(Player::getUpperBodyStrength, Player::setUpperBodyStrength),
+    LOWER_BODY_STRENGTH(Player::getLowerBodyStrength, Player::setLowerBodyStrength),
+    ENDURANCE(Player::getEndurance, Player::setEndurance),
+    AGILITY(Player::getAgility, Player::setAgility),
+    SPEED(Player::getSpeed, Player::setSpeed),
+    DEXTERITY(Player::getDexterity, Player::setDexterity),
+    HEALTH(Player::getHealth, Player::setHealth),
+    BODY_TEMPERATURE(Player::getBodyTemperature, Player::setBodyTemperature),
+    BLOOD_PRESSURE(Player::getBloodPressure, Player::setBloodPressure),
+    HEART_RATE(Player::getHeartRate, Player::setHeartRate),
+    CARDIOVASCULAR(Player::getCardiovascular, Player::setCardiovascular),
+    RESPIRATORY(Player::getRespiratory, Player::setRespiratory),
+    NEURAL(Player::getNeural, Player::setNeural),
+    DIGESTIVE(Player::getDigestive, Player::setDigestive),
+    IMMUNE(Player::getImmune, Player::setImmune),
+    SIGHT(Player::getSight, Player::setSight),
+    HEARING(Player::getHearing, Player::setHearing),
+    SMELL_TASTE(Player::getSmellTaste, Player::setSmellTaste),
+    HUNGER(Player::getHunger, Player::setHunger),
+    THIRST(Player::getThirst, Player::setThirst),
+    FATIGUE_PERCENT(Player::getFatiguePercent, Player::setFatiguePercent),
+    SLEEP(Player::getSleep, Player::setSleep),
+    HYGIENE(Player::getHygiene, Player::setHygiene),
+    BLADDER(Player::getBladder, Player::setBladder),
+    COMFORT(Player::getComfort, Player::setComfort),
+    MEMORY(Player::getMemory, Player::setMemory),
+    FOCUS(Player::getFocus, Player::setFocus),
+    WILLPOWER(Player::getWillpower, Player::setWillpower),
+    VERBAL(Player::getVerbal, Player::setVerbal),
+    MATHS(Player::getMaths, Player::setMaths),
+    KNOWLEDGE(Player::getKnowledge, Player::setKnowledge),
+    HAPPINESS(Player::getHappiness, Player::setHappiness),
+    SOCIAL(Player::getSocial, Player::setSocial),
+    STRESS(Player::getStress, Player::setStress),
+    BOREDOM(Player::getBoredom, Player::setBoredom),
+    CONFIDENCE(Player::getConfidence, Player::setConfidence),
+    CONCUSSION_COUNT(Player::getConcussionCount, Player::setConcussionCount),
+    ADRENALINE_RUSH_TURNS(Player::getAdrenalineRushTurns, Player::setAdrenalineRushTurns);
+
+    // Cached copy of values(); values() allocates a new array on every call.
+    private static final PlayerStat[] ALL = values();
+    public static final int COUNT = ALL.length;
+
+    private final ToIntFunction<Player> getter;
+    private final ObjIntConsumer<Player> setter;
+
+    PlayerStat(ToIntFunction<Player> getter, ObjIntConsumer<Player> setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public int get(Player player) { return getter.applyAsInt(player); }
+    public void set(Player player, int value) { setter.accept(player, value); }
+
+    /**
+     * @param id The stable stat ID (ordinal).
+     * @return The stat with that ID.
+     */
+    public static PlayerStat byId(int id) { return ALL[id]; }
+
+    /**
+     * @return All stats in ID order. The returned array is shared and must not be modified.
+     */
+    static PlayerStat[] all() { return ALL; }
+}
@@ -0,0 +1,54 @@
+package com.theofernandez.rpg.save;
+
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.session.GameSession;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Autosaves a session every {@link GameSession#getAutosaveIntervalMinutes()} game minutes, through a
+ * {@link SaveService}. Whatever advances the session's time calls {@link #onTimeAdvanced()} afterwards, on the
+ * thread acting on the player; the check is a subtraction, and a due save costs only its snapshot there.
+ */
+public final class Autosaver {
+
+    private final GameSession session;
+    private final SaveService service;
+    private final Path file;
+    private long lastSaveMinutes; // Thread acting on the session only
+
+    /**
+     * @param file The autosave file, overwritten by each autosave.
+     */
+    public Autosaver(GameSession session, SaveService service, Path file) {
+        this.session = Objects.requireNonNull(session, "Session cannot be null.");
+        this.service = Objects.requireNonNull(service, "Save service cannot be null.");
+        this.file = Objects.requireNonNull(file, "Autosave file cannot be null.");
+        this.lastSaveMinutes = session.getClock().getElapsedMinutes(); // A game just started or loaded needs no save
+    }
+
+    /**
+     * Requests an autosave if the interval has passed since the last one. Dead players are not saved, so the
+     * autosave keeps the last living state. If the game time went back (a rewind, or an earlier save loaded into
+     * the session), the interval restarts from there.
+     *
+     * @return The save in progress, or null if none was due.
+     */
+    public CompletableFuture<Path> onTimeAdvanced() {
+        int interval = session.getAutosaveIntervalMinutes();
+        long now = session.getClock().getElapsedMinutes();
+        if (now < lastSaveMinutes) {
+            lastSaveMinutes = now; // Otherwise no autosave until the game catches up with the abandoned timeline
+        }
+        if (interval <= 0 || now - lastSaveMinutes < interval) return null;
+
+        Player player = session.getPlayer();
+        if (player == null || !player.isAlive()) return null;
+        lastSaveMinutes = now;
+        return service.save(file, GameState.capture(session));
+    }
+
+    public Path getFile() { return file; }
+}
@@ -0,0 +1,76 @@
+package com.theofernandez.rpg.save;
+
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.session.GameSession;
+
+import java.util.Objects;
+
+/**
+ * Everything a save file holds: the player, the world time and the world seed, plus when it was saved.
+ * The player is held by reference, not copied; it must not change while the state is being encoded.
+ */
+public final class GameState {
+
+    private final Player player;
+    private final long elapsedMinutes;
+    private final long worldSeed;
+    private final long savedAtMillis;
+    private final int formatVersion;
+
+    /**
+     * @param player The player. Never null.
+     * @param elapsedMinutes Game minutes elapsed since Day 1, 00:00. Must be non-negative.
+     * @param worldSeed The seed all of the session's random rolls derive from.
+     * @param savedAtMillis Wall-clock time of the save, in epoch milliseconds.
+     */
+    public GameState(Player player, long elapsedMinutes, long worldSeed, long savedAtMillis) {
+        this(player, elapsedMinutes, worldSeed, savedAtMillis, SaveFormat.CURRENT_VERSION);
+    }
+
+    GameState(Player player, long elapsedMinutes, long worldSeed, long savedAtMillis, int formatVersion) {
+        this.player = Objects.requireNonNull(player, "Player cannot be null.");
+        if (elapsedMinutes < 0) {
+            throw new IllegalArgumentException("Elapsed game minutes cannot be negative: " + elapsedMinutes);
+        }
+        this.elapsedMinutes = elapsedMinutes;
+        this.worldSeed = worldSeed;
+        this.savedAtMillis = savedAtMillis;
+        this.formatVersion = formatVersion;
+    }
+
+    /**
+     * Captures a session's current player, time and seed. Call on the thread acting on the session.
+     *
+     * @throws IllegalStateException If the session has no player.
+     */
+    public static GameState capture(GameSession session) {
+        Player player = session.getPlayer();
+        if (player == null) {
+            throw new IllegalStateException("Session " + session.getId() + " has no player to save.");
+        }
+        return new GameState(player, session.getClock().getElapsedMinutes(), session.getWorldSeed(), System.currentTimeMillis());
+    }
+
+    /**
+     * Makes this state the session's current game: its player, clock and world seed.
+     */
+    public void restoreInto(GameSession session) {
+        session.setPlayer(player);
+        session.getClock().setElapsedMinutes(elapsedMinutes);
+        session.setWorldSeed(worldSeed);
+    }
+
+    public Player getPlayer() { return player; }
+
+    public long getElapsedMinutes() { return elapsedMinutes; }
+
+    public long getWorldSeed() { return worldSeed; }
+
+    public long getSavedAtMillis() { return savedAtMillis; }
+
+    /**
+     * @return The save format version this state was read from ({@link SaveFormat#LEGACY_VERSION} for a serialized
+     *         Player, which carried no time or seed), or the current version for a state created in this run.
+     */
+    public int getFormatVersion() { return formatVersion; }
+}
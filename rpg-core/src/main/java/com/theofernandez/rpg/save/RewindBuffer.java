@@ -0,0 +1,108 @@
+package com.theofernandez.rpg.save;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The last few states of a game as compact binary checkpoints, for stepping back turns while testing balance. A
+ * checkpoint is the state encoded in the {@link SaveFormat} (150 to 400 bytes, by inventory size), taken after each
+ * action on the thread acting on the player: about a microsecond, and the live player is never copied.
+ *
+ * Checkpoints are immutable once taken and sit in a ring of fixed capacity, so taking one never moves the others
+ * and the oldest is simply overwritten. {@link #rewind(int)} finds a checkpoint by index arithmetic and decodes only
+ * that one into a new player, in constant time whichever of the retained states it is.
+ */
+public final class RewindBuffer {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final byte[][] checkpoints;
+    private int newest = -1; // Ring index of the newest checkpoint
+    private int size;
+
+    public RewindBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public RewindBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Rewind capacity must be positive: " + capacity);
+        }
+        this.checkpoints = new byte[capacity][];
+    }
+
+    /**
+     * Records the state as the newest checkpoint, dropping the oldest if the buffer is full. Call on the thread
+     * acting on the player.
+     *
+     * @return The checkpoint's size in bytes.
+     */
+    public synchronized int checkpoint(GameState state) {
+        ByteBuffer encoded = SaveFormat.encode(state);
+        byte[] bytes = Arrays.copyOf(encoded.array(), encoded.remaining()); // The encoder's buffer has slack
+        newest = (newest + 1) % checkpoints.length;
+        checkpoints[newest] = bytes;
+        size = Math.min(size + 1, checkpoints.length);
+        return bytes.length;
+    }
+
+    /**
+     * Restores the state of some turns ago and forgets the checkpoints after it, so the game continues from there
+     * (and a further rewind goes back from there).
+     *
+     * @param turns 0 for the newest checkpoint, 1 for the one before it, up to {@link #size()} - 1.
+     * @return The state, with a new player; restore it with {@link GameState#restoreInto}.
+     * @throws IllegalArgumentException If there is no checkpoint that many turns back.
+     */
+    public synchronized GameState rewind(int turns) {
+        if (turns < 0 || turns >= size) {
+            throw new IllegalArgumentException("Cannot rewind " + turns + " turns: " + size + " checkpoints available.");
+        }
+        int index = Math.floorMod(newest - turns, checkpoints.length);
+        for (int i = 0; i < turns; i++) {
+            checkpoints[Math.floorMod(newest - i, checkpoints.length)] = null; // Discarded turns can be collected
+        }
+        newest = index;
+        size -= turns;
+        try {
+            return SaveFormat.decode(ByteBuffer.wrap(checkpoints[index]));
+        } catch (IOException e) {
+            throw new IllegalStateException("Checkpoint could not be decoded: " + e.getMessage(), e); // Written by encode just before
+        }
+    }
+
+    /**
+     * @return Checkpoints available; {@link #rewind(int)} can go back one fewer turns than this.
+     */
+    public synchronized int size() { return size; }
+
+    public int capacity() { return checkpoints.length; }
+
+    public synchronized void clear() {
+        Arrays.fill(checkpoints, null);
+        newest = -1;
+        size = 0;
+    }
+
+    /**
+     * @return Bytes held by the retained checkpoints' data (each also has a 16-byte array header).
+     */
+    public synchronized long getRetainedBytes() {
+        long total = 0;
+        for (byte[] checkpoint : checkpoints) {
+            if (checkpoint != null) total += checkpoint.length;
+        }
+        return total;
+    }
+
+    /**
+     * @return Average size of a retained checkpoint in bytes, or 0 if there is none.
+     */
+    public synchronized int getAverageCheckpointBytes() {
+        return size == 0 ? 0 : (int) (getRetainedBytes() / size);
+    }
+}
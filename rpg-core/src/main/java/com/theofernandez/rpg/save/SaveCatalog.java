@@ -0,0 +1,342 @@
+package com.theofernandez.rpg.save;
+
+import com.theofernandez.rpg.game.Player;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+/**
+ * Catalog of the save files in a directory, for save lists. Each save's {@link SaveSummary} comes from a header-only
+ * read ({@link SaveFormat#readSummary(Path)}), and the summaries are cached in an index file in the same directory,
+ * {@value #INDEX_FILE_NAME}. Opening the catalog reads the index and re-reads only the saves whose size or
+ * modification time changed, so a directory of thousands of saves lists in milliseconds.
+ *
+ * Once {@link #startWatching()} is called, a daemon thread follows the directory with a {@link WatchService}: saves
+ * written, replaced or deleted update the catalog, and {@link Listener}s hear about each change as it happens.
+ *
+ * <pre>
+ * Index (big-endian)  magic "NCAT" | version (u16) | reserved (u16) | entry count (u32) | CRC32C of the entries (u32)
+ * Entry               file name (string) | size, modified millis (varlongs) | format version (varint)
+ *                     player name (string) | elapsed minutes, saved-at millis (varlongs) | health (zigzag varint)
+ *                     mood (u8, 0xFF for null) | alive (u8)
+ * </pre>
+ */
+public final class SaveCatalog implements Closeable {
+
+    public static final String SAVE_EXTENSION = ".sav";
+    public static final String INDEX_FILE_NAME = "catalog.idx";
+
+    static final int INDEX_MAGIC = 0x4E434154; // "NCAT"
+    static final int INDEX_VERSION = 1;
+    private static final int INDEX_HEADER_BYTES = 16;
+
+    /**
+     * Hears about saves changing. Called on the watcher thread (or the thread calling {@link #refresh()}).
+     */
+    public interface Listener {
+        /**
+         * @param fileName The save's file name, extension included.
+         * @param summary  Its new summary, or null if the save was deleted.
+         */
+        void saveChanged(String fileName, SaveSummary summary);
+    }
+
+    private final Path directory;
+    private final Path indexFile;
+    private final Map<String, SaveSummary> summaries = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder headerReads = new LongAdder();
+    private final LongAdder indexHits = new LongAdder();
+    private boolean indexDirty; // Guarded by this
+    private WatchService watchService;
+    private Thread watcher;
+
+    private SaveCatalog(Path directory) {
+        this.directory = directory;
+        this.indexFile = directory.resolve(INDEX_FILE_NAME);
+    }
+
+    /**
+     * Opens the catalog of a directory: reads its index, brings it up to date with the saves actually there, and
+     * writes the index back if anything changed.
+     */
+    public static SaveCatalog open(Path directory) throws IOException {
+        SaveCatalog catalog = new SaveCatalog(directory);
+        catalog.readIndex();
+        catalog.refresh();
+        return catalog;
+    }
+
+    /**
+     * @return Every save's summary, newest save first.
+     */
+    public List<SaveSummary> list() {
+        List<SaveSummary> list = new ArrayList<>(summaries.values());
+        list.sort(Comparator.comparingLong(SaveSummary::getSavedAtMillis).reversed());
+        return list;
+    }
+
+    /**
+     * @return The summary of the save with this file name (extension included), or null if there is none.
+     */
+    public SaveSummary get(String fileName) {
+        return summaries.get(fileName);
+    }
+
+    public int size() { return summaries.size(); }
+
+    public Path getDirectory() { return directory; }
+
+    public void addListener(Listener listener) { listeners.add(listener); }
+
+    public void removeListener(Listener listener) { listeners.remove(listener); }
+
+    /**
+     * @return Saves whose header was read, since the catalog was opened.
+     */
+    public long getHeaderReadCount() { return headerReads.sum(); }
+
+    /**
+     * @return Saves whose summary came from the index, still current, when the catalog was opened or refreshed.
+     */
+    public long getIndexHitCount() { return indexHits.sum(); }
+
+    /**
+     * Rescans the directory: reads the headers of new and changed saves, drops deleted ones, and writes the index if
+     * anything changed. The watcher does this itself when the OS dropped events.
+     */
+    public synchronized void refresh() throws IOException {
+        Set<String> present = new HashSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SAVE_EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                present.add(fileName);
+                update(fileName);
+            }
+        }
+        for (String fileName : new ArrayList<>(summaries.keySet())) {
+            if (!present.contains(fileName)) update(fileName);
+        }
+        writeIndexIfDirty();
+    }
+
+    /**
+     * Starts following the directory on a daemon thread, until {@link #close()}. Does nothing if already started.
+     */
+    public synchronized void startWatching() throws IOException {
+        if (watcher != null) return;
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        watcher = new Thread(this::watch, "save-catalog-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        refresh(); // Saves written between opening and registering
+    }
+
+    /**
+     * Stops watching and writes the index if it changed since it was last written.
+     */
+    @Override
+    public void close() throws IOException {
+        Thread thread;
+        synchronized (this) {
+            thread = watcher;
+            watcher = null;
+            if (watchService != null) watchService.close(); // Wakes the watcher
+            watchService = null;
+        }
+        if (thread != null) {
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            writeIndexIfDirty();
+        }
+    }
+
+    // Watcher thread
+    private void watch() {
+        WatchService service = watchService;
+        while (true) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (ClosedWatchServiceException | InterruptedException e) {
+                return; // Closed
+            }
+            try {
+                boolean overflow = false;
+                Set<String> changed = new HashSet<>(); // A save written in place reports several events
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        overflow = true;
+                    } else if (event.context() instanceof Path path && path.toString().endsWith(SAVE_EXTENSION)) {
+                        changed.add(path.toString());
+                    }
+                }
+                synchronized (this) {
+                    if (overflow) {
+                        refresh();
+                    } else {
+                        for (String fileName : changed) update(fileName);
+                        writeIndexIfDirty();
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("[SaveCatalog] Error updating the catalog of " + directory + ": " + e.getMessage());
+            }
+            if (!key.reset()) {
+                System.err.println("[SaveCatalog] Stopped watching " + directory + ": it is no longer accessible.");
+                return;
+            }
+        }
+    }
+
+    // Brings one save's summary up to date with its file, notifying listeners of any change. Holds this.
+    private void update(String fileName) {
+        Path file = directory.resolve(fileName);
+        SaveSummary current = summaries.get(fileName);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            attributes = null;
+        } catch (IOException e) {
+            System.err.println("[SaveCatalog] Could not read the attributes of " + file + ": " + e.getMessage());
+            return;
+        }
+        if (attributes == null || !attributes.isRegularFile()) {
+            if (summaries.remove(fileName) != null) {
+                indexDirty = true;
+                notifyListeners(fileName, null);
+            }
+            return;
+        }
+        if (current != null && current.matches(attributes.size(), attributes.lastModifiedTime().toMillis())) {
+            indexHits.increment();
+            return;
+        }
+        try {
+            SaveSummary summary = SaveFormat.readSummary(file);
+            headerReads.increment();
+            summaries.put(fileName, summary);
+            indexDirty = true;
+            notifyListeners(fileName, summary);
+        } catch (IOException e) {
+            // Not a save, or one being written in place: a later event brings it in once it is complete
+            System.err.println("[SaveCatalog] Skipping " + file + ": " + e.getMessage());
+        }
+    }
+
+    private void notifyListeners(String fileName, SaveSummary summary) {
+        for (Listener listener : listeners) {
+            try {
+                listener.saveChanged(fileName, summary);
+            } catch (RuntimeException e) {
+                System.err.println("[SaveCatalog] Listener failed on " + fileName + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // --- Index ---
+
+    // A missing or unreadable index only means every header is read once
+    private void readIndex() {
+        ByteBuffer in;
+        try {
+            if (!Files.isRegularFile(indexFile)) return;
+            in = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+        } catch (IOException e) {
+            System.err.println("[SaveCatalog] Could not read " + indexFile + ": " + e.getMessage());
+            return;
+        }
+        try {
+            if (in.getInt() != INDEX_MAGIC || Short.toUnsignedInt(in.getShort()) != INDEX_VERSION) {
+                System.err.println("[SaveCatalog] Ignoring " + indexFile + ": not an index of this version.");
+                return;
+            }
+            in.getShort(); // Reserved
+            int count = in.getInt();
+            int storedCrc = in.getInt();
+            CRC32C crc = new CRC32C();
+            crc.update(in.duplicate());
+            if ((int) crc.getValue() != storedCrc) {
+                System.err.println("[SaveCatalog] Ignoring " + indexFile + ": checksum mismatch.");
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                String fileName = SaveFormat.getString(in);
+                long size = SaveFormat.getVarLong(in);
+                long modifiedMillis = SaveFormat.getVarLong(in);
+                int formatVersion = SaveFormat.getVarInt(in);
+                String playerName = SaveFormat.getString(in);
+                long elapsedMinutes = SaveFormat.getVarLong(in);
+                long savedAtMillis = SaveFormat.getVarLong(in);
+                int health = SaveFormat.getZigZag(in);
+                Player.Mood mood = SaveFormat.byOrdinal(SaveFormat.MOODS, in.get());
+                boolean alive = in.get() != 0;
+                summaries.put(fileName, new SaveSummary(fileName, size, modifiedMillis, formatVersion, playerName,
+                        elapsedMinutes, savedAtMillis, health, mood, alive));
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            System.err.println("[SaveCatalog] Ignoring " + indexFile + ": " + e);
+            summaries.clear();
+        }
+    }
+
+    // Holds this
+    private void writeIndexIfDirty() throws IOException {
+        if (!indexDirty) return;
+        List<SaveSummary> entries = new ArrayList<>(summaries.values());
+        SaveFormat.Output out = new SaveFormat.Output(INDEX_HEADER_BYTES + entries.size() * 48);
+        out.position(INDEX_HEADER_BYTES);
+        for (SaveSummary summary : entries) {
+            out.putString(summary.getFileName());
+            out.putVarLong(summary.getFileSize());
+            out.putVarLong(summary.getLastModifiedMillis());
+            out.putVarInt(summary.getFormatVersion());
+            out.putString(summary.getPlayerName());
+            out.putVarLong(summary.getElapsedMinutes());
+            out.putVarLong(summary.getSavedAtMillis());
+            out.putZigZag(summary.getHealth());
+            out.putByte(SaveFormat.ordinal(summary.getMood()));
+            out.putByte(summary.isAlive() ? 1 : 0);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(out.array(), INDEX_HEADER_BYTES, out.size() - INDEX_HEADER_BYTES);
+        ByteBuffer bytes = ByteBuffer.wrap(out.array(), 0, out.size());
+        bytes.putInt(INDEX_MAGIC)
+                .putShort((short) INDEX_VERSION)
+                .putShort((short) 0)
+                .putInt(entries.size())
+                .putInt((int) crc.getValue());
+        SaveFormat.write(indexFile, bytes.position(0)); // Atomic, like a save
+        indexDirty = false;
+    }
+}
@@ -0,0 +1,642 @@
+package com.theofernandez.rpg.save;
+
+import com.theofernandez.rpg.game.GameClock;
+import com.theofernandez.rpg.game.ItemCounts;
+import com.theofernandez.rpg.game.ItemRegistry;
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerStat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.zip.CRC32C;
+
+/**
+ * The binary save file format. A save is a fixed header followed by a payload of sections in a fixed order:
+ *
+ * <pre>
+ * Header (16 bytes, big-endian)
+ *   magic "NSAV" (4) | version (u16) | flags (u16, reserved) | payload length (u32) | CRC32C of the payload (u32)
+ * Payload
+ *   clock      elapsed minutes (varlong), world seed (8 bytes), saved-at epoch millis (varlong)
+ *   identity   entity ID (varint), simulation tick (varlong), name, ethnicity (strings), height, weight (doubles)
+ *   enums      sex, blood type, body type, mood: one ordinal byte each, 0xFF for null
+ *   flags      one byte: alive, conscious, awake, seizure
+ *   stats      count (varint), then one zigzag varint per stat, in the stat layout of the file's version
+ *   modifiers  the eight temporary modifiers (zigzag varints)
+ *   inventory  number of item kinds (varint), then per kind its name (string) and count (varint)
+ * </pre>
+ *
+ * Varints are LEB128 (7 bits per byte, low bits first); most stats fit in one or two bytes. Strings are a varint
+ * byte length followed by UTF-8.
+ *
+ * Versioning: every change to the payload bumps {@link #CURRENT_VERSION}, and the reader keeps decoding every
+ * older version field by field. Stats are stored in the frozen layout of the version that wrote them (see
+ * {@link #statLayout(int)}); stats a file does not contain keep the new player's defaults. Enum constants may
+ * only ever be appended, so stored ordinals stay valid. Files without the magic are saves from before this format
+ * (a serialized {@link Player}, {@link #LEGACY_VERSION}); they still load, at the default start time.
+ *
+ * History: version 2 stores the inventory as item kinds with counts (version 1: one string per item). Names are
+ * stored rather than {@link ItemRegistry} IDs, which are only valid within one run; each name appears once per
+ * file and is interned once on load.
+ */
+public final class SaveFormat {
+
+    public static final int MAGIC = 0x4E534156; // "NSAV"
+    public static final int LEGACY_VERSION = 0;
+    public static final int CURRENT_VERSION = 2;
+    public static final int HEADER_BYTES = 16;
+
+    static final int MAX_PAYLOAD_BYTES = 16 * 1024 * 1024; // Far above any real save; guards against corrupt lengths
+    static final int SUMMARY_READ_BYTES = 512; // Header and summary fields of any save with a name of normal length
+    private static final int MAX_STRING_BYTES = 64 * 1024;
+    private static final int NULL_ORDINAL = 0xFF;
+
+    private static final int FLAG_ALIVE = 1;
+    private static final int FLAG_CONSCIOUS = 1 << 1;
+    private static final int FLAG_AWAKE = 1 << 2;
+    private static final int FLAG_SEIZURE = 1 << 3;
+
+    // Stat layout written by version 1. Frozen: a new stat goes into the layout of a new version, never in here.
+    private static final String[] STAT_LAYOUT_V1 = {
+            "AGE", "LUCK", "BEAUTY", "INTELLIGENCE", "UPPER_BODY_STRENGTH", "LOWER_BODY_STRENGTH", "ENDURANCE",
+            "AGILITY", "SPEED", "DEXTERITY", "HEALTH", "BODY_TEMPERATURE", "BLOOD_PRESSURE", "HEART_RATE",
+            "CARDIOVASCULAR", "RESPIRATORY", "NEURAL", "DIGESTIVE", "IMMUNE", "SIGHT", "HEARING", "SMELL_TASTE",
+            "HUNGER", "THIRST", "FATIGUE_PERCENT", "SLEEP", "HYGIENE", "BLADDER", "COMFORT", "MEMORY", "FOCUS",
+            "WILLPOWER", "VERBAL", "MATHS", "KNOWLEDGE", "HAPPINESS", "SOCIAL", "STRESS", "BOREDOM", "CONFIDENCE",
+            "CONCUSSION_COUNT", "ADRENALINE_RUSH_TURNS"
+    };
+
+    // Each version's layout resolved against the current stats, indexed by version. Null: stat no longer exists.
+    private static final PlayerStat[][] STAT_LAYOUTS = {
+            null, // Legacy saves are serialized players, not stat blocks
+            resolve(STAT_LAYOUT_V1),
+            resolve(STAT_LAYOUT_V1) // Version 2 changed the inventory only
+    };
+
+    private static final Player.Sex[] SEXES = Player.Sex.values();
+    private static final Player.BloodType[] BLOOD_TYPES = Player.BloodType.values();
+    private static final Player.BodyType[] BODY_TYPES = Player.BodyType.values();
+    static final Player.Mood[] MOODS = Player.Mood.values();
+
+    /**
+     * Receives a save's inventory one item kind at a time, by name (see {@link #read(Path, InventoryVisitor)}).
+     */
+    @FunctionalInterface
+    public interface InventoryVisitor {
+        void visit(String item, int count);
+    }
+
+    private SaveFormat() {
+    }
+
+    /**
+     * Writes a save file atomically, replacing any existing file (see {@link #write(Path, ByteBuffer)}).
+     */
+    public static void write(Path file, GameState state) throws IOException {
+        write(file, encode(state));
+    }
+
+    /**
+     * Writes an encoded save (from {@link #encode(GameState)}) atomically: into a temporary file next to the target,
+     * synced to disk, then moved over the target. A crash at any point leaves either the old file or the new one,
+     * never a truncated save. Reads the buffer from its position without moving it.
+     */
+    public static void write(Path file, ByteBuffer encodedSave) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            ByteBuffer bytes = encodedSave.duplicate();
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(false); // The data must be on disk before the rename makes it the save
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING); // Not atomic, but still never truncated
+            }
+        } finally {
+            Files.deleteIfExists(temp); // Only still there if something failed
+        }
+    }
+
+    /**
+     * Reads a save file in this format, or a legacy serialized player.
+     *
+     * @throws IOException If the file cannot be read, is corrupt, or was written by a newer version of the game.
+     */
+    public static GameState read(Path file) throws IOException {
+        return read(file, (InventoryVisitor) null);
+    }
+
+    /**
+     * Reads a save file like {@link #read(Path)}, but hands its inventory to the visitor instead of the player, whose
+     * inventory stays empty. The item names are not interned in {@link ItemRegistry}, which never shrinks, so tools
+     * scanning any number of saves keep a bounded heap. Legacy serialized saves still intern theirs.
+     *
+     * @throws IOException If the file cannot be read, is corrupt, or was written by a newer version of the game.
+     */
+    public static GameState read(Path file, InventoryVisitor inventory) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > HEADER_BYTES + (long) MAX_PAYLOAD_BYTES) {
+                throw new IOException("Save file is too large (" + size + " bytes): " + file);
+            }
+            ByteBuffer bytes = ByteBuffer.allocate((int) size);
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes) < 0) {
+                    throw new IOException("Save file was truncated while reading: " + file);
+                }
+            }
+            bytes.flip();
+            if (!isBinarySave(bytes)) {
+                GameState legacy = decodeLegacy(Channels.newInputStream(channel.position(0)),
+                        Files.getLastModifiedTime(file).toMillis());
+                if (inventory != null) {
+                    visitAndClear(legacy.getPlayer(), inventory);
+                }
+                return legacy;
+            }
+            return decode(bytes, inventory);
+        }
+    }
+
+    /**
+     * Reads what a save list shows about a save without decoding the whole file: the payload stores the clock,
+     * identity, mood and flags first, and health early in the stat block, so only the first
+     * {@value #SUMMARY_READ_BYTES} bytes are read (more only for an unusually long name). The checksum is not
+     * verified; loading the save does that. Legacy saves have no such order and are decoded whole.
+     *
+     * @throws IOException If the file cannot be read, is not a save, or was written by a newer version of the game.
+     */
+    public static SaveSummary readSummary(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long modifiedMillis = Files.getLastModifiedTime(file).toMillis();
+            String fileName = file.getFileName().toString();
+            ByteBuffer prefix = ByteBuffer.allocate((int) Math.min(size, SUMMARY_READ_BYTES));
+            while (prefix.hasRemaining() && channel.read(prefix) >= 0) {
+                // Until the prefix is full or the file ends
+            }
+            prefix.flip();
+
+            if (!isBinarySave(prefix)) {
+                GameState legacy = decodeLegacy(Channels.newInputStream(channel.position(0)), modifiedMillis);
+                Player player = legacy.getPlayer();
+                return new SaveSummary(fileName, size, modifiedMillis, LEGACY_VERSION, player.getName(), legacy.getElapsedMinutes(),
+                        legacy.getSavedAtMillis(), player.getHealth(), player.getMood(), player.isAlive());
+            }
+            try {
+                return readSummary(prefix, fileName, size, modifiedMillis);
+            } catch (BufferUnderflowException e) {
+                // The summary runs past the prefix (a very long name): read the whole file
+                if (size > HEADER_BYTES + (long) MAX_PAYLOAD_BYTES) {
+                    throw new IOException("Save file is too large (" + size + " bytes): " + file);
+                }
+                ByteBuffer whole = ByteBuffer.allocate((int) size);
+                channel.position(0);
+                while (whole.hasRemaining() && channel.read(whole) >= 0) {
+                    // Until the buffer is full or the file ends
+                }
+                try {
+                    return readSummary(whole.flip(), fileName, size, modifiedMillis);
+                } catch (BufferUnderflowException | IllegalArgumentException truncated) {
+                    throw new IOException("Save file is truncated or corrupt: " + file, truncated);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Save file is corrupt: " + e, e);
+            }
+        }
+    }
+
+    private static SaveSummary readSummary(ByteBuffer in, String fileName, long size, long modifiedMillis) throws IOException {
+        in.getInt(); // Magic
+        int version = Short.toUnsignedInt(in.getShort());
+        if (version == LEGACY_VERSION || version > CURRENT_VERSION) {
+            throw new IOException("Unsupported save format version " + version + " (this game reads up to " + CURRENT_VERSION + ").");
+        }
+        in.position(HEADER_BYTES);
+
+        // Same order as readPayload, skipping what a summary does not need
+        long elapsedMinutes = getVarLong(in);
+        in.getLong(); // World seed
+        long savedAtMillis = getVarLong(in);
+        getVarInt(in); // Entity ID
+        getVarLong(in); // Simulation tick
+        String name = getString(in);
+        getString(in); // Ethnicity
+        int skipped = 2 * Double.BYTES + 3; // Height, weight; sex, blood type, body type
+        if (in.remaining() < skipped) throw new BufferUnderflowException();
+        in.position(in.position() + skipped);
+        Player.Mood mood = byOrdinal(MOODS, in.get());
+        int flags = Byte.toUnsignedInt(in.get());
+
+        PlayerStat[] layout = STAT_LAYOUTS[version];
+        getVarInt(in); // Stat count
+        int health = -1; // Not in this version's layout
+        for (PlayerStat stat : layout) {
+            int value = getZigZag(in);
+            if (stat == PlayerStat.HEALTH) {
+                health = value;
+                break;
+            }
+        }
+        return new SaveSummary(fileName, size, modifiedMillis, version, name, elapsedMinutes, savedAtMillis, health, mood,
+                (flags & FLAG_ALIVE) != 0);
+    }
+
+    /**
+     * @return True if the buffer (from its position) starts with this format's magic; false for legacy saves.
+     */
+    public static boolean isBinarySave(ByteBuffer bytes) {
+        return bytes.remaining() >= Integer.BYTES && bytes.getInt(bytes.position()) == MAGIC;
+    }
+
+    /**
+     * Encodes a game state as a complete save file, header included.
+     *
+     * @return A buffer positioned at 0 and limited to the encoded length.
+     */
+    public static ByteBuffer encode(GameState state) {
+        Output out = new Output(256);
+        out.position(HEADER_BYTES); // Header is filled in once the payload is known
+        writePayload(out, state);
+
+        int payloadLength = out.size() - HEADER_BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(out.array(), HEADER_BYTES, payloadLength);
+
+        ByteBuffer bytes = ByteBuffer.wrap(out.array(), 0, out.size());
+        bytes.putInt(MAGIC)
+                .putShort((short) CURRENT_VERSION)
+                .putShort((short) 0)
+                .putInt(payloadLength)
+                .putInt((int) crc.getValue());
+        return bytes.position(0);
+    }
+
+    /**
+     * Decodes a save file in this format from the buffer's position, migrating older versions.
+     *
+     * @throws IOException If the data is not a valid save, fails its checksum, or has an unknown version.
+     */
+    public static GameState decode(ByteBuffer bytes) throws IOException {
+        return decode(bytes, null);
+    }
+
+    // A null visitor decodes the inventory into the player
+    private static GameState decode(ByteBuffer bytes, InventoryVisitor inventory) throws IOException {
+        if (bytes.remaining() < HEADER_BYTES || !isBinarySave(bytes)) {
+            throw new IOException("Not a save file: missing header.");
+        }
+        ByteBuffer in = bytes.slice();
+        in.getInt(); // Magic
+        int version = Short.toUnsignedInt(in.getShort());
+        in.getShort(); // Flags, none defined yet
+        int payloadLength = in.getInt();
+        int storedCrc = in.getInt();
+        if (version == LEGACY_VERSION || version > CURRENT_VERSION) {
+            throw new IOException("Unsupported save format version " + version + " (this game reads up to " + CURRENT_VERSION + ").");
+        }
+        if (payloadLength < 0 || payloadLength > MAX_PAYLOAD_BYTES || payloadLength > in.remaining()) {
+            throw new IOException("Save file is truncated or corrupt: payload length " + Integer.toUnsignedString(payloadLength)
+                    + ", " + in.remaining() + " bytes present.");
+        }
+        ByteBuffer payload = in.slice().limit(payloadLength);
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != storedCrc) {
+            throw new IOException("Save file is corrupt: checksum mismatch.");
+        }
+        try {
+            return readPayload(payload, version, inventory);
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Save file is corrupt: " + e, e);
+        }
+    }
+
+    /**
+     * Reads a save from before this format: a serialized Player and nothing else. The time is set to the default
+     * start and the world gets a fresh seed, as loading those saves always did.
+     */
+    static GameState decodeLegacy(InputStream in, long savedAtMillis) throws IOException {
+        try (ObjectInputStream ois = new ObjectInputStream(in)) {
+            Player player = (Player) ois.readObject();
+            return new GameState(player, GameClock.DEFAULT_START_MINUTES, new SplittableRandom().nextLong(),
+                    savedAtMillis, LEGACY_VERSION);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Save file data is incompatible: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return The stats of a format version's stat block, in stored order. Null entries were removed from the game.
+     */
+    static PlayerStat[] statLayout(int version) {
+        return STAT_LAYOUTS[version];
+    }
+
+    // --- Payload ---
+
+    private static void writePayload(Output out, GameState state) {
+        Player player = state.getPlayer();
+
+        // Clock
+        out.putVarLong(state.getElapsedMinutes());
+        out.putLong(state.getWorldSeed());
+        out.putVarLong(state.getSavedAtMillis());
+
+        // Identity
+        out.putVarInt(player.getEntityId());
+        out.putVarLong(player.getSimulationTick());
+        out.putString(player.getName());
+        out.putString(player.getEthnicity());
+        out.putDouble(player.getHeight());
+        out.putDouble(player.getWeight());
+
+        // Enums
+        out.putByte(ordinal(player.getSex()));
+        out.putByte(ordinal(player.getBloodType()));
+        out.putByte(ordinal(player.getBodyType()));
+        out.putByte(ordinal(player.getMood()));
+
+        // Flags
+        out.putByte(statusFlags(player));
+
+        // Stats, in the current version's layout
+        PlayerStat[] layout = STAT_LAYOUTS[CURRENT_VERSION];
+        out.putVarInt(layout.length);
+        for (PlayerStat stat : layout) {
+            out.putZigZag(stat.get(player));
+        }
+
+        // Temporary modifiers
+        for (TempModifier modifier : TempModifier.ALL) {
+            out.putZigZag(modifier.get(player));
+        }
+
+        // Inventory
+        ItemCounts items = player.getItemCounts();
+        out.putVarInt(items.kinds());
+        for (int i = 0; i < items.kinds(); i++) {
+            out.putString(ItemRegistry.nameOf(items.idAt(i)));
+            out.putVarInt(items.countAt(i));
+        }
+    }
+
+    // Decodes any non-legacy version. A field added by version N is read under "version >= N"; before that, the
+    // new player's default stands.
+    private static GameState readPayload(ByteBuffer in, int version, InventoryVisitor visitor) throws IOException {
+        // Clock
+        long elapsedMinutes = getVarLong(in);
+        long worldSeed = in.getLong();
+        long savedAtMillis = getVarLong(in);
+
+        Player player = new Player();
+
+        // Identity
+        int entityId = getVarInt(in);
+        player.setSimulationTick(getVarLong(in));
+        player.setName(getString(in));
+        player.setEthnicity(getString(in));
+        player.setHeight(in.getDouble());
+        player.setWeight(in.getDouble());
+
+        // Enums
+        player.setSex(byOrdinal(SEXES, in.get()));
+        player.setBloodType(byOrdinal(BLOOD_TYPES, in.get()));
+        player.setBodyType(byOrdinal(BODY_TYPES, in.get()));
+        Player.Mood mood = byOrdinal(MOODS, in.get());
+        int flags = Byte.toUnsignedInt(in.get());
+
+        // Stats, in the layout of the file's version
+        PlayerStat[] layout = STAT_LAYOUTS[version];
+        int count = getVarInt(in);
+        if (count != layout.length) {
+            throw new IOException("Save file is corrupt: " + count + " stats stored, version " + version + " has " + layout.length + ".");
+        }
+        for (PlayerStat stat : layout) {
+            int value = getZigZag(in);
+            if (stat != null) stat.set(player, value);
+        }
+
+        // Temporary modifiers
+        for (TempModifier modifier : TempModifier.ALL) {
+            modifier.set(player, getZigZag(in));
+        }
+
+        // Inventory
+        int items = getVarInt(in);
+        if (items < 0 || items > in.remaining()) { // Every item (version 2: every kind) takes at least one byte
+            throw new IOException("Save file is corrupt: inventory of " + items + " items.");
+        }
+        if (version >= 2) {
+            ItemCounts inventory = visitor == null ? new ItemCounts() : null;
+            for (int i = 0; i < items; i++) {
+                String item = getString(in);
+                int amount = getVarInt(in);
+                if (item.isBlank() || amount <= 0 || inventory != null && inventory.contains(ItemRegistry.find(item))) {
+                    throw new IOException("Save file is corrupt: inventory entry '" + item + "' x" + amount + ".");
+                }
+                if (inventory != null) {
+                    inventory.add(ItemRegistry.idOf(item), amount);
+                } else {
+                    visitor.visit(item.trim(), amount);
+                }
+            }
+            if (inventory != null) player.replaceInventory(inventory);
+        } else {
+            List<String> inventory = new ArrayList<>(items);
+            for (int i = 0; i < items; i++) {
+                inventory.add(getString(in));
+            }
+            if (visitor == null) {
+                player.replaceInventory(inventory);
+            } else {
+                for (String item : inventory) {
+                    if (!item.isBlank()) visitor.visit(item.trim(), 1); // Skipped on load too
+                }
+            }
+        }
+
+        // Flags last: setHealth(0) above may have flipped them as a side effect.
+        restoreStatus(player, flags, mood);
+        player.restoreEntityId(entityId);
+
+        return new GameState(player, elapsedMinutes, worldSeed, savedAtMillis, version);
+    }
+
+    // A legacy save's inventory was interned as the player was deserialized; hands it over like any other
+    private static void visitAndClear(Player player, InventoryVisitor visitor) {
+        ItemCounts items = player.getItemCounts();
+        for (int i = 0; i < items.kinds(); i++) {
+            visitor.visit(ItemRegistry.nameOf(items.idAt(i)), items.countAt(i));
+        }
+        player.replaceInventory(List.of());
+    }
+
+    /**
+     * @return The player's status flags as stored in a save: alive, conscious, awake, seizure.
+     */
+    static int statusFlags(Player player) {
+        return (player.isAlive() ? FLAG_ALIVE : 0)
+                | (player.isConscious() ? FLAG_CONSCIOUS : 0)
+                | (player.isAwake() ? FLAG_AWAKE : 0)
+                | (player.isExperiencingSeizure() ? FLAG_SEIZURE : 0);
+    }
+
+    /**
+     * Restores stored status flags and mood exactly. Must come after the stats, whose setters may flip the flags.
+     */
+    static void restoreStatus(Player player, int flags, Player.Mood mood) {
+        player.restoreStatusFlags((flags & FLAG_ALIVE) != 0, (flags & FLAG_CONSCIOUS) != 0, (flags & FLAG_AWAKE) != 0);
+        player.setExperiencingSeizure((flags & FLAG_SEIZURE) != 0);
+        player.setMood(mood);
+    }
+
+    private static PlayerStat[] resolve(String[] names) {
+        PlayerStat[] layout = new PlayerStat[names.length];
+        for (int i = 0; i < names.length; i++) {
+            for (PlayerStat stat : PlayerStat.values()) {
+                if (stat.name().equals(names[i])) layout[i] = stat;
+            }
+        }
+        return layout;
+    }
+
+    static int ordinal(Enum<?> value) {
+        return value == null ? NULL_ORDINAL : value.ordinal();
+    }
+
+    static <E extends Enum<E>> E byOrdinal(E[] values, byte stored) {
+        int ordinal = Byte.toUnsignedInt(stored);
+        if (ordinal == NULL_ORDINAL) return null;
+        if (ordinal >= values.length) {
+            throw new IllegalArgumentException("Unknown " + values[0].getDeclaringClass().getSimpleName() + " ordinal " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    // --- Primitive decoding ---
+
+    static long getVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    static int getVarInt(ByteBuffer in) {
+        long value = getVarLong(in);
+        if ((value >>> Integer.SIZE) != 0) {
+            throw new IllegalArgumentException("Varint out of int range: " + value);
+        }
+        return (int) value; // Written as unsigned 32 bits
+    }
+
+    static int getZigZag(ByteBuffer in) {
+        int value = getVarInt(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static String getString(ByteBuffer in) {
+        int length = getVarInt(in);
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Invalid string length " + length);
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException(); // A valid length running past a partial read (see readSummary)
+        }
+        byte[] utf8 = new byte[length];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Growable byte array with the format's primitive encodings.
+     */
+    static final class Output {
+        private byte[] buffer;
+        private int size;
+
+        Output(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        byte[] array() { return buffer; }
+
+        int size() { return size; }
+
+        void position(int position) {
+            ensure(position - size);
+            size = position;
+        }
+
+        void putByte(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void putLong(long value) {
+            ensure(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void putDouble(double value) {
+            putLong(Double.doubleToRawLongBits(value));
+        }
+
+        void putVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void putVarInt(int value) {
+            putVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void putZigZag(int value) {
+            putVarInt((value << 1) ^ (value >> 31));
+        }
+
+        void putString(String value) {
+            byte[] utf8 = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+            putVarInt(utf8.length);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, buffer, size, utf8.length);
+            size += utf8.length;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,584 @@
+package com.theofernandez.rpg.save;
+
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerStat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Write-ahead journal of one save game, kept in its own directory. Instead of rewriting the whole save, each
+ * {@link #append(GameState)} adds a record of what changed since the previous one: the clock, the stats and
+ * temporary modifiers whose values differ, status flags and mood, and an inventory delta. A full snapshot is
+ * taken every {@code snapshotEvery} records; loading decodes the newest snapshot and replays the records after it.
+ *
+ * <pre>
+ * snapshot-000001.sav   Full save in {@link SaveFormat} of generation 1
+ * journal-000001.log    Records after snapshot 1
+ *
+ * Segment header (16 bytes)  magic "NJNL" | version (u16) | stat layout version (u16) | generation (u64)
+ * Record                     body length (u32) | CRC32C of the body (u32) | body
+ * Body                       elapsed minutes, saved-at millis, simulation tick (varlongs) | status flags (u8) | mood (u8)
+ *                            changed fields (varint), then per field: field ID (varint), value (zigzag varint)
+ *                            inventory: 0 if unchanged, else the kept prefix length + 1 (varint), then the
+ *                            appended item count (varint) and items
+ * </pre>
+ *
+ * Field IDs index the segment's stat layout (see {@link SaveFormat#statLayout(int)}), followed by the temporary
+ * modifiers. A typical record after an action is 10 to 30 bytes.
+ *
+ * Once a segment holds {@code snapshotEvery} records, the next generation's segment is started right away and
+ * the snapshot is written in the background, which then deletes the older generations (compaction). Until the new
+ * snapshot is on disk, loading still finds the previous one and replays both segments. Changes a record cannot
+ * express (a new player, a renamed one, a new world seed) write their snapshot before the new segment is started.
+ *
+ * Appends reach the OS right away but are not synced to disk one by one, so they survive the game crashing, and a
+ * torn last record (the OS crashed mid-append) is cut off when the journal is opened again. Snapshots are synced.
+ *
+ * Not thread-safe beyond its own consistency: appends come from the thread acting on the player.
+ */
+public final class SaveJournal implements Closeable {
+
+    public static final int DEFAULT_SNAPSHOT_EVERY = 256;
+
+    static final int SEGMENT_MAGIC = 0x4E4A4E4C; // "NJNL"
+    static final int SEGMENT_VERSION = 1;
+    static final int SEGMENT_HEADER_BYTES = 16;
+    private static final int RECORD_HEADER_BYTES = 8;
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".sav";
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final PlayerStat[] LAYOUT = SaveFormat.statLayout(SaveFormat.CURRENT_VERSION);
+    private static final int FIELD_COUNT = LAYOUT.length + TempModifier.ALL.length;
+
+    // What a record cannot express: any change to it needs a new snapshot
+    private record Identity(int entityId, String name, Player.Sex sex, String ethnicity, double height, double weight,
+                            Player.BloodType bloodType, Player.BodyType bodyType, long worldSeed) {
+        static Identity of(GameState state) {
+            Player player = state.getPlayer();
+            return new Identity(player.getEntityId(), player.getName(), player.getSex(), player.getEthnicity(),
+                    player.getHeight(), player.getWeight(), player.getBloodType(), player.getBodyType(), state.getWorldSeed());
+        }
+    }
+
+    // Result of reading a journal directory
+    private record Recovery(GameState state, long snapshotGeneration, long lastSegment, long lastSegmentEnd) {
+    }
+
+    private final Path directory;
+    private final int snapshotEvery;
+    private final GameState openedState;
+    private final ExecutorService compactor;
+    private final SaveFormat.Output record = new SaveFormat.Output(128);
+
+    // Writer state, guarded by this. The "last" fields mirror the state the journal's records add up to.
+    private FileChannel segment;
+    private long generation;
+    private int recordsInSegment;
+    private Identity lastIdentity;
+    private final int[] lastFields = new int[FIELD_COUNT];
+    private final int[] fields = new int[FIELD_COUNT];
+    private int lastFlags;
+    private Player.Mood lastMood;
+    private long lastTick;
+    private long lastElapsedMinutes;
+    private List<String> lastInventory;
+    private long appendedRecords;
+    private long appendedBytes;
+    private long snapshots;
+    private boolean closed;
+
+    private SaveJournal(Path directory, int snapshotEvery, GameState openedState) {
+        this.directory = directory;
+        this.snapshotEvery = snapshotEvery;
+        this.openedState = openedState;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "save-journal-compactor");
+            thread.setDaemon(true); // close() waits for it
+            return thread;
+        });
+    }
+
+    /**
+     * Starts a new journal in the directory, replacing any journal already there, from the given state.
+     *
+     * @param snapshotEvery Records per segment; a snapshot is taken after each full segment.
+     * @throws IllegalArgumentException If snapshotEvery is not positive.
+     */
+    public static SaveJournal create(Path directory, GameState initial, int snapshotEvery) throws IOException {
+        checkSnapshotEvery(snapshotEvery);
+        Files.createDirectories(directory);
+        deleteGenerationsBefore(directory, Long.MAX_VALUE);
+        SaveJournal journal = new SaveJournal(directory, snapshotEvery, initial);
+        synchronized (journal) {
+            SaveFormat.write(snapshotFile(directory, 1), SaveFormat.encode(initial));
+            journal.snapshots++;
+            journal.startSegment(1, 0);
+            journal.setBaseline(initial);
+        }
+        return journal;
+    }
+
+    /**
+     * Opens an existing journal to continue appending to it, recovering its state (see {@link #getOpenedState()}).
+     * A torn record at the end is cut off.
+     *
+     * @throws IOException If the directory holds no readable snapshot.
+     */
+    public static SaveJournal open(Path directory, int snapshotEvery) throws IOException {
+        checkSnapshotEvery(snapshotEvery);
+        Recovery recovery = recover(directory);
+        SaveJournal journal = new SaveJournal(directory, snapshotEvery, recovery.state());
+        synchronized (journal) {
+            if (recovery.lastSegment() >= 0) {
+                journal.startSegment(recovery.lastSegment(), recovery.lastSegmentEnd());
+            } else {
+                journal.startSegment(recovery.snapshotGeneration(), 0);
+            }
+            journal.setBaseline(recovery.state());
+        }
+        return journal;
+    }
+
+    /**
+     * Reads a journal's current state without opening it for appending: the newest readable snapshot with every
+     * record after it replayed.
+     *
+     * @throws IOException If the directory holds no readable snapshot.
+     */
+    public static GameState load(Path directory) throws IOException {
+        return recover(directory).state();
+    }
+
+    /**
+     * @return True if the directory holds a journal (at least one snapshot).
+     */
+    public static boolean exists(Path directory) {
+        return Files.isDirectory(directory) && !generations(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX).isEmpty();
+    }
+
+    /**
+     * Deletes a journal's files and, if nothing else is in it, its directory. The journal must not be open.
+     */
+    public static void delete(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) return;
+        deleteGenerationsBefore(directory, Long.MAX_VALUE);
+        try (DirectoryStream<Path> rest = Files.newDirectoryStream(directory)) {
+            if (rest.iterator().hasNext()) return; // Not only ours; leave the directory
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * @return The state the journal was created or opened at.
+     */
+    public GameState getOpenedState() { return openedState; }
+
+    public Path getDirectory() { return directory; }
+
+    /**
+     * Records the state's changes since the previous append. Call on the thread acting on the player, whose state
+     * is read here.
+     *
+     * @return The bytes appended to the journal: 0 if nothing changed, the encoded snapshot's size if one was written
+     *         synchronously.
+     * @throws IllegalStateException If the journal is closed.
+     */
+    public synchronized int append(GameState state) throws IOException {
+        checkOpen();
+        Identity identity = Identity.of(state);
+        if (!identity.equals(lastIdentity)) {
+            return writeSnapshotAndRoll(state);
+        }
+
+        Player player = state.getPlayer();
+        for (int i = 0; i < LAYOUT.length; i++) {
+            fields[i] = LAYOUT[i].get(player);
+        }
+        for (int i = 0; i < TempModifier.ALL.length; i++) {
+            fields[LAYOUT.length + i] = TempModifier.ALL[i].get(player);
+        }
+        int flags = SaveFormat.statusFlags(player);
+        List<String> inventory = player.getInventory();
+        boolean inventoryChanged = !inventory.equals(lastInventory);
+
+        int changed = 0;
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if (fields[i] != lastFields[i]) changed++;
+        }
+        if (changed == 0 && !inventoryChanged && flags == lastFlags && player.getMood() == lastMood
+                && player.getSimulationTick() == lastTick && state.getElapsedMinutes() == lastElapsedMinutes) {
+            return 0;
+        }
+
+        SaveFormat.Output out = record;
+        out.position(RECORD_HEADER_BYTES); // Length and checksum go in once the body is known
+        out.putVarLong(state.getElapsedMinutes());
+        out.putVarLong(state.getSavedAtMillis());
+        out.putVarLong(player.getSimulationTick());
+        out.putByte(flags);
+        out.putByte(SaveFormat.ordinal(player.getMood()));
+        out.putVarInt(changed);
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if (fields[i] != lastFields[i]) {
+                out.putVarInt(i);
+                out.putZigZag(fields[i]);
+            }
+        }
+        if (!inventoryChanged) {
+            out.putVarInt(0);
+        } else {
+            int kept = 0;
+            int limit = Math.min(inventory.size(), lastInventory.size());
+            while (kept < limit && inventory.get(kept).equals(lastInventory.get(kept))) kept++;
+            out.putVarInt(kept + 1);
+            out.putVarInt(inventory.size() - kept);
+            for (int i = kept; i < inventory.size(); i++) {
+                out.putString(inventory.get(i));
+            }
+        }
+
+        int bodyLength = out.size() - RECORD_HEADER_BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(out.array(), RECORD_HEADER_BYTES, bodyLength);
+        ByteBuffer bytes = ByteBuffer.wrap(out.array(), 0, out.size());
+        bytes.putInt(0, bodyLength).putInt(4, (int) crc.getValue());
+        while (bytes.hasRemaining()) {
+            segment.write(bytes);
+        }
+
+        System.arraycopy(fields, 0, lastFields, 0, FIELD_COUNT);
+        lastFlags = flags;
+        lastMood = player.getMood();
+        lastTick = player.getSimulationTick();
+        lastElapsedMinutes = state.getElapsedMinutes();
+        if (inventoryChanged) lastInventory = List.copyOf(inventory);
+        appendedRecords++;
+        appendedBytes += out.size();
+
+        if (++recordsInSegment >= snapshotEvery) {
+            // This state is in the old segment already: its snapshot can be written in the background
+            ByteBuffer snapshot = SaveFormat.encode(state);
+            long next = generation + 1;
+            startSegment(next, 0);
+            snapshots++;
+            compactor.execute(() -> compact(next, snapshot));
+        }
+        return out.size();
+    }
+
+    /**
+     * @return The current generation: the snapshot the segment being appended to starts from.
+     */
+    public synchronized long getGeneration() { return generation; }
+
+    public synchronized long getAppendedRecords() { return appendedRecords; }
+
+    public synchronized long getAppendedBytes() { return appendedBytes; }
+
+    /**
+     * @return Snapshots taken by this journal instance (including the one {@link #create} wrote).
+     */
+    public synchronized long getSnapshotCount() { return snapshots; }
+
+    /**
+     * Syncs the segment, waits for snapshots being written in the background, and closes the journal.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            segment.force(false);
+            segment.close();
+        } finally {
+            compactor.shutdown();
+            try {
+                if (!compactor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    System.err.println("[SaveJournal] Compaction of " + directory + " still running after 10 s.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // --- Writing ---
+
+    // For changes records cannot carry: the snapshot must be on disk before any record builds on it
+    private int writeSnapshotAndRoll(GameState state) throws IOException {
+        ByteBuffer snapshot = SaveFormat.encode(state);
+        long next = generation + 1;
+        int size = snapshot.remaining();
+        SaveFormat.write(snapshotFile(directory, next), snapshot);
+        startSegment(next, 0);
+        setBaseline(state);
+        snapshots++;
+        compactor.execute(() -> compact(next, null));
+        return size;
+    }
+
+    // Compactor thread: makes the snapshot of a generation durable, then drops everything it supersedes
+    private void compact(long snapshotGeneration, ByteBuffer snapshot) {
+        try {
+            if (snapshot != null) {
+                SaveFormat.write(snapshotFile(directory, snapshotGeneration), snapshot);
+            }
+            deleteGenerationsBefore(directory, snapshotGeneration);
+        } catch (IOException e) {
+            // The older generations stay; loading replays them instead
+            System.err.println("[SaveJournal] Could not compact " + directory + " to generation " + snapshotGeneration + ": " + e.getMessage());
+        }
+    }
+
+    // Closes the current segment and continues in the given one, truncated to the given length (0: new segment)
+    private void startSegment(long newGeneration, long keepBytes) throws IOException {
+        if (segment != null) {
+            segment.close();
+        }
+        Path file = segmentFile(directory, newGeneration);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (keepBytes < SEGMENT_HEADER_BYTES) {
+                channel.truncate(0);
+                ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_BYTES)
+                        .putInt(SEGMENT_MAGIC)
+                        .putShort((short) SEGMENT_VERSION)
+                        .putShort((short) SaveFormat.CURRENT_VERSION)
+                        .putLong(newGeneration)
+                        .flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+            } else {
+                channel.truncate(keepBytes); // Cuts off a torn record
+                channel.position(keepBytes);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        segment = channel;
+        generation = newGeneration;
+        recordsInSegment = 0;
+    }
+
+    private void setBaseline(GameState state) {
+        Player player = state.getPlayer();
+        lastIdentity = Identity.of(state);
+        for (int i = 0; i < LAYOUT.length; i++) {
+            lastFields[i] = LAYOUT[i].get(player);
+        }
+        for (int i = 0; i < TempModifier.ALL.length; i++) {
+            lastFields[LAYOUT.length + i] = TempModifier.ALL[i].get(player);
+        }
+        lastFlags = SaveFormat.statusFlags(player);
+        lastMood = player.getMood();
+        lastTick = player.getSimulationTick();
+        lastElapsedMinutes = state.getElapsedMinutes();
+        lastInventory = List.copyOf(player.getInventory());
+    }
+
+    // --- Recovery ---
+
+    private static Recovery recover(Path directory) throws IOException {
+        TreeSet<Long> snapshotGenerations = generations(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        TreeSet<Long> segmentGenerations = generations(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        if (snapshotGenerations.isEmpty()) {
+            throw new IOException("No save journal in " + directory);
+        }
+
+        IOException lastFailure = null;
+        for (long snapshotGeneration : snapshotGenerations.descendingSet()) {
+            GameState snapshot;
+            try {
+                snapshot = SaveFormat.read(snapshotFile(directory, snapshotGeneration));
+            } catch (IOException e) {
+                // E.g., compaction is writing it right now, or it was damaged: an older one still has its records
+                System.err.println("[SaveJournal] Skipping snapshot " + snapshotGeneration + " of " + directory + ": " + e.getMessage());
+                lastFailure = e;
+                continue;
+            }
+
+            Player player = snapshot.getPlayer();
+            long[] clock = {snapshot.getElapsedMinutes(), snapshot.getSavedAtMillis()};
+            long lastSegment = -1;
+            long lastSegmentEnd = 0;
+            for (long g = snapshotGeneration; segmentGenerations.contains(g); g++) {
+                Path file = segmentFile(directory, g);
+                ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+                lastSegment = g;
+                lastSegmentEnd = replay(bytes, g, player, clock);
+                if (lastSegmentEnd < bytes.capacity()) {
+                    System.err.println("[SaveJournal] " + file + " ends in a torn record at byte " + lastSegmentEnd + "; replayed up to it.");
+                    break; // Nothing after a torn record can apply
+                }
+            }
+            GameState state = new GameState(player, clock[0], snapshot.getWorldSeed(), clock[1], SaveFormat.CURRENT_VERSION);
+            return new Recovery(state, snapshotGeneration, lastSegment, lastSegmentEnd);
+        }
+        throw new IOException("No readable snapshot in save journal " + directory, lastFailure);
+    }
+
+    // Applies a segment's valid records to the player; returns the offset after the last one
+    private static long replay(ByteBuffer bytes, long expectedGeneration, Player player, long[] clock) throws IOException {
+        if (bytes.remaining() < SEGMENT_HEADER_BYTES) {
+            return 0; // Crashed while starting the segment
+        }
+        if (bytes.getInt() != SEGMENT_MAGIC) {
+            throw new IOException("Not a save journal segment (generation " + expectedGeneration + ")");
+        }
+        int version = Short.toUnsignedInt(bytes.getShort());
+        int layoutVersion = Short.toUnsignedInt(bytes.getShort());
+        long generation = bytes.getLong();
+        if (version != SEGMENT_VERSION || layoutVersion == SaveFormat.LEGACY_VERSION || layoutVersion > SaveFormat.CURRENT_VERSION) {
+            throw new IOException("Unsupported save journal segment version " + version + "/" + layoutVersion);
+        }
+        if (generation != expectedGeneration) {
+            throw new IOException("Save journal segment of generation " + generation + " stored as " + expectedGeneration);
+        }
+        PlayerStat[] layout = SaveFormat.statLayout(layoutVersion);
+
+        int end = bytes.position();
+        while (bytes.remaining() >= RECORD_HEADER_BYTES) {
+            int length = bytes.getInt();
+            int storedCrc = bytes.getInt();
+            if (length < 0 || length > bytes.remaining()) break;
+            ByteBuffer body = bytes.slice(bytes.position(), length);
+            CRC32C crc = new CRC32C();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != storedCrc) break;
+            try {
+                applyRecord(body, layout, player, clock);
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("Corrupt record in save journal generation " + generation + " at byte " + end + ": " + e, e);
+            }
+            bytes.position(bytes.position() + length);
+            end = bytes.position();
+        }
+        return end;
+    }
+
+    // Decodes the whole record before touching the player, so a bad record never leaves it half-applied
+    private static void applyRecord(ByteBuffer body, PlayerStat[] layout, Player player, long[] clock) {
+        long elapsedMinutes = SaveFormat.getVarLong(body);
+        long savedAtMillis = SaveFormat.getVarLong(body);
+        long tick = SaveFormat.getVarLong(body);
+        int flags = Byte.toUnsignedInt(body.get());
+        Player.Mood mood = SaveFormat.byOrdinal(SaveFormat.MOODS, body.get());
+
+        int changed = SaveFormat.getVarInt(body);
+        if (changed < 0 || changed > layout.length + TempModifier.ALL.length) {
+            throw new IllegalArgumentException("Invalid changed field count " + changed);
+        }
+        int[] ids = new int[changed];
+        int[] values = new int[changed];
+        for (int i = 0; i < changed; i++) {
+            ids[i] = SaveFormat.getVarInt(body);
+            values[i] = SaveFormat.getZigZag(body);
+            if (ids[i] < 0 || ids[i] >= layout.length + TempModifier.ALL.length) {
+                throw new IllegalArgumentException("Unknown field ID " + ids[i]);
+            }
+        }
+
+        List<String> inventory = null;
+        int keptPlusOne = SaveFormat.getVarInt(body);
+        if (keptPlusOne != 0) {
+            List<String> current = player.getInventory();
+            int kept = keptPlusOne - 1;
+            int appended = SaveFormat.getVarInt(body);
+            if (kept < 0 || kept > current.size() || appended < 0 || appended > body.remaining()) {
+                throw new IllegalArgumentException("Invalid inventory delta: keep " + kept + " of " + current.size() + ", append " + appended);
+            }
+            inventory = new ArrayList<>(current.subList(0, kept));
+            for (int i = 0; i < appended; i++) {
+                inventory.add(SaveFormat.getString(body));
+            }
+        }
+
+        for (int i = 0; i < changed; i++) {
+            int id = ids[i];
+            if (id < layout.length) {
+                if (layout[id] != null) layout[id].set(player, values[i]);
+            } else {
+                TempModifier.ALL[id - layout.length].set(player, values[i]);
+            }
+        }
+        if (inventory != null) player.replaceInventory(inventory);
+        SaveFormat.restoreStatus(player, flags, mood); // After the stats, whose setters may flip the flags
+        player.setSimulationTick(tick);
+        clock[0] = elapsedMinutes;
+        clock[1] = savedAtMillis;
+    }
+
+    // --- Files ---
+
+    private static Path snapshotFile(Path directory, long generation) {
+        return directory.resolve(String.format("%s%06d%s", SNAPSHOT_PREFIX, generation, SNAPSHOT_SUFFIX));
+    }
+
+    private static Path segmentFile(Path directory, long generation) {
+        return directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, generation, SEGMENT_SUFFIX));
+    }
+
+    private static TreeSet<Long> generations(Path directory, String prefix, String suffix) {
+        TreeSet<Long> generations = new TreeSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    generations.add(Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())));
+                } catch (NumberFormatException e) {
+                    // Not one of ours
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[SaveJournal] Could not list " + directory + ": " + e.getMessage());
+        }
+        return generations;
+    }
+
+    private static void deleteGenerationsBefore(Path directory, long generation) throws IOException {
+        for (long g : generations(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX).headSet(generation)) {
+            Files.deleteIfExists(snapshotFile(directory, g));
+        }
+        for (long g : generations(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX).headSet(generation)) {
+            Files.deleteIfExists(segmentFile(directory, g));
+        }
+    }
+
+    private static void checkSnapshotEvery(int snapshotEvery) {
+        if (snapshotEvery <= 0) {
+            throw new IllegalArgumentException("Records between snapshots must be positive: " + snapshotEvery);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Save journal is closed: " + directory);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SaveJournal{" + Objects.toString(directory) + ", generation=" + generation + '}';
+    }
+}
@@ -0,0 +1,153 @@
+package com.theofernandez.rpg.save;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes saves in the background. {@link #save(Path, GameState)} encodes the game on the calling thread (the one
+ * acting on the player; about a microsecond, see {@link SaveFormat}), so the snapshot is consistent and the player
+ * may change again right away. The file is written by a single worker thread, atomically
+ * ({@link SaveFormat#write(Path, ByteBuffer)}), so the caller never waits for the disk.
+ *
+ * Back-to-back saves to the same file are coalesced: a save requested while an earlier one to that file is still
+ * queued replaces its data, and both callers' futures complete once the newest state is on disk.
+ */
+public final class SaveService implements Closeable {
+
+    private final String name;
+    private final ExecutorService writer;
+    private final Map<Path, PendingSave> pending = new HashMap<>(); // Queued, not yet started; guarded by itself
+    private final LongAdder written = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    // One save waiting for the worker: the newest data for its file, and the future every requester holds
+    private static final class PendingSave {
+        ByteBuffer bytes;
+        final CompletableFuture<Path> done = new CompletableFuture<>();
+
+        PendingSave(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * @param name Names the worker thread (a daemon), e.g. "save-writer".
+     */
+    public SaveService(String name) {
+        this.name = name;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true); // Never keeps the application alive; close() waits for queued saves
+            return thread;
+        });
+    }
+
+    /**
+     * Snapshots the game now and writes it to the file in the background. Call on the thread acting on the player.
+     *
+     * @return Completes with the file once the save is on disk, or exceptionally if writing failed.
+     * @throws IllegalStateException If the service has been closed.
+     */
+    public CompletableFuture<Path> save(Path file, GameState state) {
+        ByteBuffer bytes = SaveFormat.encode(state);
+        Path target = file.toAbsolutePath().normalize();
+        synchronized (pending) {
+            if (writer.isShutdown()) {
+                throw new IllegalStateException("Save service '" + name + "' is closed.");
+            }
+            PendingSave queued = pending.get(target);
+            if (queued != null) {
+                queued.bytes = bytes; // The worker has not started on it: it writes this newer state instead
+                coalesced.increment();
+                return queued.done;
+            }
+            PendingSave save = new PendingSave(bytes);
+            pending.put(target, save);
+            writer.execute(() -> write(target));
+            return save.done;
+        }
+    }
+
+    /**
+     * Runs other disk work on the worker thread, after the saves already queued, so the caller never waits on it
+     * (e.g., starting a save journal, which writes a full snapshot).
+     *
+     * @return Completes with the task's result, or exceptionally with what it threw.
+     * @throws IllegalStateException If the service has been closed.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> done = new CompletableFuture<>();
+        synchronized (pending) {
+            if (writer.isShutdown()) {
+                throw new IllegalStateException("Save service '" + name + "' is closed.");
+            }
+            writer.execute(() -> {
+                try {
+                    done.complete(task.call());
+                } catch (Exception e) {
+                    done.completeExceptionally(e);
+                }
+            });
+        }
+        return done;
+    }
+
+    // Worker thread
+    private void write(Path target) {
+        PendingSave save;
+        synchronized (pending) {
+            save = pending.remove(target); // Saves requested from now on queue a new write
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            SaveFormat.write(target, save.bytes);
+            written.increment();
+            save.done.complete(target);
+        } catch (IOException | RuntimeException e) {
+            failed.increment();
+            System.err.println("[SaveService] Error writing save " + target + ": " + e.getMessage());
+            save.done.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * @return Save files written so far.
+     */
+    public long getWrittenCount() { return written.sum(); }
+
+    /**
+     * @return Saves that were folded into a newer one before being written.
+     */
+    public long getCoalescedCount() { return coalesced.sum(); }
+
+    public long getFailedCount() { return failed.sum(); }
+
+    /**
+     * Writes every save already requested, then stops the worker. Waits up to 10 seconds.
+     */
+    @Override
+    public void close() {
+        synchronized (pending) {
+            writer.shutdown();
+        }
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                System.err.println("[SaveService] Saves of '" + name + "' still being written after 10 s.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.theofernandez.rpg.save;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A fixed number of save slots in one memory-mapped file, for quick saves and autosaves: saving is a copy into
+ * the mapping, loading decodes straight out of it, and no file is created, renamed or synced per save.
+ *
+ * <pre>
+ * File header (64 bytes)   magic "NSLT" | version (u16) | slot count (u16) | half size (u32)
+ * Slot table (8 per slot)  generation &lt;&lt; 1 | active half, 0 while the slot is empty
+ * Data (from 4096)         per slot, two halves of a fixed, page-aligned size:
+ *                          generation (u64) | label length (u8) | label (63 bytes, UTF-8) | save in {@link SaveFormat}
+ * </pre>
+ *
+ * Each slot is double-buffered. A save is written into the half that is not active, then the slot's table entry
+ * is flipped to it with a single aligned 8-byte release store, so a crash mid-save leaves the previous save in
+ * place. Writes reach the OS page cache immediately and survive the game process crashing; they are on disk
+ * once {@link #flush()} (or {@link #close()}) returned, or whenever the OS writes the pages back. Each half records
+ * the generation it was saved as, so should the flip reach the disk before the data did, the active half is either
+ * damaged or still holds an older save of the wrong generation; loading then falls back to the other half if it
+ * holds the slot's previous save.
+ *
+ * Thread-safe; operations on one store are serialized.
+ */
+public final class SaveSlotStore implements Closeable {
+
+    public static final int MAGIC = 0x4E534C54; // "NSLT"
+    public static final int STORE_VERSION = 1;
+    public static final int DEFAULT_SLOT_COUNT = 8;
+    public static final int DEFAULT_HALF_BYTES = 8 * 1024; // A save is ~200 bytes plus its inventory
+    public static final int MAX_LABEL_BYTES = 63;
+
+    private static final int PAGE_BYTES = 4096;
+    private static final int FILE_HEADER_BYTES = 64;
+    private static final int DATA_OFFSET = PAGE_BYTES;
+    private static final int MAX_SLOT_COUNT = (DATA_OFFSET - FILE_HEADER_BYTES) / Long.BYTES;
+    private static final int HALF_HEADER_BYTES = Long.BYTES + 1 + MAX_LABEL_BYTES;
+
+    // Slot table entries are published with release stores and read with acquire loads
+    private static final VarHandle SLOT_ENTRY = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * What the load screen shows for an occupied slot.
+     */
+    public static final class SlotInfo {
+        private final int slot;
+        private final String label;
+        private final String playerName;
+        private final long elapsedMinutes;
+        private final long savedAtMillis;
+
+        SlotInfo(int slot, String label, String playerName, long elapsedMinutes, long savedAtMillis) {
+            this.slot = slot;
+            this.label = label;
+            this.playerName = playerName;
+            this.elapsedMinutes = elapsedMinutes;
+            this.savedAtMillis = savedAtMillis;
+        }
+
+        public int getSlot() { return slot; }
+        public String getLabel() { return label; }
+        public String getPlayerName() { return playerName; }
+        public long getElapsedMinutes() { return elapsedMinutes; }
+        public long getSavedAtMillis() { return savedAtMillis; }
+    }
+
+    private final Path file;
+    private final MappedByteBuffer mapping;
+    private final int slotCount;
+    private final int halfBytes;
+    private boolean closed;
+
+    private SaveSlotStore(Path file, MappedByteBuffer mapping, int slotCount, int halfBytes) {
+        this.file = file;
+        this.mapping = mapping;
+        this.slotCount = slotCount;
+        this.halfBytes = halfBytes;
+    }
+
+    /**
+     * Opens the store in the given file, creating it with {@value #DEFAULT_SLOT_COUNT} slots if it does not exist.
+     */
+    public static SaveSlotStore open(Path file) throws IOException {
+        return open(file, DEFAULT_SLOT_COUNT, DEFAULT_HALF_BYTES);
+    }
+
+    /**
+     * Opens the store in the given file. An existing store keeps the layout it was created with; the slot count and
+     * half size only apply when the file is created.
+     *
+     * @param halfBytes Size of each half of a slot, a multiple of 4096; bounds the size of one save.
+     * @throws IllegalArgumentException If the slot count or half size is invalid.
+     * @throws IOException If the file cannot be mapped or is not a slot store.
+     */
+    public static SaveSlotStore open(Path file, int slotCount, int halfBytes) throws IOException {
+        if (slotCount <= 0 || slotCount > MAX_SLOT_COUNT) {
+            throw new IllegalArgumentException("Slot count must be between 1 and " + MAX_SLOT_COUNT + ": " + slotCount);
+        }
+        if (halfBytes <= 0 || halfBytes % PAGE_BYTES != 0) {
+            throw new IllegalArgumentException("Slot half size must be a positive multiple of " + PAGE_BYTES + ": " + halfBytes);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long existing = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES);
+            channel.read(header, 0);
+            if (existing == 0 || header.getInt(0) == 0) { // New, or its creation never finished
+                long size = DATA_OFFSET + 2L * slotCount * halfBytes;
+                if (size > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Slot store would be too large: " + size + " bytes");
+                }
+                MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, size); // Grows the file
+                mapping.putShort(4, (short) STORE_VERSION)
+                        .putShort(6, (short) slotCount)
+                        .putInt(8, halfBytes);
+                mapping.putInt(0, MAGIC); // Last: until it is there, the file counts as not created
+                mapping.force();
+                System.out.println("[SaveSlotStore] Created " + file + " with " + slotCount + " slots.");
+                return new SaveSlotStore(file, mapping, slotCount, halfBytes);
+            }
+
+            if (existing < DATA_OFFSET || header.getInt(0) != MAGIC) {
+                throw new IOException("Not a save slot store: " + file);
+            }
+            int version = Short.toUnsignedInt(header.getShort(4));
+            if (version != STORE_VERSION) {
+                throw new IOException("Unsupported save slot store version " + version + ": " + file);
+            }
+            int storedSlots = Short.toUnsignedInt(header.getShort(6));
+            int storedHalfBytes = header.getInt(8);
+            long size = DATA_OFFSET + 2L * storedSlots * storedHalfBytes;
+            if (storedSlots == 0 || storedSlots > MAX_SLOT_COUNT || storedHalfBytes <= 0
+                    || storedHalfBytes % PAGE_BYTES != 0 || size > existing || size > Integer.MAX_VALUE) {
+                throw new IOException("Save slot store header is corrupt: " + file);
+            }
+            return new SaveSlotStore(file, channel.map(FileChannel.MapMode.READ_WRITE, 0, size), storedSlots, storedHalfBytes);
+        }
+    }
+
+    public Path getFile() { return file; }
+
+    public int getSlotCount() { return slotCount; }
+
+    /**
+     * @return The largest save, in bytes, a slot can hold.
+     */
+    public int getSlotCapacity() { return halfBytes - HALF_HEADER_BYTES; }
+
+    /**
+     * Saves a game into a slot, replacing its current save once the new one is complete.
+     *
+     * @param label Shown on the load screen (e.g., "Quick Save"); cut to {@value #MAX_LABEL_BYTES} bytes.
+     * @throws IllegalArgumentException If the slot does not exist.
+     * @throws IOException If the encoded save does not fit in a slot.
+     */
+    public synchronized void save(int slot, String label, GameState state) throws IOException {
+        checkOpen();
+        checkSlot(slot);
+        ByteBuffer bytes = SaveFormat.encode(state);
+        if (bytes.remaining() > getSlotCapacity()) {
+            throw new IOException("Save of " + bytes.remaining() + " bytes does not fit in a slot of " + getSlotCapacity() + " bytes.");
+        }
+
+        long entry = readEntry(slot);
+        int half = entry == 0 ? 0 : (int) (entry & 1) ^ 1; // The half not holding the current save
+        long generation = (entry >>> 1) + 1;
+        int offset = halfOffset(slot, half);
+        byte[] labelBytes = truncatedUtf8(label != null ? label : "");
+        mapping.putLong(offset, generation);
+        mapping.put(offset + Long.BYTES, (byte) labelBytes.length);
+        mapping.put(offset + Long.BYTES + 1, labelBytes);
+        mapping.put(offset + HALF_HEADER_BYTES, bytes, 0, bytes.remaining());
+
+        SLOT_ENTRY.setRelease(mapping, slotEntryOffset(slot), generation << 1 | half); // The flip
+    }
+
+    /**
+     * Loads the save in a slot, decoding it straight from the mapping.
+     *
+     * @return The saved game, or null if the slot is empty.
+     * @throws IOException If neither half of the slot holds a valid save.
+     */
+    public synchronized GameState load(int slot) throws IOException {
+        checkOpen();
+        checkSlot(slot);
+        long entry = readEntry(slot);
+        if (entry == 0) return null;
+        return decodeSlot(slot, entry).state();
+    }
+
+    /**
+     * @return The occupied slots, in slot order. Slots whose save cannot be read are skipped and logged.
+     */
+    public synchronized List<SlotInfo> list() {
+        checkOpen();
+        List<SlotInfo> slots = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            long entry = readEntry(slot);
+            if (entry == 0) continue;
+            try {
+                DecodedSlot decoded = decodeSlot(slot, entry);
+                GameState state = decoded.state();
+                slots.add(new SlotInfo(slot, readLabel(halfOffset(slot, decoded.half())), state.getPlayer().getName(),
+                        state.getElapsedMinutes(), state.getSavedAtMillis()));
+            } catch (IOException e) {
+                System.err.println("[SaveSlotStore] Skipping unreadable slot " + slot + " of " + file + ": " + e.getMessage());
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Empties a slot. Its data stays in the file until the slot is saved into again.
+     */
+    public synchronized void clear(int slot) {
+        checkOpen();
+        checkSlot(slot);
+        SLOT_ENTRY.setRelease(mapping, slotEntryOffset(slot), 0L);
+    }
+
+    /**
+     * Writes every change so far through to the disk.
+     */
+    public synchronized void flush() {
+        checkOpen();
+        mapping.force();
+    }
+
+    /**
+     * Flushes the store. The mapping is released once it is garbage collected.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        mapping.force();
+        closed = true;
+    }
+
+    private record DecodedSlot(GameState state, int half) {
+    }
+
+    // Decodes the active half, or the other one if the active half is damaged or holds another generation
+    private DecodedSlot decodeSlot(int slot, long entry) throws IOException {
+        int active = (int) (entry & 1);
+        long generation = entry >>> 1;
+        try {
+            return new DecodedSlot(decodeHalf(slot, active, generation), active);
+        } catch (IOException activeFailure) {
+            if (generation <= 1) throw activeFailure; // Only one save was ever written here since it was cleared
+            try {
+                GameState previous = decodeHalf(slot, active ^ 1, generation - 1);
+                System.err.println("[SaveSlotStore] Slot " + slot + " of " + file + " is damaged (" + activeFailure.getMessage()
+                        + "); loaded its previous save.");
+                return new DecodedSlot(previous, active ^ 1);
+            } catch (IOException ignored) {
+                throw activeFailure;
+            }
+        }
+    }
+
+    private GameState decodeHalf(int slot, int half, long generation) throws IOException {
+        int offset = halfOffset(slot, half);
+        long stored = mapping.getLong(offset);
+        if (stored != generation) { // May be a valid save, just not the one the slot table points to
+            throw new IOException("Half " + half + " holds save " + stored + " instead of save " + generation + ".");
+        }
+        return SaveFormat.decode(mapping.slice(offset + HALF_HEADER_BYTES, getSlotCapacity()));
+    }
+
+    private String readLabel(int halfOffset) {
+        int length = Math.min(Byte.toUnsignedInt(mapping.get(halfOffset + Long.BYTES)), MAX_LABEL_BYTES);
+        byte[] label = new byte[length];
+        mapping.get(halfOffset + Long.BYTES + 1, label);
+        return new String(label, StandardCharsets.UTF_8);
+    }
+
+    private long readEntry(int slot) {
+        return (long) SLOT_ENTRY.getAcquire(mapping, slotEntryOffset(slot));
+    }
+
+    private static int slotEntryOffset(int slot) {
+        return FILE_HEADER_BYTES + slot * Long.BYTES;
+    }
+
+    private int halfOffset(int slot, int half) {
+        return DATA_OFFSET + (slot * 2 + half) * halfBytes;
+    }
+
+    // Cuts at a character boundary, never inside a multi-byte sequence
+    private static byte[] truncatedUtf8(String label) {
+        byte[] utf8 = label.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length <= MAX_LABEL_BYTES) return utf8;
+        int end = MAX_LABEL_BYTES;
+        while (end > 0 && (utf8[end] & 0xC0) == 0x80) end--;
+        return Arrays.copyOf(utf8, end);
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= slotCount) {
+            throw new IllegalArgumentException("Slot " + slot + " does not exist; the store has " + slotCount + " slots.");
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Save slot store is closed: " + file);
+        }
+    }
+}
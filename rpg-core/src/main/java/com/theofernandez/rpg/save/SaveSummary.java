@@ -0,0 +1,58 @@
+package com.theofernandez.rpg.save;
+
+import com.theofernandez.rpg.game.Player;
+
+/**
+ * What a save list shows about one save file, read from the start of the file by
+ * {@link SaveFormat#readSummary(java.nio.file.Path)} without decoding the rest. The file's size and modification
+ * time tell a {@link SaveCatalog} whether its summary is still current.
+ */
+public final class SaveSummary {
+    private final String fileName;
+    private final long fileSize;
+    private final long lastModifiedMillis;
+    private final int formatVersion;
+    private final String playerName;
+    private final long elapsedMinutes;
+    private final long savedAtMillis;
+    private final int health;
+    private final Player.Mood mood;
+    private final boolean alive;
+
+    SaveSummary(String fileName, long fileSize, long lastModifiedMillis, int formatVersion, String playerName,
+                long elapsedMinutes, long savedAtMillis, int health, Player.Mood mood, boolean alive) {
+        this.fileName = fileName;
+        this.fileSize = fileSize;
+        this.lastModifiedMillis = lastModifiedMillis;
+        this.formatVersion = formatVersion;
+        this.playerName = playerName;
+        this.elapsedMinutes = elapsedMinutes;
+        this.savedAtMillis = savedAtMillis;
+        this.health = health;
+        this.mood = mood;
+        this.alive = alive;
+    }
+
+    public String getFileName() { return fileName; }
+    public long getFileSize() { return fileSize; }
+    public long getLastModifiedMillis() { return lastModifiedMillis; }
+    public int getFormatVersion() { return formatVersion; }
+    public String getPlayerName() { return playerName; }
+    public long getElapsedMinutes() { return elapsedMinutes; }
+    public long getSavedAtMillis() { return savedAtMillis; }
+    public int getHealth() { return health; }
+    public Player.Mood getMood() { return mood; }
+    public boolean isAlive() { return alive; }
+
+    /**
+     * @return True if this summary was read from the file as it is now (same size and modification time).
+     */
+    boolean matches(long size, long modifiedMillis) {
+        return fileSize == size && lastModifiedMillis == modifiedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "SaveSummary{" + fileName + ", " + playerName + ", " + elapsedMinutes + " min, health " + health + '}';
+    }
+}
@@ -0,0 +1,35 @@
+package com.theofernandez.rpg.save;
+
+import com.theofernandez.rpg.game.Player;
+
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * The player's temporary modifiers, in the order saves store them. Frozen like a stat layout: new modifiers are
+ * appended, and only read by format versions that have them.
+ */
+enum TempModifier {
+    STRENGTH(Player::getTempStrengthModifier, Player::setTempStrengthModifier),
+    AGILITY(Player::getTempAgilityModifier, Player::setTempAgilityModifier),
+    SPEED(Player::getTempSpeedModifier, Player::setTempSpeedModifier),
+    DEXTERITY(Player::getTempDexterityModifier, Player::setTempDexterityModifier),
+    INTELLIGENCE(Player::getTempIntelligenceModifier, Player::setTempIntelligenceModifier),
+    FOCUS(Player::getTempFocusModifier, Player::setTempFocusModifier),
+    PERCEPTION(Player::getTempPerceptionModifier, Player::setTempPerceptionModifier),
+    MEMORY(Player::getTempMemoryModifier, Player::setTempMemoryModifier);
+
+    static final TempModifier[] ALL = values();
+
+    private final ToIntFunction<Player> getter;
+    private final ObjIntConsumer<Player> setter;
+
+    TempModifier(ToIntFunction<Player> getter, ObjIntConsumer<Player> setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    int get(Player player) { return getter.applyAsInt(player); }
+
+    void set(Player player, int value) { setter.accept(player, value); }
+}
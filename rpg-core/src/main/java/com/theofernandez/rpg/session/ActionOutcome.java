@@ -0,0 +1,62 @@
+package com.theofernandez.rpg.session;
+
+import com.theofernandez.rpg.game.PlayerSnapshot;
+
+import java.util.List;
+
+/**
+ * What a {@link GameActions} call did: the narrative lines to show the player, in order, and how the player's
+ * state changed. Front ends (the JavaFX view, the game server) decide how to present it.
+ */
+public final class ActionOutcome {
+
+    private final boolean performed;
+    private final List<String> messages;
+    private final int minutesPassed;
+    private final boolean died;
+    private final boolean knockedOut;
+    private final PlayerSnapshot snapshot;
+
+    ActionOutcome(boolean performed, List<String> messages, int minutesPassed, boolean died, boolean knockedOut,
+                  PlayerSnapshot snapshot) {
+        this.performed = performed;
+        this.messages = List.copyOf(messages);
+        this.minutesPassed = minutesPassed;
+        this.died = died;
+        this.knockedOut = knockedOut;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * @return False if the action was refused (no player, dead or unconscious); the messages say why.
+     */
+    public boolean isPerformed() { return performed; }
+
+    public List<String> getMessages() { return messages; }
+
+    /**
+     * @return Game minutes the action took (0 if it was refused).
+     */
+    public int getMinutesPassed() { return minutesPassed; }
+
+    /**
+     * @return True if the player was alive before the action and is dead after it.
+     */
+    public boolean isDied() { return died; }
+
+    /**
+     * @return True if the player lost consciousness during the action and survived it.
+     */
+    public boolean isKnockedOut() { return knockedOut; }
+
+    /**
+     * @return The player's state after the action, or null if there is no player.
+     */
+    public PlayerSnapshot getSnapshot() { return snapshot; }
+
+    @Override
+    public String toString() {
+        return "ActionOutcome{performed=" + performed + ", minutes=" + minutesPassed + ", died=" + died
+                + ", knockedOut=" + knockedOut + ", messages=" + messages.size() + '}';
+    }
+}
@@ -0,0 +1,162 @@
+package com.theofernandez.rpg.session;
+
+import com.theofernandez.rpg.engine.PlayerStatEngine;
+import com.theofernandez.rpg.game.DeterministicRandom;
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The player actions of one {@link GameSession}, independent of any front end. Each action advances the session's
+ * clock, runs the player through the session's stat engine and returns what happened as an {@link ActionOutcome}.
+ *
+ * Not thread-safe: like the session's player, an instance must only be used by one thread at a time.
+ */
+public final class GameActions {
+
+    public static final int REST_MINUTES = 8 * 60;
+
+    // Draw indices for action rolls (see DeterministicRandom), keyed by the player's current simulation tick
+    private static final int DRAW_LOCATION = DeterministicRandom.ACTION_DRAWS;
+    private static final int DRAW_EXPLORE_DURATION = DeterministicRandom.ACTION_DRAWS + 1;
+    private static final int DRAW_EXPLORE_FATIGUE = DeterministicRandom.ACTION_DRAWS + 2;
+    private static final int DRAW_EXPLORE_OUTCOME = DeterministicRandom.ACTION_DRAWS + 3;
+    private static final int DRAW_EXPLORE_ITEM = DeterministicRandom.ACTION_DRAWS + 4;
+
+    private static final String[] LOCATIONS = {
+            "a quiet, desolate ruin", "an open, windswept field", "the shadowy edge of a dark, ancient wood",
+            "a crumbling urban street", "a still, murky swamp edge"
+    };
+    private static final String[] EXPLORE_OUTCOMES = {
+            "You find nothing of particular note, but the air grows colder.",
+            "The area seems eerily silent and undisturbed.",
+            "You take a moment to observe the desolate details of your environment. A sense of unease settles in.",
+            "A strange, unidentifiable sound echoes in the distance, putting you on edge.",
+            "You discover a small, tarnished locket. It seems to hold no monetary value, only echoes of a forgotten past."
+    };
+    private static final String EXPLORE_ITEM = "Old Rag"; // Placeholder
+
+    private final GameSession session;
+
+    public GameActions(GameSession session) {
+        this.session = Objects.requireNonNull(session, "Session cannot be null.");
+    }
+
+    /**
+     * @return A description of where the player currently is, e.g. "a crumbling urban street".
+     */
+    public String describeLocation() {
+        Player player = session.getPlayer();
+        if (player == null) return LOCATIONS[0];
+        return LOCATIONS[DeterministicRandom.nextInt(actionRollKey(player), DRAW_LOCATION, LOCATIONS.length)];
+    }
+
+    /**
+     * Explores the surroundings for 30-60 minutes: the clock advances, exploring adds fatigue (more with low
+     * endurance), needs are updated for the time passed, the engine processes the result, and there is a chance
+     * to find an item.
+     */
+    public ActionOutcome explore() {
+        Player player = session.getPlayer();
+        List<String> messages = new ArrayList<>();
+        if (player == null || !player.isAlive()) {
+            messages.add(player == null ? "Cannot explore: No player data." : "You are not in a state to explore (deceased).");
+            return refused(messages, player);
+        }
+        if (!player.isConscious()) {
+            messages.add("You are unconscious and cannot explore.");
+            return refused(messages, player);
+        }
+
+        messages.add("You decide to explore the surroundings...");
+        long rollKey = actionRollKey(player); // Taken before the engine cycle below moves the player to the next tick
+        int timePassedMinutes = 30 + DeterministicRandom.nextInt(rollKey, DRAW_EXPLORE_DURATION, 31); // Explore takes 30-60 minutes
+
+        // 1. Advance game time (affects needs)
+        session.getClock().advanceTime(timePassedMinutes);
+        messages.add("About " + timePassedMinutes + " minutes pass as you search.");
+
+        // 2. Apply direct consequences of the action (e.g., fatigue)
+        int baseFatigueGain = 5; // Base fatigue for exploring
+        // More fatigue if player has low endurance (Player has no effective endurance)
+        int fatigueFromEndurance = Math.max(0, (Player.MAX_STAT_VALUE / 2 - player.getEndurance()) / (Player.MAX_STAT_VALUE / 20)); // Example scaling
+        player.setFatiguePercent(player.getFatiguePercent() + baseFatigueGain
+                + DeterministicRandom.nextInt(rollKey, DRAW_EXPLORE_FATIGUE, 3) + fatigueFromEndurance);
+
+        // 3. Update player's general needs based on time passed
+        player.updateNeeds(timePassedMinutes, session.getWorldSeed());
+
+        // 4. Process ALL cascading effects from new state (needs, fatigue, etc.) using the stat engine
+        session.getEngine().processPlayerStateChanges(player);
+
+        // 5. Determine the outcome of exploration (can be expanded into complex events)
+        messages.add(EXPLORE_OUTCOMES[DeterministicRandom.nextInt(rollKey, DRAW_EXPLORE_OUTCOME, EXPLORE_OUTCOMES.length)]);
+        if (DeterministicRandom.nextDouble(rollKey, DRAW_EXPLORE_ITEM) < 0.15) { // 15% chance
+            player.addItem(EXPLORE_ITEM);
+            messages.add("Tucked away in a corner, you find an " + EXPLORE_ITEM + ".");
+        }
+
+        // 6. Game over states or critical conditions
+        boolean died = !player.isAlive();
+        boolean knockedOut = !died && !player.isConscious();
+        if (died) {
+            messages.add("Your exploration has led to your demise. Your journey ends here.");
+        } else if (knockedOut) {
+            messages.add("You have fallen unconscious!");
+        }
+        return new ActionOutcome(true, messages, timePassedMinutes, died, knockedOut, player.publishSnapshot());
+    }
+
+    /**
+     * Sleeps for {@value #REST_MINUTES} minutes. The whole night is simulated in one call: the engine only runs
+     * where a need crosses a threshold (see {@link PlayerStatEngine#fastForward(Player, long)}).
+     */
+    public ActionOutcome rest() {
+        Player player = session.getPlayer();
+        List<String> messages = new ArrayList<>();
+        if (player == null || !player.isAlive()) {
+            messages.add(player == null ? "Cannot rest: No player data." : "You are beyond rest (deceased).");
+            return refused(messages, player);
+        }
+        if (!player.isConscious()) {
+            messages.add("You are unconscious and cannot choose to rest.");
+            return refused(messages, player);
+        }
+
+        messages.add("You find a sheltered corner and settle down to sleep...");
+        session.getClock().advanceTime(REST_MINUTES);
+
+        player.setAwake(false);
+        session.getEngine().fastForward(player, REST_MINUTES);
+        if (player.isAlive()) {
+            player.setAwake(true);
+        }
+
+        boolean died = !player.isAlive();
+        boolean knockedOut = !died && !player.isConscious();
+        if (died) {
+            messages.add("You never wake up. Your journey ends here.");
+        } else if (knockedOut) {
+            messages.add("Your sleep turns into something deeper. You have lost consciousness.");
+        } else {
+            messages.add("Eight hours pass. You wake up.");
+        }
+        return new ActionOutcome(true, messages, REST_MINUTES, died, knockedOut, player.publishSnapshot());
+    }
+
+    // Key for the player's action rolls this tick (world seed, entity ID, simulation tick)
+    private long actionRollKey(Player player) {
+        return DeterministicRandom.key(session.getWorldSeed(), player.getEntityId(), player.getSimulationTick());
+    }
+
+    private static ActionOutcome refused(List<String> messages, Player player) {
+        PlayerSnapshot snapshot = null;
+        if (player != null) {
+            snapshot = player.getSnapshot() != null ? player.getSnapshot() : player.publishSnapshot();
+        }
+        return new ActionOutcome(false, messages, 0, false, false, snapshot);
+    }
+}
@@ -0,0 +1,215 @@
+package com.theofernandez.rpg.session;
+
+import com.theofernandez.rpg.engine.PlayerStatEngine;
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerSnapshot;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Real-time mode for a {@link GameSession}: a dedicated thread advances the session's clock at a steady rate of game
+ * minutes per real second, and runs the player's needs and stat engine once per fixed step of game time.
+ *
+ * Frames are scheduled {@value #DEFAULT_FRAMES_PER_SECOND} times a second. Each frame adds the real time that passed
+ * to an accumulator and runs as many fixed steps as it covers, so the simulation rate does not depend on how evenly
+ * frames arrive. A frame runs at most {@value #MAX_STEPS_PER_FRAME} steps; time beyond that (a long GC pause, a
+ * suspended laptop) is dropped instead of being caught up in a burst.
+ *
+ * While the loop runs, it is the only thread that may act on the session's player: player actions must go through
+ * {@link #submit(Supplier)}, which runs them on the loop thread between frames. Listeners are called on the loop
+ * thread after each frame that ran at least one step, with a snapshot published once the frame's steps are done
+ * (the engine itself publishes none, so steps allocate nothing).
+ */
+public final class GameLoop {
+
+    public static final double DEFAULT_MINUTES_PER_SECOND = 10.0; // One game day in 2.4 real minutes
+    // Needs change by whole points per update (see Player#updateNeeds), rounded down: steps much shorter than
+    // the decay intervals (hunger: 20-30 minutes) would leave them where they are. Same step as the headless simulation.
+    public static final int DEFAULT_STEP_MINUTES = 30;
+    public static final int DEFAULT_FRAMES_PER_SECOND = 30;
+    static final int MAX_STEPS_PER_FRAME = 240;
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Receives the result of each frame that advanced the game.
+     */
+    @FunctionalInterface
+    public interface FrameListener {
+        /**
+         * Called on the loop thread. Must not block: the next frame waits for it.
+         *
+         * @param steps Fixed steps run in this frame.
+         * @param snapshot The player's state after the last step, or null if the session has no player.
+         */
+        void frameCompleted(int steps, PlayerSnapshot snapshot);
+    }
+
+    private final GameSession session;
+    private final int stepMinutes;
+    private final FrameListener listener;
+    private volatile long stepNanos; // Real time per fixed step at the current rate
+    private volatile double minutesPerSecond;
+
+    private ScheduledExecutorService executor; // Guarded by this
+    private long lastFrameNanos;    // Loop thread only
+    private long accumulatorNanos;  // Loop thread only
+    private volatile long steps;
+    private volatile long droppedNanos;
+
+    /**
+     * Creates a loop advancing {@value #DEFAULT_STEP_MINUTES} game minutes per step at
+     * {@value #DEFAULT_MINUTES_PER_SECOND} game minutes per second.
+     */
+    public GameLoop(GameSession session, FrameListener listener) {
+        this(session, DEFAULT_MINUTES_PER_SECOND, DEFAULT_STEP_MINUTES, listener);
+    }
+
+    /**
+     * @param minutesPerSecond Game minutes that pass per real second.
+     * @param stepMinutes Game minutes simulated by one fixed step.
+     * @param listener Notified after each frame that ran a step, or null.
+     * @throws IllegalArgumentException If the rate or step is not positive.
+     */
+    public GameLoop(GameSession session, double minutesPerSecond, int stepMinutes, FrameListener listener) {
+        this.session = Objects.requireNonNull(session, "Session cannot be null.");
+        if (stepMinutes <= 0) {
+            throw new IllegalArgumentException("Step must be positive: " + stepMinutes);
+        }
+        this.stepMinutes = stepMinutes;
+        this.listener = listener;
+        setMinutesPerSecond(minutesPerSecond);
+    }
+
+    public double getMinutesPerSecond() { return minutesPerSecond; }
+
+    /**
+     * Changes the rate game time passes at. Takes effect from the next frame; time already accumulated is kept.
+     *
+     * @throws IllegalArgumentException If the rate is not positive, or so high a step would take under a nanosecond.
+     */
+    public void setMinutesPerSecond(double minutesPerSecond) {
+        if (!(minutesPerSecond > 0) || Double.isInfinite(minutesPerSecond)) {
+            throw new IllegalArgumentException("Game minutes per second must be positive: " + minutesPerSecond);
+        }
+        long nanos = Math.round(stepMinutes * NANOS_PER_SECOND / minutesPerSecond);
+        if (nanos <= 0) {
+            throw new IllegalArgumentException("Game minutes per second is too high: " + minutesPerSecond);
+        }
+        this.minutesPerSecond = minutesPerSecond;
+        this.stepNanos = nanos;
+    }
+
+    public int getStepMinutes() { return stepMinutes; }
+
+    /**
+     * @return Fixed steps run since the loop was created.
+     */
+    public long getSteps() { return steps; }
+
+    /**
+     * @return Real time that was dropped because frames fell too far behind.
+     */
+    public long getDroppedNanos() { return droppedNanos; }
+
+    public synchronized boolean isRunning() { return executor != null; }
+
+    /**
+     * Starts the loop thread. Does nothing if the loop is already running.
+     */
+    public synchronized void start() {
+        if (executor != null) return;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-loop-" + session.getId());
+            thread.setDaemon(true); // Never keeps the application alive
+            return thread;
+        });
+        long frameNanos = NANOS_PER_SECOND / DEFAULT_FRAMES_PER_SECOND;
+        executor.execute(() -> {
+            lastFrameNanos = System.nanoTime();
+            accumulatorNanos = 0;
+        });
+        executor.scheduleAtFixedRate(this::runFrame, frameNanos, frameNanos, TimeUnit.NANOSECONDS);
+        System.out.printf("[GameLoop] Started for session %s: %.1f game minutes per second, %d-minute steps%n",
+                session.getId(), minutesPerSecond, stepMinutes);
+    }
+
+    /**
+     * Stops the loop after the frame or action in progress. Actions submitted but not yet run are dropped (their
+     * futures never complete).
+     * Does nothing if the loop is not running.
+     */
+    public synchronized void stop() {
+        if (executor == null) return;
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                System.err.println("[GameLoop] Loop thread of session " + session.getId() + " did not stop within 1 s.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+        System.out.printf("[GameLoop] Stopped for session %s after %,d steps.%n", session.getId(), steps);
+    }
+
+    /**
+     * Runs an action on the loop thread, between frames, so it never races the simulation for the player.
+     *
+     * @return The action's result, completed on the loop thread.
+     * @throws IllegalStateException If the loop is not running.
+     */
+    public synchronized <T> CompletableFuture<T> submit(Supplier<T> action) {
+        if (executor == null) {
+            throw new IllegalStateException("Game loop is not running.");
+        }
+        return CompletableFuture.supplyAsync(action, executor);
+    }
+
+    private void runFrame() {
+        try {
+            long now = System.nanoTime();
+            accumulatorNanos += now - lastFrameNanos;
+            lastFrameNanos = now;
+
+            long step = stepNanos;
+            int ran = 0;
+            while (accumulatorNanos >= step && ran < MAX_STEPS_PER_FRAME) {
+                step();
+                accumulatorNanos -= step;
+                ran++;
+            }
+            if (accumulatorNanos >= step) {
+                droppedNanos += accumulatorNanos - accumulatorNanos % step; // Keep the fraction of a step
+                accumulatorNanos %= step;
+            }
+            if (ran > 0) {
+                steps += ran;
+                Player player = session.getPlayer();
+                PlayerSnapshot snapshot = player != null ? player.publishSnapshot() : null;
+                if (listener != null) {
+                    listener.frameCompleted(ran, snapshot);
+                }
+            }
+        } catch (RuntimeException e) {
+            // An exception would silently cancel all future frames
+            System.err.println("[GameLoop] Error in frame of session " + session.getId() + ": " + e);
+            e.printStackTrace();
+        }
+    }
+
+    // One fixed step: the clock moves, and a living player's needs and cascading effects follow it
+    private void step() {
+        session.getClock().advanceTime(stepMinutes);
+        Player player = session.getPlayer();
+        if (player == null || !player.isAlive()) return;
+        player.updateNeeds(stepMinutes, session.getWorldSeed());
+        PlayerStatEngine engine = session.getEngine();
+        engine.processPlayerStateChanges(player);
+    }
+}
@@ -0,0 +1,132 @@
+package com.theofernandez.rpg.session;
+
+import com.theofernandez.rpg.engine.EffectJournal;
+import com.theofernandez.rpg.engine.PlayerStatEngine;
+import com.theofernandez.rpg.engine.StatEngineMetrics;
+import com.theofernandez.rpg.game.DeterministicRandom;
+import com.theofernandez.rpg.game.GameClock;
+import com.theofernandez.rpg.game.Player;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * One running game: its clock, its player, its world seed (every random roll derives from it, see
+ * {@link DeterministicRandom}) and its stat engine. Sessions share nothing mutable, so any number of them can
+ * run side by side in one JVM (see {@link SessionRegistry}); {@link com.theofernandez.rpg.game.GameContext}
+ * is the facade over the single session of the desktop game.
+ *
+ * An idle session is kept small: the engine and its journal are only created on the first call to
+ * {@link #getEngine()}, and engines created by a registry share its metrics.
+ *
+ * The session's fields may be read and replaced from any thread. The player itself is not thread-safe: only
+ * one thread at a time may act on it (e.g., the thread currently handling the session's requests).
+ */
+public final class GameSession {
+
+    /** Journal capacity of a session's engine. One player's recent effects, not a population's. */
+    public static final int SESSION_JOURNAL_CAPACITY = 256;
+    /** Game time between autosaves of sessions that autosave (see {@link com.theofernandez.rpg.save.Autosaver}). */
+    public static final int DEFAULT_AUTOSAVE_INTERVAL_MINUTES = 6 * 60;
+
+    private final String id;
+    private final GameClock clock = new GameClock();
+    private final StatEngineMetrics sharedMetrics; // Null: the engine gets its own
+    private volatile Player player;
+    private volatile long worldSeed;
+    private volatile PlayerStatEngine engine; // Created on first use
+    private volatile int autosaveIntervalMinutes = DEFAULT_AUTOSAVE_INTERVAL_MINUTES;
+
+    /**
+     * Creates a session with a fresh random world seed, starting at the default time.
+     */
+    public GameSession(String id) {
+        this(id, new SplittableRandom().nextLong(), null);
+    }
+
+    /**
+     * @param id Identifies the session (e.g., in a {@link SessionRegistry}).
+     * @param worldSeed The seed all of this session's random rolls derive from.
+     * @param sharedMetrics Metrics for the session's engine to record into, or null for its own.
+     */
+    public GameSession(String id, long worldSeed, StatEngineMetrics sharedMetrics) {
+        this.id = Objects.requireNonNull(id, "Session ID cannot be null.");
+        this.worldSeed = worldSeed;
+        this.sharedMetrics = sharedMetrics;
+    }
+
+    public String getId() { return id; }
+
+    public GameClock getClock() { return clock; }
+
+    /**
+     * @return The session's player, or null if none is loaded.
+     */
+    public Player getPlayer() { return player; }
+
+    public void setPlayer(Player player) { this.player = player; }
+
+    public void clearPlayer() { this.player = null; }
+
+    public long getWorldSeed() { return worldSeed; }
+
+    /**
+     * Sets the world seed, e.g. to replay a world or run a reproducible simulation.
+     */
+    public void setWorldSeed(long seed) { this.worldSeed = seed; }
+
+    /**
+     * Picks a fresh random world seed. Typically used when starting a new game.
+     */
+    public void newWorldSeed() { this.worldSeed = new SplittableRandom().nextLong(); }
+
+    /**
+     * @return Game minutes between autosaves, or 0 if autosaving is off.
+     */
+    public int getAutosaveIntervalMinutes() { return autosaveIntervalMinutes; }
+
+    /**
+     * @param minutes Game minutes between autosaves; 0 turns autosaving off.
+     * @throws IllegalArgumentException If the interval is negative.
+     */
+    public void setAutosaveIntervalMinutes(int minutes) {
+        if (minutes < 0) {
+            throw new IllegalArgumentException("Autosave interval cannot be negative: " + minutes);
+        }
+        this.autosaveIntervalMinutes = minutes;
+    }
+
+    /**
+     * @return The session's stat engine, created on first use. It timestamps effects with this session's clock
+     *         and rolls with this session's world seed.
+     */
+    public PlayerStatEngine getEngine() {
+        PlayerStatEngine current = engine;
+        if (current != null) return current;
+        synchronized (this) {
+            if (engine == null) {
+                PlayerStatEngine created = sharedMetrics != null
+                        ? new PlayerStatEngine(clock::getElapsedMinutes, this::getWorldSeed, sharedMetrics)
+                        : new PlayerStatEngine(clock::getElapsedMinutes, this::getWorldSeed);
+                created.setEffectJournal(new EffectJournal(SESSION_JOURNAL_CAPACITY));
+                engine = created;
+            }
+            return engine;
+        }
+    }
+
+    /**
+     * @return True if the engine has been created (the session has been played, not just opened).
+     */
+    public boolean hasEngine() { return engine != null; }
+
+    @Override
+    public String toString() {
+        Player current = player;
+        return "GameSession{" +
+                "id='" + id + '\'' +
+                ", time=" + clock.getFormattedTime() +
+                ", player=" + (current != null ? current.getName() : "none") +
+                '}';
+    }
+}
@@ -0,0 +1,89 @@
+package com.theofernandez.rpg.session;
+
+import com.theofernandez.rpg.engine.StatEngineMetrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The sessions hosted by one server process, by ID. Safe for concurrent use: sessions can be created, looked up
+ * and removed from any thread without locking the registry.
+ *
+ * All sessions created here record into the registry's one {@link StatEngineMetrics}, so engine telemetry is
+ * published once per process (see {@link StatEngineMetrics#registerMBean(String)}) rather than once per session.
+ */
+public final class SessionRegistry {
+
+    private final ConcurrentMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final StatEngineMetrics metrics = new StatEngineMetrics();
+    private final AtomicLong nextId = new AtomicLong();
+
+    /**
+     * Creates an empty registry with its own engine metrics.
+     */
+    public SessionRegistry() {
+    }
+
+    /**
+     * Creates and registers a session with a generated ID and a fresh random world seed.
+     */
+    public GameSession create() {
+        while (true) {
+            String id = Long.toString(nextId.incrementAndGet(), Character.MAX_RADIX);
+            GameSession session = new GameSession(id, new SplittableRandom().nextLong(), metrics);
+            if (sessions.putIfAbsent(id, session) == null) {
+                return session;
+            }
+            // ID taken by an explicitly named session; try the next one
+        }
+    }
+
+    /**
+     * Creates and registers a session under the given ID.
+     *
+     * @throws IllegalArgumentException If a session with that ID already exists.
+     */
+    public GameSession create(String id, long worldSeed) {
+        GameSession session = new GameSession(id, worldSeed, metrics);
+        if (sessions.putIfAbsent(id, session) != null) {
+            throw new IllegalArgumentException("Session already exists: " + id);
+        }
+        return session;
+    }
+
+    /**
+     * @return The session with that ID, or null if there is none.
+     */
+    public GameSession get(String id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * @return The removed session, or null if there was none with that ID.
+     */
+    public GameSession remove(String id) {
+        return sessions.remove(id);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * @return A live, unmodifiable view of the registered sessions. Iterating it while sessions come and go is safe.
+     */
+    public Collection<GameSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    /**
+     * @return The metrics shared by the engines of every session created here.
+     */
+    public StatEngineMetrics getMetrics() {
+        return metrics;
+    }
+}
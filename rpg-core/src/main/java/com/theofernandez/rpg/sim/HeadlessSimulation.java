@@ -0,0 +1,237 @@
+package com.theofernandez.rpg.sim;
+
+import com.theofernandez.rpg.engine.EffectJournal;
+import com.theofernandez.rpg.engine.PhaseLatency;
+import com.theofernandez.rpg.engine.PlayerStatEngine;
+import com.theofernandez.rpg.engine.PopulationTickResult;
+import com.theofernandez.rpg.engine.StatEngineMetrics;
+import com.theofernandez.rpg.game.DeterministicRandom;
+import com.theofernandez.rpg.game.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command-line entry point for batch simulations on machines without a display. Builds a population of
+ * players and runs it through the stat engine for a number of game days, without touching JavaFX.
+ *
+ * Usage: {@code java -jar rpg-core.jar --players 100000 --days 30 --threads 8}
+ *
+ * Each tick advances every player's needs by one step and processes it through
+ * {@link PlayerStatEngine#processAll(java.util.Collection, ForkJoinPool, int)}. Progress is reported once per
+ * game day (ticks/s, entity updates/s, heap usage), followed by a summary. With the same seed the final
+ * state is identical regardless of the thread count.
+ */
+public final class HeadlessSimulation {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final long MB = 1024 * 1024;
+
+    // Draw indices for the initial state of each simulated player
+    private static final int DRAW_HUNGER = DeterministicRandom.SETUP_DRAWS;
+    private static final int DRAW_THIRST = DeterministicRandom.SETUP_DRAWS + 1;
+    private static final int DRAW_FATIGUE = DeterministicRandom.SETUP_DRAWS + 2;
+    private static final int DRAW_SLEEP = DeterministicRandom.SETUP_DRAWS + 3;
+    private static final int DRAW_STRESS = DeterministicRandom.SETUP_DRAWS + 4;
+    private static final int DRAW_CONFIDENCE = DeterministicRandom.SETUP_DRAWS + 5;
+
+    private final Options options;
+    private volatile long elapsedMinutes; // Simulation clock, read by the engine to timestamp journal entries
+    private long peakHeapBytes;
+
+    private HeadlessSimulation(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[HeadlessSim] Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+        if (options.help) {
+            printUsage();
+            return;
+        }
+        new HeadlessSimulation(options).run();
+    }
+
+    private void run() {
+        System.out.printf("[HeadlessSim] %,d players, %d day(s), %d-minute steps, %d thread(s), seed %d%n",
+                options.players, options.days, options.stepMinutes, options.threads, options.seed);
+
+        long setupStart = System.nanoTime();
+        List<Player> players = createPopulation();
+        sampleHeap();
+        System.out.printf("[HeadlessSim] Population created in %.1f ms, heap used %,d MB%n",
+                (System.nanoTime() - setupStart) / 1_000_000.0, usedHeapBytes() / MB);
+
+        PlayerStatEngine engine = new PlayerStatEngine(() -> elapsedMinutes, () -> options.seed);
+        EffectJournal journal = options.journal ? new EffectJournal(EffectJournal.DEFAULT_CAPACITY) : null;
+        engine.setEffectJournal(journal);
+        engine.setSnapshotPublishing(false); // Nothing reads the players while the simulation runs
+        try {
+            System.out.println("[HeadlessSim] Engine metrics published as " + engine.getMetrics().registerMBean("headless"));
+        } catch (IllegalStateException e) {
+            System.err.println("[HeadlessSim] Warning: " + e.getMessage());
+        }
+
+        int ticksPerDay = Math.max(1, MINUTES_PER_DAY / options.stepMinutes);
+        ForkJoinPool pool = new ForkJoinPool(options.threads);
+        long totalTicks = 0;
+        long totalNanos = 0;
+        try {
+            for (int day = 1; day <= options.days; day++) {
+                long dayNanos = 0;
+                int dayDeaths = 0;
+                for (int tick = 0; tick < ticksPerDay; tick++) {
+                    PopulationTickResult result = engine.processAll(players, pool, options.stepMinutes);
+                    dayNanos += result.getElapsedNanos();
+                    dayDeaths += result.getDeaths();
+                    elapsedMinutes += options.stepMinutes;
+                }
+                sampleHeap();
+                totalTicks += ticksPerDay;
+                totalNanos += dayNanos;
+                System.out.printf("[HeadlessSim] Day %d/%d: %s ticks/s, %s entity updates/s, %,d alive (%,d died), heap used %,d MB%n",
+                        day, options.days, rate(ticksPerDay, dayNanos), rate((long) ticksPerDay * players.size(), dayNanos),
+                        countAlive(players), dayDeaths, usedHeapBytes() / MB);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        System.out.println("[HeadlessSim] --- Summary ---");
+        System.out.printf("[HeadlessSim] Ticks: %,d in %.2f s (%s ticks/s)%n", totalTicks, totalNanos / 1e9, rate(totalTicks, totalNanos));
+        System.out.printf("[HeadlessSim] Entity updates: %,d (%s/s)%n", totalTicks * players.size(), rate(totalTicks * players.size(), totalNanos));
+        System.out.printf("[HeadlessSim] Alive: %,d of %,d%n", countAlive(players), players.size());
+        if (journal != null) {
+            System.out.printf("[HeadlessSim] Effects recorded: %,d%n", journal.getWriteSequence());
+        }
+        System.out.printf("[HeadlessSim] Heap: peak used %,d MB, max %,d MB%n", peakHeapBytes / MB, Runtime.getRuntime().maxMemory() / MB);
+        System.out.printf("[HeadlessSim] Engine phases: %,d evaluated, %,d skipped%n", engine.getPhasesEvaluated(), engine.getPhasesSkipped());
+        StatEngineMetrics metrics = engine.getMetrics();
+        System.out.printf("[HeadlessSim] Deaths: %,d (at most %,d in one tick)%n", metrics.getDeaths(), metrics.getMaxDeathsPerTick());
+        for (PhaseLatency latency : metrics.getPhaseLatencies()) {
+            System.out.println("[HeadlessSim] Phase " + latency);
+        }
+    }
+
+    // Players start from the defaults with their needs and mood drivers spread out, so every band sees traffic.
+    private List<Player> createPopulation() {
+        List<Player> players = new ArrayList<>(options.players);
+        for (int i = 0; i < options.players; i++) {
+            Player player = new Player();
+            player.setName("Sim-" + (i + 1));
+            long key = DeterministicRandom.key(options.seed, player.getEntityId(), 0);
+            player.setHunger(DeterministicRandom.nextInt(key, DRAW_HUNGER, Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setThirst(DeterministicRandom.nextInt(key, DRAW_THIRST, Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setFatiguePercent(DeterministicRandom.nextInt(key, DRAW_FATIGUE, Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setSleep(DeterministicRandom.nextInt(key, DRAW_SLEEP, Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setStress(DeterministicRandom.nextInt(key, DRAW_STRESS, Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setConfidence(DeterministicRandom.nextInt(key, DRAW_CONFIDENCE, Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            players.add(player);
+        }
+        return players;
+    }
+
+    private static int countAlive(List<Player> players) {
+        int alive = 0;
+        for (Player player : players) {
+            if (player.isAlive()) alive++;
+        }
+        return alive;
+    }
+
+    private static long usedHeapBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private void sampleHeap() {
+        peakHeapBytes = Math.max(peakHeapBytes, usedHeapBytes());
+    }
+
+    private static String rate(long count, long nanos) {
+        if (nanos <= 0) return "n/a";
+        return String.format("%,.0f", count * 1e9 / nanos);
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: HeadlessSimulation [options]");
+        System.out.println("  --players <n>        Number of simulated players (default " + Options.DEFAULT_PLAYERS + ")");
+        System.out.println("  --days <n>           Game days to simulate (default " + Options.DEFAULT_DAYS + ")");
+        System.out.println("  --threads <n>        Worker threads (default: available processors)");
+        System.out.println("  --step-minutes <n>   Game minutes per tick (default " + Options.DEFAULT_STEP_MINUTES + ")");
+        System.out.println("  --seed <n>           World seed (default: random)");
+        System.out.println("  --journal            Record engine effects into a journal (off by default)");
+        System.out.println("  --help               Show this message");
+    }
+
+    /**
+     * Parsed command-line options.
+     */
+    static final class Options {
+        static final int DEFAULT_PLAYERS = 10_000;
+        static final int DEFAULT_DAYS = 1;
+        static final int DEFAULT_STEP_MINUTES = 30;
+
+        int players = DEFAULT_PLAYERS;
+        int days = DEFAULT_DAYS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int stepMinutes = DEFAULT_STEP_MINUTES;
+        long seed = new SplittableRandom().nextLong();
+        boolean journal = false;
+        boolean help = false;
+
+        /**
+         * @throws IllegalArgumentException If an option is unknown, is missing its value, or the value is invalid.
+         */
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--players": options.players = positiveInt(arg, valueOf(args, ++i, arg)); break;
+                    case "--days": options.days = positiveInt(arg, valueOf(args, ++i, arg)); break;
+                    case "--threads": options.threads = positiveInt(arg, valueOf(args, ++i, arg)); break;
+                    case "--step-minutes": options.stepMinutes = positiveInt(arg, valueOf(args, ++i, arg)); break;
+                    case "--seed": options.seed = parseLong(arg, valueOf(args, ++i, arg)); break;
+                    case "--journal": options.journal = true; break;
+                    case "--help": case "-h": options.help = true; break;
+                    default: throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            return options;
+        }
+
+        private static String valueOf(String[] args, int index, String option) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException(option + " requires a value.");
+            }
+            return args[index];
+        }
+
+        private static int positiveInt(String option, String value) {
+            long parsed = parseLong(option, value);
+            if (parsed <= 0 || parsed > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(option + " must be a positive integer: " + value);
+            }
+            return (int) parsed;
+        }
+
+        private static long parseLong(String option, String value) {
+            try {
+                return Long.parseLong(value.replace("_", ""));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(option + " expects a number: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.theofernandez.rpg.sim;
+
+import com.theofernandez.rpg.save.GameState;
+import com.theofernandez.rpg.save.SaveCatalog;
+import com.theofernandez.rpg.save.SaveFormat;
+import com.theofernandez.rpg.save.SaveJournal;
+import com.theofernandez.rpg.save.SaveSummary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Command-line tool answering aggregate questions about a directory of save files, such as playtest archives:
+ * deaths by likely cause, average and furthest day reached, mood histogram, and the most common inventory items.
+ *
+ * Usage: {@code java -cp rpg-core.jar com.theofernandez.rpg.sim.SaveAnalytics --dir saves --threads 8}
+ *
+ * The directory tree is walked lazily and its saves are handed to a fixed pool of worker threads through a
+ * bounded queue, so memory stays flat whatever the corpus size. Autosave journals ({@link SaveJournal}) are
+ * skipped: their snapshots are one game at several points in time. Each worker decodes saves into its own
+ * {@link SaveCorpusStats}; the per-worker aggregates are merged at the end. With {@code --headers-only} only the
+ * start of each save is read ({@link SaveFormat#readSummary(Path)}): no inventory or death causes, but far less I/O.
+ * Progress and the final summary report files/s and MB/s.
+ */
+public final class SaveAnalytics {
+
+    private static final long MB = 1024 * 1024;
+    private static final long PROGRESS_INTERVAL_NANOS = 5_000_000_000L;
+    private static final Path END_OF_CORPUS = Path.of(""); // Tells a worker to stop
+
+    private final Options options;
+    private final LongAdder filesDone = new LongAdder();
+    private final LongAdder bytesDone = new LongAdder();
+
+    private SaveAnalytics(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[SaveAnalytics] Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+        if (options.help) {
+            printUsage();
+            return;
+        }
+        if (!Files.isDirectory(options.directory)) {
+            System.err.println("[SaveAnalytics] Error: not a directory: " + options.directory);
+            System.exit(2);
+            return;
+        }
+        try {
+            new SaveAnalytics(options).run();
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("[SaveAnalytics] Error reading " + options.directory + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private void run() throws IOException {
+        System.out.printf("[SaveAnalytics] Scanning %s with %d thread(s)%s%n", options.directory.toAbsolutePath(),
+                options.threads, options.headersOnly ? ", headers only" : "");
+
+        BlockingQueue<Path> queue = new ArrayBlockingQueue<>(options.threads * 64);
+        List<SaveCorpusStats> results = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < options.threads; i++) {
+            SaveCorpusStats stats = new SaveCorpusStats();
+            results.add(stats);
+            Thread worker = new Thread(() -> work(queue, stats), "save-analytics-" + results.size());
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+
+        long start = System.nanoTime();
+        try {
+            Files.walkFileTree(options.directory, new SimpleFileVisitor<>() {
+                private long nextProgress = start + PROGRESS_INTERVAL_NANOS;
+
+                @Override
+                public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                    boolean journal = !directory.equals(options.directory) && SaveJournal.exists(directory);
+                    return journal ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (!attributes.isRegularFile() || !file.getFileName().toString().endsWith(SaveCatalog.SAVE_EXTENSION)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    putUninterruptibly(queue, file); // Blocks while the workers are behind
+                    long now = System.nanoTime();
+                    if (now >= nextProgress) {
+                        printProgress(now - start);
+                        nextProgress = now + PROGRESS_INTERVAL_NANOS;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } finally {
+            for (int i = 0; i < options.threads; i++) {
+                putUninterruptibly(queue, END_OF_CORPUS);
+            }
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        SaveCorpusStats total = new SaveCorpusStats();
+        for (SaveCorpusStats stats : results) {
+            total.merge(stats);
+        }
+        printSummary(total, elapsedNanos);
+    }
+
+    // Worker thread: decodes saves until the end marker
+    private void work(BlockingQueue<Path> queue, SaveCorpusStats stats) {
+        while (true) {
+            Path file;
+            try {
+                file = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (file == END_OF_CORPUS) return;
+            long size = 0;
+            try {
+                if (options.headersOnly) {
+                    SaveSummary summary = SaveFormat.readSummary(file);
+                    size = summary.getFileSize();
+                    stats.add(summary);
+                } else {
+                    size = Files.size(file);
+                    GameState state = SaveFormat.read(file, stats::addItem); // Names only, so the heap stays flat
+                    stats.add(state.getPlayer(), state.getElapsedMinutes(), size);
+                }
+            } catch (IOException | RuntimeException e) {
+                stats.addFailure(size);
+                if (options.verbose) {
+                    System.err.println("[SaveAnalytics] Skipping " + file + ": " + e.getMessage());
+                }
+            }
+            filesDone.increment();
+            bytesDone.add(size);
+        }
+    }
+
+    private void printProgress(long elapsedNanos) {
+        long files = filesDone.sum();
+        long bytes = bytesDone.sum();
+        System.out.printf("[SaveAnalytics] %,d saves (%,d MB) in %.1f s: %s files/s, %s MB/s%n",
+                files, bytes / MB, elapsedNanos / 1e9, rate(files, elapsedNanos), mbRate(bytes, elapsedNanos));
+    }
+
+    private void printSummary(SaveCorpusStats total, long elapsedNanos) {
+        System.out.println("[SaveAnalytics] --- Summary ---");
+        System.out.printf("[SaveAnalytics] Saves: %,d read, %,d unreadable, %,.1f MB in %.2f s%n",
+                total.files, total.failures, total.bytes / (double) MB, elapsedNanos / 1e9);
+        System.out.printf("[SaveAnalytics] Throughput: %s files/s, %s MB/s%n",
+                rate(total.files + total.failures, elapsedNanos), mbRate(total.bytes, elapsedNanos));
+        if (total.files == 0) return;
+
+        System.out.printf("[SaveAnalytics] Alive: %,d, dead: %,d (%.1f%%)%n", total.alive, total.dead, percent(total.dead, total.files));
+        System.out.printf("[SaveAnalytics] Day reached: %.2f on average, %,d at most%n", total.averageDay(), total.maxDay);
+        if (!options.headersOnly && total.dead > 0) {
+            System.out.println("[SaveAnalytics] Deaths by likely cause:");
+            for (SaveCorpusStats.DeathCause cause : SaveCorpusStats.DeathCause.values()) {
+                long deaths = total.deathsByCause[cause.ordinal()];
+                if (deaths > 0) {
+                    System.out.printf("[SaveAnalytics]   %-28s %,10d (%.1f%%)%n", cause.getDescription(), deaths, percent(deaths, total.dead));
+                }
+            }
+        }
+        System.out.println("[SaveAnalytics] Moods:");
+        for (int i = 0; i < total.moods.length; i++) {
+            if (total.moods[i] > 0) {
+                System.out.printf("[SaveAnalytics]   %-28s %,10d (%.1f%%)%n", SaveCorpusStats.moodName(i), total.moods[i], percent(total.moods[i], total.files));
+            }
+        }
+        if (!options.headersOnly && !total.items.isEmpty()) {
+            System.out.println("[SaveAnalytics] Most common items:");
+            for (Map.Entry<String, Long> item : total.topItems(options.topItems)) {
+                System.out.printf("[SaveAnalytics]   %-28s %,10d%n", item.getKey(), item.getValue());
+            }
+        }
+    }
+
+    private static void putUninterruptibly(BlockingQueue<Path> queue, Path file) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(file);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private static double percent(long part, long whole) {
+        return whole == 0 ? 0 : part * 100.0 / whole;
+    }
+
+    private static String rate(long count, long nanos) {
+        if (nanos <= 0) return "n/a";
+        return String.format("%,.0f", count * 1e9 / nanos);
+    }
+
+    private static String mbRate(long bytes, long nanos) {
+        if (nanos <= 0) return "n/a";
+        return String.format("%,.1f", bytes * 1e9 / nanos / MB);
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: SaveAnalytics [options]");
+        System.out.println("  --dir <path>         Directory of .sav files, searched recursively (default " + Options.DEFAULT_DIRECTORY + ")");
+        System.out.println("  --threads <n>        Worker threads (default: available processors)");
+        System.out.println("  --headers-only       Read only each save's summary: no items or death causes");
+        System.out.println("  --top <n>            Most common items to list (default " + Options.DEFAULT_TOP_ITEMS + ")");
+        System.out.println("  --verbose            Report every unreadable save");
+        System.out.println("  --help               Show this message");
+    }
+
+    /**
+     * Parsed command-line options.
+     */
+    static final class Options {
+        static final String DEFAULT_DIRECTORY = "saves";
+        static final int DEFAULT_TOP_ITEMS = 10;
+
+        Path directory = Path.of(DEFAULT_DIRECTORY);
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean headersOnly = false;
+        int topItems = DEFAULT_TOP_ITEMS;
+        boolean verbose = false;
+        boolean help = false;
+
+        /**
+         * @throws IllegalArgumentException If an option is unknown, is missing its value, or the value is invalid.
+         */
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--dir": options.directory = Path.of(valueOf(args, ++i, arg)); break;
+                    case "--threads": options.threads = positiveInt(arg, valueOf(args, ++i, arg)); break;
+                    case "--headers-only": options.headersOnly = true; break;
+                    case "--top": options.topItems = positiveInt(arg, valueOf(args, ++i, arg)); break;
+                    case "--verbose": options.verbose = true; break;
+                    case "--help": case "-h": options.help = true; break;
+                    default: throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            return options;
+        }
+
+        private static String valueOf(String[] args, int index, String option) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException(option + " requires a value.");
+            }
+            return args[index];
+        }
+
+        private static int positiveInt(String option, String value) {
+            try {
+                int parsed = Integer.parseInt(value.replace("_", ""));
+                if (parsed > 0) return parsed;
+            } catch (NumberFormatException e) {
+                // Reported below
+            }
+            throw new IllegalArgumentException(option + " must be a positive integer: " + value);
+        }
+    }
+}
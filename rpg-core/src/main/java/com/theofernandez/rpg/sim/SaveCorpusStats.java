@@ -0,0 +1,155 @@
+package com.theofernandez.rpg.sim;
+
+import com.theofernandez.rpg.game.GameClock;
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.save.SaveFormat;
+import com.theofernandez.rpg.save.SaveSummary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates over a corpus of saves, filled by one thread and merged with the others' at the end
+ * ({@link #merge(SaveCorpusStats)}), so workers never share anything while scanning. Memory does not grow with the
+ * corpus: counters and histograms are fixed-size, and item counts are kept for at most
+ * {@value #MAX_DISTINCT_ITEMS} distinct names (the rest are counted together).
+ */
+final class SaveCorpusStats {
+
+    static final int MAX_DISTINCT_ITEMS = 100_000;
+    static final String OTHER_ITEMS = "(other items)";
+
+    /**
+     * Likely cause of a death, read from the stats the player died with. Saves do not record causes; these are the
+     * conditions that cost health under the default stat rules, most damaging first.
+     */
+    enum DeathCause {
+        EXTREME_TEMPERATURE("extreme body temperature"),
+        DEHYDRATION("critical dehydration"),
+        STARVATION("starvation"),
+        TEMPERATURE("body temperature"),
+        CARDIO_RESPIRATORY_FAILURE("cardio-respiratory failure"),
+        INJURIES("injuries or other causes");
+
+        private static final DeathCause[] ALL = values();
+
+        private final String description;
+
+        DeathCause(String description) {
+            this.description = description;
+        }
+
+        String getDescription() { return description; }
+
+        // Thresholds of the health-damaging bands in stat-rules.txt and PlayerStatEngine
+        static DeathCause of(Player player) {
+            int temperatureOffset = player.getBodyTemperature() - 37;
+            double thirst = (double) player.getThirst() / Player.MAX_STAT_VALUE_PERCENTAGE;
+            double hunger = (double) player.getHunger() / Player.MAX_STAT_VALUE_PERCENTAGE;
+            double cardio = (double) player.getCardiovascular() / Player.MAX_STAT_VALUE_PERCENTAGE;
+            double respiratory = (double) player.getRespiratory() / Player.MAX_STAT_VALUE_PERCENTAGE;
+            if (temperatureOffset < -10 || temperatureOffset > 7) return EXTREME_TEMPERATURE;
+            if (thirst < 0.05) return DEHYDRATION;
+            if (hunger < 0.05) return STARVATION;
+            if (temperatureOffset < -5 || temperatureOffset > 4) return TEMPERATURE;
+            if (cardio < 0.1 || respiratory < 0.1) return CARDIO_RESPIRATORY_FAILURE;
+            return INJURIES;
+        }
+    }
+
+    private static final Player.Mood[] MOODS = Player.Mood.values();
+
+    long files;
+    long bytes;
+    long failures;
+    long alive;
+    long dead;
+    long daySum;
+    int maxDay;
+    final long[] deathsByCause = new long[DeathCause.ALL.length];
+    final long[] moods = new long[MOODS.length + 1]; // Last: no mood
+    final Map<String, Long> items = new HashMap<>();
+
+    /**
+     * Adds a fully decoded save. Its inventory is added separately, item by item ({@link #addItem(String, int)}).
+     */
+    void add(Player player, long elapsedMinutes, long fileBytes) {
+        addCommon(elapsedMinutes, player.getMood(), player.isAlive(), fileBytes);
+        if (!player.isAlive()) {
+            deathsByCause[DeathCause.of(player).ordinal()]++;
+        }
+    }
+
+    /**
+     * Adds one kind of item of a save's inventory, as read by {@link SaveFormat#read(java.nio.file.Path,
+     * SaveFormat.InventoryVisitor)}: by name, never interned in the item registry.
+     */
+    void addItem(String item, int count) {
+        String key = items.size() < MAX_DISTINCT_ITEMS || items.containsKey(item) ? item : OTHER_ITEMS;
+        items.merge(key, (long) count, Long::sum);
+    }
+
+    /**
+     * Adds a save read header-only: no inventory or death causes.
+     */
+    void add(SaveSummary summary) {
+        addCommon(summary.getElapsedMinutes(), summary.getMood(), summary.isAlive(), summary.getFileSize());
+    }
+
+    private void addCommon(long elapsedMinutes, Player.Mood mood, boolean isAlive, long fileBytes) {
+        files++;
+        bytes += fileBytes;
+        int day = (int) (elapsedMinutes / GameClock.MINUTES_IN_DAY) + 1;
+        daySum += day;
+        maxDay = Math.max(maxDay, day);
+        moods[mood != null ? mood.ordinal() : MOODS.length]++;
+        if (isAlive) {
+            alive++;
+        } else {
+            dead++;
+        }
+    }
+
+    void addFailure(long fileBytes) {
+        failures++;
+        bytes += fileBytes;
+    }
+
+    /**
+     * Folds another worker's aggregates into these.
+     */
+    void merge(SaveCorpusStats other) {
+        files += other.files;
+        bytes += other.bytes;
+        failures += other.failures;
+        alive += other.alive;
+        dead += other.dead;
+        daySum += other.daySum;
+        maxDay = Math.max(maxDay, other.maxDay);
+        for (int i = 0; i < deathsByCause.length; i++) deathsByCause[i] += other.deathsByCause[i];
+        for (int i = 0; i < moods.length; i++) moods[i] += other.moods[i];
+        other.items.forEach((item, count) -> {
+            String key = items.size() < MAX_DISTINCT_ITEMS || items.containsKey(item) ? item : OTHER_ITEMS;
+            items.merge(key, count, Long::sum);
+        });
+    }
+
+    double averageDay() {
+        return files == 0 ? 0 : (double) daySum / files;
+    }
+
+    /**
+     * @return The most common items, most common first.
+     */
+    List<Map.Entry<String, Long>> topItems(int limit) {
+        List<Map.Entry<String, Long>> top = new ArrayList<>(items.entrySet());
+        top.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        return top.subList(0, Math.min(limit, top.size()));
+    }
+
+    static String moodName(int index) {
+        return index < MOODS.length ? MOODS[index].name() : "(none)";
+    }
+}
@@ -0,0 +1,83 @@
+package com.theofernandez.rpg.sim;
+
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.session.GameSession;
+import com.theofernandez.rpg.session.SessionRegistry;
+
+/**
+ * Measures the heap retained per hosted session, in three stages: sessions just opened, sessions with a player,
+ * and sessions that have been played (one engine cycle, so each has its engine, journal and published snapshot).
+ *
+ * Usage: {@code java -cp rpg-core.jar com.theofernandez.rpg.sim.SessionFootprint [sessions]}
+ *
+ * Heap usage is sampled after forcing garbage collection, so figures are estimates; use a few thousand sessions
+ * or more for stable numbers.
+ */
+public final class SessionFootprint {
+
+    private static final int DEFAULT_SESSIONS = 10_000;
+    private static final int GC_ROUNDS = 4;
+
+    private SessionFootprint() {}
+
+    public static void main(String[] args) {
+        int count = DEFAULT_SESSIONS;
+        if (args.length > 0) {
+            try {
+                count = Integer.parseInt(args[0].replace("_", ""));
+            } catch (NumberFormatException e) {
+                count = -1;
+            }
+            if (count <= 0) {
+                System.err.println("[SessionFootprint] Error: Session count must be a positive integer: " + args[0]);
+                System.out.println("Usage: SessionFootprint [sessions]   (default " + DEFAULT_SESSIONS + ")");
+                System.exit(2);
+                return;
+            }
+        }
+
+        SessionRegistry registry = new SessionRegistry();
+        long baseline = settledHeapBytes();
+
+        for (int i = 0; i < count; i++) {
+            registry.create();
+        }
+        long opened = settledHeapBytes();
+        report("Opened (no player)", opened - baseline, count);
+
+        for (GameSession session : registry.getSessions()) {
+            Player player = new Player();
+            player.setName("Session-" + session.getId());
+            session.setPlayer(player);
+        }
+        long withPlayer = settledHeapBytes();
+        report("With player", withPlayer - baseline, count);
+
+        for (GameSession session : registry.getSessions()) {
+            session.getEngine().processPlayerStateChanges(session.getPlayer());
+        }
+        long played = settledHeapBytes();
+        report("Played (engine created)", played - baseline, count);
+
+        System.out.printf("[SessionFootprint] %,d sessions registered; engine cycles recorded: %,d%n",
+                registry.size(), registry.getMetrics().getCycles());
+    }
+
+    private static void report(String stage, long bytes, int count) {
+        System.out.printf("[SessionFootprint] %-24s %,8d bytes/session (%,d KB total)%n", stage, bytes / count, bytes / 1024);
+    }
+
+    private static long settledHeapBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
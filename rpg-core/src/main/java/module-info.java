@@ -0,0 +1,11 @@
+module com.theofernandez.rpg.core {
+
+    // Deliberately no JavaFX: the game model and stat engines must run on headless servers.
+    requires transitive java.management; // Stat engine metrics MXBean (ObjectName is part of its API)
+
+    exports com.theofernandez.rpg.game;   // Player, GameContext and the structure-of-arrays population
+    exports com.theofernandez.rpg.engine; // Stat engines, rule tables and the effect journal
+    exports com.theofernandez.rpg.session; // Game sessions and the registry hosting many of them
+    exports com.theofernandez.rpg.save;   // Binary save format
+    exports com.theofernandez.rpg.sim;    // Headless simulation runner and save analytics
+}
@@ -0,0 +1,130 @@
+package com.theofernandez.rpg.engine;
+
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerPopulation;
+import com.theofernandez.rpg.game.PlayerStat;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks the claim in {@link ColumnarStatEngine}'s documentation: a population run through the columnar engine ends
+ * up in the same state as the same players run one by one through {@link PlayerStatEngine}.
+ *
+ * The columnar engine covers only the tick-start reset, needs, health and mood phases, so the players are kept
+ * where the other phases do nothing: organs healthy, confidence above the adrenaline trigger, and a rule table
+ * whose temperature, stress and boredom rules have no bands. Everything else (needs, health, willpower, mental and
+ * physical stats, consciousness) is random.
+ */
+class ColumnarStatEngineParityTest {
+
+    private static final int PLAYERS = 5_000;
+    private static final int TICKS = 12;
+    private static final long WORLD_SEED = 0x5EEDL;
+    private static final Set<String> RULES_WITHOUT_BANDS = Set.of("temperature", "stress", "boredom");
+
+    @Test
+    void columnarTicksMatchObjectTicks() throws IOException {
+        StatRuleTable rules = needsAndHealthRulesOnly();
+        List<Player> players = randomPlayers(new Random(42));
+        PlayerPopulation population = PlayerPopulation.fromPlayers(players);
+
+        PlayerStatEngine objectEngine = new PlayerStatEngine(() -> 0L, () -> WORLD_SEED);
+        objectEngine.setRules(rules);
+        ColumnarStatEngine columnarEngine = new ColumnarStatEngine(rules, () -> WORLD_SEED);
+
+        for (int tick = 1; tick <= TICKS; tick++) {
+            for (Player player : players) {
+                objectEngine.processPlayerStateChanges(player);
+            }
+            columnarEngine.processNeedsHealthAndMood(population);
+            assertSameState(PlayerPopulation.fromPlayers(players), population, tick);
+        }
+    }
+
+    static void assertSameState(PlayerPopulation expected, PlayerPopulation actual, int tick) {
+        String at = " after tick " + tick;
+        for (PlayerStat stat : PlayerStat.values()) {
+            assertArrayEquals(expected.column(stat), actual.column(stat), stat + at);
+        }
+        assertArrayEquals(expected.getSimulationTickColumn(), actual.getSimulationTickColumn(), "simulation tick" + at);
+        assertArrayEquals(expected.getTempStrengthModifierColumn(), actual.getTempStrengthModifierColumn(), "temp strength" + at);
+        assertArrayEquals(expected.getTempAgilityModifierColumn(), actual.getTempAgilityModifierColumn(), "temp agility" + at);
+        assertArrayEquals(expected.getTempSpeedModifierColumn(), actual.getTempSpeedModifierColumn(), "temp speed" + at);
+        assertArrayEquals(expected.getTempDexterityModifierColumn(), actual.getTempDexterityModifierColumn(), "temp dexterity" + at);
+        assertArrayEquals(expected.getTempIntelligenceModifierColumn(), actual.getTempIntelligenceModifierColumn(), "temp intelligence" + at);
+        assertArrayEquals(expected.getTempFocusModifierColumn(), actual.getTempFocusModifierColumn(), "temp focus" + at);
+        assertArrayEquals(expected.getTempPerceptionModifierColumn(), actual.getTempPerceptionModifierColumn(), "temp perception" + at);
+        assertArrayEquals(expected.getTempMemoryModifierColumn(), actual.getTempMemoryModifierColumn(), "temp memory" + at);
+        assertArrayEquals(expected.getAliveColumn(), actual.getAliveColumn(), "alive" + at);
+        assertArrayEquals(expected.getConsciousColumn(), actual.getConsciousColumn(), "conscious" + at);
+        assertArrayEquals(expected.getAwakeColumn(), actual.getAwakeColumn(), "awake" + at);
+        assertArrayEquals(expected.getExperiencingSeizureColumn(), actual.getExperiencingSeizureColumn(), "seizure" + at);
+        assertArrayEquals(expected.getMoodColumn(), actual.getMoodColumn(), "mood" + at);
+    }
+
+    static List<Player> randomPlayers(Random random) {
+        List<Player> players = new ArrayList<>(PLAYERS);
+        for (int i = 0; i < PLAYERS; i++) {
+            Player player = new Player();
+            player.setHunger(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setThirst(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setFatiguePercent(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setSleep(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setWillpower(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setFocus(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setMemory(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setHappiness(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setComfort(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setStress(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setBoredom(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setHygiene(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setIntelligence(random.nextInt(Player.MAX_STAT_VALUE + 1));
+            player.setUpperBodyStrength(random.nextInt(Player.MAX_STAT_VALUE + 1));
+            player.setAgility(random.nextInt(Player.MAX_STAT_VALUE + 1));
+            player.setSpeed(random.nextInt(Player.MAX_STAT_VALUE + 1));
+            player.setDexterity(random.nextInt(Player.MAX_STAT_VALUE + 1));
+            player.setEndurance(random.nextInt(Player.MAX_STAT_VALUE + 1));
+            // Confidence stays above the adrenaline trigger (10%), which only the object engine models
+            player.setConfidence(Player.MAX_STAT_VALUE_PERCENTAGE / 10 + random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE * 9 / 10));
+            player.setHealth(1 + random.nextInt(Player.DEFAULT_PLAYER_HEALTH));
+            if (random.nextInt(4) == 0) player.setConscious(false);
+            players.add(player);
+        }
+        return players;
+    }
+
+    // The default rules with the bands of the phases only the object engine runs removed
+    private static StatRuleTable needsAndHealthRulesOnly() throws IOException {
+        StringBuilder text = new StringBuilder();
+        try (InputStream in = StatRuleTable.class.getResourceAsStream(StatRuleTable.DEFAULT_RESOURCE);
+             BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            boolean keepBands = true;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.startsWith("rule ")) {
+                    keepBands = !RULES_WITHOUT_BANDS.contains(trimmed.split("\\s+")[1]);
+                } else if (trimmed.startsWith("band ") && !keepBands) {
+                    continue;
+                }
+                text.append(line).append('\n');
+            }
+        }
+        StatRuleTable rules = StatRuleTable.parse(new StringReader(text.toString()), "needs and health only");
+        assertNull(rules.temperature().effectFor(0), "temperature bands should be gone");
+        return rules;
+    }
+}
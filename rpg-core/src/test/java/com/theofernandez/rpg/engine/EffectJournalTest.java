@@ -0,0 +1,97 @@
+package com.theofernandez.rpg.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link EffectJournal} readers never see a torn entry, even when writers lap each other on a tiny ring.
+ * Every entry's three fields are derived from one value, so an entry mixing two writes no longer adds up.
+ */
+class EffectJournalTest {
+
+    private static final EffectCode[] CODES = EffectCode.values();
+    private static final int WRITERS = 8;
+    private static final int ENTRIES_PER_WRITER = 50_000;
+
+    @Test
+    void readsInOrderWithoutLapping() {
+        EffectJournal journal = new EffectJournal(8);
+        for (int i = 0; i < 5; i++) {
+            journal.record(codeOf(i), i, minutesOf(i));
+        }
+        List<Long> sequences = new ArrayList<>();
+        long next = journal.forEachSince(0, (sequence, code, entityId, minutes) -> {
+            sequences.add(sequence);
+            assertEquals(codeOf(entityId), code);
+            assertEquals(minutesOf(entityId), minutes);
+        });
+        assertEquals(5L, next);
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), sequences);
+    }
+
+    @Test
+    void lappingWritersNeverTearEntries() throws InterruptedException {
+        EffectJournal journal = new EffectJournal(2); // Far fewer slots than writers, so they keep colliding
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicReference<String> torn = new AtomicReference<>();
+        AtomicLong checked = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+
+        Thread reader = new Thread(() -> {
+            long from = 0;
+            while (writing.get() && torn.get() == null) {
+                from = journal.forEachSince(from, (sequence, code, entityId, minutes) -> {
+                    checked.incrementAndGet();
+                    if (code != codeOf(entityId) || minutes != minutesOf(entityId)) {
+                        torn.compareAndSet(null, "Torn entry " + sequence + ": " + code + ", " + entityId + ", " + minutes);
+                    }
+                });
+            }
+        });
+        List<Thread> writers = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            int first = w * ENTRIES_PER_WRITER;
+            Thread writer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int value = first; value < first + ENTRIES_PER_WRITER; value++) {
+                    journal.record(codeOf(value), value, minutesOf(value));
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        reader.start();
+        start.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        writing.set(false);
+        reader.join();
+
+        assertNull(torn.get());
+        assertEquals((long) WRITERS * ENTRIES_PER_WRITER, journal.getWriteSequence());
+        assertTrue(checked.get() > 0, "The reader never saw an entry.");
+    }
+
+    private static EffectCode codeOf(int value) {
+        return CODES[Math.floorMod(value * 31, CODES.length)];
+    }
+
+    private static long minutesOf(int value) {
+        return value * 7L + 3;
+    }
+}
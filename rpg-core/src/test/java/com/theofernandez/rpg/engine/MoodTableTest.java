@@ -0,0 +1,69 @@
+package com.theofernandez.rpg.engine;
+
+import com.theofernandez.rpg.game.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link MoodTable} must resolve exactly what {@link MoodTable#resolveByRules} does. The class checks itself only when
+ * assertions are on; these tests run that check unconditionally and add inputs it does not try, such as hunger and
+ * thirst apart and every current mood.
+ */
+class MoodTableTest {
+
+    private static final int MAX_PCT = Player.MAX_STAT_VALUE_PERCENTAGE;
+    private static final int MAX_HEALTH = Player.DEFAULT_PLAYER_HEALTH;
+    private static final int SAMPLES = 2_000_000;
+
+    @Test
+    void tableAgreesWithTheRulesAtEveryBandEdge() {
+        MoodTable.verify();
+    }
+
+    @Test
+    void tableAgreesWithTheRulesForRandomInputs() {
+        Random random = new Random(11);
+        int moods = Player.Mood.values().length;
+        for (int i = 0; i < SAMPLES; i++) {
+            boolean seizure = random.nextInt(50) == 0;
+            boolean conscious = random.nextInt(20) != 0;
+            int health = random.nextInt(MAX_HEALTH + 1);
+            int adrenaline = random.nextInt(10) == 0 ? 1 + random.nextInt(5) : 0;
+            int temperature = 20 + random.nextInt(26);
+            int hunger = random.nextInt(MAX_PCT + 1);
+            int thirst = random.nextInt(MAX_PCT + 1);
+            int sleep = random.nextInt(MAX_PCT + 1);
+            int fatigue = random.nextInt(MAX_PCT + 1);
+            int confidence = random.nextInt(MAX_PCT + 1);
+            int stress = random.nextInt(MAX_PCT + 1);
+            int happiness = random.nextInt(MAX_PCT + 1);
+            int boredom = random.nextInt(MAX_PCT + 1);
+            int focus = random.nextInt(MAX_PCT + 1);
+            int current = random.nextInt(moods + 1) - 1; // NO_MOOD included
+
+            int expected = MoodTable.resolveByRules(seizure, conscious, health, adrenaline, temperature, hunger, thirst,
+                    sleep, fatigue, confidence, stress, happiness, boredom, focus, current);
+            int actual = MoodTable.resolve(seizure, conscious, health, adrenaline, temperature, hunger, thirst,
+                    sleep, fatigue, confidence, stress, happiness, boredom, focus, current);
+            if (actual != expected) {
+                assertEquals(expected, actual, "seizure=" + seizure + " conscious=" + conscious + " health=" + health
+                        + " adrenaline=" + adrenaline + " temperature=" + temperature + " hunger=" + hunger
+                        + " thirst=" + thirst + " sleep=" + sleep + " fatigue=" + fatigue + " confidence=" + confidence
+                        + " stress=" + stress + " happiness=" + happiness + " boredom=" + boredom + " focus=" + focus
+                        + " current=" + current);
+            }
+        }
+    }
+
+    @Test
+    void playerWithoutAMoodGetsOne() {
+        Player player = new Player();
+        player.setMood(null);
+        assertEquals(Player.Mood.NEUTRAL, MoodTable.resolve(player));
+        player.setConscious(false);
+        assertEquals(Player.Mood.CRITICAL, MoodTable.resolve(player));
+    }
+}
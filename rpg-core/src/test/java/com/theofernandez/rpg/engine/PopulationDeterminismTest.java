@@ -0,0 +1,102 @@
+package com.theofernandez.rpg.engine;
+
+import com.theofernandez.rpg.game.DeterministicRandom;
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerPopulation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every roll is drawn from {@link DeterministicRandom}, keyed by world seed, entity ID and tick, so a population
+ * stepped through {@link PlayerStatEngine#processAll} ends up in the same state however many threads share the work.
+ * The players start anywhere in their ranges, confidence and body temperature included, so seizures, knockouts and
+ * adrenaline rushes are rolled along the way.
+ */
+class PopulationDeterminismTest {
+
+    private static final long WORLD_SEED = 0xD1CEL;
+    private static final int TICKS = 8;
+    private static final int MINUTES_PER_TICK = 30;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+
+    @Test
+    void processAllGivesTheSameStateOnAnyNumberOfThreads() {
+        List<Player> reference = randomPlayers(null);
+        List<Integer> referenceDeaths = run(reference, 1);
+
+        for (int threads : THREAD_COUNTS) {
+            List<Player> players = randomPlayers(reference);
+            List<Integer> deaths = run(players, threads);
+            assertEquals(referenceDeaths, deaths, "deaths per tick on " + threads + " threads");
+            ColumnarStatEngineParityTest.assertSameState(PlayerPopulation.fromPlayers(reference),
+                    PlayerPopulation.fromPlayers(players), TICKS);
+        }
+        assertTrue(referenceDeaths.stream().mapToInt(Integer::intValue).sum() > 0, "no rolls went against anyone");
+    }
+
+    @Test
+    void drawsArePureFunctionsOfTheirInputs() {
+        long key = DeterministicRandom.key(WORLD_SEED, 17, 3);
+        assertEquals(key, DeterministicRandom.key(WORLD_SEED, 17, 3));
+        assertNotEquals(key, DeterministicRandom.key(WORLD_SEED, 18, 3), "entity ID");
+        assertNotEquals(key, DeterministicRandom.key(WORLD_SEED, 17, 4), "tick");
+        assertNotEquals(key, DeterministicRandom.key(WORLD_SEED + 1, 17, 3), "world seed");
+
+        // Draw indices name roll sites: skipping some leaves the others unchanged
+        long second = DeterministicRandom.nextLong(key, DeterministicRandom.ENGINE_DRAWS + 1);
+        for (int draw = 0; draw < 100; draw++) {
+            DeterministicRandom.nextLong(key, draw);
+        }
+        assertEquals(second, DeterministicRandom.nextLong(key, DeterministicRandom.ENGINE_DRAWS + 1));
+        assertNotEquals(second, DeterministicRandom.nextLong(key, DeterministicRandom.ENGINE_DRAWS + 2));
+
+        int[] histogram = new int[6];
+        for (int entity = 0; entity < 60_000; entity++) {
+            long entityKey = DeterministicRandom.key(WORLD_SEED, entity, 0);
+            double value = DeterministicRandom.nextDouble(entityKey, 0);
+            assertTrue(value >= 0 && value < 1, "double out of range: " + value);
+            histogram[DeterministicRandom.nextInt(entityKey, 1, histogram.length)]++;
+        }
+        for (int count : histogram) {
+            assertTrue(Math.abs(count - 10_000) < 500, "uneven nextInt: " + count);
+        }
+        assertThrows(IllegalArgumentException.class, () -> DeterministicRandom.nextInt(key, 0, 0));
+    }
+
+    // Runs the ticks on a pool of the given size and returns the deaths of each tick
+    private static List<Integer> run(List<Player> players, int threads) {
+        PlayerStatEngine engine = new PlayerStatEngine(() -> 0L, () -> WORLD_SEED);
+        List<Integer> deaths = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (int tick = 0; tick < TICKS; tick++) {
+                deaths.add(engine.processAll(players, pool, MINUTES_PER_TICK).getDeaths());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return deaths;
+    }
+
+    // The same random players every call; copies take the entity IDs of the given players, since rolls depend on them
+    private static List<Player> randomPlayers(List<Player> idsFrom) {
+        Random random = new Random(7);
+        List<Player> players = ColumnarStatEngineParityTest.randomPlayers(random);
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            player.setConfidence(random.nextInt(Player.MAX_STAT_VALUE_PERCENTAGE + 1));
+            player.setBodyTemperature(28 + random.nextInt(17));
+            if (idsFrom != null) player.restoreEntityId(idsFrom.get(i).getEntityId());
+        }
+        return players;
+    }
+}
@@ -0,0 +1,145 @@
+package com.theofernandez.rpg.engine;
+
+import com.theofernandez.rpg.game.PlayerStat;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Parsing {@link StatRuleTable} text and looking values up in the compiled bands, including the edges where one band
+ * hands over to the next.
+ */
+class StatRuleTableTest {
+
+    // Every required rule, with bands only where the tests look
+    private static final String RULES = """
+            # Comments and blank lines are skipped
+
+            rule temperature stat=BODY_TEMPERATURE base=37 range=20..45
+            band outside -10 7 effect=EXTREME_TEMPERATURE health=-5 knockout=1.0
+            band outside -2 2  effect=TEMPERATURE_DISCOMFORT comfort=-0.25   # Trailing comment
+            rule hunger stat=HUNGER scale=500 range=0..500
+            band < 0.05 effect=STARVATION health=-3 severity=0.5 allPhysical=true
+            band < 0.40 effect=HUNGER stress=5
+            rule thirst stat=THIRST scale=500 range=0..500
+            rule fatigue stat=FATIGUE_PERCENT scale=500 range=0..500
+            band > 0.95 effect=UTTER_EXHAUSTION knockout=0.1 knockoutEffect=EXHAUSTION_COLLAPSE
+            band >= 0.70 effect=SEVERE_FATIGUE
+            rule sleep stat=SLEEP scale=500 range=0..500
+            rule health stat=HEALTH scale=100 range=0..100
+            band <= 0.15 effect=CRITICAL_INJURIES knockoutAtHealth=0.05 unconsciousEffect=CRITICALLY_INJURED_UNCONSCIOUS
+            rule stress stat=STRESS scale=500 range=0..500
+            rule boredom stat=BOREDOM scale=500 range=0..500
+            """;
+
+    @Test
+    void bandsSwitchExactlyAtTheirThresholds() throws IOException {
+        StatRuleTable table = parse(RULES);
+
+        StatRuleTable.BandRule hunger = table.hunger();
+        assertSame(PlayerStat.HUNGER, hunger.stat());
+        assertEquals(0, hunger.bandOf(0));
+        assertEquals(0, hunger.bandOf(24)); // 24 / 500 < 0.05
+        assertEquals(1, hunger.bandOf(25));
+        assertEquals(1, hunger.bandOf(199));
+        assertEquals(-1, hunger.bandOf(200));
+        assertNull(hunger.effectFor(500));
+        assertEquals(25, hunger.nextBandChange(3, 1));
+        assertEquals(24, hunger.nextBandChange(100, -1));
+        assertEquals(StatRuleTable.BandRule.NO_CHANGE, hunger.nextBandChange(300, 1));
+
+        StatRuleTable.BandRule fatigue = table.fatigue();
+        assertEquals(-1, fatigue.bandOf(349));
+        assertEquals(1, fatigue.bandOf(350)); // >= 0.70
+        assertEquals(1, fatigue.bandOf(475)); // Not > 0.95
+        assertEquals(0, fatigue.bandOf(476));
+
+        StatRuleTable.BandRule health = table.health();
+        assertEquals(0, health.bandOf(15)); // <= 0.15
+        assertEquals(-1, health.bandOf(16));
+    }
+
+    @Test
+    void baseAndOutsideMeasureDeviation() throws IOException {
+        StatRuleTable.BandRule temperature = parse(RULES).temperature();
+        assertEquals(0, temperature.bandOf(26)); // 37 - 11
+        assertEquals(1, temperature.bandOf(27));
+        assertEquals(1, temperature.bandOf(34));
+        assertEquals(-1, temperature.bandOf(35));
+        assertEquals(-1, temperature.bandOf(39));
+        assertEquals(1, temperature.bandOf(40));
+        assertEquals(1, temperature.bandOf(44));
+        assertEquals(0, temperature.bandOf(45));
+        // Outside the compiled range the conditions are evaluated directly
+        assertEquals(0, temperature.bandOf(10));
+        assertEquals(0, temperature.bandOf(60));
+        assertEquals(StatRuleTable.BandRule.NO_CHANGE, temperature.nextBandChange(60, -1));
+    }
+
+    @Test
+    void effectRowsCarryTheirKeys() throws IOException {
+        StatRuleTable table = parse(RULES);
+        StatRuleTable.BandEffect starvation = table.hunger().effectFor(0);
+        assertSame(EffectCode.STARVATION, starvation.code);
+        assertEquals(-3, starvation.healthDelta);
+        assertEquals(0.5, starvation.severity);
+        assertTrue(starvation.allPhysical);
+        assertEquals(0, starvation.stressDelta);
+
+        StatRuleTable.BandEffect exhaustion = table.fatigue().effect(0);
+        assertEquals(0.1, exhaustion.knockoutChance);
+        assertSame(EffectCode.EXHAUSTION_COLLAPSE, exhaustion.knockoutCode);
+        assertEquals(Double.POSITIVE_INFINITY, exhaustion.knockoutAtHealth);
+
+        StatRuleTable.BandEffect injuries = table.health().effect(0);
+        assertEquals(0.05, injuries.knockoutAtHealth);
+        assertSame(EffectCode.CRITICALLY_INJURED_UNCONSCIOUS, injuries.unconsciousCode);
+        assertEquals(-0.25, table.temperature().effect(1).comfortPct);
+    }
+
+    @Test
+    void defaultRulesLoad() throws IOException {
+        StatRuleTable table = StatRuleTable.defaultRules();
+        assertSame(table, StatRuleTable.defaultRules());
+        assertEquals(StatRuleTable.DEFAULT_RESOURCE, table.getSourceName());
+        assertSame(EffectCode.STARVATION, table.hunger().effectFor(0).code);
+        assertSame(EffectCode.CRITICAL_SLEEP_DEPRIVATION, table.sleep().effectFor(0).code);
+        assertNull(table.health().effectFor(100));
+        assertTrue(parse(RULES).id() != table.id(), "every table gets its own ID");
+    }
+
+    @Test
+    void malformedTablesAreRejectedWithTheirLine() {
+        assertRejected(RULES.replace("rule boredom stat=BOREDOM scale=500 range=0..500\n", ""), "missing rule 'boredom'");
+        assertRejected(RULES + "rule hunger stat=HUNGER range=0..500\n", "line 18: duplicate rule 'hunger'");
+        assertRejected("band < 1 effect=HUNGER\n", "line 1: band declared before any rule");
+        assertRejected(RULES + "bands < 1 effect=HUNGER\n", "unknown directive 'bands'");
+        assertRejected(RULES.replace("stress=5", "stres=5"), "line 8: unknown band key 'stres'");
+        assertRejected(RULES.replace("band < 0.40 effect=HUNGER", "band < 0.40"), "band needs effect=");
+        assertRejected(RULES.replace("band < 0.40", "band ~ 0.40"), "unknown band operator '~'");
+        assertRejected(RULES.replace("range=0..100", "range=100..0"), "needs a valid range=");
+        assertRejected(RULES.replace("scale=100", "scale=0"), "has scale 0");
+        assertRejected(RULES.replace("rule sleep stat=SLEEP", "rule sleep"), "rule 'sleep' needs stat=");
+        assertRejected(RULES.replace("health=-3", "health"), "expected key=value, got 'health'");
+
+        IllegalStateException missing = assertThrows(IllegalStateException.class,
+                () -> StatRuleTable.fromResource("no-such-rules.txt"));
+        assertTrue(missing.getMessage().contains("no-such-rules.txt"), missing.getMessage());
+    }
+
+    private static StatRuleTable parse(String text) throws IOException {
+        return StatRuleTable.parse(new StringReader(text), "test rules");
+    }
+
+    private static void assertRejected(String text, String message) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> parse(text));
+        assertTrue(e.getMessage().contains(message), "'" + e.getMessage() + "' should mention " + message);
+    }
+}
@@ -0,0 +1,173 @@
+package com.theofernandez.rpg.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Removal from {@link ItemCounts}: the backward-shift delete must keep every remaining key reachable, and the
+ * swap-remove must keep the arrays' order and counts in step with the table.
+ */
+class ItemCountsTest {
+
+    // Up to 4 kinds the table keeps its first 8 slots
+    private static final int SMALL_TABLE_MASK = 7;
+
+    @Test
+    void removingFromAProbeChainKeepsTheRestReachable() {
+        // Three IDs share a home slot and a fourth lives right after it, so it is pushed along the same run
+        int home = 3;
+        List<Integer> sameHome = idsWithHome(home, 3);
+        int neighbour = idsWithHome(home + 1, 1).get(0);
+        for (int removed : sameHome) {
+            ItemCounts items = new ItemCounts();
+            for (int id : sameHome) {
+                items.add(id, id % 5 + 1);
+            }
+            items.add(neighbour, 9);
+
+            assertEquals(removed % 5 + 1, items.remove(removed, Integer.MAX_VALUE));
+            assertFalse(items.contains(removed));
+            assertEquals(0, items.count(removed));
+            for (int id : sameHome) {
+                if (id != removed) assertEquals(id % 5 + 1, items.count(id), "ID " + id + " after removing " + removed);
+            }
+            assertEquals(9, items.count(neighbour));
+            assertEquals(3, items.kinds());
+        }
+    }
+
+    @Test
+    void removingAtTheEndOfTheTableWrapsAround() {
+        List<Integer> lastSlot = idsWithHome(SMALL_TABLE_MASK, 3); // The run wraps into slots 0 and 1
+        int wrapped = idsWithHome(0, 1).get(0);
+        ItemCounts items = new ItemCounts();
+        for (int id : lastSlot) {
+            items.add(id, 1);
+        }
+        items.add(wrapped, 2);
+
+        items.remove(lastSlot.get(0), 1);
+        assertEquals(1, items.count(lastSlot.get(1)));
+        assertEquals(1, items.count(lastSlot.get(2)));
+        assertEquals(2, items.count(wrapped));
+        items.remove(lastSlot.get(2), 1);
+        assertEquals(1, items.count(lastSlot.get(1)));
+        assertEquals(2, items.count(wrapped));
+    }
+
+    @Test
+    void removalMovesTheLastKindIntoTheGap() {
+        ItemCounts items = new ItemCounts();
+        items.add(10, 1);
+        items.add(20, 2);
+        items.add(30, 3);
+        items.add(40, 4);
+
+        assertEquals(1, items.remove(20, 1)); // Part of a stack: nothing moves
+        assertOrder(items, new int[] {10, 20, 30, 40}, new int[] {1, 1, 3, 4});
+        assertEquals(1, items.remove(20, 5)); // Only what is held
+        assertOrder(items, new int[] {10, 40, 30}, new int[] {1, 4, 3});
+        assertEquals(3, items.remove(30, 3)); // The last one: nothing moves either
+        assertOrder(items, new int[] {10, 40}, new int[] {1, 4});
+        assertEquals(0, items.remove(99, 1));
+        assertEquals(5L, items.total());
+
+        items.add(50, 6);
+        items.add(10, 1);
+        assertOrder(items, new int[] {10, 40, 50}, new int[] {2, 4, 6});
+    }
+
+    @Test
+    void randomAddsAndRemovalsMatchAPlainMap() {
+        // A narrow ID range keeps the table crowded, so removals keep landing inside probe runs
+        Random random = new Random(42);
+        ItemCounts items = new ItemCounts();
+        Map<Integer, Integer> expected = new HashMap<>();
+        List<Integer> order = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int id = random.nextInt(48);
+            int amount = 1 + random.nextInt(3);
+            if (random.nextInt(5) < 3) {
+                items.add(id, amount);
+                if (expected.merge(id, amount, Integer::sum) == amount) order.add(id);
+            } else {
+                int held = expected.getOrDefault(id, 0);
+                assertEquals(Math.min(held, amount), items.remove(id, amount));
+                if (held > amount) {
+                    expected.put(id, held - amount);
+                } else if (held > 0) {
+                    expected.remove(id);
+                    int index = order.indexOf(id);
+                    int last = order.remove(order.size() - 1);
+                    if (index < order.size()) order.set(index, last);
+                }
+            }
+            if (step % 97 == 0) assertMatches(expected, order, items);
+        }
+        assertMatches(expected, order, items);
+
+        ItemCounts copy = new ItemCounts(items);
+        assertEquals(items, copy);
+        assertEquals(items.hashCode(), copy.hashCode());
+        items.clear();
+        assertTrue(items.isEmpty());
+        assertMatches(expected, order, copy);
+    }
+
+    @Test
+    void invalidAmountsAreRejected() {
+        ItemCounts items = new ItemCounts();
+        assertThrows(IllegalArgumentException.class, () -> items.add(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> items.add(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> items.remove(1, 0));
+        items.add(1, Integer.MAX_VALUE);
+        assertThrows(IllegalStateException.class, () -> items.add(1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> items.idAt(1));
+    }
+
+    // --- Helpers ---
+
+    // IDs whose home slot in the initial table is the given one, mirroring ItemCounts' Fibonacci hash
+    private static List<Integer> idsWithHome(int slot, int wanted) {
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; ids.size() < wanted; id++) {
+            int hash = id * 0x9E3779B9;
+            if (((hash ^ (hash >>> 16)) & SMALL_TABLE_MASK) == slot) ids.add(id);
+        }
+        return ids;
+    }
+
+    private static void assertOrder(ItemCounts items, int[] ids, int[] counts) {
+        assertEquals(ids.length, items.kinds());
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(ids[i], items.idAt(i), "ID at " + i);
+            assertEquals(counts[i], items.countAt(i), "count at " + i);
+            assertEquals(counts[i], items.count(ids[i]));
+        }
+    }
+
+    private static void assertMatches(Map<Integer, Integer> expected, List<Integer> order, ItemCounts items) {
+        assertEquals(order.size(), items.kinds());
+        long total = 0;
+        for (int i = 0; i < order.size(); i++) {
+            int id = order.get(i);
+            assertEquals(id, items.idAt(i), "ID at " + i);
+            assertEquals((int) expected.get(id), items.countAt(i), "count at " + i);
+            total += expected.get(id);
+        }
+        for (int id = 0; id < 48; id++) {
+            assertEquals((int) expected.getOrDefault(id, 0), items.count(id), "count of " + id);
+        }
+        assertEquals(total, items.total());
+    }
+}
@@ -0,0 +1,77 @@
+package com.theofernandez.rpg.save;
+
+import com.theofernandez.rpg.session.GameSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * When {@link Autosaver} saves, counted in game time from the last autosave, including after the game time goes back.
+ */
+class AutosaverTest {
+
+    private static final int INTERVAL = 60;
+
+    @TempDir
+    Path directory;
+
+    private final GameSession session = new GameSession("autosaver-test");
+
+    @Test
+    void savesOncePerInterval() throws IOException {
+        try (SaveService service = new SaveService("autosaver-test")) {
+            Autosaver autosaver = autosaver(service);
+            session.getClock().advanceTime(INTERVAL - 1);
+            assertNull(autosaver.onTimeAdvanced(), "not due yet");
+            session.getClock().advanceTime(1);
+            assertSaved(autosaver, session.getClock().getElapsedMinutes());
+            session.getClock().advanceTime(INTERVAL / 2);
+            assertNull(autosaver.onTimeAdvanced(), "the interval restarts at each autosave");
+        }
+    }
+
+    @Test
+    void timeGoingBackRestartsTheInterval() throws IOException {
+        try (SaveService service = new SaveService("autosaver-test")) {
+            Autosaver autosaver = autosaver(service);
+            long start = session.getClock().getElapsedMinutes();
+            session.getClock().advanceTime(5 * INTERVAL);
+            assertSaved(autosaver, start + 5 * INTERVAL);
+
+            session.getClock().setElapsedMinutes(start + INTERVAL); // Rewound, or an earlier save loaded
+            assertNull(autosaver.onTimeAdvanced());
+            session.getClock().advanceTime(INTERVAL);
+            assertSaved(autosaver, start + 2 * INTERVAL);
+        }
+    }
+
+    @Test
+    void deadPlayersAreNotSaved() {
+        try (SaveService service = new SaveService("autosaver-test")) {
+            Autosaver autosaver = autosaver(service);
+            session.getPlayer().setAlive(false);
+            session.getClock().advanceTime(INTERVAL);
+            assertNull(autosaver.onTimeAdvanced());
+        }
+    }
+
+    private Autosaver autosaver(SaveService service) {
+        session.setPlayer(SaveFormatTest.samplePlayer(new Random(1)));
+        session.setAutosaveIntervalMinutes(INTERVAL);
+        return new Autosaver(session, service, directory.resolve("autosave.sav"));
+    }
+
+    private static void assertSaved(Autosaver autosaver, long elapsedMinutes) throws IOException {
+        CompletableFuture<Path> save = autosaver.onTimeAdvanced();
+        assertNotNull(save, "an autosave is due at " + elapsedMinutes);
+        assertEquals(elapsedMinutes, SaveFormat.read(save.join()).getElapsedMinutes());
+    }
+}
@@ -0,0 +1,260 @@
+package com.theofernandez.rpg.save;
+
+import com.theofernandez.rpg.game.GameClock;
+import com.theofernandez.rpg.game.ItemRegistry;
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerStat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round trips and migrations of the binary save format, which saves, save slots, the autosave journal, the save
+ * catalog and the rewind buffer all share.
+ */
+class SaveFormatTest {
+
+    private static final long ELAPSED_MINUTES = 3 * GameClock.MINUTES_IN_DAY + 125;
+    private static final long WORLD_SEED = 0x1234_5678_9ABCL;
+    private static final long SAVED_AT = 1_700_000_000_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void currentVersionRoundTrips() throws IOException {
+        Player player = samplePlayer(new Random(1));
+        player.addItems("Old Rag", 3);
+        player.addItem("Knife");
+
+        GameState decoded = SaveFormat.decode(SaveFormat.encode(new GameState(player, ELAPSED_MINUTES, WORLD_SEED, SAVED_AT)));
+
+        assertEquals(SaveFormat.CURRENT_VERSION, decoded.getFormatVersion());
+        assertClock(decoded);
+        assertSamePlayer(player, decoded.getPlayer());
+        assertEquals(player.getItemCounts(), decoded.getPlayer().getItemCounts());
+    }
+
+    @Test
+    void fileRoundTripsAndSummarizes() throws IOException {
+        Player player = samplePlayer(new Random(2));
+        Path file = directory.resolve("slot.sav");
+        SaveFormat.write(file, new GameState(player, ELAPSED_MINUTES, WORLD_SEED, SAVED_AT));
+
+        GameState read = SaveFormat.read(file);
+        assertClock(read);
+        assertSamePlayer(player, read.getPlayer());
+
+        SaveSummary summary = SaveFormat.readSummary(file);
+        assertEquals(player.getName(), summary.getPlayerName());
+        assertEquals(player.getHealth(), summary.getHealth());
+        assertEquals(player.getMood(), summary.getMood());
+        assertEquals(ELAPSED_MINUTES, summary.getElapsedMinutes());
+        assertEquals(Files.size(file), summary.getFileSize());
+    }
+
+    @Test
+    void summaryOfLongNameFallsBackToWholeFile() throws IOException {
+        Player player = samplePlayer(new Random(7));
+        player.setName("N".repeat(SaveFormat.SUMMARY_READ_BYTES + 100)); // Runs past the summary's partial read
+        Path file = directory.resolve("long-name.sav");
+        SaveFormat.write(file, new GameState(player, ELAPSED_MINUTES, WORLD_SEED, SAVED_AT));
+
+        SaveSummary summary = SaveFormat.readSummary(file);
+        assertEquals(player.getName(), summary.getPlayerName());
+        assertEquals(player.getHealth(), summary.getHealth());
+        assertEquals(player.getName(), SaveFormat.read(file).getPlayer().getName());
+
+        try (SaveCatalog catalog = SaveCatalog.open(directory)) {
+            assertEquals(player.getName(), catalog.get(file.getFileName().toString()).getPlayerName());
+        }
+    }
+
+    @Test
+    void version1SavesDecode() throws IOException {
+        Player player = samplePlayer(new Random(3));
+        ByteBuffer file = encodeVersion1(new GameState(player, ELAPSED_MINUTES, WORLD_SEED, SAVED_AT),
+                List.of("Old Rag", "Knife", "Old Rag"));
+
+        GameState decoded = SaveFormat.decode(file);
+
+        assertEquals(1, decoded.getFormatVersion());
+        assertClock(decoded);
+        assertSamePlayer(player, decoded.getPlayer());
+        assertEquals(2, decoded.getPlayer().getItemCount("Old Rag"));
+        assertEquals(1, decoded.getPlayer().getItemCount("Knife"));
+    }
+
+    @Test
+    void inventoryVisitorLeavesTheRegistryAlone() throws IOException {
+        Player player = samplePlayer(new Random(10));
+        player.addItems("Visitor Probe A", 4);
+        ByteBuffer save = SaveFormat.encode(new GameState(player, ELAPSED_MINUTES, WORLD_SEED, SAVED_AT));
+        // Rename the item in the file to one this run has never seen, then fix the checksum
+        byte[] bytes = Arrays.copyOfRange(save.array(), save.position(), save.limit());
+        String file = new String(bytes, StandardCharsets.ISO_8859_1);
+        int at = file.indexOf("Visitor Probe A");
+        bytes[at + "Visitor Probe ".length()] = 'Z';
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, SaveFormat.HEADER_BYTES, bytes.length - SaveFormat.HEADER_BYTES);
+        ByteBuffer.wrap(bytes).putInt(12, (int) crc.getValue());
+        Path path = directory.resolve("visited.sav");
+        Files.write(path, bytes);
+
+        int registered = ItemRegistry.size();
+        Map<String, Integer> visited = new HashMap<>();
+        GameState read = SaveFormat.read(path, visited::put);
+
+        assertEquals(Map.of("Visitor Probe Z", 4), visited);
+        assertTrue(read.getPlayer().getItemCounts().isEmpty());
+        assertEquals(registered, ItemRegistry.size());
+        assertEquals(ItemRegistry.NO_ITEM, ItemRegistry.find("Visitor Probe Z"));
+        assertEquals(4, SaveFormat.read(path).getPlayer().getItemCount("Visitor Probe Z"), "a normal read still interns it");
+    }
+
+    @Test
+    void statLayoutsAreFrozen() {
+        PlayerStat[] version1 = SaveFormat.statLayout(1);
+        assertEquals(42, version1.length);
+        assertEquals(PlayerStat.AGE, version1[0]);
+        assertEquals(PlayerStat.HEALTH, version1[10]);
+        assertEquals(PlayerStat.ADRENALINE_RUSH_TURNS, version1[41]);
+        assertArrayEquals(version1, SaveFormat.statLayout(2), "version 2 changed the inventory only");
+    }
+
+    @Test
+    void legacySerializedSavesLoad() throws IOException {
+        Player player = samplePlayer(new Random(4));
+        player.addItem("Old Rag");
+        player.addItem("Old Rag");
+        Path file = directory.resolve("legacy.sav");
+        try (OutputStream out = Files.newOutputStream(file); ObjectOutputStream objects = new ObjectOutputStream(out)) {
+            objects.writeObject(player);
+        }
+
+        assertFalse(SaveFormat.isBinarySave(ByteBuffer.wrap(Files.readAllBytes(file))));
+        GameState read = SaveFormat.read(file);
+        assertEquals(SaveFormat.LEGACY_VERSION, read.getFormatVersion());
+        assertEquals(GameClock.DEFAULT_START_MINUTES, read.getElapsedMinutes());
+        assertEquals(player.getName(), read.getPlayer().getName());
+        for (PlayerStat stat : PlayerStat.values()) {
+            assertEquals(stat.get(player), stat.get(read.getPlayer()), stat.name());
+        }
+        assertEquals(2, read.getPlayer().getItemCount("Old Rag"));
+        assertEquals(SaveFormat.LEGACY_VERSION, SaveFormat.readSummary(file).getFormatVersion());
+    }
+
+    @Test
+    void corruptChecksumIsRejected() {
+        ByteBuffer file = SaveFormat.encode(new GameState(samplePlayer(new Random(5)), ELAPSED_MINUTES, WORLD_SEED, SAVED_AT));
+        int last = file.limit() - 1;
+        file.put(last, (byte) (file.get(last) ^ 0x01));
+
+        IOException e = assertThrows(IOException.class, () -> SaveFormat.decode(file));
+        assertTrue(e.getMessage().contains("checksum"), e.getMessage());
+    }
+
+    @Test
+    void truncatedAndNewerSavesAreRejected() {
+        ByteBuffer file = SaveFormat.encode(new GameState(samplePlayer(new Random(6)), ELAPSED_MINUTES, WORLD_SEED, SAVED_AT));
+        assertThrows(IOException.class, () -> SaveFormat.decode(file.duplicate().limit(file.limit() - 10)));
+
+        ByteBuffer newer = file.duplicate();
+        newer.putShort(4, (short) (SaveFormat.CURRENT_VERSION + 1));
+        IOException e = assertThrows(IOException.class, () -> SaveFormat.decode(newer));
+        assertTrue(e.getMessage().contains("Unsupported"), e.getMessage());
+    }
+
+    // A player with every stored field away from its default
+    static Player samplePlayer(Random random) {
+        Player player = new Player("Sample " + random.nextInt(1000), Player.Sex.FEMALE, Player.BodyType.MESOMORPH);
+        for (PlayerStat stat : PlayerStat.values()) {
+            stat.set(player, 1 + random.nextInt(400));
+        }
+        PlayerStat.BODY_TEMPERATURE.set(player, 36 + random.nextInt(3));
+        for (TempModifier modifier : TempModifier.ALL) {
+            modifier.set(player, random.nextInt(2001) - 1000);
+        }
+        player.setEthnicity("Ethnicity " + random.nextInt(10));
+        player.setHeight(150 + random.nextDouble() * 50);
+        player.setWeight(50 + random.nextDouble() * 50);
+        player.setBloodType(Player.BloodType.values()[random.nextInt(Player.BloodType.values().length)]);
+        player.setMood(Player.Mood.values()[random.nextInt(Player.Mood.values().length)]);
+        player.setAwake(false);
+        player.setSimulationTick(random.nextInt(100_000));
+        return player;
+    }
+
+    static void assertSamePlayer(Player expected, Player actual) {
+        assertEquals(expected.getEntityId(), actual.getEntityId());
+        assertEquals(expected.getSimulationTick(), actual.getSimulationTick());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getEthnicity(), actual.getEthnicity());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertEquals(expected.getWeight(), actual.getWeight());
+        assertEquals(expected.getSex(), actual.getSex());
+        assertEquals(expected.getBloodType(), actual.getBloodType());
+        assertEquals(expected.getBodyType(), actual.getBodyType());
+        assertEquals(expected.getMood(), actual.getMood());
+        assertEquals(SaveFormat.statusFlags(expected), SaveFormat.statusFlags(actual), "status flags");
+        for (PlayerStat stat : PlayerStat.values()) {
+            assertEquals(stat.get(expected), stat.get(actual), stat.name());
+        }
+        for (TempModifier modifier : TempModifier.ALL) {
+            assertEquals(modifier.get(expected), modifier.get(actual), modifier.name());
+        }
+        assertEquals(expected.getInventory(), actual.getInventory());
+    }
+
+    private static void assertClock(GameState state) {
+        assertEquals(ELAPSED_MINUTES, state.getElapsedMinutes());
+        assertEquals(WORLD_SEED, state.getWorldSeed());
+        assertEquals(SAVED_AT, state.getSavedAtMillis());
+    }
+
+    // Version 1 differs from version 2 only in the last section: one string per item instead of kinds and counts.
+    // Encodes the state without items (an empty inventory is the same single zero byte in both), then swaps in a
+    // version 1 inventory and rewrites the header.
+    private static ByteBuffer encodeVersion1(GameState state, List<String> items) {
+        Player player = state.getPlayer();
+        player.replaceInventory(List.of());
+        ByteBuffer current = SaveFormat.encode(state);
+
+        SaveFormat.Output out = new SaveFormat.Output(current.remaining() + 64);
+        out.position(SaveFormat.HEADER_BYTES);
+        for (int i = SaveFormat.HEADER_BYTES; i < current.limit() - 1; i++) {
+            out.putByte(current.get(i));
+        }
+        out.putVarInt(items.size());
+        for (String item : items) {
+            out.putString(item);
+        }
+        player.replaceInventory(items);
+
+        int payloadLength = out.size() - SaveFormat.HEADER_BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(out.array(), SaveFormat.HEADER_BYTES, payloadLength);
+        ByteBuffer file = ByteBuffer.wrap(out.array(), 0, out.size());
+        file.putInt(SaveFormat.MAGIC).putShort((short) 1).putShort((short) 0).putInt(payloadLength).putInt((int) crc.getValue());
+        return file.position(0);
+    }
+}
@@ -0,0 +1,244 @@
+package com.theofernandez.rpg.save;
+
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerStat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The autosave journal's crash safety: replaying records over a snapshot, cutting off a torn or corrupt tail,
+ * compacting into new snapshots, and the inventory deltas records carry.
+ */
+class SaveJournalTest {
+
+    private static final long WORLD_SEED = 0xC0FFEEL;
+    private static final int SNAPSHOT_EVERY = 256;
+
+    @TempDir
+    Path directory;
+
+    private Player player;
+    private long minutes;
+
+    @Test
+    void appendedRecordsReplayOverTheSnapshot() throws IOException {
+        Path journalDirectory = directory.resolve("journal");
+        List<GameState> expected = new ArrayList<>();
+        try (SaveJournal journal = SaveJournal.create(journalDirectory, start(1), SNAPSHOT_EVERY)) {
+            for (int i = 0; i < 10; i++) {
+                expected.add(step(journal, i));
+            }
+            assertEquals(1L, journal.getSnapshotCount());
+            assertEquals(1L, journal.getGeneration());
+        }
+        assertSameState(expected.get(expected.size() - 1), SaveJournal.load(journalDirectory));
+    }
+
+    @Test
+    void tornLastRecordIsCutOffAndAppendingContinuesAfterIt() throws IOException {
+        Path journalDirectory = directory.resolve("journal");
+        List<GameState> expected = new ArrayList<>();
+        try (SaveJournal journal = SaveJournal.create(journalDirectory, start(2), SNAPSHOT_EVERY)) {
+            for (int i = 0; i < 3; i++) {
+                expected.add(step(journal, i));
+            }
+        }
+        Path segment = journalDirectory.resolve("journal-000001.log");
+        long intact = Files.size(segment);
+        truncate(segment, intact - 3); // The OS crashed halfway through the last append
+
+        assertSameState(expected.get(1), SaveJournal.load(journalDirectory));
+        try (SaveJournal reopened = SaveJournal.open(journalDirectory, SNAPSHOT_EVERY)) {
+            assertSameState(expected.get(1), reopened.getOpenedState());
+            assertTrue(Files.size(segment) < intact - 3, "the torn record is cut off when the journal is opened");
+            player = reopened.getOpenedState().getPlayer();
+            GameState next = step(reopened, 7);
+            reopened.close();
+            assertSameState(next, SaveJournal.load(journalDirectory));
+        }
+    }
+
+    @Test
+    void recordFailingItsChecksumEndsTheReplay() throws IOException {
+        Path journalDirectory = directory.resolve("journal");
+        List<GameState> expected = new ArrayList<>();
+        try (SaveJournal journal = SaveJournal.create(journalDirectory, start(3), SNAPSHOT_EVERY)) {
+            for (int i = 0; i < 4; i++) {
+                expected.add(step(journal, i));
+            }
+        }
+        Path segment = journalDirectory.resolve("journal-000001.log");
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 1] ^= 0x40; // Last byte of the last record's body
+        Files.write(segment, bytes);
+
+        assertSameState(expected.get(2), SaveJournal.load(journalDirectory));
+    }
+
+    @Test
+    void fullSegmentsCompactIntoANewSnapshot() throws IOException {
+        Path journalDirectory = directory.resolve("journal");
+        GameState last = null;
+        try (SaveJournal journal = SaveJournal.create(journalDirectory, start(4), 3)) {
+            for (int i = 0; i < 8; i++) {
+                last = step(journal, i);
+            }
+            assertEquals(3L, journal.getGeneration(), "a new generation after every 3 records");
+            assertEquals(3L, journal.getSnapshotCount());
+        } // Waits for the background snapshots
+
+        assertEquals(List.of("journal-000003.log", "snapshot-000003.sav"), fileNames(journalDirectory),
+                "older generations are deleted once a newer snapshot is on disk");
+        assertSameState(last, SaveJournal.load(journalDirectory));
+    }
+
+    @Test
+    void unreadableNewestSnapshotFallsBackToTheOlderGeneration() throws IOException {
+        // Compaction starts the new segment before its snapshot is on disk: a crash in between leaves the older
+        // snapshot and both segments, which must still add up to the latest state.
+        Path journalDirectory = directory.resolve("journal");
+        GameState last = null;
+        try (SaveJournal journal = SaveJournal.create(journalDirectory, start(5), 2)) {
+            for (int i = 0; i < 3; i++) {
+                last = step(journal, i); // The second one fills segment 1; the third goes into segment 2
+            }
+        }
+        // Generation 1 was deleted once snapshot 2 was written: rebuild it from the same game, journaled again
+        int entityId = player.getEntityId();
+        Path rebuilt = directory.resolve("rebuilt");
+        start(5);
+        player.restoreEntityId(entityId);
+        try (SaveJournal journal = SaveJournal.create(rebuilt, state(), SNAPSHOT_EVERY)) {
+            for (int i = 0; i < 2; i++) {
+                step(journal, i);
+            }
+        }
+        Files.copy(rebuilt.resolve("snapshot-000001.sav"), journalDirectory.resolve("snapshot-000001.sav"));
+        Files.copy(rebuilt.resolve("journal-000001.log"), journalDirectory.resolve("journal-000001.log"));
+        Files.write(journalDirectory.resolve("snapshot-000002.sav"), new byte[] {1, 2, 3}); // Torn while written
+
+        assertSameState(last, SaveJournal.load(journalDirectory));
+    }
+
+    @Test
+    void inventoryDeltasReplayRemovalsAndAdditions() throws IOException {
+        Path journalDirectory = directory.resolve("journal");
+        GameState initial = start(6);
+        player.addItem("Old Rag");
+        player.addItem("Knife");
+        player.addItems("Bandage", 2);
+        List<GameState> expected = new ArrayList<>();
+        try (SaveJournal journal = SaveJournal.create(journalDirectory, initial, SNAPSHOT_EVERY)) {
+            player.addItem("Lantern"); // Appended: the whole inventory is kept
+            expected.add(append(journal));
+            player.removeItem("Knife"); // From the middle: only the prefix before it is kept
+            expected.add(append(journal));
+            player.removeItem("Bandage"); // One of a stack
+            player.addItems("Coin", 3);
+            expected.add(append(journal));
+            player.replaceInventory(List.of()); // Emptied
+            expected.add(append(journal));
+            player.addItem("Old Rag");
+            expected.add(append(journal));
+        }
+
+        GameState loaded = SaveJournal.load(journalDirectory);
+        assertSameState(expected.get(expected.size() - 1), loaded);
+        assertEquals(List.of("Old Rag"), loaded.getPlayer().getInventory());
+    }
+
+    @Test
+    void renamedPlayerTakesASnapshot() throws IOException {
+        Path journalDirectory = directory.resolve("journal");
+        GameState renamed;
+        try (SaveJournal journal = SaveJournal.create(journalDirectory, start(7), SNAPSHOT_EVERY)) {
+            step(journal, 0);
+            player.setName("Someone Else");
+            renamed = append(journal);
+            assertEquals(2L, journal.getGeneration(), "records cannot carry a new name");
+        }
+        assertEquals("Someone Else", SaveJournal.load(journalDirectory).getPlayer().getName());
+        assertSameState(renamed, SaveJournal.load(journalDirectory));
+    }
+
+    @Test
+    void missingOrEmptyJournalIsRejected() throws IOException {
+        Path journalDirectory = directory.resolve("journal");
+        assertFalse(SaveJournal.exists(journalDirectory));
+        Files.createDirectories(journalDirectory);
+        assertThrows(IOException.class, () -> SaveJournal.load(journalDirectory));
+
+        SaveJournal.create(journalDirectory, start(8), SNAPSHOT_EVERY).close();
+        assertTrue(SaveJournal.exists(journalDirectory));
+        SaveJournal.delete(journalDirectory);
+        assertFalse(Files.exists(journalDirectory));
+    }
+
+    // --- Helpers ---
+
+    private GameState start(int seed) {
+        minutes = 600;
+        player = SaveFormatTest.samplePlayer(new Random(seed));
+        player.setAwake(true);
+        return state();
+    }
+
+    // One action's worth of changes: time passes, a few stats move
+    private GameState step(SaveJournal journal, int i) throws IOException {
+        minutes += 30;
+        PlayerStat.HUNGER.set(player, PlayerStat.HUNGER.get(player) - 3 - i);
+        PlayerStat.FATIGUE_PERCENT.set(player, PlayerStat.FATIGUE_PERCENT.get(player) + 2);
+        player.setSimulationTick(player.getSimulationTick() + 1);
+        if (i % 2 == 1) player.addItem("Pebble");
+        return append(journal);
+    }
+
+    // Appends the live state and returns a detached copy of it, as the journal should replay it
+    private GameState append(SaveJournal journal) throws IOException {
+        GameState state = state();
+        journal.append(state);
+        return SaveFormat.decode(SaveFormat.encode(state));
+    }
+
+    private GameState state() {
+        return new GameState(player, minutes, WORLD_SEED, 1_700_000_000_000L + minutes);
+    }
+
+    private static void assertSameState(GameState expected, GameState actual) {
+        assertEquals(expected.getElapsedMinutes(), actual.getElapsedMinutes(), "elapsed minutes");
+        assertEquals(expected.getSavedAtMillis(), actual.getSavedAtMillis(), "saved at");
+        assertEquals(expected.getWorldSeed(), actual.getWorldSeed(), "world seed");
+        SaveFormatTest.assertSamePlayer(expected.getPlayer(), actual.getPlayer());
+    }
+
+    private static void truncate(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    private static List<Path> files(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static List<String> fileNames(Path directory) throws IOException {
+        return files(directory).stream().map(file -> file.getFileName().toString()).toList();
+    }
+}
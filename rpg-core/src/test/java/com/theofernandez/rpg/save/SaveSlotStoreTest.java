@@ -0,0 +1,147 @@
+package com.theofernandez.rpg.save;
+
+import com.theofernandez.rpg.game.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Double-buffered save slots, including the crash cases the table flip is meant to survive. The stores here have one
+ * slot with halves of a single page, so half 0 starts at byte 4096 and half 1 at byte 8192.
+ */
+class SaveSlotStoreTest {
+
+    private static final int HALF_BYTES = 4096;
+    private static final long ELAPSED_MINUTES = 600;
+    private static final long WORLD_SEED = 99;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void savesReplaceEachOtherAndSurviveReopening() throws IOException {
+        Path file = directory.resolve("slots.dat");
+        Player first = SaveFormatTest.samplePlayer(new Random(1));
+        Player second = SaveFormatTest.samplePlayer(new Random(2));
+        try (SaveSlotStore store = SaveSlotStore.open(file, 1, HALF_BYTES)) {
+            assertNull(store.load(0));
+            store.save(0, "First", state(first, 1));
+            store.save(0, "Second", state(second, 2));
+        }
+        try (SaveSlotStore store = SaveSlotStore.open(file)) {
+            assertEquals(1, store.getSlotCount(), "an existing store keeps its layout");
+            SaveFormatTest.assertSamePlayer(second, store.load(0).getPlayer());
+            List<SaveSlotStore.SlotInfo> slots = store.list();
+            assertEquals(1, slots.size());
+            assertEquals("Second", slots.get(0).getLabel());
+            assertEquals(2L, slots.get(0).getSavedAtMillis());
+
+            store.clear(0);
+            assertNull(store.load(0));
+        }
+    }
+
+    @Test
+    void damagedActiveHalfFallsBackToThePreviousSave() throws IOException {
+        Path file = directory.resolve("slots.dat");
+        Player previous = SaveFormatTest.samplePlayer(new Random(3));
+        try (SaveSlotStore store = SaveSlotStore.open(file, 1, HALF_BYTES)) {
+            store.save(0, "Previous", state(previous, 1)); // Half 0
+            store.save(0, "Current", state(SaveFormatTest.samplePlayer(new Random(4)), 2)); // Half 1
+        }
+        flipByte(file, 2 * HALF_BYTES + 200); // Inside the current save's payload
+
+        try (SaveSlotStore store = SaveSlotStore.open(file)) {
+            SaveFormatTest.assertSamePlayer(previous, store.load(0).getPlayer());
+            assertEquals("Previous", store.list().get(0).getLabel());
+        }
+    }
+
+    @Test
+    void activeHalfHoldingAnOlderSaveFallsBackToThePreviousSave() throws IOException {
+        // The flip to the third save reached the disk, its data did not: half 0 still holds the first save, which is
+        // valid on its own. Loading must not take it for the current save.
+        Path file = directory.resolve("slots.dat");
+        Player second = SaveFormatTest.samplePlayer(new Random(6));
+        byte[] firstSave;
+        try (SaveSlotStore store = SaveSlotStore.open(file, 1, HALF_BYTES)) {
+            store.save(0, "First", state(SaveFormatTest.samplePlayer(new Random(5)), 1)); // Half 0
+            store.flush();
+            firstSave = read(file, HALF_BYTES);
+            store.save(0, "Second", state(second, 2)); // Half 1
+            store.save(0, "Third", state(SaveFormatTest.samplePlayer(new Random(7)), 3)); // Half 0
+        }
+        write(file, HALF_BYTES, firstSave);
+
+        try (SaveSlotStore store = SaveSlotStore.open(file)) {
+            GameState loaded = store.load(0);
+            assertEquals(2L, loaded.getSavedAtMillis());
+            SaveFormatTest.assertSamePlayer(second, loaded.getPlayer());
+        }
+    }
+
+    @Test
+    void slotWithNoValidSaveIsRejected() throws IOException {
+        Path file = directory.resolve("slots.dat");
+        try (SaveSlotStore store = SaveSlotStore.open(file, 1, HALF_BYTES)) {
+            store.save(0, "Only", state(SaveFormatTest.samplePlayer(new Random(8)), 1));
+        }
+        flipByte(file, HALF_BYTES + 200);
+
+        try (SaveSlotStore store = SaveSlotStore.open(file)) {
+            assertThrows(IOException.class, () -> store.load(0));
+            assertEquals(List.of(), store.list(), "unreadable slots are skipped");
+        }
+    }
+
+    @Test
+    void oversizedSaveIsRefused() throws IOException {
+        Player hoarder = SaveFormatTest.samplePlayer(new Random(9));
+        for (int i = 0; i < 500; i++) {
+            hoarder.addItem("Trinket " + i);
+        }
+        try (SaveSlotStore store = SaveSlotStore.open(directory.resolve("slots.dat"), 1, HALF_BYTES)) {
+            assertThrows(IOException.class, () -> store.save(0, "Too Big", state(hoarder, 1)));
+            assertNull(store.load(0));
+        }
+    }
+
+    private static GameState state(Player player, long savedAt) {
+        return new GameState(player, ELAPSED_MINUTES, WORLD_SEED, savedAt);
+    }
+
+    private static void flipByte(Path file, long position) throws IOException {
+        byte[] value = read(file, position, 1);
+        value[0] ^= 0x5A;
+        write(file, position, value);
+    }
+
+    private static byte[] read(Path file, long position) throws IOException {
+        return read(file, position, HALF_BYTES);
+    }
+
+    private static byte[] read(Path file, long position, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer bytes = ByteBuffer.allocate(length);
+            channel.read(bytes, position);
+            return bytes.array();
+        }
+    }
+
+    private static void write(Path file, long position, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes), position);
+        }
+    }
+}
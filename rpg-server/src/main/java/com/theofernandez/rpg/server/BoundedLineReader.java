@@ -0,0 +1,59 @@
+package com.theofernandez.rpg.server;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads lines of text like {@link java.io.BufferedReader#readLine()}, but never holds more than a fixed number of
+ * characters of a line: the rest of a longer line is counted and dropped up to the next line break, so a client
+ * sending an endless line cannot make the server buffer it. Lines end with "\n", "\r" or "\r\n".
+ */
+final class BoundedLineReader {
+
+    private final Reader in;
+    private final int maxLength;
+    private final StringBuilder line;
+    private boolean skipLineFeed; // The previous line ended with '\r': a '\n' right after it is part of that break
+    private boolean tooLong;
+
+    /**
+     * @param in Read one character at a time; pass a buffered reader.
+     */
+    BoundedLineReader(Reader in, int maxLength) {
+        this.in = in;
+        this.maxLength = maxLength;
+        this.line = new StringBuilder(Math.min(maxLength, 256));
+    }
+
+    /**
+     * @return The next line without its line break (only its first maxLength characters if it was longer), or null
+     *         at the end of the stream.
+     */
+    String readLine() throws IOException {
+        line.setLength(0);
+        tooLong = false;
+        int c;
+        while ((c = in.read()) >= 0) {
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') continue;
+            }
+            if (c == '\n') return line.toString();
+            if (c == '\r') {
+                skipLineFeed = true;
+                return line.toString();
+            }
+            if (line.length() < maxLength) {
+                line.append((char) c);
+            } else {
+                tooLong = true;
+            }
+        }
+        return line.length() > 0 || tooLong ? line.toString() : null; // A last line without a line break
+    }
+
+    /**
+     * @return True if the line last returned by {@link #readLine()} was longer than the limit and was cut short.
+     */
+    boolean wasTooLong() { return tooLong; }
+}
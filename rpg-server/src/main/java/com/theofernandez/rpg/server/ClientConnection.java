@@ -0,0 +1,157 @@
+package com.theofernandez.rpg.server;
+
+import com.theofernandez.rpg.game.Player;
+import com.theofernandez.rpg.game.PlayerSnapshot;
+import com.theofernandez.rpg.save.GameState;
+import com.theofernandez.rpg.save.SaveFormat;
+import com.theofernandez.rpg.session.ActionOutcome;
+import com.theofernandez.rpg.session.GameActions;
+import com.theofernandez.rpg.session.GameSession;
+import com.theofernandez.rpg.session.SessionRegistry;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Serves one client connection on its own (virtual) thread: opens a session with a fresh player, then reads
+ * commands and runs them against the session until the client quits or disconnects. The session is only ever
+ * touched by this thread, and is removed from the registry when the connection ends.
+ */
+final class ClientConnection implements Runnable {
+
+    private static final String SAVE_GAME_EXTENSION = ".sav";
+    private static final Pattern SAVE_NAME_SANITIZER_PATTERN = Pattern.compile("[^a-zA-Z0-9_.-]");
+
+    private final Socket socket;
+    private final SessionRegistry registry;
+    private final Path savesDirectory;
+    private final ServerStats stats;
+
+    ClientConnection(Socket socket, SessionRegistry registry, Path savesDirectory, ServerStats stats) {
+        this.socket = socket;
+        this.registry = registry;
+        this.savesDirectory = savesDirectory;
+        this.stats = stats;
+    }
+
+    @Override
+    public void run() {
+        GameSession session = registry.create(); // Counted as open by the accept loop (ServerStats.tryOpenSession)
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8))) {
+            s.setTcpNoDelay(true); // Replies are small and latency-bound
+            startNewGame(session, null);
+            GameActions actions = new GameActions(session);
+
+            reply(out, Protocol.HELLO + " " + session.getId() + " " + Protocol.VERSION);
+
+            BoundedLineReader lines = new BoundedLineReader(in, Protocol.MAX_LINE_LENGTH);
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (lines.wasTooLong()) {
+                    reply(out, Protocol.ERR + " Line too long.");
+                    continue;
+                }
+                String trimmed = line.trim();
+                if (trimmed.isEmpty()) continue;
+                int space = trimmed.indexOf(' ');
+                String command = (space < 0 ? trimmed : trimmed.substring(0, space)).toUpperCase(Locale.ROOT);
+                String argument = space < 0 ? "" : trimmed.substring(space + 1).trim();
+
+                if (command.equals(Protocol.QUIT)) {
+                    reply(out, Protocol.OK + " bye");
+                    break;
+                }
+                long start = System.nanoTime();
+                handle(command, argument, session, actions, out);
+                stats.actionCompleted(System.nanoTime() - start);
+            }
+        } catch (IOException e) {
+            // Client went away mid-reply; nothing to tell it
+        } finally {
+            registry.remove(session.getId());
+            stats.sessionClosed();
+        }
+    }
+
+    private void handle(String command, String argument, GameSession session, GameActions actions, BufferedWriter out) throws IOException {
+        switch (command) {
+            case Protocol.EXPLORE -> replyOutcome(out, actions.explore(), session);
+            case Protocol.REST -> replyOutcome(out, actions.rest(), session);
+            case Protocol.STATUS -> reply(out, Protocol.status(currentSnapshot(session), session.getClock().getElapsedMinutes()));
+            case Protocol.NEW -> {
+                startNewGame(session, argument.isEmpty() ? null : argument);
+                narrate(out, "A new life begins as " + session.getPlayer().getName() + ". You are in " + actions.describeLocation() + ".");
+                reply(out, Protocol.status(currentSnapshot(session), session.getClock().getElapsedMinutes()));
+            }
+            case Protocol.SAVE -> save(out, argument, session);
+            default -> reply(out, Protocol.ERR + " Unknown command: " + command);
+        }
+    }
+
+    // Same reset as starting a new game in the desktop client: fresh player, default start time, new world
+    private static void startNewGame(GameSession session, String name) {
+        Player player = new Player();
+        player.setName(name != null ? name : "Player-" + session.getId());
+        session.setPlayer(player);
+        session.getClock().resetToDefault();
+        session.newWorldSeed();
+        session.getEngine().processPlayerStateChanges(player); // Settles the initial state
+        player.publishSnapshot();
+    }
+
+    private void save(BufferedWriter out, String name, GameSession session) throws IOException {
+        String sanitized = SAVE_NAME_SANITIZER_PATTERN.matcher(name).replaceAll("_");
+        if (sanitized.isEmpty() || sanitized.chars().allMatch(c -> c == '_')) {
+            reply(out, Protocol.ERR + " Save name cannot be empty or invalid characters only.");
+            return;
+        }
+        // Prefixed with the session ID so concurrent sessions never overwrite each other's saves
+        Path file = savesDirectory.resolve(session.getId() + "_" + sanitized + SAVE_GAME_EXTENSION);
+        try {
+            Files.createDirectories(savesDirectory);
+            SaveFormat.write(file, GameState.capture(session)); // Same format the desktop game loads
+        } catch (IOException e) {
+            System.err.println("[GameServer] Error saving session " + session.getId() + " to " + file + ": " + e.getMessage());
+            reply(out, Protocol.ERR + " Could not save the game data.");
+            return;
+        }
+        narrate(out, "Game saved as: " + file.getFileName());
+        reply(out, Protocol.status(currentSnapshot(session), session.getClock().getElapsedMinutes()));
+    }
+
+    private static void replyOutcome(BufferedWriter out, ActionOutcome outcome, GameSession session) throws IOException {
+        for (String message : outcome.getMessages()) {
+            narrate(out, message);
+        }
+        reply(out, Protocol.status(outcome.getSnapshot(), session.getClock().getElapsedMinutes()));
+    }
+
+    private static PlayerSnapshot currentSnapshot(GameSession session) {
+        Player player = session.getPlayer();
+        return player != null ? player.getSnapshot() : null;
+    }
+
+    private static void narrate(BufferedWriter out, String message) throws IOException {
+        out.write(Protocol.NARRATIVE_PREFIX);
+        out.write(message);
+        out.write('\n');
+    }
+
+    // Writes the terminal line and sends the whole reply
+    private static void reply(BufferedWriter out, String line) throws IOException {
+        out.write(line);
+        out.write('\n');
+        out.flush();
+    }
+}
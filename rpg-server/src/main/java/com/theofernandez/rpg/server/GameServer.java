@@ -0,0 +1,198 @@
+package com.theofernandez.rpg.server;
+
+import com.theofernandez.rpg.session.SessionRegistry;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * TCP game server: every connection gets its own {@link com.theofernandez.rpg.session.GameSession} and its own
+ * virtual thread, which runs the same actions as the desktop client ({@link com.theofernandez.rpg.session.GameActions})
+ * with plain blocking I/O. Speaks the line protocol described in {@link Protocol}.
+ *
+ * Usage: {@code java -p rpg-core.jar:rpg-server.jar -m com.theofernandez.rpg.server/com.theofernandez.rpg.server.GameServer --port 7777}
+ *
+ * Binds to the loopback address unless told otherwise. Prints open sessions and action throughput every
+ * reporting interval; engine metrics of all sessions are published over JMX as {@code name=server}.
+ */
+public final class GameServer {
+
+    private static final int ACCEPT_BACKLOG = 4096; // Load tests open thousands of connections at once
+    private static final long REPORT_INTERVAL_MILLIS = 10_000;
+
+    private final Options options;
+    private final SessionRegistry registry = new SessionRegistry();
+    private final ServerStats stats = new ServerStats();
+
+    private GameServer(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[GameServer] Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+        if (options.help) {
+            printUsage();
+            return;
+        }
+        try {
+            new GameServer(options).run();
+        } catch (IOException e) {
+            System.err.println("[GameServer] Fatal: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private void run() throws IOException {
+        try {
+            registry.getMetrics().registerMBean("server");
+        } catch (IllegalStateException e) {
+            System.err.println("[GameServer] Warning: " + e.getMessage());
+        }
+
+        ThreadFactory connectionThreads = Thread.ofVirtual().name("session-", 1).factory();
+        Thread.ofPlatform().daemon().name("server-stats").start(this::reportPeriodically);
+
+        try (ServerSocket server = new ServerSocket()) {
+            server.bind(new InetSocketAddress(options.bindAddress, options.port), ACCEPT_BACKLOG);
+            System.out.printf("[GameServer] Listening on %s (protocol v%d, %d processors, saves in %s)%n",
+                    server.getLocalSocketAddress(), Protocol.VERSION, Runtime.getRuntime().availableProcessors(),
+                    options.savesDirectory.toAbsolutePath());
+            while (true) {
+                Socket socket = server.accept();
+                if (!stats.tryOpenSession(options.maxSessions)) {
+                    System.err.println("[GameServer] Session limit (" + options.maxSessions + ") reached; refusing " + socket.getRemoteSocketAddress());
+                    refuse(socket);
+                    continue;
+                }
+                try {
+                    connectionThreads.newThread(new ClientConnection(socket, registry, options.savesDirectory, stats)).start();
+                } catch (RuntimeException | Error e) {
+                    stats.sessionClosed(); // The connection never ran, so it will not close its session
+                    refuse(socket);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static void refuse(Socket socket) {
+        try (Socket s = socket) {
+            s.getOutputStream().write((Protocol.ERR + " Server full.\n").getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // Client already gone
+        }
+    }
+
+    private void reportPeriodically() {
+        long lastActions = 0;
+        long lastNanos = 0;
+        long lastTime = System.nanoTime();
+        while (true) {
+            try {
+                Thread.sleep(REPORT_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long now = System.nanoTime();
+            long actions = stats.getActions();
+            long nanos = stats.getActionNanos();
+            long intervalActions = actions - lastActions;
+            if (intervalActions > 0 || stats.getOpenSessions() > 0) {
+                System.out.printf("[GameServer] %,d sessions open (peak %,d, %,d served), %,.0f actions/s, mean %.1f us, max %.1f us%n",
+                        stats.getOpenSessions(), stats.getPeakSessions(), stats.getTotalSessions(),
+                        intervalActions * 1e9 / (now - lastTime),
+                        intervalActions > 0 ? (nanos - lastNanos) / 1e3 / intervalActions : 0.0,
+                        stats.takeMaxActionNanos() / 1e3);
+            }
+            lastActions = actions;
+            lastNanos = nanos;
+            lastTime = now;
+        }
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: GameServer [options]");
+        System.out.println("  --port <n>           TCP port (default " + Protocol.DEFAULT_PORT + ")");
+        System.out.println("  --bind <address>     Address to listen on (default: loopback)");
+        System.out.println("  --saves <dir>        Directory for SAVE (default " + Options.DEFAULT_SAVES_DIRECTORY + ")");
+        System.out.println("  --max-sessions <n>   Connections served at once (default " + Options.DEFAULT_MAX_SESSIONS + ")");
+        System.out.println("  --help               Show this message");
+    }
+
+    /**
+     * Parsed command-line options.
+     */
+    static final class Options {
+        static final String DEFAULT_SAVES_DIRECTORY = "server-saves";
+        static final int DEFAULT_MAX_SESSIONS = 100_000;
+
+        int port = Protocol.DEFAULT_PORT;
+        InetAddress bindAddress = InetAddress.getLoopbackAddress();
+        Path savesDirectory = Path.of(DEFAULT_SAVES_DIRECTORY);
+        int maxSessions = DEFAULT_MAX_SESSIONS;
+        boolean help = false;
+
+        /**
+         * @throws IllegalArgumentException If an option is unknown, is missing its value, or the value is invalid.
+         */
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--port" -> {
+                        options.port = positiveInt(arg, valueOf(args, ++i, arg));
+                        if (options.port > 65535) throw new IllegalArgumentException("--port must be at most 65535: " + options.port);
+                    }
+                    case "--bind" -> options.bindAddress = address(arg, valueOf(args, ++i, arg));
+                    case "--saves" -> options.savesDirectory = Path.of(valueOf(args, ++i, arg));
+                    case "--max-sessions" -> options.maxSessions = positiveInt(arg, valueOf(args, ++i, arg));
+                    case "--help", "-h" -> options.help = true;
+                    default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            return options;
+        }
+
+        static String valueOf(String[] args, int index, String option) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException(option + " requires a value.");
+            }
+            return args[index];
+        }
+
+        static int positiveInt(String option, String value) {
+            long parsed;
+            try {
+                parsed = Long.parseLong(value.replace("_", ""));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(option + " expects a number: " + value);
+            }
+            if (parsed <= 0 || parsed > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(option + " must be a positive integer: " + value);
+            }
+            return (int) parsed;
+        }
+
+        private static InetAddress address(String option, String value) {
+            try {
+                return InetAddress.getByName(value);
+            } catch (IOException e) {
+                throw new IllegalArgumentException(option + " is not a valid address: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.theofernandez.rpg.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load generator for {@link GameServer}: opens many connections at once, each on its own virtual thread, and plays
+ * them as fast as the server answers (EXPLORE, with a STATUS every few actions and NEW when the player dies).
+ * Reports throughput, throughput and sessions per core, and round-trip latency percentiles.
+ *
+ * Usage: {@code java -p rpg-core.jar:rpg-server.jar -m com.theofernandez.rpg.server/com.theofernandez.rpg.server.LoadClient --clients 1000}
+ *
+ * Run against a server on the same machine for a per-core figure; client and server then share the processors,
+ * so the result understates what the server alone sustains.
+ */
+public final class LoadClient {
+
+    private static final int STATUS_EVERY = 4;
+
+    private LoadClient() {}
+
+    public static void main(String[] args) throws InterruptedException {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[LoadClient] Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+        if (options.help) {
+            printUsage();
+            return;
+        }
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        System.out.printf("[LoadClient] %,d clients x %,d actions (+%,d warm-up) against %s:%d, %d processors%n",
+                options.clients, options.actions, options.warmup, options.host, options.port, processors);
+
+        long[][] latencies = new long[options.clients][];
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch connected = new CountDownLatch(options.clients);
+        CountDownLatch go = new CountDownLatch(1);
+
+        long start;
+        long elapsed;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.clients; i++) {
+                int client = i;
+                clients.submit(() -> {
+                    try {
+                        latencies[client] = play(options, connected, go);
+                    } catch (IOException | InterruptedException e) {
+                        if (failures.getAndIncrement() < 5) {
+                            System.err.println("[LoadClient] Client " + client + " failed: " + e.getMessage());
+                        }
+                    } finally {
+                        connected.countDown(); // No-op if already counted; keeps a failed connect from stalling the start
+                    }
+                });
+            }
+            connected.await();
+            start = System.nanoTime();
+            go.countDown();
+        } // Waits for every client to finish
+        elapsed = System.nanoTime() - start;
+
+        report(options, latencies, failures.get(), elapsed, processors);
+    }
+
+    // Plays one session; returns the measured round-trip latencies in nanoseconds
+    private static long[] play(Options options, CountDownLatch connected, CountDownLatch go) throws IOException, InterruptedException {
+        try (Socket socket = new Socket(options.host, options.port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            String hello = in.readLine();
+            if (hello == null || !hello.startsWith(Protocol.HELLO)) {
+                throw new IOException("Unexpected greeting: " + hello);
+            }
+            connected.countDown();
+            go.await();
+
+            long[] latencies = new long[options.actions];
+            boolean dead = false;
+            for (int i = -options.warmup; i < options.actions; i++) {
+                String command = dead ? Protocol.NEW : (i % STATUS_EVERY == STATUS_EVERY - 1 ? Protocol.STATUS : Protocol.EXPLORE);
+                long sent = System.nanoTime();
+                out.write(command);
+                out.write('\n');
+                out.flush();
+                String terminal = readReply(in);
+                if (i >= 0) latencies[i] = System.nanoTime() - sent;
+                if (terminal.startsWith(Protocol.ERR)) {
+                    throw new IOException("Server refused " + command + ": " + terminal);
+                }
+                dead = Protocol.isDead(terminal);
+            }
+            out.write(Protocol.QUIT);
+            out.write('\n');
+            out.flush();
+            readReply(in);
+            return latencies;
+        }
+    }
+
+    private static String readReply(BufferedReader in) throws IOException {
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (Protocol.isTerminal(line)) return line;
+        }
+        throw new IOException("Server closed the connection.");
+    }
+
+    private static void report(Options options, long[][] perClient, int failures, long elapsedNanos, int processors) {
+        List<long[]> completed = new ArrayList<>();
+        long count = 0;
+        for (long[] latencies : perClient) {
+            if (latencies != null) {
+                completed.add(latencies);
+                count += latencies.length;
+            }
+        }
+        if (count == 0) {
+            System.err.println("[LoadClient] No client completed (" + failures + " failed).");
+            return;
+        }
+        long[] all = new long[Math.toIntExact(count)];
+        int offset = 0;
+        for (long[] latencies : completed) {
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        Arrays.sort(all);
+
+        double seconds = elapsedNanos / 1e9;
+        double actionsPerSecond = count / seconds;
+        System.out.printf("[LoadClient] %,d sessions completed, %,d failed, %,d actions in %.2f s%n",
+                completed.size(), failures, count, seconds);
+        System.out.printf("[LoadClient] Throughput: %,.0f actions/s (%,.0f actions/s per core)%n",
+                actionsPerSecond, actionsPerSecond / processors);
+        System.out.printf("[LoadClient] Concurrent sessions: %,d (%,.0f per core)%n",
+                completed.size(), (double) completed.size() / processors);
+        System.out.printf("[LoadClient] Latency (us): p50 %.1f  p90 %.1f  p99 %.1f  p99.9 %.1f  max %.1f%n",
+                percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99), percentile(all, 0.999),
+                all[all.length - 1] / 1e3);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e3;
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: LoadClient [options]");
+        System.out.println("  --host <host>      Server host (default 127.0.0.1)");
+        System.out.println("  --port <n>         Server port (default " + Protocol.DEFAULT_PORT + ")");
+        System.out.println("  --clients <n>      Concurrent connections (default " + Options.DEFAULT_CLIENTS + ")");
+        System.out.println("  --actions <n>      Measured actions per client (default " + Options.DEFAULT_ACTIONS + ")");
+        System.out.println("  --warmup <n>       Unmeasured actions per client first (default " + Options.DEFAULT_WARMUP + ")");
+        System.out.println("  --help             Show this message");
+    }
+
+    /**
+     * Parsed command-line options.
+     */
+    static final class Options {
+        static final int DEFAULT_CLIENTS = 1_000;
+        static final int DEFAULT_ACTIONS = 200;
+        static final int DEFAULT_WARMUP = 20;
+
+        String host = "127.0.0.1";
+        int port = Protocol.DEFAULT_PORT;
+        int clients = DEFAULT_CLIENTS;
+        int actions = DEFAULT_ACTIONS;
+        int warmup = DEFAULT_WARMUP;
+        boolean help = false;
+
+        /**
+         * @throws IllegalArgumentException If an option is unknown, is missing its value, or the value is invalid.
+         */
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--host" -> options.host = GameServer.Options.valueOf(args, ++i, arg);
+                    case "--port" -> options.port = GameServer.Options.positiveInt(arg, GameServer.Options.valueOf(args, ++i, arg));
+                    case "--clients" -> options.clients = GameServer.Options.positiveInt(arg, GameServer.Options.valueOf(args, ++i, arg));
+                    case "--actions" -> options.actions = GameServer.Options.positiveInt(arg, GameServer.Options.valueOf(args, ++i, arg));
+                    case "--warmup" -> {
+                        String value = GameServer.Options.valueOf(args, ++i, arg);
+                        options.warmup = value.equals("0") ? 0 : GameServer.Options.positiveInt(arg, value);
+                    }
+                    case "--help", "-h" -> options.help = true;
+                    default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            return options;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.theofernandez.rpg.server;
+
+import com.theofernandez.rpg.game.PlayerSnapshot;
+
+/**
+ * The game server's line protocol. Text, UTF-8, one line per message, newline-terminated.
+ *
+ * <pre>
+ * server: HELLO &lt;session-id&gt; &lt;version&gt;       on connect
+ * client: EXPLORE | REST | STATUS | NEW [name] | SAVE &lt;name&gt; | QUIT
+ * server: &gt; &lt;narrative line&gt;                    zero or more
+ * server: OK &lt;status&gt;                           ends every successful reply
+ *       | ERR &lt;reason&gt;                           ends a rejected command
+ * </pre>
+ *
+ * The status is a fixed sequence of space-separated {@code key=value} fields (see {@link #status}), e.g.
+ * {@code OK t=540 hp=100 hunger=398 thirst=396 fatigue=12 mood=NEUTRAL alive=1 conscious=1 items=0}.
+ * Commands are case-insensitive. A refused action (dead or unconscious player) still ends with OK: the narrative
+ * says why and the status shows the state.
+ */
+public final class Protocol {
+
+    public static final int VERSION = 1;
+    public static final int DEFAULT_PORT = 7777;
+    /** Longest command line accepted. */
+    public static final int MAX_LINE_LENGTH = 256;
+
+    public static final String HELLO = "HELLO";
+    public static final String EXPLORE = "EXPLORE";
+    public static final String REST = "REST";
+    public static final String STATUS = "STATUS";
+    public static final String NEW = "NEW";
+    public static final String SAVE = "SAVE";
+    public static final String QUIT = "QUIT";
+
+    public static final String NARRATIVE_PREFIX = "> ";
+    public static final String OK = "OK";
+    public static final String ERR = "ERR";
+
+    static final String ALIVE_FIELD = "alive=";
+
+    private Protocol() {}
+
+    /**
+     * @return The reply line ending a successful command, for the given player state and game time.
+     */
+    public static String status(PlayerSnapshot snapshot, long elapsedMinutes) {
+        StringBuilder line = new StringBuilder(112);
+        line.append(OK).append(" t=").append(elapsedMinutes);
+        if (snapshot == null) {
+            return line.append(" player=none").toString();
+        }
+        line.append(" hp=").append(snapshot.getHealth())
+                .append(" hunger=").append(snapshot.getHunger())
+                .append(" thirst=").append(snapshot.getThirst())
+                .append(" fatigue=").append(snapshot.getFatiguePercent())
+                .append(" mood=").append(snapshot.getMood() != null ? snapshot.getMood().name() : "NONE")
+                .append(' ').append(ALIVE_FIELD).append(snapshot.isAlive() ? 1 : 0)
+                .append(" conscious=").append(snapshot.isConscious() ? 1 : 0)
+                .append(" items=").append(snapshot.getInventory().size());
+        return line.toString();
+    }
+
+    /**
+     * @return True if the line ends a reply (OK or ERR).
+     */
+    public static boolean isTerminal(String line) {
+        return line.startsWith(OK) || line.startsWith(ERR);
+    }
+
+    /**
+     * @return True if a status line reports a dead player.
+     */
+    public static boolean isDead(String statusLine) {
+        return statusLine.contains(" " + ALIVE_FIELD + "0");
+    }
+}
@@ -0,0 +1,57 @@
+package com.theofernandez.rpg.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-wide counters, updated by every connection thread without locking. Action time is measured on the server,
+ * from a command being parsed to its reply being flushed; the load client measures the full round trip.
+ */
+final class ServerStats {
+
+    private final AtomicInteger openSessions = new AtomicInteger();
+    private final AtomicInteger peakSessions = new AtomicInteger();
+    private final LongAdder totalSessions = new LongAdder();
+    private final LongAdder actions = new LongAdder();
+    private final LongAdder actionNanos = new LongAdder();
+    private final LongAccumulator maxActionNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Counts a new session as open unless the limit is reached. Called on the accept thread before the session's
+     * thread starts, so a burst of connections cannot overshoot the limit.
+     *
+     * @return False if limit sessions are already open.
+     */
+    boolean tryOpenSession(int limit) {
+        int open;
+        do {
+            open = openSessions.get();
+            if (open >= limit) return false;
+        } while (!openSessions.compareAndSet(open, open + 1));
+        peakSessions.accumulateAndGet(open + 1, Math::max);
+        totalSessions.increment();
+        return true;
+    }
+
+    void sessionClosed() {
+        openSessions.decrementAndGet();
+    }
+
+    void actionCompleted(long nanos) {
+        actions.increment();
+        actionNanos.add(nanos);
+        maxActionNanos.accumulate(nanos);
+    }
+
+    int getOpenSessions() { return openSessions.get(); }
+    int getPeakSessions() { return peakSessions.get(); }
+    long getTotalSessions() { return totalSessions.sum(); }
+    long getActions() { return actions.sum(); }
+    long getActionNanos() { return actionNanos.sum(); }
+
+    /**
+     * @return The longest server-side action time since the last call, resetting it.
+     */
+    long takeMaxActionNanos() { return maxActionNanos.getThenReset(); }
+}
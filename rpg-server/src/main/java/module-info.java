@@ -0,0 +1,6 @@
+module com.theofernandez.rpg.server {
+
+    requires transitive com.theofernandez.rpg.core; // Sessions, actions and stat engines; Protocol.status takes a PlayerSnapshot
+
+    exports com.theofernandez.rpg.server; // Game server and load client entry points
+}